@@ -0,0 +1,23 @@
+package com.csc205.project1;
+
+/**
+ * Selects how floating-point kernels trade speed for accuracy.
+ *
+ * - FAST: plain double arithmetic, identical to the single-argument methods.
+ * - COMPENSATED: products are formed with Math.fma and sums carry their rounding
+ *   error along (Kahan/Neumaier style), so results are as accurate as if computed
+ *   in roughly twice the working precision. This matters for nearly parallel
+ *   vectors, where a*b - c*d cancels almost completely and plain arithmetic
+ *   returns mostly rounding noise.
+ *
+ * Compensated kernels cost a few extra floating-point operations but never fall
+ * back to BigDecimal.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public enum ArithmeticMode {
+
+    FAST,
+    COMPENSATED
+}
@@ -0,0 +1,469 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Maintains the axis-aligned bounding box of a changing set of points incrementally.
+ *
+ * Recomputing bounds with a full scan after every update costs O(n) per change. This
+ * tracker keeps, for each axis, an indexed min-heap and an indexed max-heap of point ids
+ * ordered by that coordinate. Inserting, removing or moving a point repairs the six heaps
+ * in O(log n), and the current bounds are read from the heap tops in O(1). Removing the
+ * point that defined an extreme therefore does not trigger a rescan: the next extreme is
+ * already at the top of the heap.
+ *
+ * Points are addressed by int ids returned from add(); ids of removed points are reused.
+ * The bounding sphere is derived from the box, with the same semantics as
+ * Cube3D.circumscribedSphereRadius: centered on the box, radius half the diagonal.
+ *
+ * Example usage:
+ * <pre>
+ * BoundsTracker tracker = new BoundsTracker();
+ * int id = tracker.add(1, 2, 3);
+ * tracker.add(-4, 0, 8);
+ * tracker.move(id, 10, 0, 0);
+ * Cube3D bounds = tracker.getBoundingCube();
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. INCREMENTAL COMPUTATION:
+ *    - Each update repairs only what it invalidates instead of rebuilding the result
+ *
+ * 2. HANDLE-BASED API:
+ *    - Callers keep the int id of a point, so updates need no search
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. INDEXED BINARY HEAPS:
+ *    - Each heap keeps a position array from id to heap slot, so an arbitrary element
+ *      can be re-sifted or deleted in O(log n) rather than only the top
+ *
+ * 2. FREE LIST:
+ *    - Removed ids go on a stack and are handed out again, keeping storage dense
+ *
+ * Note: this class is not thread-safe; see ConcurrentBoundsTracker.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class BoundsTracker {
+
+    private static final Logger logger = Logger.getLogger(BoundsTracker.class.getName());
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Smallest side of getBoundingCube(), used when all points coincide on every axis
+    private static final double MIN_SIDE = 1e-10;
+
+    private double[] coordinates;
+    private final ExtremeHeap[] heaps = new ExtremeHeap[6];
+    private int[] freeIds;
+    private int freeCount;
+    private int idLimit;
+    private int size;
+
+    /**
+     * Constructs an empty tracker with a small default capacity.
+     */
+    public BoundsTracker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty tracker able to hold the given number of points without growing.
+     *
+     * @param capacity the initial capacity in points
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public BoundsTracker(int capacity) {
+        if (capacity < 0) {
+            logger.log(Level.SEVERE, "Cannot create BoundsTracker: negative capacity {0}", capacity);
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        coordinates = new double[capacity * 3];
+        freeIds = new int[capacity];
+        for (int axis = 0; axis < 3; axis++) {
+            heaps[axis] = new ExtremeHeap(axis, 1, capacity);
+            heaps[axis + 3] = new ExtremeHeap(axis, -1, capacity);
+        }
+    }
+
+    /**
+     * Adds a point and returns its id.
+     *
+     * Time Complexity: O(log n) amortized
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @return the id of the new point
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public int add(double x, double y, double z) {
+        checkFinite(x, y, z);
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if (idLimit * 3 == coordinates.length) {
+                grow();
+            }
+            id = idLimit++;
+        }
+        store(id, x, y, z);
+        for (ExtremeHeap heap : heaps) {
+            heap.insert(id);
+        }
+        size++;
+        return id;
+    }
+
+    /**
+     * Adds a point and returns its id.
+     *
+     * @param point the point
+     * @return the id of the new point
+     * @throws NullPointerException if point is null
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public int add(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot add point to bounds tracker: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        return add(point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Moves a point to new coordinates.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @param id the point id
+     * @param x the new x-coordinate
+     * @param y the new y-coordinate
+     * @param z the new z-coordinate
+     * @return true if the point was present and moved, false if no point has that id
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public boolean set(int id, double x, double y, double z) {
+        checkFinite(x, y, z);
+        if (!contains(id)) {
+            return false;
+        }
+        store(id, x, y, z);
+        for (ExtremeHeap heap : heaps) {
+            heap.update(id);
+        }
+        return true;
+    }
+
+    /**
+     * Moves a point by an offset.
+     *
+     * Time Complexity: O(log n)
+     *
+     * @param id the point id
+     * @param dx the offset in the x direction
+     * @param dy the offset in the y direction
+     * @param dz the offset in the z direction
+     * @return true if the point was present and moved, false if no point has that id
+     * @throws IllegalArgumentException if a resulting coordinate is not finite
+     */
+    public boolean move(int id, double dx, double dy, double dz) {
+        if (!contains(id)) {
+            return false;
+        }
+        int o = id * 3;
+        return set(id, coordinates[o] + dx, coordinates[o + 1] + dy, coordinates[o + 2] + dz);
+    }
+
+    /**
+     * Removes a point. Its id may be returned by a later add().
+     *
+     * Time Complexity: O(log n)
+     *
+     * @param id the point id
+     * @return true if the point was present and removed
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        for (ExtremeHeap heap : heaps) {
+            heap.delete(id);
+        }
+        freeIds[freeCount++] = id;
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns whether a point with the given id is present.
+     *
+     * @param id the point id
+     * @return true if present
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < idLimit && heaps[0].pos[id] >= 0;
+    }
+
+    /**
+     * Returns the point with the given id.
+     *
+     * @param id the point id
+     * @return the point, or null if no point has that id
+     */
+    public Point3D get(int id) {
+        if (!contains(id)) {
+            return null;
+        }
+        int o = id * 3;
+        return new Point3D(coordinates[o], coordinates[o + 1], coordinates[o + 2]);
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the point count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if no points are tracked.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Copies the current bounds into an array without allocating.
+     *
+     * Time Complexity: O(1)
+     *
+     * @param dest receives minX, minY, minZ, maxX, maxY, maxZ in its first six slots
+     * @return false, leaving dest untouched, if no points are tracked
+     * @throws NullPointerException if dest is null
+     * @throws IndexOutOfBoundsException if dest is shorter than 6
+     */
+    public boolean getBounds(double[] dest) {
+        if (dest == null) {
+            logger.log(Level.SEVERE, "Cannot read bounds: destination is null");
+            throw new NullPointerException("Destination cannot be null");
+        }
+        if (dest.length < 6) {
+            throw new IndexOutOfBoundsException("Destination must hold 6 values");
+        }
+        if (size == 0) {
+            return false;
+        }
+        for (int i = 0; i < 6; i++) {
+            dest[i] = coordinates[heaps[i].top() * 3 + i % 3];
+        }
+        return true;
+    }
+
+    /**
+     * Returns the minimum corner of the bounding box.
+     *
+     * @return the componentwise minimum of all points
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Point3D getMin() {
+        double[] b = boundsOrThrow();
+        return new Point3D(b[0], b[1], b[2]);
+    }
+
+    /**
+     * Returns the maximum corner of the bounding box.
+     *
+     * @return the componentwise maximum of all points
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Point3D getMax() {
+        double[] b = boundsOrThrow();
+        return new Point3D(b[3], b[4], b[5]);
+    }
+
+    /**
+     * Returns the smallest axis-aligned cube centered on the bounding box that contains
+     * every point.
+     *
+     * @return the bounding cube
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Cube3D getBoundingCube() {
+        return boundingCube(boundsOrThrow());
+    }
+
+    /**
+     * Returns the center of the bounding sphere, which is the center of the bounding box.
+     *
+     * @return the sphere center
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Point3D getBoundingSphereCenter() {
+        double[] b = boundsOrThrow();
+        return new Point3D((b[0] + b[3]) / 2, (b[1] + b[4]) / 2, (b[2] + b[5]) / 2);
+    }
+
+    /**
+     * Returns the radius of the sphere circumscribing the bounding box.
+     *
+     * @return half the box diagonal
+     * @throws IllegalStateException if no points are tracked
+     */
+    public double getBoundingSphereRadius() {
+        return sphereRadius(boundsOrThrow());
+    }
+
+    static Cube3D boundingCube(double[] b) {
+        double side = Math.max(b[3] - b[0], Math.max(b[4] - b[1], b[5] - b[2]));
+        return new Cube3D(new Point3D((b[0] + b[3]) / 2, (b[1] + b[4]) / 2, (b[2] + b[5]) / 2),
+                          Math.max(side, MIN_SIDE));
+    }
+
+    static double sphereRadius(double[] b) {
+        double dx = b[3] - b[0];
+        double dy = b[4] - b[1];
+        double dz = b[5] - b[2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz) / 2;
+    }
+
+    private double[] boundsOrThrow() {
+        double[] b = new double[6];
+        if (!getBounds(b)) {
+            logger.log(Level.SEVERE, "Cannot compute bounds: tracker is empty");
+            throw new IllegalStateException("No points are tracked");
+        }
+        return b;
+    }
+
+    private void store(int id, double x, double y, double z) {
+        int o = id * 3;
+        coordinates[o] = x;
+        coordinates[o + 1] = y;
+        coordinates[o + 2] = z;
+    }
+
+    private void grow() {
+        int current = coordinates.length / 3;
+        int capacity = current + (current >> 1) + 1;
+        coordinates = Arrays.copyOf(coordinates, capacity * 3);
+        freeIds = Arrays.copyOf(freeIds, capacity);
+        for (ExtremeHeap heap : heaps) {
+            heap.grow(capacity);
+        }
+    }
+
+    private static void checkFinite(double x, double y, double z) {
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(z)) {
+            logger.log(Level.SEVERE, "Cannot track point ({0}, {1}, {2}): coordinates must be finite",
+                       new Object[]{x, y, z});
+            throw new IllegalArgumentException("Coordinates must be finite");
+        }
+    }
+
+    /**
+     * An indexed binary heap of point ids ordered by sign * coordinate on one axis, so the
+     * top is the minimum for sign 1 and the maximum for sign -1.
+     */
+    private final class ExtremeHeap {
+        private final int axis;
+        private final double sign;
+        private int[] heap;
+        // Slot of each id in heap, or -1 if absent
+        private int[] pos;
+        private int count;
+
+        ExtremeHeap(int axis, double sign, int capacity) {
+            this.axis = axis;
+            this.sign = sign;
+            this.heap = new int[capacity];
+            this.pos = new int[capacity];
+            Arrays.fill(pos, -1);
+        }
+
+        void grow(int capacity) {
+            int old = pos.length;
+            heap = Arrays.copyOf(heap, capacity);
+            pos = Arrays.copyOf(pos, capacity);
+            Arrays.fill(pos, old, capacity, -1);
+        }
+
+        int top() {
+            return heap[0];
+        }
+
+        void insert(int id) {
+            heap[count] = id;
+            pos[id] = count;
+            siftUp(count++);
+        }
+
+        void delete(int id) {
+            int slot = pos[id];
+            int last = heap[--count];
+            pos[id] = -1;
+            if (slot != count) {
+                heap[slot] = last;
+                pos[last] = slot;
+                siftDown(siftUp(slot));
+            }
+        }
+
+        void update(int id) {
+            siftDown(siftUp(pos[id]));
+        }
+
+        private double key(int id) {
+            return sign * coordinates[id * 3 + axis];
+        }
+
+        private int siftUp(int slot) {
+            int id = heap[slot];
+            double k = key(id);
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (key(heap[parent]) <= k) {
+                    break;
+                }
+                heap[slot] = heap[parent];
+                pos[heap[slot]] = slot;
+                slot = parent;
+            }
+            heap[slot] = id;
+            pos[id] = slot;
+            return slot;
+        }
+
+        private void siftDown(int slot) {
+            int id = heap[slot];
+            double k = key(id);
+            while (true) {
+                int child = 2 * slot + 1;
+                if (child >= count) {
+                    break;
+                }
+                if (child + 1 < count && key(heap[child + 1]) < key(heap[child])) {
+                    child++;
+                }
+                if (key(heap[child]) >= k) {
+                    break;
+                }
+                heap[slot] = heap[child];
+                pos[heap[slot]] = slot;
+                slot = child;
+            }
+            heap[slot] = id;
+            pos[id] = slot;
+        }
+    }
+}
@@ -0,0 +1,559 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A capsule in 3D space: every point within a fixed radius of a line segment.
+ *
+ * A capsule is the swept volume of a sphere moved along its axis, so every test against
+ * it reduces to a distance from the axis segment: a point is inside when its distance to
+ * the segment is at most the radius, two capsules overlap when their axes come within
+ * the sum of the radii, and a capsule meets a cube when its axis comes within the radius
+ * of the solid cube. The axis may have zero length, in which case the capsule is a
+ * sphere. Together with Sphere3D it is the cheap tier of a culling or collision
+ * hierarchy: a tight bound around elongated objects such as Line3D segments, tested with
+ * a handful of dot products before any exact geometry is consulted.
+ *
+ * The distance computations are static kernels over raw coordinates, shared by the
+ * object methods, Sphere3D, and the intersectAll() methods, which test flat arrays of
+ * capsules, CAPSULE_STRIDE doubles (x0, y0, z0, x1, y1, z1, radius) each, without
+ * creating objects per capsule and report to GeometryMetrics as CAPSULE_INTERSECT.
+ *
+ * Example usage:
+ * <pre>
+ * Capsule3D bound = new Capsule3D(segment, 0.5);
+ * boolean near = bound.intersects(cube);
+ *
+ * int[] hits = new int[count];
+ * int found = Capsule3D.intersectAll(capsules, count, cube, hits);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - The axis and radius are fixed at construction
+ *
+ * 2. PRIMITIVE KERNELS:
+ *    - The object-based and array-based tests share the same coordinate kernels
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. CLOSEST POINTS OF TWO SEGMENTS:
+ *    - Solves the 2x2 system for the closest points of the infinite lines, then clamps
+ *      each parameter to [0, 1] and recomputes the other
+ *
+ * 2. CONVEX PIECEWISE-QUADRATIC MINIMIZATION:
+ *    - In the cube's frame the squared distance from a point of the segment to the box
+ *      is a convex quadratic between the parameters where the segment crosses a face
+ *      plane, so the minimum is the best of at most seven closed-form candidates
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Capsule3D {
+
+    private static final Logger logger = Logger.getLogger(Capsule3D.class.getName());
+
+    // Tolerance for floating-point comparisons
+    private static final double EPSILON = 1e-10;
+
+    /** Doubles per capsule in the flat array layout. */
+    public static final int CAPSULE_STRIDE = 7;
+
+    /** Length of the scratch array cubeDistanceSquared() needs. */
+    static final int CUBE_SCRATCH = 14;
+
+    // Bytes a cube intersectAll() call allocates: one scratch array, a 16-byte header plus
+    // its doubles, shared by every capsule; the segment overload allocates nothing
+    private static final long CUBE_SCRATCH_BYTES = 16 + (long) Double.BYTES * CUBE_SCRATCH;
+
+    private final Point3D start;
+    private final Point3D end;
+    private final double radius;
+
+    /**
+     * Creates a capsule around the segment from start to end.
+     *
+     * @param start the first end point of the axis
+     * @param end the second end point of the axis; may equal start
+     * @param radius the radius, at least zero
+     * @throws NullPointerException if start or end is null
+     * @throws IllegalArgumentException if radius is negative or not finite
+     */
+    public Capsule3D(Point3D start, Point3D end, double radius) {
+        if (start == null || end == null) {
+            logger.log(Level.SEVERE, "Cannot create Capsule3D: start or end is null");
+            throw new NullPointerException("Start and end cannot be null");
+        }
+        Sphere3D.requireRadius(radius);
+        this.start = start;
+        this.end = end;
+        this.radius = radius;
+    }
+
+    /**
+     * Creates a capsule around a segment.
+     *
+     * @param axis the axis segment
+     * @param radius the radius, at least zero
+     * @throws NullPointerException if axis is null
+     * @throws IllegalArgumentException if radius is negative or not finite
+     */
+    public Capsule3D(Line3D axis, double radius) {
+        this(requireLine(axis).getStart(), axis.getEnd(), radius);
+    }
+
+    /**
+     * Returns the first end point of the axis.
+     *
+     * @return the start of the axis
+     */
+    public Point3D getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the second end point of the axis.
+     *
+     * @return the end of the axis
+     */
+    public Point3D getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the radius.
+     *
+     * @return the radius
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Returns the length of the axis segment.
+     *
+     * @return the distance between the axis end points
+     */
+    public double axisLength() {
+        double dx = end.getX() - start.getX();
+        double dy = end.getY() - start.getY();
+        double dz = end.getZ() - start.getZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+     * Returns the volume: a cylinder of the axis length plus a sphere for the two caps.
+     *
+     * @return the volume
+     */
+    public double volume() {
+        return Math.PI * radius * radius * (axisLength() + 4.0 / 3 * radius);
+    }
+
+    /**
+     * Returns the smallest sphere containing this capsule, centered on the axis midpoint.
+     *
+     * @return the bounding sphere
+     */
+    public Sphere3D boundingSphere() {
+        Point3D midpoint = new Point3D((start.getX() + end.getX()) / 2, (start.getY() + end.getY()) / 2,
+                                       (start.getZ() + end.getZ()) / 2);
+        return new Sphere3D(midpoint, axisLength() / 2 + radius);
+    }
+
+    /**
+     * Tests whether a point lies inside the capsule, boundary included.
+     *
+     * @param point the point
+     * @return true if the point is within the radius of the axis
+     * @throws NullPointerException if point is null
+     */
+    public boolean containsPoint(Point3D point) {
+        requirePoint(point);
+        return within(pointDistanceSquared(point.getX(), point.getY(), point.getZ()), radius);
+    }
+
+    /**
+     * Returns the distance from a point to the capsule.
+     *
+     * @param point the point
+     * @return the distance to the capsule surface, or 0 if the point is inside
+     * @throws NullPointerException if point is null
+     */
+    public double distanceTo(Point3D point) {
+        requirePoint(point);
+        return Math.max(0, Math.sqrt(pointDistanceSquared(point.getX(), point.getY(), point.getZ())) - radius);
+    }
+
+    /**
+     * Tests whether this capsule overlaps a sphere, boundaries included.
+     *
+     * @param sphere the sphere
+     * @return true if the two volumes share at least one point
+     * @throws NullPointerException if sphere is null
+     */
+    public boolean intersects(Sphere3D sphere) {
+        if (sphere == null) {
+            logger.log(Level.SEVERE, "Cannot test capsule overlap: sphere is null");
+            throw new NullPointerException("Sphere cannot be null");
+        }
+        Point3D center = sphere.getCenter();
+        return within(pointDistanceSquared(center.getX(), center.getY(), center.getZ()), radius + sphere.getRadius());
+    }
+
+    /**
+     * Tests whether this capsule overlaps another, boundaries included.
+     *
+     * @param other the other capsule
+     * @return true if the two volumes share at least one point
+     * @throws NullPointerException if other is null
+     */
+    public boolean intersects(Capsule3D other) {
+        if (other == null) {
+            logger.log(Level.SEVERE, "Cannot test capsule overlap: other capsule is null");
+            throw new NullPointerException("Other capsule cannot be null");
+        }
+        Point3D s = other.start;
+        Point3D e = other.end;
+        return within(segmentDistanceSquared(s.getX(), s.getY(), s.getZ(), e.getX(), e.getY(), e.getZ()),
+                      radius + other.radius);
+    }
+
+    /**
+     * Tests whether a line segment passes through this capsule, boundaries included.
+     *
+     * @param line the segment
+     * @return true if the segment comes within the radius of the axis
+     * @throws NullPointerException if line is null
+     */
+    public boolean intersects(Line3D line) {
+        requireLine(line);
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        return within(segmentDistanceSquared(s.getX(), s.getY(), s.getZ(), e.getX(), e.getY(), e.getZ()), radius);
+    }
+
+    /**
+     * Tests whether this capsule overlaps a solid cube, boundaries included.
+     *
+     * @param cube the cube, with any orientation
+     * @return true if the axis comes within the radius of the cube
+     * @throws NullPointerException if cube is null
+     */
+    public boolean intersects(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot test capsule overlap: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        Point3D center = cube.getCenter();
+        double distanceSquared = cubeDistanceSquared(cube.orientationMatrix(), center.getX(), center.getY(),
+                                                     center.getZ(), cube.getSideLength() / 2,
+                                                     start.getX(), start.getY(), start.getZ(),
+                                                     end.getX(), end.getY(), end.getZ(),
+                                                     new double[CUBE_SCRATCH]);
+        return within(distanceSquared, radius);
+    }
+
+    /**
+     * Finds the capsules in an array that overlap a cube.
+     *
+     * @param capsules the capsules, CAPSULE_STRIDE doubles each; radii must be non-negative
+     * @param count the number of capsules to read
+     * @param cube the cube, with any orientation
+     * @param out receives the indices of the overlapping capsules in increasing order
+     * @return the number of indices written
+     * @throws NullPointerException if capsules, cube or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int intersectAll(double[] capsules, int count, Cube3D cube, int[] out) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot test capsules: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        validateBatch(capsules, count, out);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        double[] m = cube.orientationMatrix();
+        Point3D center = cube.getCenter();
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+        double half = cube.getSideLength() / 2;
+        double[] scratch = new double[CUBE_SCRATCH];
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * CAPSULE_STRIDE;
+            double distanceSquared = cubeDistanceSquared(m, cx, cy, cz, half, capsules[o], capsules[o + 1],
+                                                         capsules[o + 2], capsules[o + 3], capsules[o + 4],
+                                                         capsules[o + 5], scratch);
+            if (within(distanceSquared, capsules[o + 6])) {
+                out[found++] = i;
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.CAPSULE_INTERSECT, cube, count);
+        GeometryMetrics.record(GeometryOperation.CAPSULE_INTERSECT, metricsStart, CUBE_SCRATCH_BYTES);
+        return found;
+    }
+
+    /**
+     * Finds the capsules in an array that a line segment passes through.
+     *
+     * @param capsules the capsules, CAPSULE_STRIDE doubles each; radii must be non-negative
+     * @param count the number of capsules to read
+     * @param line the segment
+     * @param out receives the indices of the capsules the segment meets in increasing order
+     * @return the number of indices written
+     * @throws NullPointerException if capsules, line or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int intersectAll(double[] capsules, int count, Line3D line, int[] out) {
+        requireLine(line);
+        validateBatch(capsules, count, out);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * CAPSULE_STRIDE;
+            double distanceSquared = segmentSegmentDistanceSquared(capsules[o], capsules[o + 1], capsules[o + 2],
+                                                                   capsules[o + 3], capsules[o + 4], capsules[o + 5],
+                                                                   s.getX(), s.getY(), s.getZ(),
+                                                                   e.getX(), e.getY(), e.getZ());
+            if (within(distanceSquared, capsules[o + 6])) {
+                out[found++] = i;
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.CAPSULE_INTERSECT, line, count);
+        GeometryMetrics.record(GeometryOperation.CAPSULE_INTERSECT, metricsStart, 0);
+        return found;
+    }
+
+    /**
+     * Returns a string representation of this capsule.
+     *
+     * @return the axis end points and radius
+     */
+    @Override
+    public String toString() {
+        return "Capsule3D[" + start + " -> " + end + ", radius=" + radius + "]";
+    }
+
+    private double pointDistanceSquared(double px, double py, double pz) {
+        return segmentPointDistanceSquared(start.getX(), start.getY(), start.getZ(),
+                                           end.getX(), end.getY(), end.getZ(), px, py, pz);
+    }
+
+    private double segmentDistanceSquared(double x0, double y0, double z0, double x1, double y1, double z1) {
+        return segmentSegmentDistanceSquared(start.getX(), start.getY(), start.getZ(),
+                                             end.getX(), end.getY(), end.getZ(), x0, y0, z0, x1, y1, z1);
+    }
+
+    /** True if a squared distance is within the given reach, with the usual tolerance. */
+    static boolean within(double distanceSquared, double reach) {
+        return distanceSquared <= reach * reach + EPSILON;
+    }
+
+    /**
+     * Squared distance from the point (px, py, pz) to the segment (x0, y0, z0)-(x1, y1, z1),
+     * which may have zero length.
+     */
+    static double segmentPointDistanceSquared(double x0, double y0, double z0, double x1, double y1, double z1,
+                                              double px, double py, double pz) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double dz = z1 - z0;
+        double rx = px - x0;
+        double ry = py - y0;
+        double rz = pz - z0;
+        double lengthSquared = dx * dx + dy * dy + dz * dz;
+        if (lengthSquared > 0) {
+            double t = Math.max(0, Math.min(1, (rx * dx + ry * dy + rz * dz) / lengthSquared));
+            rx -= t * dx;
+            ry -= t * dy;
+            rz -= t * dz;
+        }
+        return rx * rx + ry * ry + rz * rz;
+    }
+
+    /**
+     * Squared distance between the segments (ax0, ay0, az0)-(ax1, ay1, az1) and
+     * (bx0, by0, bz0)-(bx1, by1, bz1), either of which may have zero length.
+     */
+    static double segmentSegmentDistanceSquared(double ax0, double ay0, double az0,
+                                                double ax1, double ay1, double az1,
+                                                double bx0, double by0, double bz0,
+                                                double bx1, double by1, double bz1) {
+        double ux = ax1 - ax0;
+        double uy = ay1 - ay0;
+        double uz = az1 - az0;
+        double vx = bx1 - bx0;
+        double vy = by1 - by0;
+        double vz = bz1 - bz0;
+        double rx = ax0 - bx0;
+        double ry = ay0 - by0;
+        double rz = az0 - bz0;
+        double a = ux * ux + uy * uy + uz * uz;
+        double e = vx * vx + vy * vy + vz * vz;
+        double f = vx * rx + vy * ry + vz * rz;
+        double s;
+        double t;
+        if (a <= EPSILON && e <= EPSILON) {
+            return rx * rx + ry * ry + rz * rz;
+        }
+        if (a <= EPSILON) {
+            s = 0;
+            t = clamp(f / e);
+        } else {
+            double c = ux * rx + uy * ry + uz * rz;
+            if (e <= EPSILON) {
+                t = 0;
+                s = clamp(-c / a);
+            } else {
+                double b = ux * vx + uy * vy + uz * vz;
+                double denominator = a * e - b * b;
+                // Parallel segments: any s works, so start from s = 0
+                s = denominator > 0 ? clamp((b * f - c * e) / denominator) : 0;
+                t = (b * s + f) / e;
+                if (t < 0) {
+                    t = 0;
+                    s = clamp(-c / a);
+                } else if (t > 1) {
+                    t = 1;
+                    s = clamp((b - c) / a);
+                }
+            }
+        }
+        double dx = rx + s * ux - t * vx;
+        double dy = ry + s * uy - t * vy;
+        double dz = rz + s * uz - t * vz;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Squared distance from the segment (x0, y0, z0)-(x1, y1, z1) to a solid oriented cube
+     * given by its row-major rotation matrix, center and half side; 0 if they meet.
+     *
+     * scratch holds the segment start and direction in the cube's frame at [0..5] and the
+     * sorted face-crossing parameters, bracketed by 0 and 1, from index 6.
+     */
+    static double cubeDistanceSquared(double[] m, double cx, double cy, double cz, double half,
+                                      double x0, double y0, double z0, double x1, double y1, double z1,
+                                      double[] scratch) {
+        double rx = x0 - cx;
+        double ry = y0 - cy;
+        double rz = z0 - cz;
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double dz = z1 - z0;
+        for (int axis = 0; axis < 3; axis++) {
+            // Column a of the row-major rotation matrix is the cube's local axis a in world space
+            double ux = m[axis];
+            double uy = m[3 + axis];
+            double uz = m[6 + axis];
+            scratch[axis] = rx * ux + ry * uy + rz * uz;
+            scratch[3 + axis] = dx * ux + dy * uy + dz * uz;
+        }
+
+        // Parameters where the segment crosses a face plane split [0, 1] into pieces on
+        // which the same faces are exceeded, so the squared distance is one quadratic
+        int breaks = 6;
+        scratch[breaks++] = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            double p = scratch[axis];
+            double d = scratch[3 + axis];
+            if (d != 0) {
+                breaks = insertBreak(scratch, breaks, (-half - p) / d);
+                breaks = insertBreak(scratch, breaks, (half - p) / d);
+            }
+        }
+        scratch[breaks++] = 1;
+
+        double best = Double.POSITIVE_INFINITY;
+        for (int k = 6; k + 1 < breaks; k++) {
+            double ta = scratch[k];
+            double tb = scratch[k + 1];
+            double mid = (ta + tb) / 2;
+            // Minimize sum over exceeded faces of (p + t d - bound)^2 on [ta, tb]
+            double numerator = 0;
+            double denominator = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                double p = scratch[axis];
+                double d = scratch[3 + axis];
+                double v = p + mid * d;
+                double offset;
+                if (v > half) {
+                    offset = p - half;
+                } else if (v < -half) {
+                    offset = p + half;
+                } else {
+                    continue;
+                }
+                numerator += offset * d;
+                denominator += d * d;
+            }
+            double t = denominator > 0 ? Math.max(ta, Math.min(tb, -numerator / denominator)) : mid;
+            double distanceSquared = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                double v = scratch[axis] + t * scratch[3 + axis];
+                double excess = v > half ? v - half : (v < -half ? v + half : 0);
+                distanceSquared += excess * excess;
+            }
+            best = Math.min(best, distanceSquared);
+            if (best == 0) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /** Inserts t into the sorted run scratch[6..breaks) if it lies strictly inside (0, 1). */
+    private static int insertBreak(double[] scratch, int breaks, double t) {
+        if (!(t > 0 && t < 1)) {
+            return breaks;
+        }
+        int i = breaks;
+        while (i > 7 && scratch[i - 1] > t) {
+            scratch[i] = scratch[i - 1];
+            i--;
+        }
+        scratch[i] = t;
+        return breaks + 1;
+    }
+
+    private static double clamp(double t) {
+        return Math.max(0, Math.min(1, t));
+    }
+
+    private static void requirePoint(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot query capsule: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+    }
+
+    private static Line3D requireLine(Line3D line) {
+        if (line == null) {
+            logger.log(Level.SEVERE, "Cannot use capsule: line is null");
+            throw new NullPointerException("Line cannot be null");
+        }
+        return line;
+    }
+
+    private static void validateBatch(double[] capsules, int count, int[] out) {
+        if (capsules == null || out == null) {
+            logger.log(Level.SEVERE, "Cannot test capsules: capsule or output array is null");
+            throw new NullPointerException("Capsule and output arrays cannot be null");
+        }
+        if (count < 0 || (long) count * CAPSULE_STRIDE > capsules.length || out.length < count) {
+            logger.log(Level.SEVERE, "Cannot test capsules: count {0} does not fit the arrays", count);
+            throw new IllegalArgumentException("Count must be non-negative and fit the given arrays");
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of a clustering run: one label per point plus per-cluster summaries.
+ *
+ * Labels are 0 .. getClusterCount() - 1, numbered in order of each cluster's first
+ * point, and every cluster has at least one member. NOISE (-1) marks points that
+ * belong to no cluster (DBSCAN only). For every cluster the result also records the
+ * number of members, the centroid (mean position) and the axis-aligned extent of its
+ * members, from which getBounds() builds a Cube3D.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - Never modified after construction; getLabels() returns a copy, so results
+ *      may be shared freely
+ *
+ * 2. LAZY INITIALIZATION:
+ *    - Cube3D bounding volumes are only created when requested
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class ClusteringResult {
+
+    /** Label assigned to points that belong to no cluster. */
+    public static final int NOISE = -1;
+
+    // Side length used for the bounds of a cluster whose members all coincide
+    private static final double MIN_BOUNDS_SIDE = 1e-9;
+
+    private final int[] labels;
+    private final int clusterCount;
+    private final int iterations;
+    private final int[] clusterSizes;
+    private final double[] centroids;
+    private final double[] extents;
+
+    /**
+     * Builds a result from labels, computing sizes, centroids and extents.
+     *
+     * @param points the clustered points
+     * @param labels one label per point, NOISE or 0 .. clusterCount - 1; not copied
+     * @param clusterCount the number of clusters
+     * @param iterations the number of iterations the algorithm ran
+     */
+    ClusteringResult(PointBuffer points, int[] labels, int clusterCount, int iterations) {
+        this.labels = labels;
+        this.clusterCount = clusterCount;
+        this.iterations = iterations;
+        this.clusterSizes = new int[clusterCount];
+        this.centroids = new double[clusterCount * 3];
+        this.extents = new double[clusterCount * 6];
+        for (int c = 0; c < clusterCount; c++) {
+            extents[c * 6] = extents[c * 6 + 1] = extents[c * 6 + 2] = Double.POSITIVE_INFINITY;
+            extents[c * 6 + 3] = extents[c * 6 + 4] = extents[c * 6 + 5] = Double.NEGATIVE_INFINITY;
+        }
+
+        double[] xyz = points.getCoordinates();
+        for (int i = 0; i < labels.length; i++) {
+            int c = labels[i];
+            if (c == NOISE) {
+                continue;
+            }
+            clusterSizes[c]++;
+            for (int axis = 0; axis < 3; axis++) {
+                double v = xyz[i * 3 + axis];
+                centroids[c * 3 + axis] += v;
+                extents[c * 6 + axis] = Math.min(extents[c * 6 + axis], v);
+                extents[c * 6 + 3 + axis] = Math.max(extents[c * 6 + 3 + axis], v);
+            }
+        }
+        for (int c = 0; c < clusterCount; c++) {
+            for (int axis = 0; axis < 3; axis++) {
+                centroids[c * 3 + axis] /= clusterSizes[c];
+            }
+        }
+    }
+
+    /**
+     * Returns the label of a point.
+     *
+     * @param index the point index
+     * @return the cluster label, or NOISE
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getLabel(int index) {
+        return labels[index];
+    }
+
+    /**
+     * Returns a copy of all labels, in point order.
+     *
+     * @return the labels
+     */
+    public int[] getLabels() {
+        return labels.clone();
+    }
+
+    /**
+     * Returns the number of clusters found.
+     *
+     * @return the cluster count
+     */
+    public int getClusterCount() {
+        return clusterCount;
+    }
+
+    /**
+     * Returns the number of points labelled NOISE.
+     *
+     * @return the noise count
+     */
+    public int getNoiseCount() {
+        int members = 0;
+        for (int size : clusterSizes) {
+            members += size;
+        }
+        return labels.length - members;
+    }
+
+    /**
+     * Returns the number of iterations run (1 for DBSCAN).
+     *
+     * @return the iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the number of points in a cluster.
+     *
+     * @param cluster the cluster label
+     * @return the member count
+     * @throws IndexOutOfBoundsException if cluster is out of range
+     */
+    public int getClusterSize(int cluster) {
+        checkCluster(cluster);
+        return clusterSizes[cluster];
+    }
+
+    /**
+     * Returns the mean position of a cluster's members.
+     *
+     * @param cluster the cluster label
+     * @return the centroid
+     * @throws IndexOutOfBoundsException if cluster is out of range
+     */
+    public Point3D getCentroid(int cluster) {
+        checkCluster(cluster);
+        return new Point3D(centroids[cluster * 3], centroids[cluster * 3 + 1], centroids[cluster * 3 + 2]);
+    }
+
+    /**
+     * Returns an axis-aligned cube enclosing every member of a cluster.
+     *
+     * The members' bounding box is grown to a cube with the box's largest dimension,
+     * centered on the box, and passed to Cube3D.fromBounds. A cluster whose members all
+     * coincide gets a tiny cube around that point.
+     *
+     * @param cluster the cluster label
+     * @return the bounding cube
+     * @throws IndexOutOfBoundsException if cluster is out of range
+     */
+    public Cube3D getBounds(int cluster) {
+        checkCluster(cluster);
+        int o = cluster * 6;
+        double side = MIN_BOUNDS_SIDE;
+        for (int axis = 0; axis < 3; axis++) {
+            side = Math.max(side, extents[o + 3 + axis] - extents[o + axis]);
+        }
+        double half = side / 2;
+        double cx = (extents[o] + extents[o + 3]) / 2;
+        double cy = (extents[o + 1] + extents[o + 4]) / 2;
+        double cz = (extents[o + 2] + extents[o + 5]) / 2;
+        return Cube3D.fromBounds(new Point3D(cx - half, cy - half, cz - half),
+                                 new Point3D(cx + half, cy + half, cz + half));
+    }
+
+    /**
+     * Returns a short description of this result.
+     *
+     * @return a string showing point, cluster and noise counts
+     */
+    @Override
+    public String toString() {
+        return "ClusteringResult[points=" + labels.length + ", clusters=" + clusterCount
+            + ", noise=" + getNoiseCount() + ", sizes=" + Arrays.toString(clusterSizes) + "]";
+    }
+
+    private void checkCluster(int cluster) {
+        if (cluster < 0 || cluster >= clusterCount) {
+            throw new IndexOutOfBoundsException("Cluster " + cluster + " out of range for " + clusterCount + " clusters");
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.csc205.project1;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A thread-safe BoundsTracker for point sets updated from many threads.
+ *
+ * Points are spread over a fixed number of stripes, each a BoundsTracker guarded by its
+ * own lock. A thread adds new points to the stripe picked by its thread id, so writer
+ * threads mostly work on different stripes and do not contend; updates of an existing
+ * point lock only the stripe that holds it. Reading the bounds locks each stripe in turn
+ * and combines the stripe boxes, costing O(stripes).
+ *
+ * Because stripes are read one after another, bounds read while writers are active are
+ * the union of per-stripe states that were each current at some moment during the call;
+ * once writers are quiet, the result is exact.
+ *
+ * Example usage:
+ * <pre>
+ * ConcurrentBoundsTracker tracker = new ConcurrentBoundsTracker();
+ * long id = tracker.add(1, 2, 3);
+ * tracker.move(id, 0.5, 0, 0);
+ * double radius = tracker.getBoundingSphereRadius();
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. LOCK STRIPING:
+ *    - Each stripe has its own lock, as in ConcurrentScene
+ *
+ * 2. COMPOSITION:
+ *    - Stripe logic is the single-threaded BoundsTracker, reused unchanged
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. MERGEABLE SUMMARIES:
+ *    - The bounding box of a union is the componentwise min/max of the parts' boxes,
+ *      so stripes can be summarized independently and merged in O(stripes)
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class ConcurrentBoundsTracker {
+
+    private static final Logger logger = Logger.getLogger(ConcurrentBoundsTracker.class.getName());
+
+    /** Default number of stripes. */
+    public static final int DEFAULT_STRIPE_COUNT = 16;
+
+    private final BoundsTracker[] stripes;
+    private final ReentrantLock[] locks;
+    private final int stripeBits;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Constructs an empty tracker with DEFAULT_STRIPE_COUNT stripes.
+     */
+    public ConcurrentBoundsTracker() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Constructs an empty tracker with the given number of stripes.
+     *
+     * @param stripeCount the number of stripes; must be a positive power of two
+     * @throws IllegalArgumentException if stripeCount is not a positive power of two
+     */
+    public ConcurrentBoundsTracker(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            logger.log(Level.SEVERE, "Invalid stripe count: {0}", stripeCount);
+            throw new IllegalArgumentException("Stripe count must be a positive power of two");
+        }
+        stripes = new BoundsTracker[stripeCount];
+        locks = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new BoundsTracker();
+            locks[i] = new ReentrantLock();
+        }
+        stripeBits = Integer.numberOfTrailingZeros(stripeCount);
+        logger.log(Level.INFO, "Created concurrent bounds tracker with {0} stripes", stripeCount);
+    }
+
+    /**
+     * Adds a point and returns its id.
+     *
+     * Time Complexity: O(log n) amortized
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @return the id of the new point, unique among present points
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public long add(double x, double y, double z) {
+        int stripe = (int) Thread.currentThread().threadId() & (stripes.length - 1);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            int local = stripes[stripe].add(x, y, z);
+            size.incrementAndGet();
+            return ((long) local << stripeBits) | stripe;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves a point to new coordinates.
+     *
+     * @param id the point id
+     * @param x the new x-coordinate
+     * @param y the new y-coordinate
+     * @param z the new z-coordinate
+     * @return true if the point was present and moved
+     * @throws IllegalArgumentException if a coordinate is not finite
+     */
+    public boolean set(long id, double x, double y, double z) {
+        int stripe = stripeOf(id);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            return stripes[stripe].set(localOf(id), x, y, z);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves a point by an offset.
+     *
+     * @param id the point id
+     * @param dx the offset in the x direction
+     * @param dy the offset in the y direction
+     * @param dz the offset in the z direction
+     * @return true if the point was present and moved
+     * @throws IllegalArgumentException if a resulting coordinate is not finite
+     */
+    public boolean move(long id, double dx, double dy, double dz) {
+        int stripe = stripeOf(id);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            return stripes[stripe].move(localOf(id), dx, dy, dz);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a point.
+     *
+     * @param id the point id
+     * @return true if the point was present and removed
+     */
+    public boolean remove(long id) {
+        int stripe = stripeOf(id);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            boolean removed = stripes[stripe].remove(localOf(id));
+            if (removed) {
+                size.decrementAndGet();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the point with the given id.
+     *
+     * @param id the point id
+     * @return the point, or null if no point has that id
+     */
+    public Point3D get(long id) {
+        int stripe = stripeOf(id);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            return stripes[stripe].get(localOf(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the point count
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Copies the combined bounds of all stripes into an array.
+     *
+     * Time Complexity: O(stripes)
+     *
+     * @param dest receives minX, minY, minZ, maxX, maxY, maxZ in its first six slots
+     * @return false, leaving dest untouched, if no points are tracked
+     * @throws NullPointerException if dest is null
+     * @throws IndexOutOfBoundsException if dest is shorter than 6
+     */
+    public boolean getBounds(double[] dest) {
+        if (dest == null) {
+            logger.log(Level.SEVERE, "Cannot read bounds: destination is null");
+            throw new NullPointerException("Destination cannot be null");
+        }
+        if (dest.length < 6) {
+            throw new IndexOutOfBoundsException("Destination must hold 6 values");
+        }
+        double[] merged = null;
+        double[] part = new double[6];
+        for (int s = 0; s < stripes.length; s++) {
+            boolean present;
+            locks[s].lock();
+            try {
+                present = stripes[s].getBounds(part);
+            } finally {
+                locks[s].unlock();
+            }
+            if (!present) {
+                continue;
+            }
+            if (merged == null) {
+                merged = part.clone();
+            } else {
+                for (int axis = 0; axis < 3; axis++) {
+                    merged[axis] = Math.min(merged[axis], part[axis]);
+                    merged[axis + 3] = Math.max(merged[axis + 3], part[axis + 3]);
+                }
+            }
+        }
+        if (merged == null) {
+            return false;
+        }
+        System.arraycopy(merged, 0, dest, 0, 6);
+        return true;
+    }
+
+    /**
+     * Returns the minimum corner of the bounding box.
+     *
+     * @return the componentwise minimum of all points
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Point3D getMin() {
+        double[] b = boundsOrThrow();
+        return new Point3D(b[0], b[1], b[2]);
+    }
+
+    /**
+     * Returns the maximum corner of the bounding box.
+     *
+     * @return the componentwise maximum of all points
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Point3D getMax() {
+        double[] b = boundsOrThrow();
+        return new Point3D(b[3], b[4], b[5]);
+    }
+
+    /**
+     * Returns the smallest axis-aligned cube centered on the bounding box that contains
+     * every point.
+     *
+     * @return the bounding cube
+     * @throws IllegalStateException if no points are tracked
+     */
+    public Cube3D getBoundingCube() {
+        return BoundsTracker.boundingCube(boundsOrThrow());
+    }
+
+    /**
+     * Returns the radius of the sphere circumscribing the bounding box, centered on it.
+     *
+     * @return half the box diagonal
+     * @throws IllegalStateException if no points are tracked
+     */
+    public double getBoundingSphereRadius() {
+        return BoundsTracker.sphereRadius(boundsOrThrow());
+    }
+
+    private double[] boundsOrThrow() {
+        double[] b = new double[6];
+        if (!getBounds(b)) {
+            logger.log(Level.SEVERE, "Cannot compute bounds: tracker is empty");
+            throw new IllegalStateException("No points are tracked");
+        }
+        return b;
+    }
+
+    private int stripeOf(long id) {
+        return (int) id & (stripes.length - 1);
+    }
+
+    /** Returns the stripe-local id, or -1 for ids this tracker can never have issued. */
+    private int localOf(long id) {
+        long local = id >>> stripeBits;
+        return id < 0 || local > Integer.MAX_VALUE ? -1 : (int) local;
+    }
+}
@@ -0,0 +1,506 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A thread-safe registry of Cube3D objects with lock-free, consistent snapshot reads.
+ *
+ * A scene shared between many writer threads (adding, moving and removing cubes) and
+ * many reader threads (running queries) is commonly guarded by a single lock, which
+ * makes every reader wait behind every writer. ConcurrentScene never blocks readers:
+ * the whole scene is an immutable State object published through one AtomicReference,
+ * so a reader obtains a consistent point-in-time Snapshot with a single volatile read
+ * and can iterate it for as long as it likes while writers carry on.
+ *
+ * Writers use copy-on-write, but only of one stripe. Cubes are spread over a fixed
+ * number of stripes by id; a write copies the small arrays of its own stripe (holding
+ * that stripe's lock so writers of the same stripe never waste a copy) and then
+ * publishes a new State with a compare-and-set. If another stripe was published in
+ * the meantime, the retry only rebuilds the array of stripe references, so writers to
+ * different stripes proceed in parallel and never block each other.
+ *
+ * Cube3D is immutable, so entries can be shared freely between snapshots.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. COPY-ON-WRITE:
+ *    - Published state is never modified; writers build a new version and swap it in
+ *
+ * 2. LOCK STRIPING:
+ *    - Each stripe has its own writer lock, bounding both contention and the size of
+ *      the map copied per write
+ *
+ * 3. SNAPSHOT ISOLATION:
+ *    - A Snapshot sees exactly one version of the scene, regardless of concurrent writes
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. PERSISTENT STRUCTURE (SHALLOW):
+ *    - A write shares every unchanged stripe with the previous version, so its cost
+ *      is O(n / stripes + stripes) rather than O(n)
+ *
+ * 2. SORTED PARALLEL ARRAYS:
+ *    - Each stripe keeps ids and cubes in two arrays sorted by id, so queries scan
+ *      contiguous memory without boxing and get() is a binary search; new ids are
+ *      always the largest, so adding is an append
+ *
+ * 3. COMPARE-AND-SET:
+ *    - Publication is lock-free; readers are wait-free
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class ConcurrentScene {
+
+    private static final Logger logger = Logger.getLogger(ConcurrentScene.class.getName());
+
+    /** Default number of stripes. */
+    public static final int DEFAULT_STRIPE_COUNT = 16;
+
+    /** The cubes of one stripe, in two arrays sorted by id; never modified once published. */
+    private static final class Stripe {
+        static final Stripe EMPTY = new Stripe(new long[0], new Cube3D[0]);
+
+        final long[] ids;
+        final Cube3D[] cubes;
+
+        Stripe(long[] ids, Cube3D[] cubes) {
+            this.ids = ids;
+            this.cubes = cubes;
+        }
+
+        Cube3D get(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? cubes[index] : null;
+        }
+
+        /** Returns a copy with id mapped to cube, or with id removed if cube is null. */
+        Stripe with(long id, Cube3D cube) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0 && cube != null) {
+                Cube3D[] newCubes = cubes.clone();
+                newCubes[index] = cube;
+                return new Stripe(ids, newCubes);
+            }
+            if (index >= 0) {
+                long[] newIds = new long[ids.length - 1];
+                Cube3D[] newCubes = new Cube3D[ids.length - 1];
+                System.arraycopy(ids, 0, newIds, 0, index);
+                System.arraycopy(ids, index + 1, newIds, index, newIds.length - index);
+                System.arraycopy(cubes, 0, newCubes, 0, index);
+                System.arraycopy(cubes, index + 1, newCubes, index, newCubes.length - index);
+                return new Stripe(newIds, newCubes);
+            }
+            int insert = -index - 1;
+            long[] newIds = new long[ids.length + 1];
+            Cube3D[] newCubes = new Cube3D[ids.length + 1];
+            System.arraycopy(ids, 0, newIds, 0, insert);
+            System.arraycopy(ids, insert, newIds, insert + 1, ids.length - insert);
+            System.arraycopy(cubes, 0, newCubes, 0, insert);
+            System.arraycopy(cubes, insert, newCubes, insert + 1, cubes.length - insert);
+            newIds[insert] = id;
+            newCubes[insert] = cube;
+            return new Stripe(newIds, newCubes);
+        }
+    }
+
+    /** One immutable version of the scene. */
+    private static final class State {
+        final long version;
+        final int size;
+        final Stripe[] stripes;
+
+        State(long version, int size, Stripe[] stripes) {
+            this.version = version;
+            this.size = size;
+            this.stripes = stripes;
+        }
+    }
+
+    private final AtomicReference<State> state;
+    private final ReentrantLock[] writeLocks;
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final int stripeMask;
+
+    /**
+     * Constructs an empty scene with DEFAULT_STRIPE_COUNT stripes.
+     */
+    public ConcurrentScene() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Constructs an empty scene with the given number of stripes.
+     *
+     * More stripes allow more concurrent writers and make each write copy less, at the
+     * cost of a slightly larger array copy per write. A value around the number of
+     * writer threads is a good choice.
+     *
+     * @param stripeCount the number of stripes; must be a positive power of two
+     * @throws IllegalArgumentException if stripeCount is not a positive power of two
+     */
+    public ConcurrentScene(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            logger.log(Level.SEVERE, "Invalid stripe count: {0}", stripeCount);
+            throw new IllegalArgumentException("Stripe count must be a positive power of two");
+        }
+        Stripe[] stripes = new Stripe[stripeCount];
+        writeLocks = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = Stripe.EMPTY;
+            writeLocks[i] = new ReentrantLock();
+        }
+        this.stripeMask = stripeCount - 1;
+        this.state = new AtomicReference<>(new State(0, 0, stripes));
+        logger.log(Level.INFO, "Created concurrent scene with {0} stripes", stripeCount);
+    }
+
+    /**
+     * Adds a cube to the scene.
+     *
+     * Example usage:
+     * <pre>
+     * ConcurrentScene scene = new ConcurrentScene();
+     * long id = scene.add(new Cube3D(new Point3D(0, 0, 0), 2.0));
+     * scene.move(id, 1, 0, 0);
+     * </pre>
+     *
+     * Time Complexity: O(n / stripes + stripes)
+     *
+     * @param cube the cube to add
+     * @return the id assigned to the cube, unique within this scene
+     * @throws NullPointerException if cube is null
+     */
+    public long add(Cube3D cube) {
+        checkCube(cube);
+        long id = nextId.getAndIncrement();
+        write(id, existing -> cube);
+        logger.log(Level.INFO, "Added cube {0} to scene", id);
+        return id;
+    }
+
+    /**
+     * Returns the cube currently registered under an id.
+     *
+     * @param id the cube id
+     * @return the cube, or null if no cube has that id
+     */
+    public Cube3D get(long id) {
+        return state.get().stripes[stripeOf(id)].get(id);
+    }
+
+    /**
+     * Replaces the cube registered under an id.
+     *
+     * @param id the cube id
+     * @param cube the new cube
+     * @return true if a cube with that id existed and was replaced
+     * @throws NullPointerException if cube is null
+     */
+    public boolean replace(long id, Cube3D cube) {
+        checkCube(cube);
+        return update(id, existing -> cube) != null;
+    }
+
+    /**
+     * Atomically replaces the cube registered under an id with a function of itself.
+     *
+     * The function is called exactly once per successful update, while the stripe's
+     * writer lock is held, so it should be quick and must not modify this scene.
+     *
+     * @param id the cube id
+     * @param function computes the new cube from the current one
+     * @return the new cube, or null if no cube has that id
+     * @throws NullPointerException if function is null or returns null
+     */
+    public Cube3D update(long id, UnaryOperator<Cube3D> function) {
+        if (function == null) {
+            logger.log(Level.SEVERE, "Cannot update cube {0}: function is null", id);
+            throw new NullPointerException("Update function cannot be null");
+        }
+        return write(id, existing -> {
+            if (existing == null) {
+                return null;
+            }
+            Cube3D updated = function.apply(existing);
+            checkCube(updated);
+            return updated;
+        });
+    }
+
+    /**
+     * Translates the cube registered under an id.
+     *
+     * @param id the cube id
+     * @param dx the offset in the x direction
+     * @param dy the offset in the y direction
+     * @param dz the offset in the z direction
+     * @return the moved cube, or null if no cube has that id
+     */
+    public Cube3D move(long id, double dx, double dy, double dz) {
+        return update(id, cube -> cube.translate(dx, dy, dz));
+    }
+
+    /**
+     * Removes the cube registered under an id.
+     *
+     * @param id the cube id
+     * @return true if a cube was removed
+     */
+    public boolean remove(long id) {
+        boolean[] removed = new boolean[1];
+        write(id, existing -> {
+            removed[0] = existing != null;
+            return null;
+        });
+        if (removed[0]) {
+            logger.log(Level.INFO, "Removed cube {0} from scene", id);
+        }
+        return removed[0];
+    }
+
+    /**
+     * Returns the number of cubes currently in the scene.
+     *
+     * @return the cube count
+     */
+    public int size() {
+        return state.get().size;
+    }
+
+    /**
+     * Returns the version number of the current scene; it increases by one with every
+     * successful modification.
+     *
+     * @return the version number
+     */
+    public long getVersion() {
+        return state.get().version;
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return stripeMask + 1;
+    }
+
+    /**
+     * Returns a consistent, immutable view of the scene as it is right now.
+     *
+     * Taking a snapshot costs a single volatile read and never blocks or is blocked by
+     * writers. Later modifications of the scene are not visible through the snapshot.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(state.get());
+    }
+
+    /**
+     * Returns the ids of all cubes that contain a point, in the current version.
+     *
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @param z the z-coordinate of the point
+     * @return the matching ids
+     */
+    public List<Long> findContaining(double x, double y, double z) {
+        return snapshot().findContaining(x, y, z);
+    }
+
+    /**
+     * Applies a change to the cube with the given id and publishes the new state.
+     *
+     * @param change maps the current cube (or null) to the new cube (or null to remove)
+     * @return the new cube, or null if the id is absent afterwards
+     */
+    private Cube3D write(long id, UnaryOperator<Cube3D> change) {
+        int stripe = stripeOf(id);
+        ReentrantLock lock = writeLocks[stripe];
+        lock.lock();
+        try {
+            // While we hold the lock, no one else can change this stripe, so the new
+            // stripe is computed once and only the root needs to be retried
+            State current = state.get();
+            Stripe oldStripe = current.stripes[stripe];
+            Cube3D existing = oldStripe.get(id);
+            Cube3D replacement = change.apply(existing);
+            if (existing == null && replacement == null) {
+                return null;
+            }
+
+            Stripe newStripe = oldStripe.with(id, replacement);
+            int delta = (replacement == null ? 0 : 1) - (existing == null ? 0 : 1);
+
+            while (true) {
+                Stripe[] stripes = current.stripes.clone();
+                stripes[stripe] = newStripe;
+                State next = new State(current.version + 1, current.size + delta, stripes);
+                if (state.compareAndSet(current, next)) {
+                    return replacement;
+                }
+                current = state.get();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int stripeOf(long id) {
+        return stripeOf(id, stripeMask);
+    }
+
+    /** Fibonacci hashing, so sequential ids spread evenly over the stripes. */
+    private static int stripeOf(long id, int mask) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static void checkCube(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot store null cube in scene");
+            throw new NullPointerException("Cube cannot be null");
+        }
+    }
+
+    /**
+     * An immutable point-in-time view of a ConcurrentScene.
+     *
+     * Iteration order is unspecified but stable for a given snapshot.
+     */
+    public static final class Snapshot implements Iterable<Cube3D> {
+
+        private final State state;
+
+        private Snapshot(State state) {
+            this.state = state;
+        }
+
+        /**
+         * Returns the scene version this snapshot captured.
+         *
+         * @return the version number
+         */
+        public long getVersion() {
+            return state.version;
+        }
+
+        /**
+         * Returns the number of cubes in this snapshot.
+         *
+         * @return the cube count
+         */
+        public int size() {
+            return state.size;
+        }
+
+        /**
+         * Returns the cube registered under an id in this snapshot.
+         *
+         * @param id the cube id
+         * @return the cube, or null if no cube had that id
+         */
+        public Cube3D get(long id) {
+            return state.stripes[stripeOf(id, state.stripes.length - 1)].get(id);
+        }
+
+        /**
+         * Returns the ids of all cubes in this snapshot.
+         *
+         * @return the ids
+         */
+        public List<Long> ids() {
+            List<Long> ids = new ArrayList<>(state.size);
+            for (Stripe stripe : state.stripes) {
+                for (long id : stripe.ids) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        }
+
+        /**
+         * Returns the ids of all cubes in this snapshot that contain a point.
+         *
+         * Uses the allocation-free Cube3D.containsPoint(double, double, double) kernel.
+         *
+         * @param x the x-coordinate of the point
+         * @param y the y-coordinate of the point
+         * @param z the z-coordinate of the point
+         * @return the matching ids
+         */
+        public List<Long> findContaining(double x, double y, double z) {
+            List<Long> ids = new ArrayList<>();
+            for (Stripe stripe : state.stripes) {
+                Cube3D[] cubes = stripe.cubes;
+                for (int i = 0; i < cubes.length; i++) {
+                    if (cubes[i].containsPoint(x, y, z)) {
+                        ids.add(stripe.ids[i]);
+                    }
+                }
+            }
+            return ids;
+        }
+
+        /**
+         * Returns a sequential stream of the cubes in this snapshot.
+         *
+         * @return the stream
+         */
+        public Stream<Cube3D> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        @Override
+        public Spliterator<Cube3D> spliterator() {
+            return Spliterators.spliterator(iterator(), state.size,
+                Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL);
+        }
+
+        @Override
+        public Iterator<Cube3D> iterator() {
+            Stripe[] stripes = state.stripes;
+            return new Iterator<>() {
+                private int stripe;
+                private int index;
+                private Cube3D[] current = stripes[0].cubes;
+
+                @Override
+                public boolean hasNext() {
+                    while (index >= current.length) {
+                        if (stripe + 1 >= stripes.length) {
+                            return false;
+                        }
+                        current = stripes[++stripe].cubes;
+                        index = 0;
+                    }
+                    return true;
+                }
+
+                @Override
+                public Cube3D next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current[index++];
+                }
+            };
+        }
+    }
+}
@@ -104,6 +104,79 @@ public class Cube3D {
     private final double rotationY;
     private final double rotationZ;
     
+    // Sine/cosine of the rotation angles, computed on first use and then reused by
+    // every vertex, face and containment query on this cube
+    private Orientation orientation;
+    
+    /**
+     * Memoized trigonometry for a cube's rotation angles.
+     * 
+     * All fields are final, so an instance published through a plain field is always
+     * seen fully constructed; two threads racing to create it just compute the same
+     * values twice.
+     */
+    private static final class Orientation {
+        final Rotation x;
+        final Rotation y;
+        final Rotation z;
+        final Rotation inverseX;
+        final Rotation inverseY;
+        final Rotation inverseZ;
+        final double[] matrix;
+        
+        Orientation(double rotationX, double rotationY, double rotationZ) {
+            // Angles within EPSILON of zero are skipped, as in the original per-vertex code
+            x = Math.abs(rotationX) > EPSILON ? Rotation.of(rotationX) : null;
+            y = Math.abs(rotationY) > EPSILON ? Rotation.of(rotationY) : null;
+            z = Math.abs(rotationZ) > EPSILON ? Rotation.of(rotationZ) : null;
+            inverseX = x != null ? x.inverse() : null;
+            inverseY = y != null ? y.inverse() : null;
+            inverseZ = z != null ? z.inverse() : null;
+            
+            double cx = x != null ? x.getCos() : 1.0;
+            double sx = x != null ? x.getSin() : 0.0;
+            double cy = y != null ? y.getCos() : 1.0;
+            double sy = y != null ? y.getSin() : 0.0;
+            double cz = z != null ? z.getCos() : 1.0;
+            double sz = z != null ? z.getSin() : 0.0;
+            matrix = new double[]{
+                cz * cy, cz * sy * sx - sz * cx, cz * sy * cx + sz * sx,
+                sz * cy, sz * sy * sx + cz * cx, sz * sy * cx - cz * sx,
+                -sy,     cy * sx,                cy * cx
+            };
+        }
+        
+        /** Applies the forward rotations in X, Y, Z order. */
+        Point3D apply(Point3D point) {
+            Point3D rotated = point;
+            if (x != null) {
+                rotated = rotated.rotateX(x);
+            }
+            if (y != null) {
+                rotated = rotated.rotateY(y);
+            }
+            if (z != null) {
+                rotated = rotated.rotateZ(z);
+            }
+            return rotated;
+        }
+        
+        /** Applies the inverse rotations in -Z, -Y, -X order. */
+        Point3D applyInverse(Point3D point) {
+            Point3D rotated = point;
+            if (inverseZ != null) {
+                rotated = rotated.rotateZ(inverseZ);
+            }
+            if (inverseY != null) {
+                rotated = rotated.rotateY(inverseY);
+            }
+            if (inverseX != null) {
+                rotated = rotated.rotateX(inverseX);
+            }
+            return rotated;
+        }
+    }
+    
     /**
      * Constructs a new axis-aligned Cube3D with the specified center and side length.
      * 
@@ -473,6 +546,7 @@ public class Cube3D {
      * @return an array of 8 Point3D objects representing the cube's vertices
      */
     public Point3D[] getVertices() {
+        long metricsStart = GeometryMetrics.start();
         double half = sideLength / 2;
         
         // Create vertices in local space (axis-aligned cube centered at origin)
@@ -487,26 +561,18 @@ public class Cube3D {
         localVertices[7] = new Point3D(-half, half, half);
         
         // Apply rotations and translation to world space
+        Orientation rotations = orientation();
         Point3D[] worldVertices = new Point3D[8];
         for (int i = 0; i < 8; i++) {
-            Point3D rotated = localVertices[i];
-            
-            // Apply rotations in order: X, Y, Z
-            if (Math.abs(rotationX) > EPSILON) {
-                rotated = rotated.rotateX(rotationX);
-            }
-            if (Math.abs(rotationY) > EPSILON) {
-                rotated = rotated.rotateY(rotationY);
-            }
-            if (Math.abs(rotationZ) > EPSILON) {
-                rotated = rotated.rotateZ(rotationZ);
-            }
+            // Apply rotations in order: X, Y, Z (sin/cos computed once per cube)
+            Point3D rotated = rotations.apply(localVertices[i]);
             
             // Translate to world position
             worldVertices[i] = rotated.translate(center.getX(), center.getY(), center.getZ());
         }
         
         logger.log(Level.INFO, "Computed 8 vertices for cube");
+        GeometryMetrics.record(GeometryOperation.CUBE_VERTICES, metricsStart);
         return worldVertices;
     }
     
@@ -598,19 +664,10 @@ public class Cube3D {
         localCenters[5] = new Point3D(0, 0, half);   // +Z face
         
         // Apply rotations and translation
+        Orientation rotations = orientation();
         Point3D[] worldCenters = new Point3D[6];
         for (int i = 0; i < 6; i++) {
-            Point3D rotated = localCenters[i];
-            
-            if (Math.abs(rotationX) > EPSILON) {
-                rotated = rotated.rotateX(rotationX);
-            }
-            if (Math.abs(rotationY) > EPSILON) {
-                rotated = rotated.rotateY(rotationY);
-            }
-            if (Math.abs(rotationZ) > EPSILON) {
-                rotated = rotated.rotateZ(rotationZ);
-            }
+            Point3D rotated = rotations.apply(localCenters[i]);
             
             worldCenters[i] = rotated.translate(center.getX(), center.getY(), center.getZ());
         }
@@ -618,7 +675,93 @@ public class Cube3D {
         logger.log(Level.INFO, "Computed 6 face centers for cube");
         return worldCenters;
     }
-    
+
+    /**
+     * Helper method that computes the cube's orientation as a 3x3 rotation matrix.
+     *
+     * The matrix is stored row-major and equals Rz * Ry * Rx, which is the same
+     * X-then-Y-then-Z order used by getVertices(). Angles within EPSILON of zero are
+     * treated as exactly zero, again matching the per-vertex rotation code, so that
+     * primitive kernels produce the same coordinates as the object-based methods.
+     *
+     * The matrix is computed once per cube together with the memoized rotations and
+     * shared between callers, so it must not be modified.
+     *
+     * @return the shared array of 9 doubles holding the row-major rotation matrix
+     */
+    double[] orientationMatrix() {
+        return orientation().matrix;
+    }
+
+    /**
+     * Helper method that returns the memoized sine/cosine of the rotation angles.
+     *
+     * @return this cube's orientation, computed on first use
+     */
+    private Orientation orientation() {
+        Orientation current = orientation;
+        if (current == null) {
+            current = new Orientation(rotationX, rotationY, rotationZ);
+            orientation = current;
+        }
+        return current;
+    }
+
+    /**
+     * Helper method that writes the eight world-space vertices into a primitive array.
+     *
+     * Produces the same coordinates, in the same order, as getVertices(), but writes
+     * x, y, z triples into {@code dest} starting at {@code offset} instead of allocating
+     * Point3D objects. Used by bulk exporters such as CubeMeshBuilder.
+     *
+     * @param dest the destination array (needs 24 free slots from offset)
+     * @param offset the index of the first slot to write
+     */
+    void writeVertices(double[] dest, int offset) {
+        double[] m = orientationMatrix();
+        double half = sideLength / 2;
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+
+        for (int i = 0; i < 8; i++) {
+            // Same corner order as getVertices(): bottom face CCW, then top face CCW
+            double lx = (i == 1 || i == 2 || i == 5 || i == 6) ? half : -half;
+            double ly = (i == 2 || i == 3 || i == 6 || i == 7) ? half : -half;
+            double lz = (i >= 4) ? half : -half;
+
+            int o = offset + i * 3;
+            dest[o] = cx + m[0] * lx + m[1] * ly + m[2] * lz;
+            dest[o + 1] = cy + m[3] * lx + m[4] * ly + m[5] * lz;
+            dest[o + 2] = cz + m[6] * lx + m[7] * ly + m[8] * lz;
+        }
+    }
+
+    /**
+     * Helper method that writes the six outward unit face normals into a primitive array.
+     *
+     * Each normal is the direction from the cube's center to the matching entry of
+     * getFaceCenters(), divided by half the side length, so the faces follow the same
+     * -X, +X, -Y, +Y, -Z, +Z order. For a rotation matrix these are simply the signed
+     * matrix columns.
+     *
+     * @param dest the destination array (needs 18 free slots from offset)
+     * @param offset the index of the first slot to write
+     */
+    void writeFaceNormals(double[] dest, int offset) {
+        double[] m = orientationMatrix();
+
+        for (int axis = 0; axis < 3; axis++) {
+            int negative = offset + axis * 6;
+            int positive = negative + 3;
+            for (int row = 0; row < 3; row++) {
+                double component = m[row * 3 + axis];
+                dest[negative + row] = -component;
+                dest[positive + row] = component;
+            }
+        }
+    }
+
     /**
      * Rotates the cube around the X-axis by the specified angle.
      * 
@@ -698,6 +841,54 @@ public class Cube3D {
         return new Cube3D(center, sideLength, rotationX, rotationY, rotationZ + angleRadians);
     }
     
+    /**
+     * Rotates the cube around the X-axis by a precomputed rotation.
+     * 
+     * A cube stores its angles rather than its vertices, so this only adds the
+     * rotation's angle; the benefit is API symmetry with Point3D and Line3D, so one
+     * Rotation can drive a whole scene. Each cube computes the sine and cosine of its
+     * accumulated angles once, on first use, and reuses them for every vertex.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Cube3D with the rotation applied
+     * @throws NullPointerException if rotation is null
+     */
+    public Cube3D rotateX(Rotation rotation) {
+        checkRotation(rotation);
+        return rotateX(rotation.getAngle());
+    }
+    
+    /**
+     * Rotates the cube around the Y-axis by a precomputed rotation.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Cube3D with the rotation applied
+     * @throws NullPointerException if rotation is null
+     */
+    public Cube3D rotateY(Rotation rotation) {
+        checkRotation(rotation);
+        return rotateY(rotation.getAngle());
+    }
+    
+    /**
+     * Rotates the cube around the Z-axis by a precomputed rotation.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Cube3D with the rotation applied
+     * @throws NullPointerException if rotation is null
+     */
+    public Cube3D rotateZ(Rotation rotation) {
+        checkRotation(rotation);
+        return rotateZ(rotation.getAngle());
+    }
+    
+    private static void checkRotation(Rotation rotation) {
+        if (rotation == null) {
+            logger.log(Level.SEVERE, "Cannot rotate cube: rotation is null");
+            throw new NullPointerException("Rotation cannot be null");
+        }
+    }
+    
     /**
      * Rotates the cube around an arbitrary axis passing through its center.
      * 
@@ -751,6 +942,92 @@ public class Cube3D {
         return Cube3D.fromVertices(rotatedVertices);
     }
     
+    /**
+     * Rotates the cube around an arbitrary axis using the requested arithmetic mode.
+     * 
+     * FAST behaves exactly like rotateAroundAxis(axis, angleRadians). COMPENSATED
+     * normalizes the axis with a compensated norm, evaluates Rodrigues' formula with
+     * FMA-based cross and dot products, and rebuilds the cube (the same way
+     * fromVertices does) from compensated sums. The result therefore keeps the
+     * center and side length to within an ulp or so, instead of drifting when the
+     * axis is nearly parallel to a vertex offset or the cube sits far from the origin.
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * @param axis the axis to rotate around (will be normalized)
+     * @param angleRadians the rotation angle in radians
+     * @param mode the arithmetic mode
+     * @return a new Cube3D with the rotation applied
+     * @throws NullPointerException if axis or mode is null
+     * @throws ArithmeticException if the axis is a zero vector
+     */
+    public Cube3D rotateAroundAxis(Point3D axis, double angleRadians, ArithmeticMode mode) {
+        if (mode == null) {
+            logger.log(Level.SEVERE, "Cannot rotate around axis: mode is null");
+            throw new NullPointerException("Arithmetic mode cannot be null");
+        }
+        if (mode == ArithmeticMode.FAST) {
+            return rotateAroundAxis(axis, angleRadians);
+        }
+        if (axis == null) {
+            logger.log(Level.SEVERE, "Cannot rotate around axis: axis is null");
+            throw new NullPointerException("Axis cannot be null");
+        }
+        
+        double length = RobustArithmetic.norm(axis.getX(), axis.getY(), axis.getZ());
+        if (length < EPSILON) {
+            logger.log(Level.SEVERE, "Cannot rotate around zero-length axis");
+            throw new ArithmeticException("Cannot normalize zero vector");
+        }
+        double kx = axis.getX() / length;
+        double ky = axis.getY() / length;
+        double kz = axis.getZ() / length;
+        
+        double cos = Math.cos(angleRadians);
+        double sin = Math.sin(angleRadians);
+        double oneMinusCos = 1 - cos;
+        
+        // Work in offsets from the center so large coordinates do not swamp the rotation
+        double[] m = orientationMatrix();
+        double half = sideLength / 2;
+        double[] vertices = new double[24];
+        double[] cross = new double[3];
+        for (int i = 0; i < 24; i += 3) {
+            int corner = i / 3;
+            double lx = (corner == 1 || corner == 2 || corner == 5 || corner == 6) ? half : -half;
+            double ly = (corner == 2 || corner == 3 || corner == 6 || corner == 7) ? half : -half;
+            double lz = (corner >= 4) ? half : -half;
+            double vx = RobustArithmetic.dot(m[0], m[1], m[2], lx, ly, lz);
+            double vy = RobustArithmetic.dot(m[3], m[4], m[5], lx, ly, lz);
+            double vz = RobustArithmetic.dot(m[6], m[7], m[8], lx, ly, lz);
+            
+            RobustArithmetic.cross(kx, ky, kz, vx, vy, vz, cross);
+            double scalar = RobustArithmetic.dot(kx, ky, kz, vx, vy, vz) * oneMinusCos;
+            
+            vertices[i] = RobustArithmetic.sum(vx * cos, cross[0] * sin, kx * scalar);
+            vertices[i + 1] = RobustArithmetic.sum(vy * cos, cross[1] * sin, ky * scalar);
+            vertices[i + 2] = RobustArithmetic.sum(vz * cos, cross[2] * sin, kz * scalar);
+        }
+        
+        // Same reconstruction as fromVertices, in offsets from the pivot
+        double offsetX = RobustArithmetic.sum(vertices, 0, 3, 8) / 8;
+        double offsetY = RobustArithmetic.sum(vertices, 1, 3, 8) / 8;
+        double offsetZ = RobustArithmetic.sum(vertices, 2, 3, 8) / 8;
+        double[] distances = new double[8];
+        for (int i = 0; i < 8; i++) {
+            distances[i] = RobustArithmetic.norm(vertices[i * 3] - offsetX,
+                                                 vertices[i * 3 + 1] - offsetY,
+                                                 vertices[i * 3 + 2] - offsetZ);
+        }
+        double newSide = (RobustArithmetic.sum(distances, 0, 1, 8) / 8 * 2) / Math.sqrt(3);
+        
+        logger.log(Level.INFO, "Rotated cube around axis ({0}, {1}, {2}) by {3} radians with compensated arithmetic",
+                   new Object[]{kx, ky, kz, angleRadians});
+        
+        return new Cube3D(center.translate(offsetX, offsetY, offsetZ), newSide);
+    }
+    
     /**
      * Helper method to rotate a point around an arbitrary axis using Rodrigues' formula.
      * 
@@ -884,20 +1161,14 @@ public class Cube3D {
             logger.log(Level.SEVERE, "Cannot check point containment: point is null");
             throw new NullPointerException("Point cannot be null");
         }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
         
         // Transform point to local space (relative to center)
         Point3D localPoint = point.translate(-center.getX(), -center.getY(), -center.getZ());
         
         // Apply inverse rotations (in reverse order: -Z, -Y, -X)
-        if (Math.abs(rotationZ) > EPSILON) {
-            localPoint = localPoint.rotateZ(-rotationZ);
-        }
-        if (Math.abs(rotationY) > EPSILON) {
-            localPoint = localPoint.rotateY(-rotationY);
-        }
-        if (Math.abs(rotationX) > EPSILON) {
-            localPoint = localPoint.rotateX(-rotationX);
-        }
+        localPoint = orientation().applyInverse(localPoint);
         
         // Check if point is within the axis-aligned box bounds
         double half = sideLength / 2;
@@ -908,9 +1179,40 @@ public class Cube3D {
         logger.log(Level.INFO, "Point ({0}, {1}, {2}) is {3} cube",
                    new Object[]{point.getX(), point.getY(), point.getZ(), inside ? "inside" : "outside"});
         
+        slowQuery.finish(GeometryOperation.CUBE_CONTAINS_POINT, this, point, 2);
+        GeometryMetrics.record(GeometryOperation.CUBE_CONTAINS_POINT, metricsStart);
         return inside;
     }
     
+    /**
+     * Checks whether a point given by raw coordinates lies inside or on the cube.
+     * 
+     * This is the primitive kernel behind containsPoint(Point3D) for batch and
+     * high-throughput callers: it allocates nothing and does not log. The point is
+     * taken into local space by multiplying with the transpose of the (memoized)
+     * orientation matrix, which is the inverse rotation, so results agree with
+     * containsPoint(Point3D) except possibly for points within a few ulps of a face.
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @param z the z-coordinate of the point
+     * @return true if the point is inside or on the surface (within EPSILON)
+     */
+    public boolean containsPoint(double x, double y, double z) {
+        double[] m = orientationMatrix();
+        double dx = x - center.getX();
+        double dy = y - center.getY();
+        double dz = z - center.getZ();
+        double limit = sideLength / 2 + EPSILON;
+        
+        return Math.abs(m[0] * dx + m[3] * dy + m[6] * dz) <= limit
+            && Math.abs(m[1] * dx + m[4] * dy + m[7] * dz) <= limit
+            && Math.abs(m[2] * dx + m[5] * dy + m[8] * dz) <= limit;
+    }
+    
     /**
      * Determines if this cube intersects with another cube.
      * 
@@ -948,6 +1250,8 @@ public class Cube3D {
             logger.log(Level.SEVERE, "Cannot check intersection: other cube is null");
             throw new NullPointerException("Other cube cannot be null");
         }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
         
         // For simplicity with rotated cubes, use bounding sphere test
         // This is conservative (may report intersection when there isn't one)
@@ -963,6 +1267,8 @@ public class Cube3D {
             logger.log(Level.WARNING, "Using conservative bounding sphere test - actual intersection may differ");
         }
         
+        slowQuery.finish(GeometryOperation.CUBE_INTERSECTS, this, other, 2);
+        GeometryMetrics.record(GeometryOperation.CUBE_INTERSECTS, metricsStart);
         return intersects;
     }
     
@@ -1051,19 +1357,13 @@ public class Cube3D {
             logger.log(Level.SEVERE, "Cannot calculate distance to point: point is null");
             throw new NullPointerException("Point cannot be null");
         }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
         
         // Transform to local space
         Point3D localPoint = point.translate(-center.getX(), -center.getY(), -center.getZ());
         
-        if (Math.abs(rotationZ) > EPSILON) {
-            localPoint = localPoint.rotateZ(-rotationZ);
-        }
-        if (Math.abs(rotationY) > EPSILON) {
-            localPoint = localPoint.rotateY(-rotationY);
-        }
-        if (Math.abs(rotationX) > EPSILON) {
-            localPoint = localPoint.rotateX(-rotationX);
-        }
+        localPoint = orientation().applyInverse(localPoint);
         
         // Calculate distance in local space (axis-aligned)
         double half = sideLength / 2;
@@ -1079,9 +1379,82 @@ public class Cube3D {
         logger.log(Level.INFO, "Distance from point ({0}, {1}, {2}) to cube: {3}",
                    new Object[]{point.getX(), point.getY(), point.getZ(), distance});
         
+        slowQuery.finish(GeometryOperation.CUBE_DISTANCE_TO_POINT, this, point, 2);
+        GeometryMetrics.record(GeometryOperation.CUBE_DISTANCE_TO_POINT, metricsStart);
         return distance;
     }
-    
+
+    /**
+     * Calculates the signed distance from a point to the cube's surface.
+     *
+     * Unlike distanceToPoint(), which returns 0 anywhere inside the cube, the result
+     * is negative inside: minus the distance to the nearest face. Outside it equals
+     * distanceToPoint(). This is the exact signed distance function of a box, as used
+     * by distance fields for navigation and rendering.
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * Example usage:
+     * <pre>
+     * Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 10.0);
+     * double inside = cube.signedDistanceToPoint(new Point3D(3, 0, 0));   // Returns -2.0
+     * double outside = cube.signedDistanceToPoint(new Point3D(15, 0, 0)); // Returns 10.0
+     * </pre>
+     *
+     * @param point the point to calculate distance to
+     * @return the signed distance; negative inside, zero on the surface, positive outside
+     * @throws NullPointerException if point is null
+     */
+    public double signedDistanceToPoint(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot calculate signed distance to point: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+
+        double distance = signedDistanceToPoint(point.getX(), point.getY(), point.getZ());
+
+        logger.log(Level.INFO, "Signed distance from point ({0}, {1}, {2}) to cube: {3}",
+                   new Object[]{point.getX(), point.getY(), point.getZ(), distance});
+
+        return distance;
+    }
+
+    /**
+     * Calculates the signed distance from a point given by raw coordinates.
+     *
+     * This is the primitive kernel behind signedDistanceToPoint(Point3D): it allocates
+     * nothing and does not log. The point is taken into local space with the transpose
+     * of the memoized orientation matrix, exactly as in containsPoint(double, double, double).
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @param z the z-coordinate of the point
+     * @return the signed distance; negative inside, positive outside
+     */
+    public double signedDistanceToPoint(double x, double y, double z) {
+        double[] m = orientationMatrix();
+        double dx = x - center.getX();
+        double dy = y - center.getY();
+        double dz = z - center.getZ();
+        double half = sideLength / 2;
+
+        // Per-axis distance outside the slab (negative when inside it)
+        double qx = Math.abs(m[0] * dx + m[3] * dy + m[6] * dz) - half;
+        double qy = Math.abs(m[1] * dx + m[4] * dy + m[7] * dz) - half;
+        double qz = Math.abs(m[2] * dx + m[5] * dy + m[8] * dz) - half;
+
+        double ox = Math.max(qx, 0);
+        double oy = Math.max(qy, 0);
+        double oz = Math.max(qz, 0);
+        double outside = Math.sqrt(ox * ox + oy * oy + oz * oz);
+        double inside = Math.min(Math.max(qx, Math.max(qy, qz)), 0);
+        return outside + inside;
+    }
+
     /**
      * Projects the cube onto a plane defined by a normal vector.
      * 
@@ -1235,13 +1608,13 @@ public class Cube3D {
      * Returns a string representation of this cube.
      * 
      * Provides a human-readable representation showing the center, side length,
-     * volume, and rotation angles.
+     * volume, and rotation angles. Uses GeometryFormatter rather than String.format,
+     * so the volume is computed inline and nothing is logged.
      * 
      * @return a string representation of this cube
      */
     @Override
     public String toString() {
-        return String.format("Cube3D[center=%s, sideLength=%.2f, volume=%.2f, rotations=(%.2f, %.2f, %.2f)]",
-                           center.toString(), sideLength, volume(), rotationX, rotationY, rotationZ);
+        return GeometryFormatter.TWO_DIGITS.appendCube(new StringBuilder(128), this).toString();
     }
 }
\ No newline at end of file
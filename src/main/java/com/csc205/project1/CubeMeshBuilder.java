@@ -0,0 +1,528 @@
+package com.csc205.project1;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Collection;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Builds packed, GPU-ready vertex and index buffers for scenes made of many Cube3D objects.
+ *
+ * Calling getVertices() and getEdges() on every cube allocates 8 Point3D and 12 Line3D
+ * objects per cube, which dominates the cost of exporting large scenes. This builder
+ * instead writes each cube's geometry straight into reusable direct NIO buffers:
+ *
+ * - positions: 8 shared vertices per cube (x, y, z floats)
+ * - indices: triangle list indexing into the positions (12 triangles per full cube)
+ * - triangle normals: one outward normal per emitted triangle, derived from the face
+ *   centers, for flat shading via the primitive index
+ * - instances: optional per-cube (center, scale, orientation quaternion) records for
+ *   instanced rendering of a single unit-cube template
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. BUILDER PATTERN:
+ *    - Cubes are appended one at a time (or in bulk) and the accumulated buffers are
+ *      read back at the end
+ *    - The same builder is reset() and reused across frames, so the underlying
+ *      buffers are allocated only once and grow geometrically when needed
+ *
+ * 2. FLYWEIGHT PATTERN (Implicit):
+ *    - Instanced output stores only the per-cube state (center, size, orientation);
+ *      the shared geometry is a single unit cube, cutting transfer size from
+ *      24 + 36 + 36 values per cube to 8 floats
+ *
+ * 3. STRATEGY PATTERN:
+ *    - LevelOfDetail selects how much geometry each cube contributes, either chosen
+ *      explicitly or derived from the configured viewpoint
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. INDEXED MESHES:
+ *    - Shared vertex indexing stores each corner once and references it from every
+ *      triangle that touches it (8 vertices instead of 36 for a cube)
+ *
+ * 2. BACK-FACE CULLING:
+ *    - A convex solid shows at most three faces to any viewer outside it, so emitting
+ *      only faces that point toward the viewer halves the index count
+ *
+ * 3. AMORTIZED GROWTH:
+ *    - Buffers double in capacity when full, giving amortized O(1) appends
+ *
+ * Note: this class is not thread-safe. Use one builder per thread.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class CubeMeshBuilder {
+
+    private static final Logger logger = Logger.getLogger(CubeMeshBuilder.class.getName());
+
+    /** Number of shared vertices written per cube. */
+    public static final int VERTICES_PER_CUBE = 8;
+
+    /** Number of triangles written for a cube at LevelOfDetail.FULL. */
+    public static final int TRIANGLES_PER_CUBE = 12;
+
+    /** Number of floats per instance record: center (3), side length (1), quaternion x, y, z, w (4). */
+    public static final int FLOATS_PER_INSTANCE = 8;
+
+    private static final int DEFAULT_CUBE_CAPACITY = 64;
+
+    /**
+     * Quads for each face, ordered -X, +X, -Y, +Y, -Z, +Z like getFaceCenters().
+     * Corner indices refer to the getVertices() order and wind counter-clockwise
+     * when seen from outside the cube.
+     */
+    static final int[][] FACE_QUADS = {
+        {0, 4, 7, 3},
+        {1, 2, 6, 5},
+        {0, 1, 5, 4},
+        {3, 7, 6, 2},
+        {0, 3, 2, 1},
+        {4, 5, 6, 7}
+    };
+
+    /**
+     * How much geometry a cube contributes to the mesh.
+     */
+    public enum LevelOfDetail {
+        /** All six faces (12 triangles). */
+        FULL,
+        /** Only faces whose outward normal points toward the viewpoint (at most 6 triangles). */
+        VISIBLE_FACES,
+        /** Nothing is emitted; the cube is too small on screen to matter. */
+        CULLED
+    }
+
+    private FloatBuffer positions;
+    private IntBuffer indices;
+    private FloatBuffer normals;
+    private FloatBuffer instances;
+
+    private int vertexCount;
+    private int triangleCount;
+    private int instanceCount;
+
+    private Point3D viewpoint;
+    private double minimumAngularSize;
+
+    // Scratch space reused for every cube to avoid per-cube allocation
+    private final double[] vertexScratch = new double[VERTICES_PER_CUBE * 3];
+    private final double[] normalScratch = new double[6 * 3];
+
+    /**
+     * Constructs a builder with room for a default number of cubes.
+     *
+     * Example usage:
+     * <pre>
+     * CubeMeshBuilder builder = new CubeMeshBuilder();
+     * </pre>
+     */
+    public CubeMeshBuilder() {
+        this(DEFAULT_CUBE_CAPACITY);
+    }
+
+    /**
+     * Constructs a builder whose buffers initially hold the given number of cubes.
+     *
+     * The buffers still grow automatically; sizing them up front simply avoids
+     * reallocation when the scene size is known.
+     *
+     * Example usage:
+     * <pre>
+     * CubeMeshBuilder builder = new CubeMeshBuilder(10_000);
+     * </pre>
+     *
+     * @param initialCubeCapacity the number of cubes to reserve space for
+     * @throws IllegalArgumentException if initialCubeCapacity is not positive
+     */
+    public CubeMeshBuilder(int initialCubeCapacity) {
+        if (initialCubeCapacity <= 0) {
+            logger.log(Level.SEVERE, "Cannot create CubeMeshBuilder: invalid capacity {0}", initialCubeCapacity);
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+
+        this.positions = allocateFloats(initialCubeCapacity * VERTICES_PER_CUBE * 3);
+        this.indices = allocateInts(initialCubeCapacity * TRIANGLES_PER_CUBE * 3);
+        this.normals = allocateFloats(initialCubeCapacity * TRIANGLES_PER_CUBE * 3);
+        this.instances = allocateFloats(initialCubeCapacity * FLOATS_PER_INSTANCE);
+
+        logger.log(Level.INFO, "Created CubeMeshBuilder with capacity for {0} cubes", initialCubeCapacity);
+    }
+
+    /**
+     * Sets the viewpoint used to pick a level of detail for cubes added without one.
+     *
+     * With no viewpoint (the default) every cube is emitted at LevelOfDetail.FULL.
+     *
+     * @param eye the viewer position, or null to disable view-dependent detail
+     * @return this builder
+     */
+    public CubeMeshBuilder setViewpoint(Point3D eye) {
+        this.viewpoint = eye;
+        logger.log(Level.INFO, "Set mesh viewpoint to {0}", eye);
+        return this;
+    }
+
+    /**
+     * Sets the smallest apparent size at which a cube is still emitted.
+     *
+     * The apparent size is the ratio of the cube's circumscribed sphere radius to its
+     * distance from the viewpoint (roughly the sine of its angular radius). Cubes
+     * below this ratio are culled. The default of 0 never culls.
+     *
+     * @param ratio the minimum radius-to-distance ratio
+     * @return this builder
+     * @throws IllegalArgumentException if ratio is negative
+     */
+    public CubeMeshBuilder setMinimumAngularSize(double ratio) {
+        if (ratio < 0) {
+            logger.log(Level.SEVERE, "Cannot set minimum angular size: ratio must be non-negative (ratio={0})", ratio);
+            throw new IllegalArgumentException("Minimum angular size must be non-negative");
+        }
+        this.minimumAngularSize = ratio;
+        return this;
+    }
+
+    /**
+     * Chooses the level of detail for a cube based on the current viewpoint.
+     *
+     * - No viewpoint, or viewpoint inside the cube's bounding sphere: FULL
+     * - Apparent size below the minimum: CULLED
+     * - Otherwise: VISIBLE_FACES
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param cube the cube to classify
+     * @return the level of detail to use
+     * @throws NullPointerException if cube is null
+     */
+    public LevelOfDetail selectLevelOfDetail(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot select level of detail: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+
+        if (viewpoint == null) {
+            return LevelOfDetail.FULL;
+        }
+
+        Point3D c = cube.getCenter();
+        double dx = c.getX() - viewpoint.getX();
+        double dy = c.getY() - viewpoint.getY();
+        double dz = c.getZ() - viewpoint.getZ();
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        double radius = cube.getSideLength() * Math.sqrt(3) / 2;
+
+        if (distance <= radius) {
+            return LevelOfDetail.FULL;
+        }
+        if (radius / distance < minimumAngularSize) {
+            return LevelOfDetail.CULLED;
+        }
+        return LevelOfDetail.VISIBLE_FACES;
+    }
+
+    /**
+     * Appends a cube using the level of detail chosen by selectLevelOfDetail().
+     *
+     * Time Complexity: O(1) amortized
+     * Space Complexity: O(1) amortized
+     *
+     * Example usage:
+     * <pre>
+     * builder.addCube(new Cube3D(new Point3D(0, 0, 0), 2.0));
+     * </pre>
+     *
+     * @param cube the cube to append
+     * @return this builder
+     * @throws NullPointerException if cube is null
+     */
+    public CubeMeshBuilder addCube(Cube3D cube) {
+        return addCube(cube, selectLevelOfDetail(cube));
+    }
+
+    /**
+     * Appends a cube at an explicit level of detail.
+     *
+     * Writes the 8 shared vertices, then two triangles for every emitted face along
+     * with one normal per triangle. VISIBLE_FACES requires a viewpoint; without one
+     * all faces are treated as visible.
+     *
+     * Time Complexity: O(1) amortized
+     * Space Complexity: O(1) amortized
+     *
+     * @param cube the cube to append
+     * @param detail the level of detail to emit
+     * @return this builder
+     * @throws NullPointerException if cube or detail is null
+     */
+    public CubeMeshBuilder addCube(Cube3D cube, LevelOfDetail detail) {
+        if (cube == null || detail == null) {
+            logger.log(Level.SEVERE, "Cannot add cube to mesh: cube or level of detail is null");
+            throw new NullPointerException("Cube and level of detail cannot be null");
+        }
+
+        // Per-cube logging is intentionally omitted: this is the hot path for bulk export
+        if (detail == LevelOfDetail.CULLED) {
+            return this;
+        }
+
+        cube.writeVertices(vertexScratch, 0);
+        cube.writeFaceNormals(normalScratch, 0);
+
+        positions = ensureCapacity(positions, VERTICES_PER_CUBE * 3);
+        indices = ensureCapacity(indices, TRIANGLES_PER_CUBE * 3);
+        normals = ensureCapacity(normals, TRIANGLES_PER_CUBE * 3);
+
+        for (double coordinate : vertexScratch) {
+            positions.put((float) coordinate);
+        }
+
+        double half = cube.getSideLength() / 2;
+        Point3D c = cube.getCenter();
+        int base = vertexCount;
+
+        for (int face = 0; face < 6; face++) {
+            double nx = normalScratch[face * 3];
+            double ny = normalScratch[face * 3 + 1];
+            double nz = normalScratch[face * 3 + 2];
+
+            if (detail == LevelOfDetail.VISIBLE_FACES && viewpoint != null) {
+                // Face center is center + normal * half; keep the face if the eye is in front of it
+                double toEyeX = viewpoint.getX() - (c.getX() + nx * half);
+                double toEyeY = viewpoint.getY() - (c.getY() + ny * half);
+                double toEyeZ = viewpoint.getZ() - (c.getZ() + nz * half);
+                if (nx * toEyeX + ny * toEyeY + nz * toEyeZ <= 0) {
+                    continue;
+                }
+            }
+
+            int[] quad = FACE_QUADS[face];
+            indices.put(base + quad[0]).put(base + quad[1]).put(base + quad[2]);
+            indices.put(base + quad[0]).put(base + quad[2]).put(base + quad[3]);
+
+            for (int t = 0; t < 2; t++) {
+                normals.put((float) nx).put((float) ny).put((float) nz);
+            }
+            triangleCount += 2;
+        }
+
+        vertexCount += VERTICES_PER_CUBE;
+        return this;
+    }
+
+    /**
+     * Appends every cube in a collection, choosing each cube's level of detail.
+     *
+     * Time Complexity: O(n) where n is the number of cubes
+     * Space Complexity: O(n) for the growing buffers
+     *
+     * @param cubes the cubes to append
+     * @return this builder
+     * @throws NullPointerException if cubes or any element is null
+     */
+    public CubeMeshBuilder addCubes(Collection<Cube3D> cubes) {
+        if (cubes == null) {
+            logger.log(Level.SEVERE, "Cannot add cubes to mesh: collection is null");
+            throw new NullPointerException("Cube collection cannot be null");
+        }
+
+        for (Cube3D cube : cubes) {
+            addCube(cube);
+        }
+
+        logger.log(Level.INFO, "Added {0} cubes to mesh ({1} vertices, {2} triangles total)",
+                   new Object[]{cubes.size(), vertexCount, triangleCount});
+        return this;
+    }
+
+    /**
+     * Appends an instance record for a cube.
+     *
+     * The record is (centerX, centerY, centerZ, sideLength, qx, qy, qz, qw), where the
+     * quaternion represents the same X-then-Y-then-Z rotation as the cube. A renderer
+     * draws every instance by transforming one unit cube (side length 1, centered at
+     * the origin), which can itself be produced by this builder.
+     *
+     * Time Complexity: O(1) amortized
+     * Space Complexity: O(1) amortized
+     *
+     * @param cube the cube to record
+     * @return this builder
+     * @throws NullPointerException if cube is null
+     */
+    public CubeMeshBuilder addInstance(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot add cube instance: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+
+        instances = ensureCapacity(instances, FLOATS_PER_INSTANCE);
+
+        // q = qz * qy * qx, matching the rotation order R = Rz * Ry * Rx
+        double hx = cube.getRotationX() / 2;
+        double hy = cube.getRotationY() / 2;
+        double hz = cube.getRotationZ() / 2;
+        double cx = Math.cos(hx);
+        double sx = Math.sin(hx);
+        double cy = Math.cos(hy);
+        double sy = Math.sin(hy);
+        double cz = Math.cos(hz);
+        double sz = Math.sin(hz);
+
+        double qw = cx * cy * cz + sx * sy * sz;
+        double qx = sx * cy * cz - cx * sy * sz;
+        double qy = cx * sy * cz + sx * cy * sz;
+        double qz = cx * cy * sz - sx * sy * cz;
+
+        Point3D c = cube.getCenter();
+        instances.put((float) c.getX()).put((float) c.getY()).put((float) c.getZ());
+        instances.put((float) cube.getSideLength());
+        instances.put((float) qx).put((float) qy).put((float) qz).put((float) qw);
+
+        instanceCount++;
+        return this;
+    }
+
+    /**
+     * Appends instance records for every cube in a collection.
+     *
+     * @param cubes the cubes to record
+     * @return this builder
+     * @throws NullPointerException if cubes or any element is null
+     */
+    public CubeMeshBuilder addInstances(Collection<Cube3D> cubes) {
+        if (cubes == null) {
+            logger.log(Level.SEVERE, "Cannot add cube instances: collection is null");
+            throw new NullPointerException("Cube collection cannot be null");
+        }
+
+        for (Cube3D cube : cubes) {
+            addInstance(cube);
+        }
+
+        logger.log(Level.INFO, "Added {0} cube instances ({1} total)",
+                   new Object[]{cubes.size(), instanceCount});
+        return this;
+    }
+
+    /**
+     * Clears all written data while keeping the allocated buffers for reuse.
+     */
+    public void reset() {
+        positions.clear();
+        indices.clear();
+        normals.clear();
+        instances.clear();
+        vertexCount = 0;
+        triangleCount = 0;
+        instanceCount = 0;
+        logger.log(Level.INFO, "Reset CubeMeshBuilder");
+    }
+
+    /**
+     * Returns a read view of the vertex positions written so far.
+     *
+     * The view shares storage with the builder (no copy is made) and holds
+     * getVertexCount() * 3 floats. It is invalidated by reset() or by further
+     * appends that force the buffer to grow.
+     *
+     * @return a direct FloatBuffer positioned at 0 with limit at the written end
+     */
+    public FloatBuffer getPositions() {
+        return positions.duplicate().flip();
+    }
+
+    /**
+     * Returns a read view of the triangle indices written so far (3 per triangle).
+     *
+     * @return a direct IntBuffer positioned at 0 with limit at the written end
+     * @see #getPositions()
+     */
+    public IntBuffer getIndices() {
+        return indices.duplicate().flip();
+    }
+
+    /**
+     * Returns a read view of the per-triangle normals (3 floats per triangle).
+     *
+     * Normal i belongs to the triangle formed by indices 3i, 3i+1 and 3i+2.
+     *
+     * @return a direct FloatBuffer positioned at 0 with limit at the written end
+     * @see #getPositions()
+     */
+    public FloatBuffer getTriangleNormals() {
+        return normals.duplicate().flip();
+    }
+
+    /**
+     * Returns a read view of the instance records (FLOATS_PER_INSTANCE floats each).
+     *
+     * @return a direct FloatBuffer positioned at 0 with limit at the written end
+     * @see #getPositions()
+     */
+    public FloatBuffer getInstances() {
+        return instances.duplicate().flip();
+    }
+
+    /**
+     * Returns the number of vertices written.
+     *
+     * @return the vertex count
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns the number of triangles written.
+     *
+     * @return the triangle count
+     */
+    public int getTriangleCount() {
+        return triangleCount;
+    }
+
+    /**
+     * Returns the number of instance records written.
+     *
+     * @return the instance count
+     */
+    public int getInstanceCount() {
+        return instanceCount;
+    }
+
+    private static FloatBuffer allocateFloats(int count) {
+        return ByteBuffer.allocateDirect(count * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    private static IntBuffer allocateInts(int count) {
+        return ByteBuffer.allocateDirect(count * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    private static FloatBuffer ensureCapacity(FloatBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        int newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + needed);
+        FloatBuffer grown = allocateFloats(newCapacity);
+        grown.put(buffer.flip());
+        return grown;
+    }
+
+    private static IntBuffer ensureCapacity(IntBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) {
+            return buffer;
+        }
+        int newCapacity = Math.max(buffer.capacity() * 2, buffer.position() + needed);
+        IntBuffer grown = allocateInts(newCapacity);
+        grown.put(buffer.flip());
+        return grown;
+    }
+}
@@ -0,0 +1,562 @@
+package com.csc205.project1;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * An all-pairs distance matrix for a set of points, stored as a packed upper triangle.
+ *
+ * Clustering and nearest-neighbour analyses often need every pairwise distance. Calling
+ * Point3D.distanceTo n^2 times allocates nothing but logs every call, and a naive
+ * row-by-row loop walks the whole coordinate array once per row. DistanceMatrix
+ * computes the n(n-1)/2 distinct distances from a PointBuffer with a primitive kernel,
+ * in square tiles so that both blocks of coordinates stay in cache, spreading the
+ * tiles over a ForkJoinPool.
+ *
+ * The matrix is symmetric with a zero diagonal, so only entries with i &lt; j are stored,
+ * row by row, in a single array: row i starts at i(2n - i - 1)/2. Storage can be double
+ * or float; float halves the memory (a 50,000-point matrix needs about 5 GB instead of
+ * 10 GB) at the cost of roughly seven significant digits.
+ *
+ * When the matrix does not fit in memory at all, Builder.streamRows computes it band by
+ * band and hands each row to a callback in order, holding only one band at a time.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. BUILDER PATTERN:
+ *    - Metric, storage precision, tile size and thread pool are optional settings
+ *
+ * 2. IMMUTABLE RESULT:
+ *    - A built matrix is read-only and may be shared between threads
+ *
+ * 3. STRATEGY PATTERN:
+ *    - The distance function is a DistanceMetric, identical to Point3D.distanceTo or
+ *      Point3D.manhattanDistanceTo
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. PACKED TRIANGULAR STORAGE:
+ *    - Half the memory of a full n x n matrix, with O(1) index arithmetic
+ *
+ * 2. LOOP TILING (CACHE BLOCKING):
+ *    - A tile pairs tileSize rows with tileSize columns; the column block is reused
+ *      for every row of the tile while it is still in cache
+ *
+ * 3. FORK/JOIN DIVIDE AND CONQUER:
+ *    - The list of tiles is split recursively so idle workers steal half of the
+ *      remaining work, balancing the triangular workload automatically
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class DistanceMatrix {
+
+    private static final Logger logger = Logger.getLogger(DistanceMatrix.class.getName());
+
+    /** Default tile edge, in points. */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    /** Largest number of stored entries (the limit of a Java array). */
+    public static final long MAX_PACKED_ENTRIES = Integer.MAX_VALUE - 8;
+
+    // Upper bound on the number of entries held by one band when streaming rows
+    private static final int STREAM_BAND_ENTRIES = 1 << 22;
+
+    /**
+     * Receives the rows of a streamed distance matrix.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+
+        /**
+         * Accepts the distances from point {@code row} to points row + 1 ... n - 1.
+         *
+         * The array is reused for later rows; copy what must be kept.
+         *
+         * @param row the row index
+         * @param distances the array holding the distances
+         * @param offset the index in distances of the distance to point row + 1
+         * @param count the number of distances, n - row - 1
+         */
+        void accept(int row, double[] distances, int offset, int count);
+    }
+
+    private final int size;
+    private final DistanceMetric metric;
+    private final double[] doubles;
+    private final float[] floats;
+
+    private DistanceMatrix(int size, DistanceMetric metric, double[] doubles, float[] floats) {
+        this.size = size;
+        this.metric = metric;
+        this.doubles = doubles;
+        this.floats = floats;
+    }
+
+    /**
+     * Computes the distance matrix of a point set with default settings.
+     *
+     * Example usage:
+     * <pre>
+     * DistanceMatrix matrix = DistanceMatrix.compute(points, DistanceMetric.EUCLIDEAN);
+     * double d = matrix.get(3, 17);
+     * </pre>
+     *
+     * @param points the points
+     * @param metric the distance function
+     * @return the matrix
+     * @throws NullPointerException if points or metric is null
+     * @throws IllegalArgumentException if the matrix has more than MAX_PACKED_ENTRIES entries
+     */
+    public static DistanceMatrix compute(PointBuffer points, DistanceMetric metric) {
+        return builder(points).metric(metric).build();
+    }
+
+    /**
+     * Returns a builder for the distance matrix of a point set.
+     *
+     * The builder reads the buffer when build() or streamRows() is called; the buffer
+     * must not be modified concurrently.
+     *
+     * @param points the points
+     * @return the builder
+     * @throws NullPointerException if points is null
+     */
+    public static Builder builder(PointBuffer points) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot build distance matrix: points are null");
+            throw new NullPointerException("Points cannot be null");
+        }
+        return new Builder(points);
+    }
+
+    /**
+     * Returns the number of entries stored for an n-point matrix, n(n-1)/2.
+     *
+     * @param n the number of points
+     * @return the packed entry count
+     */
+    public static long packedSize(int n) {
+        return (long) n * (n - 1) / 2;
+    }
+
+    /**
+     * Returns the distance between points i and j.
+     *
+     * Time Complexity: O(1)
+     *
+     * @param i the first point index
+     * @param j the second point index
+     * @return the distance; 0 when i == j
+     * @throws IndexOutOfBoundsException if i or j is out of range
+     */
+    public double get(int i, int j) {
+        if (i < 0 || j < 0 || i >= size || j >= size) {
+            throw new IndexOutOfBoundsException("Index (" + i + ", " + j + ") out of range for size " + size);
+        }
+        if (i == j) {
+            return 0.0;
+        }
+        int index = i < j ? index(size, i, j) : index(size, j, i);
+        return doubles != null ? doubles[index] : floats[index];
+    }
+
+    /**
+     * Copies the full row i (distances from point i to every point) into an array.
+     *
+     * @param i the row index
+     * @param out an array of length at least size()
+     * @throws IndexOutOfBoundsException if i is out of range
+     * @throws IllegalArgumentException if out is too short
+     */
+    public void getRow(int i, double[] out) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Row " + i + " out of range for size " + size);
+        }
+        if (out == null || out.length < size) {
+            logger.log(Level.SEVERE, "Row buffer too short for distance matrix of size {0}", size);
+            throw new IllegalArgumentException("Output array must hold at least " + size + " values");
+        }
+        // Column i of the upper triangle holds rows 0..i-1, one entry per packed row
+        for (int k = 0; k < i; k++) {
+            int index = index(size, k, i);
+            out[k] = doubles != null ? doubles[index] : floats[index];
+        }
+        out[i] = 0.0;
+        int start = i + 1 < size ? index(size, i, i + 1) : 0;
+        for (int j = i + 1; j < size; j++) {
+            out[j] = doubles != null ? doubles[start + j - i - 1] : floats[start + j - i - 1];
+        }
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the matrix dimension n
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the distance function used.
+     *
+     * @return the metric
+     */
+    public DistanceMetric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Returns true if distances are stored as floats.
+     *
+     * @return true for float storage
+     */
+    public boolean isFloatStorage() {
+        return floats != null;
+    }
+
+    /**
+     * Returns a short description of this matrix.
+     *
+     * @return a string showing size, metric and storage
+     */
+    @Override
+    public String toString() {
+        return "DistanceMatrix[size=" + size + ", metric=" + metric + ", storage="
+            + (floats != null ? "float" : "double") + "]";
+    }
+
+    private static int index(int n, int i, int j) {
+        return (int) ((long) i * (2L * n - i - 1) / 2 + (j - i - 1));
+    }
+
+    /**
+     * Writes the distances from point i to points from .. to-1 into a double array.
+     */
+    private static void kernel(double[] xyz, int i, int from, int to, DistanceMetric metric,
+                               double[] out, int offset) {
+        double xi = xyz[i * 3];
+        double yi = xyz[i * 3 + 1];
+        double zi = xyz[i * 3 + 2];
+        if (metric == DistanceMetric.EUCLIDEAN) {
+            for (int j = from, o = offset; j < to; j++, o++) {
+                double dx = xi - xyz[j * 3];
+                double dy = yi - xyz[j * 3 + 1];
+                double dz = zi - xyz[j * 3 + 2];
+                out[o] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+        } else {
+            for (int j = from, o = offset; j < to; j++, o++) {
+                out[o] = Math.abs(xi - xyz[j * 3]) + Math.abs(yi - xyz[j * 3 + 1]) + Math.abs(zi - xyz[j * 3 + 2]);
+            }
+        }
+    }
+
+    /**
+     * Writes the distances from point i to points from .. to-1 into a float array.
+     */
+    private static void kernel(double[] xyz, int i, int from, int to, DistanceMetric metric,
+                               float[] out, int offset) {
+        double xi = xyz[i * 3];
+        double yi = xyz[i * 3 + 1];
+        double zi = xyz[i * 3 + 2];
+        if (metric == DistanceMetric.EUCLIDEAN) {
+            for (int j = from, o = offset; j < to; j++, o++) {
+                double dx = xi - xyz[j * 3];
+                double dy = yi - xyz[j * 3 + 1];
+                double dz = zi - xyz[j * 3 + 2];
+                out[o] = (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+        } else {
+            for (int j = from, o = offset; j < to; j++, o++) {
+                out[o] = (float) (Math.abs(xi - xyz[j * 3]) + Math.abs(yi - xyz[j * 3 + 1])
+                                  + Math.abs(zi - xyz[j * 3 + 2]));
+            }
+        }
+    }
+
+    /**
+     * Fills a range of tiles of the packed matrix, splitting the range until one tile
+     * remains. Tiles are numbered row-major over the upper triangle of the tile grid.
+     */
+    private static final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] xyz;
+        private final int n;
+        private final int tileSize;
+        private final int[] tileRows;
+        private final int[] tileColumns;
+        private final int lo;
+        private final int hi;
+        private final DistanceMetric metric;
+        private final double[] doubles;
+        private final float[] floats;
+
+        TileTask(double[] xyz, int n, int tileSize, int[] tileRows, int[] tileColumns, int lo, int hi,
+                 DistanceMetric metric, double[] doubles, float[] floats) {
+            this.xyz = xyz;
+            this.n = n;
+            this.tileSize = tileSize;
+            this.tileRows = tileRows;
+            this.tileColumns = tileColumns;
+            this.lo = lo;
+            this.hi = hi;
+            this.metric = metric;
+            this.doubles = doubles;
+            this.floats = floats;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new TileTask(xyz, n, tileSize, tileRows, tileColumns, lo, mid, metric, doubles, floats),
+                          new TileTask(xyz, n, tileSize, tileRows, tileColumns, mid, hi, metric, doubles, floats));
+                return;
+            }
+            int rowStart = tileRows[lo] * tileSize;
+            int rowEnd = Math.min(n, rowStart + tileSize);
+            int columnStart = tileColumns[lo] * tileSize;
+            int columnEnd = Math.min(n, columnStart + tileSize);
+            for (int i = rowStart; i < rowEnd; i++) {
+                int from = Math.max(i + 1, columnStart);
+                if (from >= columnEnd) {
+                    continue;
+                }
+                int offset = index(n, i, from);
+                if (doubles != null) {
+                    kernel(xyz, i, from, columnEnd, metric, doubles, offset);
+                } else {
+                    kernel(xyz, i, from, columnEnd, metric, floats, offset);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the rows of one band, splitting the rows between workers.
+     */
+    private static final class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] xyz;
+        private final int n;
+        private final int firstRow;
+        private final int lo;
+        private final int hi;
+        private final DistanceMetric metric;
+        private final double[] band;
+
+        BandTask(double[] xyz, int n, int firstRow, int lo, int hi, DistanceMetric metric, double[] band) {
+            this.xyz = xyz;
+            this.n = n;
+            this.firstRow = firstRow;
+            this.lo = lo;
+            this.hi = hi;
+            this.metric = metric;
+            this.band = band;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new BandTask(xyz, n, firstRow, lo, mid, metric, band),
+                          new BandTask(xyz, n, firstRow, mid, hi, metric, band));
+                return;
+            }
+            int i = lo;
+            kernel(xyz, i, i + 1, n, metric, band, bandOffset(n, firstRow, i));
+        }
+    }
+
+    /** Offset of row i inside a band that starts at firstRow; rows are packed back to back. */
+    private static int bandOffset(int n, int firstRow, int i) {
+        return (int) (packedRowStart(n, i) - packedRowStart(n, firstRow));
+    }
+
+    private static long packedRowStart(int n, int i) {
+        return (long) i * (2L * n - i - 1) / 2;
+    }
+
+    /**
+     * Fluent builder for DistanceMatrix.
+     */
+    public static final class Builder {
+
+        private final PointBuffer points;
+        private DistanceMetric metric = DistanceMetric.EUCLIDEAN;
+        private boolean floatStorage;
+        private int tileSize = DEFAULT_TILE_SIZE;
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private int bandEntries = STREAM_BAND_ENTRIES;
+
+        private Builder(PointBuffer points) {
+            this.points = points;
+        }
+
+        /**
+         * Sets the distance function (default EUCLIDEAN).
+         *
+         * @param metric the metric
+         * @return this builder
+         * @throws NullPointerException if metric is null
+         */
+        public Builder metric(DistanceMetric metric) {
+            if (metric == null) {
+                logger.log(Level.SEVERE, "Cannot build distance matrix: metric is null");
+                throw new NullPointerException("Metric cannot be null");
+            }
+            this.metric = metric;
+            return this;
+        }
+
+        /**
+         * Selects float storage instead of double, halving memory use.
+         *
+         * @param floatStorage true to store floats
+         * @return this builder
+         */
+        public Builder floatStorage(boolean floatStorage) {
+            this.floatStorage = floatStorage;
+            return this;
+        }
+
+        /**
+         * Sets the tile edge length in points.
+         *
+         * @param tileSize the tile size
+         * @return this builder
+         * @throws IllegalArgumentException if tileSize is not positive
+         */
+        public Builder tileSize(int tileSize) {
+            if (tileSize <= 0) {
+                logger.log(Level.SEVERE, "Invalid distance matrix tile size: {0}", tileSize);
+                throw new IllegalArgumentException("Tile size must be positive");
+            }
+            this.tileSize = tileSize;
+            return this;
+        }
+
+        /**
+         * Sets the pool that computes the tiles (default: the common pool).
+         *
+         * @param pool the fork/join pool
+         * @return this builder
+         * @throws NullPointerException if pool is null
+         */
+        public Builder pool(ForkJoinPool pool) {
+            if (pool == null) {
+                logger.log(Level.SEVERE, "Cannot build distance matrix: pool is null");
+                throw new NullPointerException("Pool cannot be null");
+            }
+            this.pool = pool;
+            return this;
+        }
+
+        /** Overrides the streaming band size; used by tests to force many small bands. */
+        Builder bandEntries(int bandEntries) {
+            this.bandEntries = bandEntries;
+            return this;
+        }
+
+        /**
+         * Computes the packed matrix in memory.
+         *
+         * Time Complexity: O(n^2 / p) with p workers
+         * Space Complexity: O(n^2)
+         *
+         * @return the matrix
+         * @throws IllegalArgumentException if the matrix has more than MAX_PACKED_ENTRIES
+         *         entries; use streamRows instead
+         */
+        public DistanceMatrix build() {
+            long metricsStart = GeometryMetrics.start();
+            SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+            int n = points.size();
+            long entries = packedSize(n);
+            if (entries > MAX_PACKED_ENTRIES) {
+                logger.log(Level.SEVERE, "Distance matrix for {0} points has {1} entries, too many to store",
+                           new Object[]{n, entries});
+                throw new IllegalArgumentException("Too many points for an in-memory matrix: " + n
+                                                   + "; use streamRows");
+            }
+            double[] doubles = floatStorage ? null : new double[(int) entries];
+            float[] floats = floatStorage ? new float[(int) entries] : null;
+
+            int tiles = (n + tileSize - 1) / tileSize;
+            int tileCount = tiles * (tiles + 1) / 2;
+            if (tileCount > 0) {
+                int[] tileRows = new int[tileCount];
+                int[] tileColumns = new int[tileCount];
+                int t = 0;
+                for (int r = 0; r < tiles; r++) {
+                    for (int c = r; c < tiles; c++) {
+                        tileRows[t] = r;
+                        tileColumns[t] = c;
+                        t++;
+                    }
+                }
+                pool.invoke(new TileTask(points.getCoordinates(), n, tileSize, tileRows, tileColumns,
+                                         0, tileCount, metric, doubles, floats));
+            }
+            logger.log(Level.INFO, "Computed {0} distance matrix for {1} points in {2} tiles",
+                       new Object[]{metric, n, tileCount});
+            slowQuery.finish(GeometryOperation.DISTANCE_MATRIX, metric, n);
+            GeometryMetrics.record(GeometryOperation.DISTANCE_MATRIX, metricsStart,
+                                   entries * (floatStorage ? Float.BYTES : Double.BYTES));
+            return new DistanceMatrix(n, metric, doubles, floats);
+        }
+
+        /**
+         * Computes the matrix band by band and passes each upper-triangle row to a
+         * consumer, in row order, without ever holding the whole matrix.
+         *
+         * Rows of a band are computed in parallel; the consumer is called from the
+         * calling thread. Memory use is bounded by a few million doubles regardless of n.
+         *
+         * Example usage:
+         * <pre>
+         * DistanceMatrix.builder(points).streamRows((row, d, offset, count) -&gt; {
+         *     for (int k = 0; k &lt; count; k++) {
+         *         out.writeFloat((float) d[offset + k]);
+         *     }
+         * });
+         * </pre>
+         *
+         * @param consumer receives each row i with the distances to points i+1 .. n-1
+         * @throws NullPointerException if consumer is null
+         */
+        public void streamRows(RowConsumer consumer) {
+            if (consumer == null) {
+                logger.log(Level.SEVERE, "Cannot stream distance matrix: consumer is null");
+                throw new NullPointerException("Row consumer cannot be null");
+            }
+            int n = points.size();
+            double[] xyz = points.getCoordinates();
+            int bandCapacity = Math.max(bandEntries, n);
+            double[] band = new double[Math.min(bandCapacity, (int) Math.min(Integer.MAX_VALUE - 8, packedSize(n)))];
+
+            int row = 0;
+            while (row < n) {
+                // Take as many rows as fit in the band (at least one)
+                int end = row + 1;
+                while (end < n && packedRowStart(n, end + 1) - packedRowStart(n, row) <= band.length) {
+                    end++;
+                }
+                if (row + 1 < n) {
+                    pool.invoke(new BandTask(xyz, n, row, row, end, metric, band));
+                }
+                for (int i = row; i < end; i++) {
+                    consumer.accept(i, band, bandOffset(n, row, i), n - i - 1);
+                }
+                row = end;
+            }
+            logger.log(Level.INFO, "Streamed {0} distance matrix rows for {1} points", new Object[]{metric, n});
+        }
+    }
+}
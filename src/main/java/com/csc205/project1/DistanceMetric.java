@@ -0,0 +1,68 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Distance functions available to bulk kernels such as DistanceMatrix.
+ *
+ * - EUCLIDEAN: straight-line distance, identical to Point3D.distanceTo
+ * - MANHATTAN: sum of absolute coordinate differences, identical to
+ *   Point3D.manhattanDistanceTo
+ *
+ * Both work on raw coordinates, so kernels can evaluate them without creating
+ * Point3D objects or logging per pair.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public enum DistanceMetric {
+
+    EUCLIDEAN {
+        @Override
+        public double distance(double x1, double y1, double z1, double x2, double y2, double z2) {
+            double dx = x1 - x2;
+            double dy = y1 - y2;
+            double dz = z1 - z2;
+            return Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+    },
+
+    MANHATTAN {
+        @Override
+        public double distance(double x1, double y1, double z1, double x2, double y2, double z2) {
+            return Math.abs(x1 - x2) + Math.abs(y1 - y2) + Math.abs(z1 - z2);
+        }
+    };
+
+    private static final Logger logger = Logger.getLogger(DistanceMetric.class.getName());
+
+    /**
+     * Computes the distance between two points given by their coordinates.
+     *
+     * @param x1 the x-coordinate of the first point
+     * @param y1 the y-coordinate of the first point
+     * @param z1 the z-coordinate of the first point
+     * @param x2 the x-coordinate of the second point
+     * @param y2 the y-coordinate of the second point
+     * @param z2 the z-coordinate of the second point
+     * @return the distance
+     */
+    public abstract double distance(double x1, double y1, double z1, double x2, double y2, double z2);
+
+    /**
+     * Computes the distance between two points.
+     *
+     * @param a the first point
+     * @param b the second point
+     * @return the distance
+     * @throws NullPointerException if either point is null
+     */
+    public double distance(Point3D a, Point3D b) {
+        if (a == null || b == null) {
+            logger.log(Level.SEVERE, "Cannot compute {0} distance: a point is null", this);
+            throw new NullPointerException("Points cannot be null");
+        }
+        return distance(a.getX(), a.getY(), a.getZ(), b.getX(), b.getY(), b.getZ());
+    }
+}
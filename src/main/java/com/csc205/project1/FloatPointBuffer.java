@@ -0,0 +1,492 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A growable list of 3D points stored in single precision.
+ *
+ * FloatPointBuffer has the same layout and operations as PointBuffer, but keeps the
+ * interleaved coordinates (x0, y0, z0, x1, y1, z1, ...) in a float[]. Each point takes
+ * 12 bytes instead of 24, so a 100-million-point cloud needs 1.2 GB rather than 2.4 GB,
+ * and every pass over it moves half as much memory. A vector unit also holds twice as
+ * many floats as doubles, so the plain loops below, which the JIT auto-vectorizes,
+ * process twice as many coordinates per instruction.
+ *
+ * Coordinates are rounded to the nearest float when stored, giving a relative error of
+ * at most 2^-24 (about 6e-8). Arithmetic is done in double and rounded once per stored
+ * value, so in-place transforms do not add more error than storing the result would.
+ * Values are widened back to double whenever they leave the buffer, so the rest of the
+ * library (Point3D, Line3D, Cube3D) works on them unchanged.
+ *
+ * Example usage:
+ * <pre>
+ * FloatPointBuffer compact = FloatPointBuffer.from(new PointCloudReader().readAll(path));
+ * compact.retainInside(region);
+ * PointBuffer full = compact.toPointBuffer();
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. STRUCTURE OF PRIMITIVES:
+ *    - Coordinates are raw floats; getCoordinates() exposes the backing array to bulk
+ *      kernels without copying
+ *
+ * 2. ADAPTER PATTERN:
+ *    - from(PointBuffer), toPointBuffer(), get(i) and toPoints() convert to and from the
+ *      double-precision API
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. DYNAMIC ARRAY:
+ *    - Capacity grows geometrically (1.5x), giving amortized O(1) appends
+ *
+ * 2. IEEE 754 BINARY32:
+ *    - 24-bit significands: integers up to 2^24 and typical sensor coordinates are
+ *      exact to about seven significant digits
+ *
+ * Note: this class is not thread-safe.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class FloatPointBuffer {
+
+    private static final Logger logger = Logger.getLogger(FloatPointBuffer.class.getName());
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Largest point count whose coordinates still fit in a Java array
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / 3;
+
+    private float[] coordinates;
+    private int size;
+
+    /**
+     * Constructs an empty buffer with a small default capacity.
+     */
+    public FloatPointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty buffer able to hold the given number of points without growing.
+     *
+     * @param capacity the initial capacity in points
+     * @throws IllegalArgumentException if capacity is negative or its coordinates would
+     *         not fit in a Java array
+     */
+    public FloatPointBuffer(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            logger.log(Level.SEVERE, "Cannot create FloatPointBuffer: capacity {0} out of range", capacity);
+            throw new IllegalArgumentException("Capacity must be between 0 and " + MAX_CAPACITY);
+        }
+        this.coordinates = new float[capacity * 3];
+    }
+
+    /**
+     * Creates a single-precision copy of a double-precision buffer.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param source the buffer to copy
+     * @return a new buffer holding every point of source, rounded to float
+     * @throws NullPointerException if source is null
+     */
+    public static FloatPointBuffer from(PointBuffer source) {
+        if (source == null) {
+            logger.log(Level.SEVERE, "Cannot create FloatPointBuffer: source buffer is null");
+            throw new NullPointerException("Source buffer cannot be null");
+        }
+        int n = source.size() * 3;
+        double[] xyz = source.getCoordinates();
+        FloatPointBuffer buffer = new FloatPointBuffer(source.size());
+        for (int i = 0; i < n; i++) {
+            buffer.coordinates[i] = (float) xyz[i];
+        }
+        buffer.size = source.size();
+        logger.log(Level.INFO, "Narrowed {0} points to single precision", buffer.size);
+        return buffer;
+    }
+
+    /**
+     * Creates a buffer holding the coordinates of the given points, rounded to float.
+     *
+     * @param points the points to copy
+     * @return a new buffer containing the points in order
+     * @throws NullPointerException if the array or any point is null
+     */
+    public static FloatPointBuffer of(Point3D... points) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot create FloatPointBuffer: points array is null");
+            throw new NullPointerException("Points array cannot be null");
+        }
+        FloatPointBuffer buffer = new FloatPointBuffer(points.length);
+        for (Point3D point : points) {
+            buffer.add(point);
+        }
+        return buffer;
+    }
+
+    /**
+     * Creates a double-precision copy of this buffer. Widening is exact, so
+     * from(buffer).toPointBuffer() differs from buffer only by the float rounding.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @return a new PointBuffer holding every point
+     */
+    public PointBuffer toPointBuffer() {
+        int n = size * 3;
+        double[] xyz = new double[n];
+        for (int i = 0; i < n; i++) {
+            xyz[i] = coordinates[i];
+        }
+        return PointBuffer.wrapCopy(xyz);
+    }
+
+    /**
+     * Appends a point given by its coordinates, rounding each to float.
+     *
+     * Time Complexity: O(1) amortized
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     */
+    public void add(double x, double y, double z) {
+        if (size * 3 + 3 > coordinates.length) {
+            grow(size + 1);
+        }
+        int o = size * 3;
+        coordinates[o] = (float) x;
+        coordinates[o + 1] = (float) y;
+        coordinates[o + 2] = (float) z;
+        size++;
+    }
+
+    /**
+     * Appends a point.
+     *
+     * @param point the point to append
+     * @throws NullPointerException if point is null
+     */
+    public void add(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot add point to buffer: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        add(point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Appends packed single-precision coordinates.
+     *
+     * @param xyz the source array of interleaved coordinates
+     * @param offset the index of the first coordinate to copy (not the point index)
+     * @param count the number of points to copy
+     * @throws NullPointerException if xyz is null
+     * @throws IndexOutOfBoundsException if the range exceeds the array
+     */
+    public void addAll(float[] xyz, int offset, int count) {
+        if (xyz == null) {
+            logger.log(Level.SEVERE, "Cannot add coordinates to buffer: array is null");
+            throw new NullPointerException("Coordinate array cannot be null");
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(xyz, offset, coordinates, size * 3, count * 3);
+        size += count;
+    }
+
+    /**
+     * Overwrites the point at an index.
+     *
+     * @param index the point index
+     * @param x the new x-coordinate
+     * @param y the new y-coordinate
+     * @param z the new z-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void set(int index, double x, double y, double z) {
+        checkIndex(index);
+        int o = index * 3;
+        coordinates[o] = (float) x;
+        coordinates[o + 1] = (float) y;
+        coordinates[o + 2] = (float) z;
+    }
+
+    /**
+     * Returns the x-coordinate of the point at an index, widened to double.
+     *
+     * @param index the point index
+     * @return the x-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return coordinates[index * 3];
+    }
+
+    /**
+     * Returns the y-coordinate of the point at an index, widened to double.
+     *
+     * @param index the point index
+     * @return the y-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return coordinates[index * 3 + 1];
+    }
+
+    /**
+     * Returns the z-coordinate of the point at an index, widened to double.
+     *
+     * @param index the point index
+     * @return the z-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getZ(int index) {
+        checkIndex(index);
+        return coordinates[index * 3 + 2];
+    }
+
+    /**
+     * Returns the point at an index as a new Point3D.
+     *
+     * @param index the point index
+     * @return a new Point3D with the stored coordinates
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Point3D get(int index) {
+        checkIndex(index);
+        int o = index * 3;
+        return new Point3D(coordinates[o], coordinates[o + 1], coordinates[o + 2]);
+    }
+
+    /**
+     * Returns the number of points in the buffer.
+     *
+     * @return the point count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the buffer holds no points.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all points while keeping the allocated storage.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Ensures the buffer can hold at least the given number of points without growing.
+     *
+     * @param minCapacity the required capacity in points
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity * 3L > coordinates.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Returns the backing coordinate array.
+     *
+     * The first size() * 3 entries are the interleaved coordinates. The array is shared,
+     * not copied, and may be replaced when the buffer grows.
+     *
+     * @return the live backing array
+     */
+    public float[] getCoordinates() {
+        return coordinates;
+    }
+
+    /**
+     * Returns a trimmed copy of the interleaved coordinates.
+     *
+     * @return a new array of length size() * 3
+     */
+    public float[] toArray() {
+        return Arrays.copyOf(coordinates, size * 3);
+    }
+
+    /**
+     * Converts every point to a Point3D.
+     *
+     * @return a new array of Point3D objects
+     */
+    public Point3D[] toPoints() {
+        Point3D[] points = new Point3D[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = get(i);
+        }
+        return points;
+    }
+
+    /**
+     * Returns the bytes used by the coordinate storage, including unused capacity.
+     *
+     * @return 4 bytes per stored coordinate slot
+     */
+    public long getStorageBytes() {
+        return coordinates.length * (long) Float.BYTES;
+    }
+
+    /**
+     * Translates every point in place by the given offset.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param dx the offset in the x direction
+     * @param dy the offset in the y direction
+     * @param dz the offset in the z direction
+     */
+    public void translate(double dx, double dy, double dz) {
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            coordinates[i] = (float) (coordinates[i] + dx);
+            coordinates[i + 1] = (float) (coordinates[i + 1] + dy);
+            coordinates[i + 2] = (float) (coordinates[i + 2] + dz);
+        }
+    }
+
+    /**
+     * Removes, in place, every point that lies outside a cube, keeping the order of the
+     * rest. Containment follows Cube3D.containsPoint on the widened coordinates.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param cube the cube whose interior points are kept
+     * @return the number of points removed
+     * @throws NullPointerException if cube is null
+     */
+    public int retainInside(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot filter buffer: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int o = i * 3;
+            float x = coordinates[o];
+            float y = coordinates[o + 1];
+            float z = coordinates[o + 2];
+            if (cube.containsPoint(x, y, z)) {
+                int k = kept * 3;
+                coordinates[k] = x;
+                coordinates[k + 1] = y;
+                coordinates[k + 2] = z;
+                kept++;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Rotates every point in place around the X-axis through the origin.
+     *
+     * @param rotation the precomputed rotation
+     * @throws NullPointerException if rotation is null
+     */
+    public void rotateX(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            double y = coordinates[i + 1];
+            double z = coordinates[i + 2];
+            coordinates[i + 1] = (float) (y * cos - z * sin);
+            coordinates[i + 2] = (float) (y * sin + z * cos);
+        }
+    }
+
+    /**
+     * Rotates every point in place around the Y-axis through the origin.
+     *
+     * @param rotation the precomputed rotation
+     * @throws NullPointerException if rotation is null
+     */
+    public void rotateY(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            double x = coordinates[i];
+            double z = coordinates[i + 2];
+            coordinates[i] = (float) (x * cos + z * sin);
+            coordinates[i + 2] = (float) (-x * sin + z * cos);
+        }
+    }
+
+    /**
+     * Rotates every point in place around the Z-axis through the origin.
+     *
+     * @param rotation the precomputed rotation
+     * @throws NullPointerException if rotation is null
+     */
+    public void rotateZ(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            double x = coordinates[i];
+            double y = coordinates[i + 1];
+            coordinates[i] = (float) (x * cos - y * sin);
+            coordinates[i + 1] = (float) (x * sin + y * cos);
+        }
+    }
+
+    private static void checkRotation(Rotation rotation) {
+        if (rotation == null) {
+            logger.log(Level.SEVERE, "Cannot rotate buffer: rotation is null");
+            throw new NullPointerException("Rotation cannot be null");
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            logger.log(Level.SEVERE, "Cannot grow FloatPointBuffer to {0} points", minCapacity);
+            throw new OutOfMemoryError("FloatPointBuffer capacity exceeded");
+        }
+        int current = coordinates.length / 3;
+        int newCapacity = Math.max(minCapacity, (int) Math.min(MAX_CAPACITY, current + (current >> 1) + 1L));
+        coordinates = Arrays.copyOf(coordinates, newCapacity * 3);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+    }
+
+    /**
+     * Returns a short description of this buffer.
+     *
+     * @return a string showing the point count
+     */
+    @Override
+    public String toString() {
+        return "FloatPointBuffer[size=" + size + "]";
+    }
+}
@@ -0,0 +1,368 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A convex view volume bounded by six planes, with allocation-free containment tests.
+ *
+ * Each plane is stored as a unit normal n pointing into the volume and an offset d, so a
+ * point p is on the inner side when n·p + d ≥ 0. The usual perspective frustum is built
+ * with perspective(); any six planes can be given with fromPlanes().
+ *
+ * A cube is tested against a plane by its center and its projected radius: for a cube
+ * with half side h and world axes u, v, w (the columns of its rotation matrix), the
+ * distance from the center to its farthest corner along n is h(|n·u| + |n·v| + |n·w|).
+ * This replaces eight getVertices() corners per plane with one dot product and three
+ * absolute values, and creates no objects.
+ *
+ * Like all plane-by-plane tests, classify() is exact for INSIDE and for cubes entirely
+ * beyond one plane, but may report INTERSECTING for a cube that lies outside near an
+ * edge or corner of the frustum without being beyond any single plane. Culling with it
+ * never drops a visible cube.
+ *
+ * Example usage:
+ * <pre>
+ * Frustum view = Frustum.perspective(eye, target, new Point3D(0, 0, 1), Math.toRadians(60), 16.0 / 9, 0.1, 500);
+ * if (view.intersects(cube)) {
+ *     draw(cube);
+ * }
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - Planes are fixed at construction; a Frustum can be shared between threads
+ *
+ * 2. FACTORY METHODS:
+ *    - perspective() and fromPlanes() validate and normalize their input
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. HALF-SPACE INTERSECTION:
+ *    - A convex polyhedron is the intersection of the half-spaces of its faces
+ *
+ * 2. SEPARATING PLANE TEST:
+ *    - An oriented box is outside when its projected interval on a plane normal lies
+ *      entirely on the outer side
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Frustum {
+
+    private static final Logger logger = Logger.getLogger(Frustum.class.getName());
+
+    /** Number of planes; the order in perspective() is left, right, bottom, top, near, far. */
+    public static final int PLANE_COUNT = 6;
+
+    /**
+     * How a volume relates to the frustum.
+     */
+    public enum Containment {
+        /** Entirely beyond at least one plane. */
+        OUTSIDE,
+        /** Possibly crossing the boundary. */
+        INTERSECTING,
+        /** Entirely on the inner side of every plane. */
+        INSIDE
+    }
+
+    // nx, ny, nz, d for each plane
+    private final double[] planes;
+
+    private Frustum(double[] planes) {
+        this.planes = planes;
+    }
+
+    /**
+     * Creates a perspective view frustum.
+     *
+     * @param eye the camera position
+     * @param target a point the camera looks at
+     * @param up the approximate up direction; must not be parallel to target - eye
+     * @param fovY the full vertical field of view in radians, in (0, π)
+     * @param aspect the width to height ratio, positive
+     * @param near the distance to the near plane, positive
+     * @param far the distance to the far plane, greater than near
+     * @return the frustum
+     * @throws NullPointerException if eye, target or up is null
+     * @throws IllegalArgumentException if any parameter is out of range
+     */
+    public static Frustum perspective(Point3D eye, Point3D target, Point3D up,
+                                      double fovY, double aspect, double near, double far) {
+        if (eye == null || target == null || up == null) {
+            logger.log(Level.SEVERE, "Cannot create frustum: eye, target or up is null");
+            throw new NullPointerException("Eye, target and up cannot be null");
+        }
+        if (!(fovY > 0 && fovY < Math.PI) || !(aspect > 0) || !(near > 0) || !(far > near)) {
+            logger.log(Level.SEVERE, "Cannot create frustum: fovY={0}, aspect={1}, near={2}, far={3}",
+                       new Object[]{fovY, aspect, near, far});
+            throw new IllegalArgumentException("Invalid frustum parameters");
+        }
+        double[] f = {target.getX() - eye.getX(), target.getY() - eye.getY(), target.getZ() - eye.getZ()};
+        double[] r = cross(f, new double[]{up.getX(), up.getY(), up.getZ()});
+        if (!normalize(f) || !normalize(r)) {
+            logger.log(Level.SEVERE, "Cannot create frustum: view direction is zero or parallel to up");
+            throw new IllegalArgumentException("Target must differ from eye and up must not be parallel to the view");
+        }
+        double[] u = cross(r, f);
+        double tanY = Math.tan(fovY / 2);
+        double tanX = tanY * aspect;
+        double[] e = {eye.getX(), eye.getY(), eye.getZ()};
+
+        // Side planes pass through the eye: |r·q| <= tanX f·q and |u·q| <= tanY f·q, q = p - eye
+        double[][] normals = {
+            combine(r, 1, f, tanX), combine(r, -1, f, tanX),
+            combine(u, 1, f, tanY), combine(u, -1, f, tanY),
+            f.clone(), combine(f, -1, f, 0)
+        };
+        double[] offsets = {0, 0, 0, 0, -near, far};
+        double[] planes = new double[PLANE_COUNT * 4];
+        for (int i = 0; i < PLANE_COUNT; i++) {
+            double[] n = normals[i];
+            normalize(n);
+            planes[i * 4] = n[0];
+            planes[i * 4 + 1] = n[1];
+            planes[i * 4 + 2] = n[2];
+            planes[i * 4 + 3] = offsets[i] - dot(n, e);
+        }
+        logger.log(Level.INFO, "Created perspective frustum: fovY={0}, aspect={1}, near={2}, far={3}",
+                   new Object[]{fovY, aspect, near, far});
+        return new Frustum(planes);
+    }
+
+    /**
+     * Creates a frustum from six planes a·x + b·y + c·z + d ≥ 0, each given as four
+     * coefficients a, b, c, d. The coefficients are normalized so that (a, b, c) has
+     * unit length.
+     *
+     * @param coefficients 24 values, four per plane
+     * @return the frustum
+     * @throws NullPointerException if coefficients is null
+     * @throws IllegalArgumentException if there are not 24 finite values or a plane normal is zero
+     */
+    public static Frustum fromPlanes(double... coefficients) {
+        if (coefficients == null) {
+            logger.log(Level.SEVERE, "Cannot create frustum: plane coefficients are null");
+            throw new NullPointerException("Plane coefficients cannot be null");
+        }
+        if (coefficients.length != PLANE_COUNT * 4) {
+            logger.log(Level.SEVERE, "Cannot create frustum: {0} coefficients given", coefficients.length);
+            throw new IllegalArgumentException("Exactly 24 plane coefficients are required");
+        }
+        double[] planes = coefficients.clone();
+        for (int i = 0; i < PLANE_COUNT; i++) {
+            int o = i * 4;
+            double length = Math.sqrt(planes[o] * planes[o] + planes[o + 1] * planes[o + 1]
+                                      + planes[o + 2] * planes[o + 2]);
+            if (!(length > 0) || !Double.isFinite(length) || !Double.isFinite(planes[o + 3])) {
+                logger.log(Level.SEVERE, "Cannot create frustum: plane {0} is degenerate", i);
+                throw new IllegalArgumentException("Plane " + i + " must have a finite, non-zero normal");
+            }
+            for (int k = 0; k < 4; k++) {
+                planes[o + k] /= length;
+            }
+        }
+        return new Frustum(planes);
+    }
+
+    /**
+     * Returns the normalized coefficients of all planes.
+     *
+     * @return a new array of 24 values: nx, ny, nz, d for each plane
+     */
+    public double[] getPlanes() {
+        return planes.clone();
+    }
+
+    /**
+     * Returns one face of the frustum as a plane whose positive half-space is the inner side.
+     *
+     * @param plane the plane index, 0 to 5
+     * @return the plane
+     * @throws IndexOutOfBoundsException if plane is out of range
+     */
+    public Plane3D getPlane(int plane) {
+        if (plane < 0 || plane >= PLANE_COUNT) {
+            throw new IndexOutOfBoundsException("Plane index " + plane + " out of range");
+        }
+        int o = plane * 4;
+        return Plane3D.fromCoefficients(planes[o], planes[o + 1], planes[o + 2], planes[o + 3]);
+    }
+
+    /**
+     * Returns the signed distance from a point to a plane, positive on the inner side.
+     *
+     * @param plane the plane index, 0 to 5
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @return the signed distance
+     * @throws IndexOutOfBoundsException if plane is out of range
+     */
+    public double distanceToPlane(int plane, double x, double y, double z) {
+        if (plane < 0 || plane >= PLANE_COUNT) {
+            throw new IndexOutOfBoundsException("Plane index " + plane + " out of range");
+        }
+        int o = plane * 4;
+        return planes[o] * x + planes[o + 1] * y + planes[o + 2] * z + planes[o + 3];
+    }
+
+    /**
+     * Tests whether a point is inside the frustum, boundary included.
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @return true if the point is on the inner side of every plane
+     */
+    public boolean containsPoint(double x, double y, double z) {
+        for (int o = 0; o < planes.length; o += 4) {
+            if (planes[o] * x + planes[o + 1] * y + planes[o + 2] * z + planes[o + 3] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Classifies a sphere against the frustum.
+     *
+     * @param x the x-coordinate of the center
+     * @param y the y-coordinate of the center
+     * @param z the z-coordinate of the center
+     * @param radius the radius, non-negative
+     * @return the containment
+     */
+    public Containment classifySphere(double x, double y, double z, double radius) {
+        Containment result = Containment.INSIDE;
+        for (int o = 0; o < planes.length; o += 4) {
+            double distance = planes[o] * x + planes[o + 1] * y + planes[o + 2] * z + planes[o + 3];
+            if (distance < -radius) {
+                return Containment.OUTSIDE;
+            }
+            if (distance < radius) {
+                result = Containment.INTERSECTING;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Classifies an axis-aligned box given by its center and half extents.
+     *
+     * @param cx the x-coordinate of the center
+     * @param cy the y-coordinate of the center
+     * @param cz the z-coordinate of the center
+     * @param hx the half extent along x
+     * @param hy the half extent along y
+     * @param hz the half extent along z
+     * @return the containment
+     */
+    public Containment classifyBox(double cx, double cy, double cz, double hx, double hy, double hz) {
+        Containment result = Containment.INSIDE;
+        for (int o = 0; o < planes.length; o += 4) {
+            double distance = planes[o] * cx + planes[o + 1] * cy + planes[o + 2] * cz + planes[o + 3];
+            double radius = Math.abs(planes[o]) * hx + Math.abs(planes[o + 1]) * hy + Math.abs(planes[o + 2]) * hz;
+            if (distance < -radius) {
+                return Containment.OUTSIDE;
+            }
+            if (distance < radius) {
+                result = Containment.INTERSECTING;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Classifies a cube, taking its orientation into account.
+     *
+     * Time Complexity: O(1), six planes
+     * Space Complexity: O(1), no allocation
+     *
+     * @param cube the cube
+     * @return the containment
+     * @throws NullPointerException if cube is null
+     */
+    public Containment classify(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot classify against frustum: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        double[] m = cube.orientationMatrix();
+        double half = cube.getSideLength() / 2;
+        Point3D center = cube.getCenter();
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+        Containment result = Containment.INSIDE;
+        for (int o = 0; o < planes.length; o += 4) {
+            double nx = planes[o];
+            double ny = planes[o + 1];
+            double nz = planes[o + 2];
+            double distance = nx * cx + ny * cy + nz * cz + planes[o + 3];
+            // Column a of the row-major rotation matrix is the cube's local axis a in world space
+            double radius = half * (Math.abs(nx * m[0] + ny * m[3] + nz * m[6])
+                                    + Math.abs(nx * m[1] + ny * m[4] + nz * m[7])
+                                    + Math.abs(nx * m[2] + ny * m[5] + nz * m[8]));
+            if (distance < -radius) {
+                return Containment.OUTSIDE;
+            }
+            if (distance < radius) {
+                result = Containment.INTERSECTING;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests whether a cube may be visible, that is, is not entirely outside.
+     *
+     * @param cube the cube
+     * @return true unless the cube is classified OUTSIDE
+     * @throws NullPointerException if cube is null
+     */
+    public boolean intersects(Cube3D cube) {
+        return classify(cube) != Containment.OUTSIDE;
+    }
+
+    /** Returns the live plane array for package-level batch kernels. */
+    double[] planes() {
+        return planes;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        return a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+    }
+
+    private static double[] cross(double[] a, double[] b) {
+        return new double[]{a[1] * b[2] - a[2] * b[1], a[2] * b[0] - a[0] * b[2], a[0] * b[1] - a[1] * b[0]};
+    }
+
+    private static double[] combine(double[] a, double wa, double[] b, double wb) {
+        return new double[]{a[0] * wa + b[0] * wb, a[1] * wa + b[1] * wb, a[2] * wa + b[2] * wb};
+    }
+
+    private static boolean normalize(double[] v) {
+        double length = Math.sqrt(dot(v, v));
+        if (!(length > 1e-12)) {
+            return false;
+        }
+        v[0] /= length;
+        v[1] /= length;
+        v[2] /= length;
+        return true;
+    }
+
+    /**
+     * Returns a short description of this frustum.
+     *
+     * @return a string listing the plane coefficients
+     */
+    @Override
+    public String toString() {
+        return "Frustum" + Arrays.toString(planes);
+    }
+}
@@ -0,0 +1,355 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Finds the cubes of a static scene that may be visible in a Frustum.
+ *
+ * Testing every cube against six planes is O(n) per frame even when the camera sees a
+ * small part of the scene. The culler instead builds a bounding volume hierarchy once:
+ * cubes are ordered along a Morton curve through their centers, grouped into leaves of
+ * LEAF_SIZE consecutive cubes, and a complete binary tree of axis-aligned boxes is built
+ * over the leaves. A query walks the tree from the root; a node outside the frustum
+ * drops its whole subtree, and a plane that a node lies entirely inside is not tested
+ * again below it, so a node inside all six planes accepts its subtree without any
+ * further test.
+ *
+ * Leaves are tested in batches. Cube centers, orientation axes and half sides are kept
+ * in structure-of-arrays form in tree order, and for each remaining plane a branch-free
+ * loop over the leaf's cubes updates the smallest signed slack dist + radius per cube.
+ * Such loops over contiguous primitive arrays are what the JIT's superword optimization
+ * turns into vector instructions. A cube is reported when its slack stays non-negative,
+ * which is the same answer as Frustum.classify(cube) != OUTSIDE.
+ *
+ * The culler is immutable after construction and safe for concurrent queries.
+ *
+ * Example usage:
+ * <pre>
+ * FrustumCuller culler = new FrustumCuller(sceneCubes);
+ * for (int index : culler.cull(camera)) {
+ *     draw(sceneCubes.get(index));
+ * }
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. BUILD ONCE, QUERY MANY:
+ *    - All preprocessing happens in the constructor; queries only read
+ *
+ * 2. STRUCTURE OF ARRAYS:
+ *    - Each cube field lives in its own array so a batch reads contiguous memory
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. LINEAR BOUNDING VOLUME HIERARCHY:
+ *    - Sorting by Morton key (SpatialSort) clusters nearby cubes into the same leaves,
+ *      and the tree is an implicit array, so building is O(n) after the radix sort
+ *
+ * 2. PLANE MASKING:
+ *    - Children inherit only the planes their parent straddles
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class FrustumCuller {
+
+    private static final Logger logger = Logger.getLogger(FrustumCuller.class.getName());
+
+    /** Number of cubes per leaf batch. */
+    public static final int LEAF_SIZE = 16;
+
+    private static final int ALL_PLANES = (1 << Frustum.PLANE_COUNT) - 1;
+
+    private final List<Cube3D> cubes;
+    private final int size;
+    // Tree position -> index in the caller's list
+    private final int[] order;
+    // Per cube in tree order: center, half side and the nine rotation matrix entries
+    private final double[] cx;
+    private final double[] cy;
+    private final double[] cz;
+    private final double[] half;
+    private final double[][] axes = new double[9][];
+
+    // Implicit complete binary tree over leafSlots leaves: children of node i are 2i+1, 2i+2
+    private final int leafSlots;
+    private final double[] nodeCenter;
+    private final double[] nodeHalf;
+    private final int[] nodeStart;
+    private final int[] nodeEnd;
+
+    /**
+     * Builds the hierarchy over a list of cubes.
+     *
+     * Time Complexity: O(n) (radix sort of the Morton keys)
+     * Space Complexity: O(n)
+     *
+     * @param cubes the scene; indices returned by cull() refer to this list
+     * @throws NullPointerException if the list or any cube is null
+     */
+    public FrustumCuller(List<Cube3D> cubes) {
+        if (cubes == null) {
+            logger.log(Level.SEVERE, "Cannot build frustum culler: cube list is null");
+            throw new NullPointerException("Cubes cannot be null");
+        }
+        this.cubes = new ArrayList<>(cubes);
+        for (Cube3D cube : this.cubes) {
+            if (cube == null) {
+                logger.log(Level.SEVERE, "Cannot build frustum culler: a cube is null");
+                throw new NullPointerException("Cubes cannot be null");
+            }
+        }
+        this.size = this.cubes.size();
+        this.order = mortonOrder(this.cubes);
+
+        cx = new double[size];
+        cy = new double[size];
+        cz = new double[size];
+        half = new double[size];
+        for (int a = 0; a < 9; a++) {
+            axes[a] = new double[size];
+        }
+        for (int i = 0; i < size; i++) {
+            Cube3D cube = this.cubes.get(order[i]);
+            Point3D center = cube.getCenter();
+            double[] m = cube.orientationMatrix();
+            cx[i] = center.getX();
+            cy[i] = center.getY();
+            cz[i] = center.getZ();
+            half[i] = cube.getSideLength() / 2;
+            for (int a = 0; a < 9; a++) {
+                axes[a][i] = m[a];
+            }
+        }
+
+        int leaves = Math.max(1, (size + LEAF_SIZE - 1) / LEAF_SIZE);
+        leafSlots = Integer.highestOneBit(leaves) == leaves ? leaves : Integer.highestOneBit(leaves) << 1;
+        int nodes = 2 * leafSlots - 1;
+        nodeCenter = new double[nodes * 3];
+        nodeHalf = new double[nodes * 3];
+        nodeStart = new int[nodes];
+        nodeEnd = new int[nodes];
+        buildNodes();
+        logger.log(Level.INFO, "Built frustum culler over {0} cubes in {1} leaves", new Object[]{size, leaves});
+    }
+
+    /**
+     * Returns the number of cubes in the scene.
+     *
+     * @return the cube count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the indices of the cubes that are not entirely outside a frustum.
+     *
+     * @param frustum the view volume
+     * @return ascending indices into the list given at construction
+     * @throws NullPointerException if frustum is null
+     */
+    public int[] cull(Frustum frustum) {
+        if (frustum == null) {
+            logger.log(Level.SEVERE, "Cannot cull: frustum is null");
+            throw new NullPointerException("Frustum cannot be null");
+        }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        Query query = new Query(frustum.planes());
+        if (size > 0) {
+            visit(0, ALL_PLANES, query);
+        }
+        int[] visible = Arrays.copyOf(query.result, query.count);
+        Arrays.sort(visible);
+
+        slowQuery.finish(GeometryOperation.FRUSTUM_CULL, frustum, size);
+        GeometryMetrics.record(GeometryOperation.FRUSTUM_CULL, metricsStart, 4L * query.result.length);
+        return visible;
+    }
+
+    /**
+     * Returns the cubes that are not entirely outside a frustum, in list order.
+     *
+     * @param frustum the view volume
+     * @return the possibly visible cubes
+     * @throws NullPointerException if frustum is null
+     */
+    public List<Cube3D> visibleCubes(Frustum frustum) {
+        int[] indices = cull(frustum);
+        List<Cube3D> visible = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            visible.add(cubes.get(index));
+        }
+        return visible;
+    }
+
+    /** Per-query scratch state, so concurrent queries share nothing mutable. */
+    private static final class Query {
+        final double[] planes;
+        final double[] slack = new double[LEAF_SIZE];
+        int[] result = new int[16];
+        int count;
+
+        Query(double[] planes) {
+            this.planes = planes;
+        }
+
+        void add(int index) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = index;
+        }
+    }
+
+    private void visit(int node, int mask, Query query) {
+        if (nodeStart[node] >= nodeEnd[node]) {
+            return;
+        }
+        double[] p = query.planes;
+        int o = node * 3;
+        int remaining = mask;
+        for (int plane = 0; plane < Frustum.PLANE_COUNT; plane++) {
+            if ((mask & (1 << plane)) == 0) {
+                continue;
+            }
+            int q = plane * 4;
+            double distance = p[q] * nodeCenter[o] + p[q + 1] * nodeCenter[o + 1] + p[q + 2] * nodeCenter[o + 2] + p[q + 3];
+            double radius = Math.abs(p[q]) * nodeHalf[o] + Math.abs(p[q + 1]) * nodeHalf[o + 1]
+                            + Math.abs(p[q + 2]) * nodeHalf[o + 2];
+            if (distance < -radius) {
+                return;
+            }
+            if (distance >= radius) {
+                remaining &= ~(1 << plane);
+            }
+        }
+
+        if (remaining == 0) {
+            for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+                query.add(order[i]);
+            }
+        } else if (node >= leafSlots - 1) {
+            testLeaf(nodeStart[node], nodeEnd[node], remaining, query);
+        } else {
+            visit(2 * node + 1, remaining, query);
+            visit(2 * node + 2, remaining, query);
+        }
+    }
+
+    /** Batch plane test of cubes [start, end) against the planes in mask. */
+    private void testLeaf(int start, int end, int mask, Query query) {
+        double[] p = query.planes;
+        double[] slack = query.slack;
+        int n = end - start;
+        Arrays.fill(slack, 0, n, Double.POSITIVE_INFINITY);
+        double[] m0 = axes[0], m1 = axes[1], m2 = axes[2];
+        double[] m3 = axes[3], m4 = axes[4], m5 = axes[5];
+        double[] m6 = axes[6], m7 = axes[7], m8 = axes[8];
+        for (int plane = 0; plane < Frustum.PLANE_COUNT; plane++) {
+            if ((mask & (1 << plane)) == 0) {
+                continue;
+            }
+            int q = plane * 4;
+            double nx = p[q];
+            double ny = p[q + 1];
+            double nz = p[q + 2];
+            double d = p[q + 3];
+            for (int k = 0; k < n; k++) {
+                int i = start + k;
+                double distance = nx * cx[i] + ny * cy[i] + nz * cz[i] + d;
+                double radius = half[i] * (Math.abs(nx * m0[i] + ny * m3[i] + nz * m6[i])
+                                           + Math.abs(nx * m1[i] + ny * m4[i] + nz * m7[i])
+                                           + Math.abs(nx * m2[i] + ny * m5[i] + nz * m8[i]));
+                slack[k] = Math.min(slack[k], distance + radius);
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            if (slack[k] >= 0) {
+                query.add(order[start + k]);
+            }
+        }
+    }
+
+    private void buildNodes() {
+        for (int leaf = 0; leaf < leafSlots; leaf++) {
+            int node = leafSlots - 1 + leaf;
+            int start = Math.min(size, leaf * LEAF_SIZE);
+            int end = Math.min(size, start + LEAF_SIZE);
+            nodeStart[node] = start;
+            nodeEnd[node] = end;
+            double[] lo = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+            double[] hi = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            for (int i = start; i < end; i++) {
+                double[] c = {cx[i], cy[i], cz[i]};
+                for (int axis = 0; axis < 3; axis++) {
+                    // World extent along an axis: half side times the row's absolute sum
+                    double e = half[i] * (Math.abs(axes[axis * 3][i]) + Math.abs(axes[axis * 3 + 1][i])
+                                          + Math.abs(axes[axis * 3 + 2][i]));
+                    lo[axis] = Math.min(lo[axis], c[axis] - e);
+                    hi[axis] = Math.max(hi[axis], c[axis] + e);
+                }
+            }
+            setBox(node, lo, hi);
+        }
+        for (int node = leafSlots - 2; node >= 0; node--) {
+            int left = 2 * node + 1;
+            int right = 2 * node + 2;
+            nodeStart[node] = nodeStart[left];
+            nodeEnd[node] = Math.max(nodeEnd[left], nodeEnd[right]);
+            double[] lo = new double[3];
+            double[] hi = new double[3];
+            for (int axis = 0; axis < 3; axis++) {
+                lo[axis] = Math.min(low(left, axis), low(right, axis));
+                hi[axis] = Math.max(high(left, axis), high(right, axis));
+            }
+            setBox(node, lo, hi);
+        }
+    }
+
+    private double low(int node, int axis) {
+        return nodeStart[node] < nodeEnd[node] ? nodeCenter[node * 3 + axis] - nodeHalf[node * 3 + axis]
+                                                : Double.POSITIVE_INFINITY;
+    }
+
+    private double high(int node, int axis) {
+        return nodeStart[node] < nodeEnd[node] ? nodeCenter[node * 3 + axis] + nodeHalf[node * 3 + axis]
+                                                : Double.NEGATIVE_INFINITY;
+    }
+
+    private void setBox(int node, double[] lo, double[] hi) {
+        if (nodeStart[node] >= nodeEnd[node]) {
+            return;
+        }
+        for (int axis = 0; axis < 3; axis++) {
+            nodeCenter[node * 3 + axis] = (lo[axis] + hi[axis]) / 2;
+            nodeHalf[node * 3 + axis] = (hi[axis] - lo[axis]) / 2;
+        }
+    }
+
+    private static int[] mortonOrder(List<Cube3D> cubes) {
+        int n = cubes.size();
+        PointBuffer centers = new PointBuffer(n);
+        for (Cube3D cube : cubes) {
+            centers.add(cube.getCenter());
+        }
+        SpatialKeyEncoder encoder = SpatialKeyEncoder.forPoints(centers, SpaceFillingCurve.MORTON);
+        return SpatialSort.sortedOrder(encoder.keys(centers));
+    }
+
+    /**
+     * Returns a short description of this culler.
+     *
+     * @return a string showing the cube and leaf counts
+     */
+    @Override
+    public String toString() {
+        return "FrustumCuller[cubes=" + size + ", leafSlots=" + leafSlots + "]";
+    }
+}
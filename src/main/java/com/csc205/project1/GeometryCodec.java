@@ -0,0 +1,837 @@
+package com.csc205.project1;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Compact, versioned binary encoding for Point3D, Line3D and Cube3D.
+ *
+ * toString() output rounds every coordinate to two decimals and is slow to parse, so
+ * it is unsuitable for exchanging geometry between services. This codec writes a
+ * small header followed by little-endian numeric fields directly into a caller-owned
+ * ByteBuffer, and reads them back the same way, without intermediate byte arrays.
+ *
+ * Wire format (all multi-byte values little-endian):
+ * <pre>
+ * byte 0-1   magic 'G' '3'
+ * byte 2     format version (currently 1)
+ * byte 3     (type &lt;&lt; 4) | encoding
+ * [int32]    element count (array types only)
+ * payload    see Encoding
+ * </pre>
+ *
+ * Payload values per element:
+ * - Point3D: x, y, z
+ * - Line3D: start x, y, z, end x, y, z
+ * - Cube3D: center x, y, z, side length, rotation x, y, z
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. UTILITY CLASS:
+ *    - Stateless static methods with a private constructor; safe to call from any thread
+ *      as long as each thread uses its own buffers
+ *
+ * 2. VERSIONED FORMAT:
+ *    - Every message starts with magic bytes and a version, so readers reject foreign
+ *      or newer data instead of silently misinterpreting it
+ *
+ * 3. ZERO-COPY I/O:
+ *    - Encoders write at the buffer's current position and advance it; decoders read
+ *      coordinates straight into primitive arrays, so no Point3D is created unless
+ *      the caller asks for one
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. QUANTIZATION:
+ *    - Coordinates are mapped onto an integer grid spanning the bounding box; the
+ *      reconstruction error is at most half a grid step per axis
+ *
+ * 2. DELTA + VARIABLE-LENGTH ENCODING:
+ *    - Spatially coherent point sequences have small differences between neighbours;
+ *      zig-zag varints store small signed deltas in one or two bytes
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class GeometryCodec {
+
+    private static final Logger logger = Logger.getLogger(GeometryCodec.class.getName());
+
+    /** The format version written by this codec and the newest version it can read. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte MAGIC_0 = 'G';
+    private static final byte MAGIC_1 = '3';
+    private static final int HEADER_SIZE = 4;
+
+    private static final int TYPE_POINT = 1;
+    private static final int TYPE_LINE = 2;
+    private static final int TYPE_CUBE = 3;
+    private static final int TYPE_POINT_ARRAY = 4;
+    private static final int TYPE_LINE_ARRAY = 5;
+    private static final int TYPE_CUBE_ARRAY = 6;
+
+    private static final int QUANTIZED16_LEVELS = 0xFFFF;
+    private static final double DELTA_LEVELS = 4294967295.0; // 2^32 - 1
+
+    /**
+     * How numeric values are stored in the payload.
+     */
+    public enum Encoding {
+        /** 8-byte IEEE doubles; lossless. */
+        FLOAT64,
+        /** 4-byte IEEE floats; about 7 significant digits. */
+        FLOAT32,
+        /**
+         * Point arrays only: bounding box (6 doubles) followed by 2-byte unsigned grid
+         * coordinates; error at most extent / 131070 per axis.
+         */
+        QUANTIZED16,
+        /**
+         * Point arrays only: bounding box (6 doubles) followed by zig-zag varint deltas
+         * between consecutive points on a 32-bit grid; error at most extent / 8.6e9 per
+         * axis. Compact when consecutive points are close together.
+         */
+        DELTA_VARINT
+    }
+
+    private GeometryCodec() {
+        // Utility class
+    }
+
+    // ------------------------------------------------------------------
+    // Sizing
+    // ------------------------------------------------------------------
+
+    /**
+     * Returns the exact encoded size of a single point, line or cube.
+     *
+     * @param type Point3D.class, Line3D.class or Cube3D.class
+     * @param encoding FLOAT64 or FLOAT32
+     * @return the number of bytes encode() will write
+     * @throws IllegalArgumentException if the type or encoding is not supported
+     */
+    public static int encodedSize(Class<?> type, Encoding encoding) {
+        return HEADER_SIZE + valuesPerElement(type) * bytesPerValue(encoding);
+    }
+
+    /**
+     * Returns an upper bound on the encoded size of an array of geometry.
+     *
+     * The bound is exact for FLOAT64, FLOAT32 and QUANTIZED16; for DELTA_VARINT it
+     * assumes the worst case of 5 bytes per coordinate.
+     *
+     * @param type Point3D.class, Line3D.class or Cube3D.class
+     * @param count the number of elements
+     * @param encoding the payload encoding
+     * @return the maximum number of bytes the matching encode method will write
+     * @throws IllegalArgumentException if the combination is not supported, count is
+     *         negative or the size does not fit in an int
+     */
+    public static int maxEncodedSize(Class<?> type, int count, Encoding encoding) {
+        int values = valuesPerElement(type);
+        if (count < 0) {
+            logger.log(Level.SEVERE, "Cannot size geometry array: count {0} is negative", count);
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        long size = HEADER_SIZE + Integer.BYTES;
+        if (encoding == Encoding.QUANTIZED16 || encoding == Encoding.DELTA_VARINT) {
+            if (type != Point3D.class) {
+                throw new IllegalArgumentException(encoding + " is only supported for point arrays");
+            }
+            size += 6 * Double.BYTES + count * 3L * (encoding == Encoding.QUANTIZED16 ? 2 : 5);
+        } else {
+            size += (long) count * values * bytesPerValue(encoding);
+        }
+        if (size > Integer.MAX_VALUE) {
+            logger.log(Level.SEVERE, "Cannot size geometry array: {0} elements need {1} bytes",
+                       new Object[]{count, size});
+            throw new IllegalArgumentException("Encoded size of " + count + " elements exceeds 2 GB");
+        }
+        return (int) size;
+    }
+
+    // ------------------------------------------------------------------
+    // Single objects
+    // ------------------------------------------------------------------
+
+    /**
+     * Encodes a point at the buffer's current position.
+     *
+     * Example usage:
+     * <pre>
+     * ByteBuffer buffer = ByteBuffer.allocate(GeometryCodec.encodedSize(Point3D.class, Encoding.FLOAT64));
+     * GeometryCodec.encode(new Point3D(1, 2, 3), Encoding.FLOAT64, buffer);
+     * </pre>
+     *
+     * @param point the point to encode
+     * @param encoding FLOAT64 or FLOAT32
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the encoding is unsupported or the buffer is too small
+     */
+    public static void encode(Point3D point, Encoding encoding, ByteBuffer out) {
+        requireNonNull(point, out, encoding, "point");
+        ByteBuffer le = begin(out, TYPE_POINT, encoding, encodedSize(Point3D.class, encoding));
+        putValue(le, point.getX(), encoding);
+        putValue(le, point.getY(), encoding);
+        putValue(le, point.getZ(), encoding);
+        finish(out, le);
+    }
+
+    /**
+     * Encodes a line segment at the buffer's current position.
+     *
+     * @param line the line to encode
+     * @param encoding FLOAT64 or FLOAT32
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the encoding is unsupported or the buffer is too small
+     */
+    public static void encode(Line3D line, Encoding encoding, ByteBuffer out) {
+        requireNonNull(line, out, encoding, "line");
+        ByteBuffer le = begin(out, TYPE_LINE, encoding, encodedSize(Line3D.class, encoding));
+        putLine(le, line, encoding);
+        finish(out, le);
+    }
+
+    /**
+     * Encodes a cube at the buffer's current position.
+     *
+     * @param cube the cube to encode
+     * @param encoding FLOAT64 or FLOAT32
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the encoding is unsupported or the buffer is too small
+     */
+    public static void encode(Cube3D cube, Encoding encoding, ByteBuffer out) {
+        requireNonNull(cube, out, encoding, "cube");
+        ByteBuffer le = begin(out, TYPE_CUBE, encoding, encodedSize(Cube3D.class, encoding));
+        putCube(le, cube, encoding);
+        finish(out, le);
+    }
+
+    /**
+     * Decodes a point written by encode(Point3D, ...).
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @return the decoded point
+     * @throws NullPointerException if in is null
+     * @throws IllegalArgumentException if the data is not a supported point message
+     */
+    public static Point3D decodePoint(ByteBuffer in) {
+        ByteBuffer le = readHeader(in, TYPE_POINT);
+        Encoding encoding = encodingOf(in);
+        requireRemaining(le, 3L * bytesPerValue(encoding));
+        Point3D point = new Point3D(getValue(le, encoding), getValue(le, encoding), getValue(le, encoding));
+        finish(in, le);
+        return point;
+    }
+
+    /**
+     * Decodes a line written by encode(Line3D, ...).
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @return the decoded line
+     * @throws NullPointerException if in is null
+     * @throws IllegalArgumentException if the data is not a supported line message
+     */
+    public static Line3D decodeLine(ByteBuffer in) {
+        ByteBuffer le = readHeader(in, TYPE_LINE);
+        Encoding encoding = encodingOf(in);
+        requireRemaining(le, 6L * bytesPerValue(encoding));
+        Line3D line = getLine(le, encoding);
+        finish(in, le);
+        return line;
+    }
+
+    /**
+     * Decodes a cube written by encode(Cube3D, ...).
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @return the decoded cube
+     * @throws NullPointerException if in is null
+     * @throws IllegalArgumentException if the data is not a supported cube message
+     */
+    public static Cube3D decodeCube(ByteBuffer in) {
+        ByteBuffer le = readHeader(in, TYPE_CUBE);
+        Encoding encoding = encodingOf(in);
+        requireRemaining(le, 7L * bytesPerValue(encoding));
+        Cube3D cube = getCube(le, encoding);
+        finish(in, le);
+        return cube;
+    }
+
+    // ------------------------------------------------------------------
+    // Arrays
+    // ------------------------------------------------------------------
+
+    /**
+     * Encodes packed point coordinates (x0, y0, z0, x1, y1, z1, ...).
+     *
+     * This is the zero-allocation path for large point sets: FLOAT64 payloads are
+     * written with a single bulk copy.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * Example usage:
+     * <pre>
+     * double[] xyz = {0, 0, 0, 1, 2, 3};
+     * ByteBuffer buffer = ByteBuffer.allocateDirect(
+     *     GeometryCodec.maxEncodedSize(Point3D.class, 2, Encoding.QUANTIZED16));
+     * GeometryCodec.encodePoints(xyz, 2, Encoding.QUANTIZED16, buffer);
+     * </pre>
+     *
+     * @param xyz the interleaved coordinates
+     * @param count the number of points to encode from the start of xyz
+     * @param encoding any Encoding
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any reference argument is null
+     * @throws IllegalArgumentException if count is out of range or the buffer is too small
+     */
+    public static void encodePoints(double[] xyz, int count, Encoding encoding, ByteBuffer out) {
+        requireNonNull(xyz, out, encoding, "coordinate array");
+        if (count < 0 || count * 3L > xyz.length) {
+            logger.log(Level.SEVERE, "Cannot encode points: count {0} out of range for array of length {1}",
+                       new Object[]{count, xyz.length});
+            throw new IllegalArgumentException("Point count out of range");
+        }
+
+        int required = encoding == Encoding.DELTA_VARINT
+                ? HEADER_SIZE + Integer.BYTES + 6 * Double.BYTES
+                : maxEncodedSize(Point3D.class, count, encoding);
+        ByteBuffer le = begin(out, TYPE_POINT_ARRAY, encoding, required);
+        le.putInt(count);
+
+        switch (encoding) {
+            case FLOAT64:
+                le.asDoubleBuffer().put(xyz, 0, count * 3);
+                le.position(le.position() + count * 3 * Double.BYTES);
+                break;
+            case FLOAT32:
+                for (int i = 0; i < count * 3; i++) {
+                    le.putFloat((float) xyz[i]);
+                }
+                break;
+            case QUANTIZED16:
+                putQuantized16(le, xyz, count);
+                break;
+            case DELTA_VARINT:
+                putDeltaVarint(le, xyz, count);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown encoding " + encoding);
+        }
+
+        finish(out, le);
+        logger.log(Level.INFO, "Encoded {0} points as {1} ({2} bytes)",
+                   new Object[]{count, encoding, le.position()});
+    }
+
+    /**
+     * Encodes an array of points.
+     *
+     * @param points the points to encode
+     * @param encoding any Encoding
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any argument or element is null
+     * @throws IllegalArgumentException if the buffer is too small
+     */
+    public static void encodePoints(Point3D[] points, Encoding encoding, ByteBuffer out) {
+        requireNonNull(points, out, encoding, "point array");
+        double[] xyz = new double[points.length * 3];
+        for (int i = 0; i < points.length; i++) {
+            if (points[i] == null) {
+                logger.log(Level.SEVERE, "Cannot encode points: element {0} is null", i);
+                throw new NullPointerException("Point at index " + i + " is null");
+            }
+            xyz[i * 3] = points[i].getX();
+            xyz[i * 3 + 1] = points[i].getY();
+            xyz[i * 3 + 2] = points[i].getZ();
+        }
+        encodePoints(xyz, points.length, encoding, out);
+    }
+
+    /**
+     * Reads the element count of an array message without consuming it.
+     *
+     * Useful for sizing the destination array before calling decodePoints().
+     *
+     * @param in the source buffer, positioned at the start of an array message
+     * @return the number of elements in the message
+     * @throws IllegalArgumentException if the data is not a supported array message
+     */
+    public static int peekCount(ByteBuffer in) {
+        ByteBuffer le = readHeader(in, -1);
+        int type = (in.get(in.position() + 3) >> 4) & 0x0F;
+        if (type < TYPE_POINT_ARRAY || type > TYPE_CUBE_ARRAY) {
+            logger.log(Level.SEVERE, "Cannot read element count: message type {0} is not an array", type);
+            throw new IllegalArgumentException("Message is not an array");
+        }
+        return readCount(le, type, encodingOf(in));
+    }
+
+    /**
+     * Decodes a point array message into packed coordinates.
+     *
+     * No Point3D objects are created. The destination must hold at least
+     * 3 * peekCount(in) values.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @param dest the destination for interleaved x, y, z values
+     * @return the number of points decoded
+     * @throws NullPointerException if in or dest is null
+     * @throws IllegalArgumentException if the data is malformed or dest is too small
+     */
+    public static int decodePoints(ByteBuffer in, double[] dest) {
+        if (dest == null) {
+            logger.log(Level.SEVERE, "Cannot decode points: destination array is null");
+            throw new NullPointerException("Destination array cannot be null");
+        }
+
+        ByteBuffer le = readHeader(in, TYPE_POINT_ARRAY);
+        Encoding encoding = encodingOf(in);
+        int count = readCount(le, TYPE_POINT_ARRAY, encoding);
+        if (count * 3L > dest.length) {
+            logger.log(Level.SEVERE, "Cannot decode {0} points into array of length {1}",
+                       new Object[]{count, dest.length});
+            throw new IllegalArgumentException("Destination array too small for " + count + " points");
+        }
+
+        switch (encoding) {
+            case FLOAT64:
+                requireRemaining(le, count * 3L * Double.BYTES);
+                le.asDoubleBuffer().get(dest, 0, count * 3);
+                le.position(le.position() + count * 3 * Double.BYTES);
+                break;
+            case FLOAT32:
+                requireRemaining(le, count * 3L * Float.BYTES);
+                for (int i = 0; i < count * 3; i++) {
+                    dest[i] = le.getFloat();
+                }
+                break;
+            case QUANTIZED16:
+                getQuantized16(le, dest, count);
+                break;
+            case DELTA_VARINT:
+                getDeltaVarint(le, dest, count);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown encoding " + encoding);
+        }
+
+        finish(in, le);
+        logger.log(Level.INFO, "Decoded {0} points from {1} payload", new Object[]{count, encoding});
+        return count;
+    }
+
+    /**
+     * Decodes a point array message into Point3D objects.
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @return the decoded points
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public static Point3D[] decodePointArray(ByteBuffer in) {
+        double[] xyz = new double[peekCount(in) * 3];
+        int count = decodePoints(in, xyz);
+        Point3D[] points = new Point3D[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = new Point3D(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]);
+        }
+        return points;
+    }
+
+    /**
+     * Encodes an array of line segments.
+     *
+     * @param lines the lines to encode
+     * @param encoding FLOAT64 or FLOAT32
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any argument or element is null
+     * @throws IllegalArgumentException if the encoding is unsupported or the buffer is too small
+     */
+    public static void encodeLines(Line3D[] lines, Encoding encoding, ByteBuffer out) {
+        requireNonNull(lines, out, encoding, "line array");
+        ByteBuffer le = begin(out, TYPE_LINE_ARRAY, encoding, maxEncodedSize(Line3D.class, lines.length, encoding));
+        le.putInt(lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == null) {
+                logger.log(Level.SEVERE, "Cannot encode lines: element {0} is null", i);
+                throw new NullPointerException("Line at index " + i + " is null");
+            }
+            putLine(le, lines[i], encoding);
+        }
+        finish(out, le);
+        logger.log(Level.INFO, "Encoded {0} lines as {1}", new Object[]{lines.length, encoding});
+    }
+
+    /**
+     * Decodes an array of line segments.
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @return the decoded lines
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public static Line3D[] decodeLines(ByteBuffer in) {
+        ByteBuffer le = readHeader(in, TYPE_LINE_ARRAY);
+        Encoding encoding = encodingOf(in);
+        int count = readCount(le, TYPE_LINE_ARRAY, encoding);
+        Line3D[] lines = new Line3D[count];
+        for (int i = 0; i < count; i++) {
+            lines[i] = getLine(le, encoding);
+        }
+        finish(in, le);
+        return lines;
+    }
+
+    /**
+     * Encodes an array of cubes.
+     *
+     * @param cubes the cubes to encode
+     * @param encoding FLOAT64 or FLOAT32
+     * @param out the destination buffer; its position is advanced
+     * @throws NullPointerException if any argument or element is null
+     * @throws IllegalArgumentException if the encoding is unsupported or the buffer is too small
+     */
+    public static void encodeCubes(Cube3D[] cubes, Encoding encoding, ByteBuffer out) {
+        requireNonNull(cubes, out, encoding, "cube array");
+        ByteBuffer le = begin(out, TYPE_CUBE_ARRAY, encoding, maxEncodedSize(Cube3D.class, cubes.length, encoding));
+        le.putInt(cubes.length);
+        for (int i = 0; i < cubes.length; i++) {
+            if (cubes[i] == null) {
+                logger.log(Level.SEVERE, "Cannot encode cubes: element {0} is null", i);
+                throw new NullPointerException("Cube at index " + i + " is null");
+            }
+            putCube(le, cubes[i], encoding);
+        }
+        finish(out, le);
+        logger.log(Level.INFO, "Encoded {0} cubes as {1}", new Object[]{cubes.length, encoding});
+    }
+
+    /**
+     * Decodes an array of cubes.
+     *
+     * @param in the source buffer; its position is advanced past the message
+     * @return the decoded cubes
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public static Cube3D[] decodeCubes(ByteBuffer in) {
+        ByteBuffer le = readHeader(in, TYPE_CUBE_ARRAY);
+        Encoding encoding = encodingOf(in);
+        int count = readCount(le, TYPE_CUBE_ARRAY, encoding);
+        Cube3D[] cubes = new Cube3D[count];
+        for (int i = 0; i < count; i++) {
+            cubes[i] = getCube(le, encoding);
+        }
+        finish(in, le);
+        return cubes;
+    }
+
+    // ------------------------------------------------------------------
+    // Framing helpers
+    // ------------------------------------------------------------------
+
+    private static void requireNonNull(Object value, ByteBuffer buffer, Encoding encoding, String what) {
+        if (value == null || buffer == null || encoding == null) {
+            logger.log(Level.SEVERE, "Cannot encode {0}: argument is null", what);
+            throw new NullPointerException("Geometry, encoding and buffer cannot be null");
+        }
+    }
+
+    private static void requireRemaining(ByteBuffer buffer, long bytes) {
+        if (buffer.remaining() < bytes) {
+            logger.log(Level.SEVERE, "Buffer underflow: need {0} bytes but only {1} remain",
+                       new Object[]{bytes, buffer.remaining()});
+            throw new IllegalArgumentException("Buffer has " + buffer.remaining() + " bytes, need " + bytes);
+        }
+    }
+
+    /**
+     * Reads an array message's element count, which must be non-negative and backed by
+     * at least the smallest payload that many elements can have, so callers can size
+     * arrays from it without trusting a forged count.
+     */
+    private static int readCount(ByteBuffer le, int type, Encoding encoding) {
+        requireRemaining(le, Integer.BYTES);
+        int count = le.getInt();
+        if (count < 0) {
+            logger.log(Level.SEVERE, "Cannot decode geometry: element count {0} is negative", count);
+            throw new IllegalArgumentException("Negative element count " + count);
+        }
+        requireRemaining(le, minPayloadBytes(type, encoding, count));
+        return count;
+    }
+
+    private static long minPayloadBytes(int type, Encoding encoding, int count) {
+        if (type == TYPE_POINT_ARRAY) {
+            if (encoding == Encoding.QUANTIZED16) {
+                return 6L * Double.BYTES + count * 3L * Short.BYTES;
+            } else if (encoding == Encoding.DELTA_VARINT) {
+                // Bounds, then at least one byte per varint coordinate
+                return 6L * Double.BYTES + count * 3L;
+            }
+        }
+        return (long) count * (type == TYPE_POINT_ARRAY ? 3 : type == TYPE_LINE_ARRAY ? 6 : 7)
+                * bytesPerValue(encoding);
+    }
+
+    /**
+     * Writes the header through a little-endian view of {@code out}, leaving the
+     * caller's byte order untouched.
+     */
+    private static ByteBuffer begin(ByteBuffer out, int type, Encoding encoding, int requiredBytes) {
+        requireRemaining(out, requiredBytes);
+        ByteBuffer le = out.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        le.put(MAGIC_0).put(MAGIC_1).put((byte) FORMAT_VERSION).put((byte) ((type << 4) | encoding.ordinal()));
+        return le;
+    }
+
+    private static void finish(ByteBuffer original, ByteBuffer view) {
+        original.position(view.position());
+    }
+
+    /**
+     * Validates the header at the buffer's position and returns a little-endian view
+     * positioned just after it. An expected type of -1 accepts any type.
+     */
+    private static ByteBuffer readHeader(ByteBuffer in, int expectedType) {
+        if (in == null) {
+            logger.log(Level.SEVERE, "Cannot decode geometry: buffer is null");
+            throw new NullPointerException("Buffer cannot be null");
+        }
+        requireRemaining(in, HEADER_SIZE);
+
+        int p = in.position();
+        if (in.get(p) != MAGIC_0 || in.get(p + 1) != MAGIC_1) {
+            logger.log(Level.SEVERE, "Cannot decode geometry: bad magic bytes");
+            throw new IllegalArgumentException("Not a geometry message (bad magic)");
+        }
+        int version = in.get(p + 2) & 0xFF;
+        if (version < 1 || version > FORMAT_VERSION) {
+            logger.log(Level.SEVERE, "Cannot decode geometry: unsupported format version {0}", version);
+            throw new IllegalArgumentException("Unsupported format version " + version);
+        }
+        int type = (in.get(p + 3) >> 4) & 0x0F;
+        if (expectedType != -1 && type != expectedType) {
+            logger.log(Level.SEVERE, "Cannot decode geometry: expected type {0} but found {1}",
+                       new Object[]{expectedType, type});
+            throw new IllegalArgumentException("Unexpected message type " + type);
+        }
+        encodingOf(in);
+
+        ByteBuffer le = in.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        le.position(p + HEADER_SIZE);
+        return le;
+    }
+
+    private static Encoding encodingOf(ByteBuffer in) {
+        int ordinal = in.get(in.position() + 3) & 0x0F;
+        Encoding[] values = Encoding.values();
+        if (ordinal >= values.length) {
+            logger.log(Level.SEVERE, "Cannot decode geometry: unknown encoding {0}", ordinal);
+            throw new IllegalArgumentException("Unknown encoding " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static int valuesPerElement(Class<?> type) {
+        if (type == Point3D.class) {
+            return 3;
+        } else if (type == Line3D.class) {
+            return 6;
+        } else if (type == Cube3D.class) {
+            return 7;
+        }
+        throw new IllegalArgumentException("Unsupported geometry type " + type);
+    }
+
+    private static int bytesPerValue(Encoding encoding) {
+        if (encoding == Encoding.FLOAT64) {
+            return Double.BYTES;
+        } else if (encoding == Encoding.FLOAT32) {
+            return Float.BYTES;
+        }
+        logger.log(Level.SEVERE, "Encoding {0} is only supported for point arrays", encoding);
+        throw new IllegalArgumentException(encoding + " is only supported for point arrays");
+    }
+
+    // ------------------------------------------------------------------
+    // Value helpers
+    // ------------------------------------------------------------------
+
+    private static void putValue(ByteBuffer le, double value, Encoding encoding) {
+        if (encoding == Encoding.FLOAT64) {
+            le.putDouble(value);
+        } else {
+            le.putFloat((float) value);
+        }
+    }
+
+    private static double getValue(ByteBuffer le, Encoding encoding) {
+        return encoding == Encoding.FLOAT64 ? le.getDouble() : le.getFloat();
+    }
+
+    private static void putLine(ByteBuffer le, Line3D line, Encoding encoding) {
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        putValue(le, s.getX(), encoding);
+        putValue(le, s.getY(), encoding);
+        putValue(le, s.getZ(), encoding);
+        putValue(le, e.getX(), encoding);
+        putValue(le, e.getY(), encoding);
+        putValue(le, e.getZ(), encoding);
+    }
+
+    private static Line3D getLine(ByteBuffer le, Encoding encoding) {
+        Point3D start = new Point3D(getValue(le, encoding), getValue(le, encoding), getValue(le, encoding));
+        Point3D end = new Point3D(getValue(le, encoding), getValue(le, encoding), getValue(le, encoding));
+        return new Line3D(start, end);
+    }
+
+    private static void putCube(ByteBuffer le, Cube3D cube, Encoding encoding) {
+        Point3D c = cube.getCenter();
+        putValue(le, c.getX(), encoding);
+        putValue(le, c.getY(), encoding);
+        putValue(le, c.getZ(), encoding);
+        putValue(le, cube.getSideLength(), encoding);
+        putValue(le, cube.getRotationX(), encoding);
+        putValue(le, cube.getRotationY(), encoding);
+        putValue(le, cube.getRotationZ(), encoding);
+    }
+
+    private static Cube3D getCube(ByteBuffer le, Encoding encoding) {
+        Point3D center = new Point3D(getValue(le, encoding), getValue(le, encoding), getValue(le, encoding));
+        double side = getValue(le, encoding);
+        double rx = getValue(le, encoding);
+        double ry = getValue(le, encoding);
+        double rz = getValue(le, encoding);
+        return new Cube3D(center, side, rx, ry, rz);
+    }
+
+    // ------------------------------------------------------------------
+    // Quantized payloads
+    // ------------------------------------------------------------------
+
+    /** Computes [minX, minY, minZ, maxX, maxY, maxZ] of the first count points. */
+    private static double[] bounds(double[] xyz, int count) {
+        double[] b = {
+            Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        for (int i = 0; i < count * 3; i++) {
+            int axis = i % 3;
+            b[axis] = Math.min(b[axis], xyz[i]);
+            b[axis + 3] = Math.max(b[axis + 3], xyz[i]);
+        }
+        if (count == 0) {
+            Arrays.fill(b, 0.0);
+        }
+        return b;
+    }
+
+    private static void putBounds(ByteBuffer le, double[] b) {
+        for (double value : b) {
+            le.putDouble(value);
+        }
+    }
+
+    private static double[] getBounds(ByteBuffer le) {
+        requireRemaining(le, 6L * Double.BYTES);
+        double[] b = new double[6];
+        for (int i = 0; i < 6; i++) {
+            b[i] = le.getDouble();
+        }
+        return b;
+    }
+
+    private static void putQuantized16(ByteBuffer le, double[] xyz, int count) {
+        double[] b = bounds(xyz, count);
+        putBounds(le, b);
+        for (int i = 0; i < count * 3; i++) {
+            int axis = i % 3;
+            double extent = b[axis + 3] - b[axis];
+            long q = extent > 0 ? Math.round((xyz[i] - b[axis]) / extent * QUANTIZED16_LEVELS) : 0;
+            le.putShort((short) q);
+        }
+    }
+
+    private static void getQuantized16(ByteBuffer le, double[] dest, int count) {
+        double[] b = getBounds(le);
+        requireRemaining(le, count * 3L * Short.BYTES);
+        for (int i = 0; i < count * 3; i++) {
+            int axis = i % 3;
+            double extent = b[axis + 3] - b[axis];
+            int q = le.getShort() & 0xFFFF;
+            dest[i] = b[axis] + extent * q / QUANTIZED16_LEVELS;
+        }
+    }
+
+    private static void putDeltaVarint(ByteBuffer le, double[] xyz, int count) {
+        double[] b = bounds(xyz, count);
+        putBounds(le, b);
+        long[] previous = new long[3];
+        for (int i = 0; i < count * 3; i++) {
+            int axis = i % 3;
+            double extent = b[axis + 3] - b[axis];
+            long q = extent > 0 ? Math.round((xyz[i] - b[axis]) / extent * DELTA_LEVELS) : 0;
+            long delta = q - previous[axis];
+            previous[axis] = q;
+            putVarint(le, (delta << 1) ^ (delta >> 63));
+        }
+    }
+
+    private static void getDeltaVarint(ByteBuffer le, double[] dest, int count) {
+        double[] b = getBounds(le);
+        long[] previous = new long[3];
+        for (int i = 0; i < count * 3; i++) {
+            int axis = i % 3;
+            long zigzag = getVarint(le);
+            long q = previous[axis] + ((zigzag >>> 1) ^ -(zigzag & 1));
+            previous[axis] = q;
+            double extent = b[axis + 3] - b[axis];
+            dest[i] = b[axis] + extent * q / DELTA_LEVELS;
+        }
+    }
+
+    private static void putVarint(ByteBuffer le, long value) {
+        if (le.remaining() < 10) {
+            requireRemaining(le, varintSize(value));
+        }
+        while ((value & ~0x7FL) != 0) {
+            le.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        le.put((byte) value);
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static long getVarint(ByteBuffer le) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            requireRemaining(le, 1);
+            byte b = le.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        logger.log(Level.SEVERE, "Cannot decode varint: value too long");
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
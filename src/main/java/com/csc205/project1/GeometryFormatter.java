@@ -0,0 +1,373 @@
+package com.csc205.project1;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Formats coordinates, points, lines and cubes as text without String.format.
+ *
+ * String.format parses its pattern, boxes every argument and builds intermediate
+ * Strings on each call, which dominates when logs or exports format millions of
+ * geometry objects. GeometryFormatter appends digits straight into a caller-supplied
+ * StringBuilder (or any Appendable) and supports two modes:
+ *
+ * - Fixed precision: exactly the text String.format("%.Nf") produces for the same
+ *   value, including its HALF_UP rounding of the shortest decimal representation,
+ *   "-0.00" for small negatives, and "NaN"/"Infinity". Always uses '.' as the
+ *   decimal separator regardless of the default locale.
+ * - Shortest round-trip: the digits of Double.toString, which parse back to the
+ *   identical double. Use this for lossless text export.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - A formatter holds only its precision, so instances are thread-safe and can be
+ *      shared as constants
+ *
+ * 2. BUILDER-STYLE APPENDING:
+ *    - Every append method returns the target so calls can be chained, mirroring
+ *      StringBuilder itself
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. INTEGER SCALING FAST PATH:
+ *    - The value is scaled by 10^precision and rounded to a long; the result is only
+ *      trusted when the scaled fraction is clearly away from .5, otherwise the exact
+ *      BigDecimal path decides the tie
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class GeometryFormatter {
+
+    private static final Logger logger = Logger.getLogger(GeometryFormatter.class.getName());
+
+    /** Largest supported fixed precision. */
+    public static final int MAX_PRECISION = 15;
+
+    private static final int SHORTEST_PRECISION = -1;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /** Two fractional digits, the precision used by the toString methods. */
+    public static final GeometryFormatter TWO_DIGITS = new GeometryFormatter(2);
+
+    private static final GeometryFormatter SHORTEST = new GeometryFormatter(SHORTEST_PRECISION);
+
+    // Scratch space for Appendable targets that are not StringBuilders
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private final int precision;
+
+    private GeometryFormatter(int precision) {
+        this.precision = precision;
+    }
+
+    /**
+     * Returns a formatter that prints a fixed number of fractional digits.
+     *
+     * Example usage:
+     * <pre>
+     * StringBuilder sb = new StringBuilder();
+     * GeometryFormatter.withPrecision(3).appendPoint(sb, point);
+     * </pre>
+     *
+     * @param digits the number of digits after the decimal point (0 to MAX_PRECISION)
+     * @return a fixed-precision formatter
+     * @throws IllegalArgumentException if digits is out of range
+     */
+    public static GeometryFormatter withPrecision(int digits) {
+        if (digits < 0 || digits > MAX_PRECISION) {
+            logger.log(Level.SEVERE, "Invalid formatter precision {0}", digits);
+            throw new IllegalArgumentException("Precision must be between 0 and " + MAX_PRECISION);
+        }
+        return digits == 2 ? TWO_DIGITS : new GeometryFormatter(digits);
+    }
+
+    /**
+     * Returns a formatter that prints the shortest text that round-trips each double.
+     *
+     * @return the shortest round-trip formatter
+     */
+    public static GeometryFormatter shortest() {
+        return SHORTEST;
+    }
+
+    /**
+     * Returns the fixed precision, or -1 for shortest round-trip mode.
+     *
+     * @return the number of fractional digits, or -1
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Appends one number.
+     *
+     * Time Complexity: O(1) for values on the fast path
+     * Space Complexity: O(1) extra allocation on the fast path
+     *
+     * @param sb the target builder
+     * @param value the value to append
+     * @return sb
+     */
+    public StringBuilder appendDouble(StringBuilder sb, double value) {
+        if (precision == SHORTEST_PRECISION || Double.isNaN(value) || Double.isInfinite(value)) {
+            return sb.append(value);
+        }
+
+        double magnitude = Math.abs(value);
+        double scaled = magnitude * POWERS_OF_TEN[precision];
+        boolean negative = Double.doubleToRawLongBits(value) < 0;
+
+        if (scaled < 0x1p52) {
+            double floor = Math.floor(scaled);
+            double fraction = scaled - floor;
+            // Both the multiplication and the double-to-decimal difference are within
+            // a couple of ulps; outside that band the rounding direction is certain.
+            double margin = 4 * Math.ulp(scaled);
+            if (Math.abs(fraction - 0.5) > margin) {
+                long units = (long) floor + (fraction > 0.5 ? 1 : 0);
+                if (negative) {
+                    sb.append('-');
+                }
+                appendUnits(sb, units);
+                return sb;
+            }
+        }
+
+        BigDecimal rounded = new BigDecimal(Double.toString(magnitude)).setScale(precision, RoundingMode.HALF_UP);
+        if (negative) {
+            sb.append('-');
+        }
+        return sb.append(rounded.toPlainString());
+    }
+
+    private void appendUnits(StringBuilder sb, long units) {
+        long scale = POWERS_OF_TEN[precision];
+        sb.append(units / scale);
+        if (precision > 0) {
+            sb.append('.');
+            long fraction = units % scale;
+            for (long p = scale / 10; p > fraction && p > 1; p /= 10) {
+                sb.append('0');
+            }
+            sb.append(fraction);
+        }
+    }
+
+    /**
+     * Appends three coordinates separated by the given delimiter.
+     *
+     * @param sb the target builder
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @param delimiter the text placed between coordinates
+     * @return sb
+     */
+    public StringBuilder appendCoordinates(StringBuilder sb, double x, double y, double z, String delimiter) {
+        appendDouble(sb, x).append(delimiter);
+        appendDouble(sb, y).append(delimiter);
+        return appendDouble(sb, z);
+    }
+
+    /**
+     * Appends a point as "Point3D(x, y, z)".
+     *
+     * @param sb the target builder
+     * @param point the point to append
+     * @return sb
+     * @throws NullPointerException if point is null
+     */
+    public StringBuilder appendPoint(StringBuilder sb, Point3D point) {
+        if (point == null) {
+            throw new NullPointerException("Point cannot be null");
+        }
+        sb.append("Point3D(");
+        return appendCoordinates(sb, point.getX(), point.getY(), point.getZ(), ", ").append(')');
+    }
+
+    /**
+     * Appends a line as "Line3D[start=..., end=..., length=...]".
+     *
+     * The length is computed here directly rather than through Line3D.length(), so
+     * formatting does not log.
+     *
+     * @param sb the target builder
+     * @param line the line to append
+     * @return sb
+     * @throws NullPointerException if line is null
+     */
+    public StringBuilder appendLine(StringBuilder sb, Line3D line) {
+        if (line == null) {
+            throw new NullPointerException("Line cannot be null");
+        }
+        Point3D start = line.getStart();
+        Point3D end = line.getEnd();
+        double dx = end.getX() - start.getX();
+        double dy = end.getY() - start.getY();
+        double dz = end.getZ() - start.getZ();
+
+        sb.append("Line3D[start=");
+        appendPoint(sb, start).append(", end=");
+        appendPoint(sb, end).append(", length=");
+        return appendDouble(sb, Math.sqrt(dx * dx + dy * dy + dz * dz)).append(']');
+    }
+
+    /**
+     * Appends a cube as "Cube3D[center=..., sideLength=..., volume=..., rotations=(...)]".
+     *
+     * @param sb the target builder
+     * @param cube the cube to append
+     * @return sb
+     * @throws NullPointerException if cube is null
+     */
+    public StringBuilder appendCube(StringBuilder sb, Cube3D cube) {
+        if (cube == null) {
+            throw new NullPointerException("Cube cannot be null");
+        }
+        double side = cube.getSideLength();
+
+        sb.append("Cube3D[center=");
+        appendPoint(sb, cube.getCenter()).append(", sideLength=");
+        appendDouble(sb, side).append(", volume=");
+        appendDouble(sb, side * side * side).append(", rotations=(");
+        return appendCoordinates(sb, cube.getRotationX(), cube.getRotationY(), cube.getRotationZ(), ", ")
+                .append(")]");
+    }
+
+    /**
+     * Appends a point to any Appendable (Writer, PrintStream, CharBuffer, ...).
+     *
+     * @param out the target
+     * @param point the point to append
+     * @throws IOException if the target fails
+     */
+    public void appendPoint(Appendable out, Point3D point) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendPoint((StringBuilder) out, point);
+            return;
+        }
+        StringBuilder sb = scratch();
+        out.append(appendPoint(sb, point));
+    }
+
+    /**
+     * Appends a line to any Appendable.
+     *
+     * @param out the target
+     * @param line the line to append
+     * @throws IOException if the target fails
+     */
+    public void appendLine(Appendable out, Line3D line) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendLine((StringBuilder) out, line);
+            return;
+        }
+        StringBuilder sb = scratch();
+        out.append(appendLine(sb, line));
+    }
+
+    /**
+     * Appends a cube to any Appendable.
+     *
+     * @param out the target
+     * @param cube the cube to append
+     * @throws IOException if the target fails
+     */
+    public void appendCube(Appendable out, Cube3D cube) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendCube((StringBuilder) out, cube);
+            return;
+        }
+        StringBuilder sb = scratch();
+        out.append(appendCube(sb, cube));
+    }
+
+    /**
+     * Writes packed points as text lines of "x{delimiter}y{delimiter}z".
+     *
+     * This is the bulk export path: one scratch builder is reused for every line, so
+     * the only allocation is whatever the Appendable itself does.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param out the target
+     * @param points the points to write
+     * @param delimiter the text placed between coordinates (e.g. " " or ",")
+     * @throws NullPointerException if any argument is null
+     * @throws IOException if the target fails
+     */
+    public void writeXyz(Appendable out, PointBuffer points, String delimiter) throws IOException {
+        if (out == null || points == null || delimiter == null) {
+            logger.log(Level.SEVERE, "Cannot export points: null argument");
+            throw new NullPointerException("Arguments cannot be null");
+        }
+        double[] xyz = points.getCoordinates();
+        int n = points.size() * 3;
+        StringBuilder sb = scratch();
+        for (int i = 0; i < n; i += 3) {
+            appendCoordinates(sb, xyz[i], xyz[i + 1], xyz[i + 2], delimiter).append('\n');
+            if (sb.length() >= 8192) {
+                out.append(sb);
+                sb.setLength(0);
+            }
+        }
+        out.append(sb);
+        sb.setLength(0);
+    }
+
+    /**
+     * Writes one "Point3D(...)" line per point.
+     *
+     * @param out the target
+     * @param points the points to write
+     * @throws NullPointerException if out or points is null
+     * @throws IOException if the target fails
+     */
+    public void writePoints(Appendable out, Iterable<Point3D> points) throws IOException {
+        if (out == null || points == null) {
+            logger.log(Level.SEVERE, "Cannot export points: null argument");
+            throw new NullPointerException("Arguments cannot be null");
+        }
+        StringBuilder sb = scratch();
+        for (Point3D point : points) {
+            appendPoint(sb, point).append('\n');
+            if (sb.length() >= 8192) {
+                out.append(sb);
+                sb.setLength(0);
+            }
+        }
+        out.append(sb);
+        sb.setLength(0);
+    }
+
+    /**
+     * Formats a single value to a new String.
+     *
+     * @param value the value to format
+     * @return the formatted text
+     */
+    public String format(double value) {
+        return appendDouble(new StringBuilder(24), value).toString();
+    }
+
+    private static StringBuilder scratch() {
+        StringBuilder sb = SCRATCH.get();
+        sb.setLength(0);
+        return sb;
+    }
+}
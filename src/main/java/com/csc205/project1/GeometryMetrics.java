@@ -0,0 +1,326 @@
+package com.csc205.project1;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in metrics for geometry operations: call counts, allocation estimates and
+ * latency histograms per GeometryOperation, published over JMX and JFR.
+ *
+ * Instrumented methods bracket their work with two calls:
+ * <pre>
+ * long start = GeometryMetrics.start();
+ * ... the operation ...
+ * GeometryMetrics.record(GeometryOperation.CUBE_CONTAINS_POINT, start);
+ * </pre>
+ * While metrics are disabled (the default), start() is a single volatile read that
+ * returns a sentinel, and record() returns after comparing against it, so the cost is
+ * a few instructions and no clock reads or allocation. When enabled, each call costs
+ * two System.nanoTime() reads, three striped counter updates and, only while a Flight
+ * Recorder recording has the event enabled, one GeometryOperationEvent.
+ *
+ * Example usage:
+ * <pre>
+ * GeometryMetrics.registerMBean();
+ * GeometryMetrics.enable();
+ * runWorkload();
+ * System.out.println(GeometryMetrics.report());
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. FACADE PATTERN:
+ *    - One static entry point hides the counters, histograms, MXBean and JFR event
+ *
+ * 2. NULL OBJECT VIA SENTINEL:
+ *    - A disabled start() returns a sentinel instead of branching at every call site
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. STRIPED COUNTERS:
+ *    - LongAdder spreads contended increments over cells, so hot operations called
+ *      from many threads do not serialize on one cache line
+ *
+ * 2. LOG-LINEAR HISTOGRAMS:
+ *    - LatencyHistogram gives percentiles within about 3% in constant space
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class GeometryMetrics {
+
+    private static final Logger logger = Logger.getLogger(GeometryMetrics.class.getName());
+
+    /** The JMX object name under which registerMBean() publishes the metrics. */
+    public static final String OBJECT_NAME = "com.csc205.project1:type=GeometryMetrics";
+
+    // Returned by start() while disabled; System.nanoTime() practically never yields it
+    private static final long DISABLED = Long.MIN_VALUE;
+
+    private static final OperationStats[] STATS = new OperationStats[GeometryOperation.values().length];
+
+    private static volatile boolean enabled;
+
+    static {
+        for (int i = 0; i < STATS.length; i++) {
+            STATS[i] = new OperationStats();
+        }
+    }
+
+    /** Counters of one operation. */
+    private static final class OperationStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+    }
+
+    private GeometryMetrics() {
+    }
+
+    /**
+     * Starts recording metrics.
+     */
+    public static void enable() {
+        enabled = true;
+        logger.log(Level.INFO, "Geometry metrics enabled");
+    }
+
+    /**
+     * Stops recording metrics. Collected values are kept until reset().
+     */
+    public static void disable() {
+        enabled = false;
+        logger.log(Level.INFO, "Geometry metrics disabled");
+    }
+
+    /**
+     * Returns whether metrics are being recorded.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the start of an instrumented operation.
+     *
+     * @return a timestamp to pass to record(), or a sentinel while disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Records a completed operation using its default allocation estimate.
+     *
+     * @param operation the operation
+     * @param start the value returned by start()
+     */
+    public static void record(GeometryOperation operation, long start) {
+        if (start != DISABLED) {
+            recordElapsed(operation, System.nanoTime() - start, operation.getAllocationEstimate());
+        }
+    }
+
+    /**
+     * Records a completed operation with an explicit allocation estimate, for batch
+     * operations whose allocation depends on their input.
+     *
+     * @param operation the operation
+     * @param start the value returned by start()
+     * @param allocatedBytes the estimated bytes allocated by this call
+     */
+    public static void record(GeometryOperation operation, long start, long allocatedBytes) {
+        if (start != DISABLED) {
+            recordElapsed(operation, System.nanoTime() - start, allocatedBytes);
+        }
+    }
+
+    private static void recordElapsed(GeometryOperation operation, long latency, long allocatedBytes) {
+        OperationStats stats = STATS[operation.ordinal()];
+        stats.calls.increment();
+        stats.allocatedBytes.add(allocatedBytes);
+        stats.latency.record(latency);
+
+        GeometryOperationEvent event = new GeometryOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation.getDisplayName();
+            event.latency = latency;
+            event.allocatedBytes = allocatedBytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the number of recorded calls of an operation.
+     *
+     * @param operation the operation
+     * @return the call count
+     */
+    public static long getCallCount(GeometryOperation operation) {
+        return STATS[operation.ordinal()].calls.sum();
+    }
+
+    /**
+     * Returns the estimated bytes allocated by all recorded calls of an operation.
+     *
+     * @param operation the operation
+     * @return the allocation estimate
+     */
+    public static long getAllocatedBytes(GeometryOperation operation) {
+        return STATS[operation.ordinal()].allocatedBytes.sum();
+    }
+
+    /**
+     * Returns the live latency histogram of an operation, in nanoseconds.
+     *
+     * @param operation the operation
+     * @return the histogram
+     */
+    public static LatencyHistogram getLatencyHistogram(GeometryOperation operation) {
+        return STATS[operation.ordinal()].latency;
+    }
+
+    /**
+     * Clears all counters and histograms.
+     */
+    public static void reset() {
+        for (OperationStats stats : STATS) {
+            stats.calls.reset();
+            stats.allocatedBytes.reset();
+            stats.latency.reset();
+        }
+        logger.log(Level.INFO, "Geometry metrics reset");
+    }
+
+    /**
+     * Returns a table of all operations recorded at least once, busiest first.
+     *
+     * @return the report, one line per operation
+     */
+    public static String report() {
+        List<GeometryOperation> recorded = recordedOperations();
+        recorded.sort((a, b) -> Long.compare(getCallCount(b), getCallCount(a)));
+        StringBuilder sb = new StringBuilder(String.format("%-32s %12s %14s %10s %10s %10s%n",
+                                                           "operation", "calls", "alloc bytes", "p50 ns", "p99 ns", "max ns"));
+        for (GeometryOperation operation : recorded) {
+            LatencyHistogram latency = getLatencyHistogram(operation);
+            sb.append(String.format("%-32s %12d %14d %10d %10d %10d%n", operation.getDisplayName(),
+                                    getCallCount(operation), getAllocatedBytes(operation),
+                                    latency.getValueAtPercentile(50), latency.getValueAtPercentile(99),
+                                    latency.getMax()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Registers the metrics MXBean with the platform MBean server under OBJECT_NAME.
+     * Calling it again has no effect.
+     *
+     * @return the object name
+     * @throws IllegalStateException if registration fails
+     */
+    public static synchronized ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MXBeanAdapter(), name);
+                logger.log(Level.INFO, "Registered geometry metrics MXBean as {0}", OBJECT_NAME);
+            }
+            return name;
+        } catch (JMException e) {
+            logger.log(Level.SEVERE, "Cannot register geometry metrics MXBean", e);
+            throw new IllegalStateException("Cannot register geometry metrics MXBean", e);
+        }
+    }
+
+    /**
+     * Removes the metrics MXBean from the platform MBean server, if registered.
+     *
+     * @throws IllegalStateException if unregistration fails
+     */
+    public static synchronized void unregisterMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            logger.log(Level.SEVERE, "Cannot unregister geometry metrics MXBean", e);
+            throw new IllegalStateException("Cannot unregister geometry metrics MXBean", e);
+        }
+    }
+
+    private static List<GeometryOperation> recordedOperations() {
+        List<GeometryOperation> recorded = new ArrayList<>();
+        for (GeometryOperation operation : GeometryOperation.values()) {
+            if (getCallCount(operation) > 0) {
+                recorded.add(operation);
+            }
+        }
+        return recorded;
+    }
+
+    /** Exposes the static facade through the MXBean interface. */
+    private static final class MXBeanAdapter implements GeometryMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return GeometryMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            if (enabled) {
+                enable();
+            } else {
+                disable();
+            }
+        }
+
+        @Override
+        public String[] getRecordedOperations() {
+            return recordedOperations().stream().map(GeometryOperation::getDisplayName).toArray(String[]::new);
+        }
+
+        @Override
+        public long getCallCount(String operation) {
+            return GeometryMetrics.getCallCount(GeometryOperation.fromName(operation));
+        }
+
+        @Override
+        public long getAllocatedBytes(String operation) {
+            return GeometryMetrics.getAllocatedBytes(GeometryOperation.fromName(operation));
+        }
+
+        @Override
+        public double getMeanLatencyNanos(String operation) {
+            return getLatencyHistogram(GeometryOperation.fromName(operation)).getMean();
+        }
+
+        @Override
+        public long getLatencyPercentileNanos(String operation, double percentile) {
+            return getLatencyHistogram(GeometryOperation.fromName(operation)).getValueAtPercentile(percentile);
+        }
+
+        @Override
+        public long getMaxLatencyNanos(String operation) {
+            return getLatencyHistogram(GeometryOperation.fromName(operation)).getMax();
+        }
+
+        @Override
+        public void reset() {
+            GeometryMetrics.reset();
+        }
+    }
+}
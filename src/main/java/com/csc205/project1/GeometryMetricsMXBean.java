@@ -0,0 +1,82 @@
+package com.csc205.project1;
+
+/**
+ * JMX management interface of GeometryMetrics, registered as
+ * "com.csc205.project1:type=GeometryMetrics".
+ *
+ * Operations are identified by their display name (for example
+ * "Cube3D.containsPoint") or GeometryOperation constant name. Latencies are in
+ * nanoseconds.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public interface GeometryMetricsMXBean {
+
+    /**
+     * Returns whether metrics are being recorded.
+     *
+     * @return true if enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns recording on or off.
+     *
+     * @param enabled the new state
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the display names of all operations recorded at least once.
+     *
+     * @return the operation names
+     */
+    String[] getRecordedOperations();
+
+    /**
+     * Returns the number of recorded calls of an operation.
+     *
+     * @param operation the operation name
+     * @return the call count
+     */
+    long getCallCount(String operation);
+
+    /**
+     * Returns the estimated bytes allocated by all recorded calls of an operation.
+     *
+     * @param operation the operation name
+     * @return the allocation estimate
+     */
+    long getAllocatedBytes(String operation);
+
+    /**
+     * Returns the mean latency of an operation.
+     *
+     * @param operation the operation name
+     * @return the mean latency in nanoseconds
+     */
+    double getMeanLatencyNanos(String operation);
+
+    /**
+     * Returns a latency percentile of an operation.
+     *
+     * @param operation the operation name
+     * @param percentile the percentile, 0 to 100
+     * @return the latency in nanoseconds
+     */
+    long getLatencyPercentileNanos(String operation, double percentile);
+
+    /**
+     * Returns the largest recorded latency of an operation.
+     *
+     * @param operation the operation name
+     * @return the maximum latency in nanoseconds
+     */
+    long getMaxLatencyNanos(String operation);
+
+    /**
+     * Clears all counters and histograms.
+     */
+    void reset();
+}
@@ -0,0 +1,84 @@
+package com.csc205.project1;
+
+/**
+ * The geometry operations that report to GeometryMetrics.
+ *
+ * Each constant names one instrumented method and carries an estimate of the bytes it
+ * allocates per call. The estimates assume a 64-bit JVM with compressed references,
+ * where a Point3D takes 40 bytes, and count only the objects the method itself creates;
+ * escape analysis may remove some of them. Batch operations allocate in proportion to
+ * their input and report their own estimate per call.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public enum GeometryOperation {
+
+    POINT_DISTANCE("Point3D.distanceTo", 0),
+    LINE_DISTANCE_TO_POINT("Line3D.distanceToPoint", 4 * GeometryOperation.POINT_BYTES),
+    LINE_SHORTEST_DISTANCE("Line3D.shortestDistanceTo", 5 * GeometryOperation.POINT_BYTES),
+    CUBE_CONTAINS_POINT("Cube3D.containsPoint", 2 * GeometryOperation.POINT_BYTES),
+    CUBE_DISTANCE_TO_POINT("Cube3D.distanceToPoint", 3 * GeometryOperation.POINT_BYTES),
+    CUBE_INTERSECTS("Cube3D.intersects", 0),
+    CUBE_VERTICES("Cube3D.getVertices", 8 * GeometryOperation.POINT_BYTES + 48),
+    QUERY_BATCH("GeometryQueryService.batch", 0),
+    DISTANCE_MATRIX("DistanceMatrix.build", 0),
+    DBSCAN("SpatialClustering.dbscan", 0),
+    KMEANS("SpatialClustering.kMeans", 0),
+    VOXELIZE("OccupancyGrid.rasterize", 0),
+    SIGNED_DISTANCE_FIELD("SignedDistanceField.compute", 0),
+    SPATIAL_SORT("SpatialSort.sort", 0),
+    FRUSTUM_CULL("FrustumCuller.cull", 0),
+    SEGMENT_CLIP("SegmentClipper.clipAll", 0),
+    POLYLINE_SIMPLIFY("Polyline3D.simplify", 0),
+    MESH_CUBE_OVERLAP("Mesh3D.overlappingTriangles", 0),
+    SPHERE_INTERSECT("Sphere3D.intersectAll", 0),
+    CAPSULE_INTERSECT("Capsule3D.intersectAll", 0);
+
+    // Shallow size of a Point3D: 12-byte header plus three doubles, padded to 8
+    private static final int POINT_BYTES = 40;
+
+    private final String displayName;
+    private final long allocationEstimate;
+
+    GeometryOperation(String displayName, long allocationEstimate) {
+        this.displayName = displayName;
+        this.allocationEstimate = allocationEstimate;
+    }
+
+    /**
+     * Returns the method name this operation is reported under, such as
+     * "Cube3D.containsPoint".
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the estimated bytes allocated per call, or 0 for operations that report
+     * their own estimate.
+     *
+     * @return the allocation estimate
+     */
+    public long getAllocationEstimate() {
+        return allocationEstimate;
+    }
+
+    /**
+     * Looks up an operation by its display name or constant name.
+     *
+     * @param name the name, for example "Cube3D.containsPoint" or "CUBE_CONTAINS_POINT"
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has that name
+     */
+    public static GeometryOperation fromName(String name) {
+        for (GeometryOperation operation : values()) {
+            if (operation.displayName.equals(name) || operation.name().equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown geometry operation: " + name);
+    }
+}
@@ -0,0 +1,39 @@
+package com.csc205.project1;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event emitted by GeometryMetrics for each recorded operation.
+ *
+ * Events are only created while metrics are enabled and only committed while a
+ * recording has this event type enabled, for example with
+ * {@code -XX:StartFlightRecording:settings=profile} or a Recording that enables
+ * "com.csc205.project1.GeometryOperation". Stack traces are off to keep the event cheap.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@Name("com.csc205.project1.GeometryOperation")
+@Label("Geometry Operation")
+@Category({"Geometry"})
+@Description("A timed Point3D, Line3D, Cube3D or batch geometry operation")
+@StackTrace(false)
+final class GeometryOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+    @Label("Estimated Allocation")
+    @DataAmount(DataAmount.BYTES)
+    long allocatedBytes;
+}
@@ -0,0 +1,357 @@
+package com.csc205.project1;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * An embeddable service that answers many tiny geometry queries by batching them.
+ *
+ * A server handling thousands of concurrent "is this point in that cube?" requests
+ * spends far more time on per-request overhead (thread hand-off, scheduling, logging,
+ * Point3D allocation) than on the few dozen flops of the actual test. This service
+ * accepts requests from any number of threads (typically one virtual thread per
+ * client connection), coalesces them into micro-batches, runs each batch in a tight
+ * loop over the primitive kernels Cube3D.containsPoint(double, double, double) and
+ * Line3D.distanceToPoint(double, double, double), and completes a CompletableFuture
+ * per request.
+ *
+ * A batch is closed as soon as it reaches the maximum batch size, or when the
+ * maximum linger time has passed since its first request arrived, whichever comes
+ * first. Larger batches amortize more overhead; the linger time bounds the latency
+ * a lone request can incur waiting for company.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. PRODUCER-CONSUMER:
+ *    - Callers enqueue requests; a single dispatcher virtual thread drains the queue
+ *      into batches and hands each batch to a worker virtual thread
+ *
+ * 2. FUTURE / PROMISE:
+ *    - Each request returns immediately with a CompletableFuture, so callers can
+ *      block (cheap on a virtual thread) or compose asynchronously
+ *
+ * 3. RESOURCE MANAGEMENT:
+ *    - Implements AutoCloseable; close() stops accepting requests, finishes every
+ *      request already accepted and shuts the worker threads down
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. MICRO-BATCHING:
+ *    - Trades a bounded amount of latency (the linger time) for throughput, the same
+ *      technique used by Nagle's algorithm and message-queue producers
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class GeometryQueryService implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(GeometryQueryService.class.getName());
+
+    /** Default maximum number of requests evaluated together. */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    /** Default maximum time the first request of a batch waits for more requests. */
+    public static final Duration DEFAULT_MAX_LINGER = Duration.ofNanos(200_000);
+
+    private static final int CONTAINS = 0;
+    private static final int DISTANCE = 1;
+
+    /** One pending query; {@code target} is a Cube3D or a Line3D depending on kind. */
+    private static final class Request {
+        final int kind;
+        final Object target;
+        final double x;
+        final double y;
+        final double z;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Request(int kind, Object target, double x, double y, double z) {
+            this.kind = kind;
+            this.target = target;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    private static final Request POISON = new Request(-1, null, 0, 0, 0);
+
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread dispatcher;
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Constructs a service with the default batch size and linger time.
+     */
+    public GeometryQueryService() {
+        this(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LINGER);
+    }
+
+    /**
+     * Constructs a service with the given batching limits.
+     *
+     * Example usage:
+     * <pre>
+     * try (GeometryQueryService service = new GeometryQueryService(512, Duration.ofMillis(1))) {
+     *     boolean inside = service.containsPoint(cube, x, y, z).join();
+     * }
+     * </pre>
+     *
+     * @param maxBatchSize the maximum number of requests per batch
+     * @param maxLinger how long a batch may wait for more requests after its first one
+     * @throws IllegalArgumentException if maxBatchSize is not positive or maxLinger is negative
+     * @throws NullPointerException if maxLinger is null
+     */
+    public GeometryQueryService(int maxBatchSize, Duration maxLinger) {
+        if (maxLinger == null) {
+            logger.log(Level.SEVERE, "Cannot create query service: linger time is null");
+            throw new NullPointerException("Linger time cannot be null");
+        }
+        if (maxBatchSize <= 0 || maxLinger.isNegative()) {
+            logger.log(Level.SEVERE, "Invalid batching limits: batch size {0}, linger {1}",
+                       new Object[]{maxBatchSize, maxLinger});
+            throw new IllegalArgumentException("Batch size must be positive and linger time non-negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = maxLinger.toNanos();
+        this.dispatcher = Thread.ofVirtual().name("geometry-query-dispatcher").start(this::dispatch);
+        logger.log(Level.INFO, "Started geometry query service (batch size {0}, linger {1})",
+                   new Object[]{maxBatchSize, maxLinger});
+    }
+
+    /**
+     * Asynchronously tests whether a point lies inside a cube.
+     *
+     * @param cube the cube to test against
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @param z the z-coordinate of the point
+     * @return a future completed with the result of cube.containsPoint(x, y, z)
+     * @throws NullPointerException if cube is null
+     */
+    public CompletableFuture<Boolean> containsPoint(Cube3D cube, double x, double y, double z) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot submit containment query: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        return submit(new Request(CONTAINS, cube, x, y, z)).thenApply(Boolean.class::cast);
+    }
+
+    /**
+     * Asynchronously tests whether a point lies inside a cube.
+     *
+     * @param cube the cube to test against
+     * @param point the point to test
+     * @return a future completed with the containment result
+     * @throws NullPointerException if cube or point is null
+     */
+    public CompletableFuture<Boolean> containsPoint(Cube3D cube, Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot submit containment query: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        return containsPoint(cube, point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Asynchronously computes the distance from a point to a line segment.
+     *
+     * @param line the line segment
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @param z the z-coordinate of the point
+     * @return a future completed with line.distanceToPoint(x, y, z)
+     * @throws NullPointerException if line is null
+     */
+    public CompletableFuture<Double> distanceToPoint(Line3D line, double x, double y, double z) {
+        if (line == null) {
+            logger.log(Level.SEVERE, "Cannot submit distance query: line is null");
+            throw new NullPointerException("Line cannot be null");
+        }
+        return submit(new Request(DISTANCE, line, x, y, z)).thenApply(Double.class::cast);
+    }
+
+    /**
+     * Asynchronously computes the distance from a point to a line segment.
+     *
+     * @param line the line segment
+     * @param point the point
+     * @return a future completed with the distance
+     * @throws NullPointerException if line or point is null
+     */
+    public CompletableFuture<Double> distanceToPoint(Line3D line, Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot submit distance query: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        return distanceToPoint(line, point.getX(), point.getY(), point.getZ());
+    }
+
+    private CompletableFuture<Object> submit(Request request) {
+        if (closed) {
+            throw new RejectedExecutionException("Geometry query service is closed");
+        }
+        queue.add(request);
+        // A request that slipped in after close() was drained is withdrawn here;
+        // if remove() fails, the dispatcher already owns it and will answer it
+        if (closed && queue.remove(request)) {
+            throw new RejectedExecutionException("Geometry query service is closed");
+        }
+        requestCount.increment();
+        return request.result;
+    }
+
+    private void dispatch() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        boolean running = true;
+        boolean interrupted = false;
+        while (running) {
+            try {
+                Request first = queue.take();
+                if (first == POISON) {
+                    break;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxLingerNanos;
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                // close() sets the flag before queueing POISON, so stop lingering once it is seen
+                while (batch.size() < maxBatchSize && !closed) {
+                    long remaining = deadline - System.nanoTime();
+                    Request next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Refuse new requests before draining, so none is left unanswered in the queue
+                closed = true;
+                interrupted = true;
+                break;
+            }
+
+            running &= !batch.remove(POISON);
+            if (!batch.isEmpty()) {
+                List<Request> ready = List.copyOf(batch);
+                batch.clear();
+                workers.execute(() -> evaluate(ready));
+            }
+        }
+
+        // Answer anything accepted before close() but not yet batched
+        List<Request> rest = new ArrayList<>(batch);
+        queue.drainTo(rest);
+        rest.remove(POISON);
+        if (interrupted) {
+            logger.log(Level.SEVERE, "Geometry query dispatcher was interrupted; failing {0} pending requests",
+                       rest.size());
+            for (Request request : rest) {
+                request.result.completeExceptionally(
+                        new CancellationException("Geometry query dispatcher was interrupted"));
+            }
+        } else if (!rest.isEmpty()) {
+            evaluate(rest);
+        }
+    }
+
+    private void evaluate(List<Request> batch) {
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+        batchCount.increment();
+        for (Request request : batch) {
+            try {
+                if (request.kind == CONTAINS) {
+                    request.result.complete(((Cube3D) request.target).containsPoint(request.x, request.y, request.z));
+                } else {
+                    request.result.complete(((Line3D) request.target).distanceToPoint(request.x, request.y, request.z));
+                }
+            } catch (RuntimeException e) {
+                request.result.completeExceptionally(e);
+            }
+        }
+        slowQuery.finish(GeometryOperation.QUERY_BATCH, null, batch.size());
+        GeometryMetrics.record(GeometryOperation.QUERY_BATCH, metricsStart);
+    }
+
+    /**
+     * Returns the number of requests accepted so far.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Returns the number of batches evaluated so far.
+     *
+     * getRequestCount() / getBatchCount() is the average batch size actually achieved.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Returns the configured maximum batch size.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns the configured maximum linger time.
+     *
+     * @return the linger time
+     */
+    public Duration getMaxLinger() {
+        return Duration.ofNanos(maxLingerNanos);
+    }
+
+    /**
+     * Stops accepting requests, completes every request already accepted and waits
+     * for the worker threads to finish.
+     *
+     * Calling close() more than once has no effect. If the dispatcher thread was
+     * interrupted, the service has already stopped accepting requests and failed the
+     * pending ones with a CancellationException; close() then only releases the workers.
+     */
+    @Override
+    public synchronized void close() {
+        if (workers.isShutdown()) {
+            return;
+        }
+        closed = true;
+        queue.add(POISON);
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.close();
+        logger.log(Level.INFO, "Closed geometry query service after {0} requests in {1} batches",
+                   new Object[]{getRequestCount(), getBatchCount()});
+    }
+}
@@ -0,0 +1,195 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A uniform-grid spatial index over the points of a PointBuffer.
+ *
+ * Space is divided into cubic cells of a fixed size. Points are sorted by cell, so the
+ * points of one cell are contiguous in an index array, and the occupied cells are kept
+ * in a sorted key array. A radius query no larger than the cell size only has to look
+ * at the 27 cells around the query point instead of at every point, which turns the
+ * O(n^2) neighbourhood loops of density-based clustering into roughly O(n).
+ *
+ * The index is immutable after construction and safe for concurrent queries. It
+ * refers to the buffer's coordinates, which must not change while it is in use.
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. SPATIAL HASHING ON A UNIFORM GRID:
+ *    - Cell coordinates are packed into a single long key (21 bits per axis)
+ *
+ * 2. RADIX-SORTED CELL ORDER:
+ *    - Points are ordered by key with SpatialSort's parallel radix sort, giving
+ *      compressed-sparse-row style cellStart offsets; cell lookup is a binary search
+ *      over occupied cells only
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+final class GridIndex {
+
+    private static final Logger logger = Logger.getLogger(GridIndex.class.getName());
+
+    private static final int AXIS_BITS = 21;
+    private static final long AXIS_LIMIT = 1L << AXIS_BITS;
+
+    private final double[] xyz;
+    private final int size;
+    private final double cellSize;
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final int[] order;
+
+    /**
+     * Builds the index.
+     *
+     * Time Complexity: O(n) (radix sort of the cell keys)
+     * Space Complexity: O(n)
+     *
+     * @param points the points to index
+     * @param cellSize the edge length of a grid cell
+     * @throws IllegalArgumentException if cellSize is not positive and finite, or the
+     *         extent of the points spans more than 2^21 cells along an axis
+     */
+    GridIndex(PointBuffer points, double cellSize) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+            logger.log(Level.SEVERE, "Invalid grid cell size: {0}", cellSize);
+            throw new IllegalArgumentException("Cell size must be positive and finite");
+        }
+        this.xyz = points.getCoordinates();
+        this.size = points.size();
+        this.cellSize = cellSize;
+
+        double loX = Double.POSITIVE_INFINITY;
+        double loY = Double.POSITIVE_INFINITY;
+        double loZ = Double.POSITIVE_INFINITY;
+        double hiX = Double.NEGATIVE_INFINITY;
+        double hiY = Double.NEGATIVE_INFINITY;
+        double hiZ = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size * 3; i += 3) {
+            loX = Math.min(loX, xyz[i]);
+            loY = Math.min(loY, xyz[i + 1]);
+            loZ = Math.min(loZ, xyz[i + 2]);
+            hiX = Math.max(hiX, xyz[i]);
+            hiY = Math.max(hiY, xyz[i + 1]);
+            hiZ = Math.max(hiZ, xyz[i + 2]);
+        }
+        this.minX = size > 0 ? loX : 0;
+        this.minY = size > 0 ? loY : 0;
+        this.minZ = size > 0 ? loZ : 0;
+        double span = Math.max(hiX - loX, Math.max(hiY - loY, hiZ - loZ));
+        if (size > 0 && !(span / cellSize < AXIS_LIMIT - 2)) {
+            logger.log(Level.SEVERE, "Grid cell size {0} is too small for extent {1}", new Object[]{cellSize, span});
+            throw new IllegalArgumentException("Cell size too small for the extent of the points");
+        }
+
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = key(cell(xyz[i * 3], minX), cell(xyz[i * 3 + 1], minY), cell(xyz[i * 3 + 2], minZ));
+        }
+        this.order = SpatialSort.sortedOrder(keys);
+
+        int cells = 0;
+        for (int k = 0; k < size; k++) {
+            if (k == 0 || keys[order[k]] != keys[order[k - 1]]) {
+                cells++;
+            }
+        }
+        this.cellKeys = new long[cells];
+        this.cellStart = new int[cells + 1];
+        int c = 0;
+        for (int k = 0; k < size; k++) {
+            if (k == 0 || keys[order[k]] != keys[order[k - 1]]) {
+                cellKeys[c] = keys[order[k]];
+                cellStart[c] = k;
+                c++;
+            }
+        }
+        cellStart[cells] = size;
+    }
+
+    /**
+     * Calls the action with the index of every point within radius of (x, y, z),
+     * boundary included. Points are visited cell by cell, not in index order.
+     *
+     * @param x the x-coordinate of the query point
+     * @param y the y-coordinate of the query point
+     * @param z the z-coordinate of the query point
+     * @param radius the query radius; at most the cell size
+     * @param action receives each neighbour index
+     */
+    void forEachNeighbor(double x, double y, double z, double radius, IntConsumer action) {
+        double radiusSquared = radius * radius;
+        long cx = cell(x, minX);
+        long cy = cell(y, minY);
+        long cz = cell(z, minZ);
+        for (long ix = cx - 1; ix <= cx + 1; ix++) {
+            for (long iy = cy - 1; iy <= cy + 1; iy++) {
+                for (long iz = cz - 1; iz <= cz + 1; iz++) {
+                    if (ix < 0 || iy < 0 || iz < 0 || ix >= AXIS_LIMIT || iy >= AXIS_LIMIT || iz >= AXIS_LIMIT) {
+                        continue;
+                    }
+                    int c = Arrays.binarySearch(cellKeys, key(ix, iy, iz));
+                    if (c < 0) {
+                        continue;
+                    }
+                    for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                        int j = order[k];
+                        double dx = xyz[j * 3] - x;
+                        double dy = xyz[j * 3 + 1] - y;
+                        double dz = xyz[j * 3 + 2] - z;
+                        if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                            action.accept(j);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the points within radius of point i, including i itself.
+     *
+     * @param i the point index
+     * @param radius the query radius; at most the cell size
+     * @return the neighbour count
+     */
+    int countNeighbors(int i, double radius) {
+        int[] count = new int[1];
+        forEachNeighbor(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2], radius, j -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Returns the cell size.
+     *
+     * @return the cell edge length
+     */
+    double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the number of occupied cells.
+     *
+     * @return the cell count
+     */
+    int getCellCount() {
+        return cellKeys.length;
+    }
+
+    private long cell(double value, double min) {
+        return (long) Math.floor((value - min) / cellSize);
+    }
+
+    private static long key(long ix, long iy, long iz) {
+        return (ix << (2 * AXIS_BITS)) | (iy << AXIS_BITS) | iz;
+    }
+}
@@ -0,0 +1,163 @@
+package com.csc205.project1;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent, fixed-size histogram of non-negative long values, such as latencies in
+ * nanoseconds, with bounded relative error.
+ *
+ * Buckets follow the HDR histogram layout: values below 64 have one bucket each, and
+ * every further power of two is split into 32 equal sub-buckets. Any value up to
+ * Long.MAX_VALUE is recorded with a relative error of at most 1/32 (about 3%) in 1,888
+ * buckets. Recording is a single atomic increment, plus a CAS on a new maximum, so it
+ * can be called from many threads on hot paths.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. LOCK-FREE ACCUMULATOR:
+ *    - Bucket counts are AtomicLongArray slots; count and sum are LongAdders
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. LOG-LINEAR BUCKETING:
+ *    - The bucket index comes from the position of the highest set bit and the next
+ *      five bits, computed with Long.numberOfLeadingZeros in O(1)
+ *
+ * 2. PERCENTILES FROM CUMULATIVE COUNTS:
+ *    - O(buckets) scan; readers see a consistent-enough view without stopping writers
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one value.
+     *
+     * @param value the value; negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(bucketIndex(v));
+        count.increment();
+        sum.add(v);
+        long current = max.get();
+        while (v > current && !max.compareAndSet(current, v)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if none.
+     *
+     * @return the exact maximum
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if none.
+     *
+     * @return the exact mean
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns a value such that the given percentage of recorded values are at or below
+     * it, within the histogram's relative error.
+     *
+     * @param percentile the percentile, 0 to 100
+     * @return the highest value equivalent to the bucket holding that percentile, capped
+     *         at the maximum; 0 if nothing was recorded
+     * @throws IllegalArgumentException if percentile is outside 0..100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Returns a short summary of this histogram.
+     *
+     * @return a string showing count, mean, median, p99 and maximum
+     */
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram[count=%d, mean=%.1f, p50=%d, p99=%d, max=%d]",
+                             getCount(), getMean(), getValueAtPercentile(50), getValueAtPercentile(99), getMax());
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index - (long) shift * SUB_BUCKETS;
+        long upper = ((mantissa + 1) << shift) - 1;
+        // The last bucket's upper bound overflows
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
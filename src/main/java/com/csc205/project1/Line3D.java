@@ -245,8 +245,10 @@ public class Line3D {
      */
     public Point3D getDirection() {
         Point3D direction = end.translate(-start.getX(), -start.getY(), -start.getZ());
-        logger.log(Level.INFO, "Calculated direction vector: ({0}, {1}, {2})",
-                   new Object[]{direction.getX(), direction.getY(), direction.getZ()});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated direction vector: ({0}, {1}, {2})",
+                       new Object[]{direction.getX(), direction.getY(), direction.getZ()});
+        }
         return direction;
     }
     
@@ -338,8 +340,10 @@ public class Line3D {
         Point3D scaled = direction.scale(t, t, t);
         Point3D point = start.translate(scaled.getX(), scaled.getY(), scaled.getZ());
         
-        logger.log(Level.INFO, "Calculated point at parameter t={0}: ({1}, {2}, {3})",
-                   new Object[]{t, point.getX(), point.getY(), point.getZ()});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated point at parameter t={0}: ({1}, {2}, {3})",
+                       new Object[]{t, point.getX(), point.getY(), point.getZ()});
+        }
         
         return point;
     }
@@ -378,6 +382,7 @@ public class Line3D {
             logger.log(Level.SEVERE, "Cannot calculate distance to point: point is null");
             throw new NullPointerException("Point cannot be null");
         }
+        long metricsStart = GeometryMetrics.start();
         
         Point3D direction = getDirection();
         Point3D toPoint = point.translate(-start.getX(), -start.getY(), -start.getZ());
@@ -396,9 +401,42 @@ public class Line3D {
         logger.log(Level.INFO, "Calculated distance from point ({0}, {1}, {2}) to line: {3} (closest point at t={4})",
                    new Object[]{point.getX(), point.getY(), point.getZ(), distance, t});
         
+        GeometryMetrics.record(GeometryOperation.LINE_DISTANCE_TO_POINT, metricsStart);
         return distance;
     }
     
+    /**
+     * Calculates the shortest distance from a point given by raw coordinates to this
+     * line segment.
+     * 
+     * Same projection-and-clamp algorithm as distanceToPoint(Point3D), written as a
+     * primitive kernel for batch callers: it allocates nothing and does not log.
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * @param x the x-coordinate of the point
+     * @param y the y-coordinate of the point
+     * @param z the z-coordinate of the point
+     * @return the shortest distance from the point to the line segment
+     */
+    public double distanceToPoint(double x, double y, double z) {
+        double dirX = end.getX() - start.getX();
+        double dirY = end.getY() - start.getY();
+        double dirZ = end.getZ() - start.getZ();
+        double px = x - start.getX();
+        double py = y - start.getY();
+        double pz = z - start.getZ();
+        
+        double t = (px * dirX + py * dirY + pz * dirZ) / (dirX * dirX + dirY * dirY + dirZ * dirZ);
+        t = Math.max(0.0, Math.min(1.0, t));
+        
+        double ex = px - dirX * t;
+        double ey = py - dirY * t;
+        double ez = pz - dirZ * t;
+        return Math.sqrt(ex * ex + ey * ey + ez * ez);
+    }
+    
     /**
      * Finds the closest point on this line segment to a given point.
      * 
@@ -493,6 +531,8 @@ public class Line3D {
             logger.log(Level.SEVERE, "Cannot calculate shortest distance: other line is null");
             throw new NullPointerException("Other line cannot be null");
         }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
         
         Point3D d1 = this.getDirection();
         Point3D d2 = other.getDirection();
@@ -542,6 +582,95 @@ public class Line3D {
         logger.log(Level.INFO, "Calculated shortest distance between lines: {0} (at parameters s={1}, t={2})",
                    new Object[]{distance, s, t});
         
+        slowQuery.finish(GeometryOperation.LINE_SHORTEST_DISTANCE, this, other, 2);
+        GeometryMetrics.record(GeometryOperation.LINE_SHORTEST_DISTANCE, metricsStart);
+        return distance;
+    }
+    
+    /**
+     * Calculates the shortest distance between two line segments using the requested
+     * arithmetic mode.
+     * 
+     * FAST behaves exactly like shortestDistanceTo(other). COMPENSATED follows the
+     * same clamping steps but evaluates every dot product with FMA-based compensated
+     * arithmetic and computes the denominator as |d1 x d2|^2 from a compensated cross
+     * product instead of a*c - b*b. For nearly parallel segments a*c and b*b agree in
+     * almost every digit, so the naive denominator is dominated by rounding error and
+     * can even come out negative; the cross product form is always non-negative and
+     * accurate, which keeps the parallel test and the closest-point parameters stable.
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * @param other the other line segment
+     * @param mode the arithmetic mode
+     * @return the shortest distance between the two line segments
+     * @throws NullPointerException if other or mode is null
+     */
+    public double shortestDistanceTo(Line3D other, ArithmeticMode mode) {
+        if (mode == null) {
+            logger.log(Level.SEVERE, "Cannot calculate shortest distance: mode is null");
+            throw new NullPointerException("Arithmetic mode cannot be null");
+        }
+        if (mode == ArithmeticMode.FAST) {
+            return shortestDistanceTo(other);
+        }
+        if (other == null) {
+            logger.log(Level.SEVERE, "Cannot calculate shortest distance: other line is null");
+            throw new NullPointerException("Other line cannot be null");
+        }
+        
+        double d1x = this.end.getX() - this.start.getX();
+        double d1y = this.end.getY() - this.start.getY();
+        double d1z = this.end.getZ() - this.start.getZ();
+        double d2x = other.end.getX() - other.start.getX();
+        double d2y = other.end.getY() - other.start.getY();
+        double d2z = other.end.getZ() - other.start.getZ();
+        double wx = this.start.getX() - other.start.getX();
+        double wy = this.start.getY() - other.start.getY();
+        double wz = this.start.getZ() - other.start.getZ();
+        
+        double a = RobustArithmetic.dot(d1x, d1y, d1z, d1x, d1y, d1z);
+        double b = RobustArithmetic.dot(d1x, d1y, d1z, d2x, d2y, d2z);
+        double c = RobustArithmetic.dot(d2x, d2y, d2z, d2x, d2y, d2z);
+        double d = RobustArithmetic.dot(d1x, d1y, d1z, wx, wy, wz);
+        double e = RobustArithmetic.dot(d2x, d2y, d2z, wx, wy, wz);
+        
+        // a*c - b*b == |d1 x d2|^2 (Lagrange's identity), without the cancellation
+        double[] n = new double[3];
+        RobustArithmetic.cross(d1x, d1y, d1z, d2x, d2y, d2z, n);
+        double denominator = RobustArithmetic.dot(n[0], n[1], n[2], n[0], n[1], n[2]);
+        
+        double s, t;
+        
+        if (denominator < EPSILON) {
+            s = 0.0;
+            t = (b > c) ? (d / b) : (e / c);
+            t = Math.max(0.0, Math.min(1.0, t));
+        } else {
+            s = RobustArithmetic.differenceOfProducts(b, e, c, d) / denominator;
+            t = RobustArithmetic.differenceOfProducts(a, e, b, d) / denominator;
+            
+            s = Math.max(0.0, Math.min(1.0, s));
+            t = Math.max(0.0, Math.min(1.0, t));
+            
+            if (s <= EPSILON || s >= 1.0 - EPSILON) {
+                t = Math.max(0.0, Math.min(1.0, Math.fma(b, s, e) / c));
+            }
+            if (t <= EPSILON || t >= 1.0 - EPSILON) {
+                s = Math.max(0.0, Math.min(1.0, Math.fma(b, t, -d) / a));
+            }
+        }
+        
+        // Difference of the closest points: w + s*d1 - t*d2, one rounding per component
+        double px = RobustArithmetic.sum(wx, s * d1x, -t * d2x);
+        double py = RobustArithmetic.sum(wy, s * d1y, -t * d2y);
+        double pz = RobustArithmetic.sum(wz, s * d1z, -t * d2z);
+        double distance = RobustArithmetic.norm(px, py, pz);
+        
+        logger.log(Level.INFO, "Calculated compensated shortest distance between lines: {0} (at parameters s={1}, t={2})",
+                   new Object[]{distance, s, t});
+        
         return distance;
     }
     
@@ -813,6 +942,92 @@ public class Line3D {
         return new Line3D(end, start);
     }
     
+    /**
+     * Rotates both endpoints around the X-axis through the origin.
+     * 
+     * The sine and cosine are taken from the precomputed rotation, so rotating many
+     * lines by the same angle performs no trigonometry at all. Matches
+     * Point3D.rotateX for each endpoint.
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * Example usage:
+     * <pre>
+     * Rotation quarterTurn = Rotation.of(Math.PI / 2);
+     * Line3D rotated = line.rotateX(quarterTurn);
+     * </pre>
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Line3D with both endpoints rotated
+     * @throws NullPointerException if rotation is null
+     */
+    public Line3D rotateX(Rotation rotation) {
+        checkRotation(rotation);
+        return new Line3D(start.rotateX(rotation), end.rotateX(rotation));
+    }
+    
+    /**
+     * Rotates both endpoints around the Y-axis through the origin.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Line3D with both endpoints rotated
+     * @throws NullPointerException if rotation is null
+     */
+    public Line3D rotateY(Rotation rotation) {
+        checkRotation(rotation);
+        return new Line3D(start.rotateY(rotation), end.rotateY(rotation));
+    }
+    
+    /**
+     * Rotates both endpoints around the Z-axis through the origin.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Line3D with both endpoints rotated
+     * @throws NullPointerException if rotation is null
+     */
+    public Line3D rotateZ(Rotation rotation) {
+        checkRotation(rotation);
+        return new Line3D(start.rotateZ(rotation), end.rotateZ(rotation));
+    }
+    
+    /**
+     * Rotates both endpoints around the X-axis through the origin.
+     * 
+     * @param angleRadians the rotation angle in radians
+     * @return a new Line3D with both endpoints rotated
+     */
+    public Line3D rotateX(double angleRadians) {
+        return rotateX(Rotation.of(angleRadians));
+    }
+    
+    /**
+     * Rotates both endpoints around the Y-axis through the origin.
+     * 
+     * @param angleRadians the rotation angle in radians
+     * @return a new Line3D with both endpoints rotated
+     */
+    public Line3D rotateY(double angleRadians) {
+        return rotateY(Rotation.of(angleRadians));
+    }
+    
+    /**
+     * Rotates both endpoints around the Z-axis through the origin.
+     * 
+     * @param angleRadians the rotation angle in radians
+     * @return a new Line3D with both endpoints rotated
+     */
+    public Line3D rotateZ(double angleRadians) {
+        return rotateZ(Rotation.of(angleRadians));
+    }
+    
+    private static void checkRotation(Rotation rotation) {
+        if (rotation == null) {
+            logger.log(Level.SEVERE, "Cannot rotate line: rotation is null");
+            throw new NullPointerException("Rotation cannot be null");
+        }
+    }
+    
     // Getters
     
     /**
@@ -875,12 +1090,13 @@ public class Line3D {
      * Returns a string representation of this line.
      * 
      * Provides a human-readable representation showing the start and end points.
+     * Uses GeometryFormatter, so the length is not recomputed through length() and
+     * nothing is logged.
      * 
      * @return a string representation of this line
      */
     @Override
     public String toString() {
-        return String.format("Line3D[start=%s, end=%s, length=%.2f]", 
-                           start.toString(), end.toString(), length());
+        return GeometryFormatter.TWO_DIGITS.appendLine(new StringBuilder(112), this).toString();
     }
 }
\ No newline at end of file
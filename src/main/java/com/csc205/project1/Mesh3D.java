@@ -0,0 +1,630 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * An indexed triangle mesh with a bounding volume hierarchy for point distance, ray
+ * intersection and cube overlap queries.
+ *
+ * Vertices are kept in one interleaved double array, as in PointBuffer, and triangles
+ * as three vertex indices each in an int array, the same layout CubeMeshBuilder
+ * produces for rendering. Meshes are immutable: the constructor copies both buffers and
+ * builds the hierarchy once.
+ *
+ * The hierarchy is built top-down: each node's triangles are split at the median
+ * centroid along the longest axis of their centroid bounds, down to leaves of at most
+ * LEAF_SIZE triangles. The median split keeps the tree balanced, so its depth is
+ * O(log N). Nodes are stored in depth-first order in flat arrays, and the leaves
+ * reference triangles through a permutation array.
+ *
+ * - Point queries descend into the nearer child first and skip every node whose box is
+ *   farther than the best triangle found so far
+ * - Ray queries skip nodes whose box the ray enters after the nearest hit so far
+ * - Cube queries skip nodes whose box misses the cube's axis-aligned bounds and test the
+ *   remaining triangles exactly with the separating axis theorem
+ *
+ * Degenerate triangles are allowed in a mesh and take part in every query: distance
+ * queries measure to their edges, cube queries test their edges, and rays, having no
+ * area to hit, pass them. Only getTriangle() rejects them, since a Triangle3D must have
+ * an area.
+ *
+ * Example usage:
+ * <pre>
+ * Mesh3D mesh = new Mesh3D(vertices, indices);
+ * double clearance = mesh.distanceTo(probe);
+ * Mesh3D.RayHit hit = mesh.raycast(eye, direction);
+ * int[] touching = mesh.overlappingTriangles(region);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - Buffers are copied in and out, so a mesh can be shared between threads
+ *
+ * 2. PRIMITIVE KERNELS:
+ *    - Queries call the Triangle3D kernels on the shared vertex buffer instead of
+ *      creating Triangle3D objects
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. BOUNDING VOLUME HIERARCHY:
+ *    - O(N log N) construction with quickselect median splits, O(log N) typical queries
+ *
+ * 2. SLAB TEST:
+ *    - A ray enters a box at the largest of the three per-axis entry parameters and
+ *      leaves it at the smallest exit parameter
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Mesh3D {
+
+    private static final Logger logger = Logger.getLogger(Mesh3D.class.getName());
+
+    /** Largest number of triangles in a leaf of the hierarchy. */
+    static final int LEAF_SIZE = 4;
+
+    /**
+     * The nearest intersection of a ray with the mesh.
+     *
+     * @param triangle the index of the triangle hit
+     * @param t the ray parameter of the hit, origin + t·direction
+     * @param point the hit point
+     */
+    public record RayHit(int triangle, double t, Point3D point) {
+    }
+
+    private final double[] vertices;
+    private final int[] indices;
+    private final int vertexCount;
+    private final int triangleCount;
+
+    // Hierarchy in depth-first order: node k's left child is k + 1, its right child is skip[k + 1]
+    private final int[] order;
+    // minX, minY, minZ, maxX, maxY, maxZ for each node
+    private final double[] boxes;
+    private final int[] first;
+    private final int[] end;
+    private final int[] skip;
+    private int nodeCount;
+
+    /**
+     * Creates a mesh from a vertex buffer and a triangle index buffer.
+     *
+     * @param vertices the vertex positions
+     * @param indices three vertex indices per triangle
+     * @throws NullPointerException if vertices or indices is null
+     * @throws IllegalArgumentException if indices is empty, its length is not a multiple
+     *         of three, or an index is out of range
+     */
+    public Mesh3D(PointBuffer vertices, int[] indices) {
+        if (vertices == null || indices == null) {
+            logger.log(Level.SEVERE, "Cannot create Mesh3D: vertices or indices are null");
+            throw new NullPointerException("Vertices and indices cannot be null");
+        }
+        if (indices.length == 0 || indices.length % 3 != 0) {
+            logger.log(Level.SEVERE, "Cannot create Mesh3D: {0} indices do not form whole triangles", indices.length);
+            throw new IllegalArgumentException("Indices must hold three entries per triangle and at least one triangle");
+        }
+        int count = vertices.size();
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] < 0 || indices[i] >= count) {
+                logger.log(Level.SEVERE, "Cannot create Mesh3D: index {0} at position {1} is out of range",
+                           new Object[]{indices[i], i});
+                throw new IllegalArgumentException("Vertex index " + indices[i] + " out of range");
+            }
+        }
+        this.vertices = vertices.toArray();
+        this.indices = indices.clone();
+        this.vertexCount = count;
+        this.triangleCount = indices.length / 3;
+
+        this.order = new int[triangleCount];
+        for (int i = 0; i < triangleCount; i++) {
+            order[i] = i;
+        }
+        // Median splits leave at least two triangles per leaf, so there are at most n - 1 nodes
+        int capacity = Math.max(1, triangleCount - 1);
+        this.boxes = new double[6 * capacity];
+        this.first = new int[capacity];
+        this.end = new int[capacity];
+        this.skip = new int[capacity];
+        build(centroids(), 0, triangleCount);
+
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Created Mesh3D with {0} vertices, {1} triangles and {2} hierarchy nodes",
+                       new Object[]{vertexCount, triangleCount, nodeCount});
+        }
+    }
+
+    /**
+     * Creates the closed surface of a cube: its eight corners and twelve outward-facing
+     * triangles, wound like CubeMeshBuilder output.
+     *
+     * @param cube the cube
+     * @return the cube's surface mesh
+     * @throws NullPointerException if cube is null
+     */
+    public static Mesh3D fromCube(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot create Mesh3D: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        int[] indices = new int[3 * CubeMeshBuilder.TRIANGLES_PER_CUBE];
+        int w = 0;
+        for (int[] quad : CubeMeshBuilder.FACE_QUADS) {
+            indices[w++] = quad[0];
+            indices[w++] = quad[1];
+            indices[w++] = quad[2];
+            indices[w++] = quad[0];
+            indices[w++] = quad[2];
+            indices[w++] = quad[3];
+        }
+        return new Mesh3D(PointBuffer.of(cube.getVertices()), indices);
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the vertex count
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns the number of triangles.
+     *
+     * @return the triangle count
+     */
+    public int getTriangleCount() {
+        return triangleCount;
+    }
+
+    /**
+     * Returns a vertex.
+     *
+     * @param i the vertex index
+     * @return the vertex position
+     * @throws IndexOutOfBoundsException if i is out of range
+     */
+    public Point3D getVertex(int i) {
+        if (i < 0 || i >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index " + i + " out of range");
+        }
+        return new Point3D(vertices[3 * i], vertices[3 * i + 1], vertices[3 * i + 2]);
+    }
+
+    /**
+     * Returns a triangle as a Triangle3D.
+     *
+     * @param i the triangle index
+     * @return the triangle
+     * @throws IndexOutOfBoundsException if i is out of range
+     * @throws IllegalArgumentException if the triangle is degenerate
+     */
+    public Triangle3D getTriangle(int i) {
+        if (i < 0 || i >= triangleCount) {
+            throw new IndexOutOfBoundsException("Triangle index " + i + " out of range");
+        }
+        return new Triangle3D(getVertex(indices[3 * i]), getVertex(indices[3 * i + 1]), getVertex(indices[3 * i + 2]));
+    }
+
+    /**
+     * Returns a copy of the vertex buffer.
+     *
+     * @return the vertex positions
+     */
+    public PointBuffer getVertices() {
+        return PointBuffer.wrapCopy(vertices);
+    }
+
+    /**
+     * Returns a copy of the index buffer.
+     *
+     * @return three vertex indices per triangle
+     */
+    public int[] getIndices() {
+        return indices.clone();
+    }
+
+    /**
+     * Returns the total area of the triangles.
+     *
+     * @return the surface area
+     */
+    public double surfaceArea() {
+        double twice = 0;
+        for (int t = 0; t < triangleCount; t++) {
+            twice += Triangle3D.doubleArea(vertices, indices[3 * t], indices[3 * t + 1], indices[3 * t + 2]);
+        }
+        return twice / 2;
+    }
+
+    /**
+     * Returns the axis-aligned bounds of the mesh, in the same form as
+     * Cube3D.getAxisAlignedBoundingBox().
+     *
+     * @return the minimum and maximum corners
+     */
+    public Point3D[] getBounds() {
+        return new Point3D[]{new Point3D(boxes[0], boxes[1], boxes[2]), new Point3D(boxes[3], boxes[4], boxes[5])};
+    }
+
+    /**
+     * Returns the index of the triangle closest to a point.
+     *
+     * @param point the query point
+     * @return the triangle index; ties go to the triangle found first
+     * @throws NullPointerException if point is null
+     */
+    public int closestTriangle(Point3D point) {
+        return nearest(point).triangle;
+    }
+
+    /**
+     * Returns the point of the mesh surface closest to a given point.
+     *
+     * @param point the query point
+     * @return the closest surface point
+     * @throws NullPointerException if point is null
+     */
+    public Point3D closestPoint(Point3D point) {
+        Nearest nearest = nearest(point);
+        return new Point3D(nearest.x, nearest.y, nearest.z);
+    }
+
+    /**
+     * Returns the distance from a point to the mesh surface.
+     *
+     * @param point the query point
+     * @return the distance to the closest surface point
+     * @throws NullPointerException if point is null
+     */
+    public double distanceTo(Point3D point) {
+        return Math.sqrt(nearest(point).distanceSquared);
+    }
+
+    /**
+     * Finds the nearest intersection of a ray with the mesh, hitting triangles from either
+     * side.
+     *
+     * @param origin the ray origin
+     * @param direction the ray direction; need not be normalized
+     * @return the nearest hit, or null if the ray misses every triangle
+     * @throws NullPointerException if origin or direction is null
+     * @throws IllegalArgumentException if direction is the zero vector
+     */
+    public RayHit raycast(Point3D origin, Point3D direction) {
+        Triangle3D.requireRay(origin, direction);
+        Ray ray = new Ray(origin.getX(), origin.getY(), origin.getZ(),
+                          direction.getX(), direction.getY(), direction.getZ());
+        raycast(0, ray);
+        if (ray.triangle < 0) {
+            return null;
+        }
+        double t = ray.t;
+        return new RayHit(ray.triangle, t, new Point3D(ray.ox + t * ray.dx, ray.oy + t * ray.dy, ray.oz + t * ray.dz));
+    }
+
+    /**
+     * Tests whether any triangle overlaps a cube.
+     *
+     * @param cube the cube, with any orientation
+     * @return true if the surface and the solid cube share at least one point
+     * @throws NullPointerException if cube is null
+     */
+    public boolean intersects(Cube3D cube) {
+        return overlaps(cube, null) > 0;
+    }
+
+    /**
+     * Returns the triangles that overlap a cube.
+     *
+     * @param cube the cube, with any orientation
+     * @return the indices of the overlapping triangles in ascending order
+     * @throws NullPointerException if cube is null
+     */
+    public int[] overlappingTriangles(Cube3D cube) {
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        int[] found = new int[triangleCount];
+        int count = overlaps(cube, found);
+        int[] result = Arrays.copyOf(found, count);
+        Arrays.sort(result);
+
+        slowQuery.finish(GeometryOperation.MESH_CUBE_OVERLAP, cube, triangleCount);
+        GeometryMetrics.record(GeometryOperation.MESH_CUBE_OVERLAP, metricsStart, 4L * (triangleCount + count) + 32);
+        return result;
+    }
+
+    /**
+     * Returns a string representation of this mesh.
+     *
+     * @return the vertex and triangle counts
+     */
+    @Override
+    public String toString() {
+        return "Mesh3D[" + vertexCount + " vertices, " + triangleCount + " triangles]";
+    }
+
+    private double[] centroids() {
+        double[] centroids = new double[3 * triangleCount];
+        for (int t = 0; t < triangleCount; t++) {
+            for (int axis = 0; axis < 3; axis++) {
+                centroids[3 * t + axis] = (vertices[3 * indices[3 * t] + axis] + vertices[3 * indices[3 * t + 1] + axis]
+                                           + vertices[3 * indices[3 * t + 2] + axis]) / 3;
+            }
+        }
+        return centroids;
+    }
+
+    private void build(double[] centroids, int lo, int hi) {
+        int node = nodeCount++;
+        first[node] = lo;
+        end[node] = hi;
+        int o = 6 * node;
+        Arrays.fill(boxes, o, o + 3, Double.POSITIVE_INFINITY);
+        Arrays.fill(boxes, o + 3, o + 6, Double.NEGATIVE_INFINITY);
+        double[] centroidBounds = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                                   Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int i = lo; i < hi; i++) {
+            int t = order[i];
+            for (int corner = 0; corner < 3; corner++) {
+                int v = 3 * indices[3 * t + corner];
+                for (int axis = 0; axis < 3; axis++) {
+                    boxes[o + axis] = Math.min(boxes[o + axis], vertices[v + axis]);
+                    boxes[o + 3 + axis] = Math.max(boxes[o + 3 + axis], vertices[v + axis]);
+                }
+            }
+            for (int axis = 0; axis < 3; axis++) {
+                centroidBounds[axis] = Math.min(centroidBounds[axis], centroids[3 * t + axis]);
+                centroidBounds[3 + axis] = Math.max(centroidBounds[3 + axis], centroids[3 * t + axis]);
+            }
+        }
+        if (hi - lo > LEAF_SIZE) {
+            int axis = 0;
+            for (int a = 1; a < 3; a++) {
+                if (centroidBounds[3 + a] - centroidBounds[a] > centroidBounds[3 + axis] - centroidBounds[axis]) {
+                    axis = a;
+                }
+            }
+            int mid = (lo + hi) >>> 1;
+            select(centroids, axis, lo, hi - 1, mid);
+            build(centroids, lo, mid);
+            build(centroids, mid, hi);
+        }
+        skip[node] = nodeCount;
+    }
+
+    /** Quickselect: reorders order[lo..hi] so that position k holds the k-th centroid along axis. */
+    private void select(double[] centroids, int axis, int lo, int hi, int k) {
+        while (lo < hi) {
+            double pivot = centroids[3 * order[(lo + hi) >>> 1] + axis];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (centroids[3 * order[i] + axis] < pivot) {
+                    i++;
+                }
+                while (centroids[3 * order[j] + axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private boolean isLeaf(int node) {
+        return skip[node] == node + 1;
+    }
+
+    private double boxDistanceSquared(int node, double px, double py, double pz) {
+        int o = 6 * node;
+        double dx = Math.max(0, Math.max(boxes[o] - px, px - boxes[o + 3]));
+        double dy = Math.max(0, Math.max(boxes[o + 1] - py, py - boxes[o + 4]));
+        double dz = Math.max(0, Math.max(boxes[o + 2] - pz, pz - boxes[o + 5]));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private Nearest nearest(Point3D point) {
+        Triangle3D.requirePoint(point);
+        Nearest nearest = new Nearest(point.getX(), point.getY(), point.getZ());
+        nearest(0, nearest);
+        return nearest;
+    }
+
+    private void nearest(int node, Nearest best) {
+        if (isLeaf(node)) {
+            for (int i = first[node]; i < end[node]; i++) {
+                int t = order[i];
+                double d2 = Triangle3D.closestPoint(vertices, indices[3 * t], indices[3 * t + 1], indices[3 * t + 2],
+                                                    best.px, best.py, best.pz, best.scratch);
+                if (d2 < best.distanceSquared) {
+                    best.distanceSquared = d2;
+                    best.triangle = t;
+                    best.x = best.scratch[0];
+                    best.y = best.scratch[1];
+                    best.z = best.scratch[2];
+                }
+            }
+            return;
+        }
+        int left = node + 1;
+        int right = skip[left];
+        double dl = boxDistanceSquared(left, best.px, best.py, best.pz);
+        double dr = boxDistanceSquared(right, best.px, best.py, best.pz);
+        int near = dl <= dr ? left : right;
+        int far = dl <= dr ? right : left;
+        if (Math.min(dl, dr) < best.distanceSquared) {
+            nearest(near, best);
+        }
+        if (Math.max(dl, dr) < best.distanceSquared) {
+            nearest(far, best);
+        }
+    }
+
+    /** Returns the parameter at which the ray enters a node's box, or +∞ if it misses. */
+    private double entry(int node, Ray ray) {
+        int o = 6 * node;
+        double[] range = ray.range;
+        range[0] = 0;
+        range[1] = ray.t;
+        if (slab(boxes[o], boxes[o + 3], ray.ox, ray.dx, range)
+                && slab(boxes[o + 1], boxes[o + 4], ray.oy, ray.dy, range)
+                && slab(boxes[o + 2], boxes[o + 5], ray.oz, ray.dz, range)) {
+            return range[0];
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /** Narrows range[0..1] to the parameters where the ray lies between min and max on one axis. */
+    private static boolean slab(double min, double max, double origin, double direction, double[] range) {
+        if (direction == 0) {
+            return origin >= min && origin <= max;
+        }
+        double t0 = (min - origin) / direction;
+        double t1 = (max - origin) / direction;
+        range[0] = Math.max(range[0], Math.min(t0, t1));
+        range[1] = Math.min(range[1], Math.max(t0, t1));
+        return range[0] <= range[1];
+    }
+
+    private void raycast(int node, Ray ray) {
+        if (isLeaf(node)) {
+            for (int i = first[node]; i < end[node]; i++) {
+                int t = order[i];
+                double hit = Triangle3D.intersectRay(vertices, indices[3 * t], indices[3 * t + 1], indices[3 * t + 2],
+                                                     ray.ox, ray.oy, ray.oz, ray.dx, ray.dy, ray.dz);
+                if (hit < ray.t) {
+                    ray.t = hit;
+                    ray.triangle = t;
+                }
+            }
+            return;
+        }
+        if (node == 0 && entry(0, ray) == Double.POSITIVE_INFINITY) {
+            return;
+        }
+        int left = node + 1;
+        int right = skip[left];
+        double tl = entry(left, ray);
+        double tr = entry(right, ray);
+        int near = tl <= tr ? left : right;
+        int far = tl <= tr ? right : left;
+        if (Math.min(tl, tr) <= ray.t) {
+            raycast(near, ray);
+        }
+        if (Math.max(tl, tr) <= ray.t) {
+            raycast(far, ray);
+        }
+    }
+
+    /**
+     * Collects the triangles overlapping a cube into found, or stops at the first one when
+     * found is null; returns the number found.
+     */
+    private int overlaps(Cube3D cube, int[] found) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot test mesh overlap: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        Point3D[] bounds = cube.getAxisAlignedBoundingBox();
+        double[] cubeBox = {bounds[0].getX(), bounds[0].getY(), bounds[0].getZ(),
+                            bounds[1].getX(), bounds[1].getY(), bounds[1].getZ()};
+        double[] m = cube.orientationMatrix();
+        Point3D center = cube.getCenter();
+        double half = cube.getSideLength() / 2;
+        double[] scratch = new double[Triangle3D.OVERLAP_SCRATCH];
+
+        int count = 0;
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int o = 6 * node;
+            if (boxes[o] > cubeBox[3] || boxes[o + 3] < cubeBox[0]
+                    || boxes[o + 1] > cubeBox[4] || boxes[o + 4] < cubeBox[1]
+                    || boxes[o + 2] > cubeBox[5] || boxes[o + 5] < cubeBox[2]) {
+                continue;
+            }
+            if (isLeaf(node)) {
+                for (int i = first[node]; i < end[node]; i++) {
+                    int t = order[i];
+                    if (Triangle3D.overlapsCube(vertices, indices[3 * t], indices[3 * t + 1], indices[3 * t + 2], m,
+                                                center.getX(), center.getY(), center.getZ(), half, scratch)) {
+                        if (found == null) {
+                            return 1;
+                        }
+                        found[count++] = t;
+                    }
+                }
+                continue;
+            }
+            if (top + 2 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = skip[node + 1];
+            stack[top++] = node + 1;
+        }
+        return count;
+    }
+
+    /** State of a nearest-triangle search. */
+    private static final class Nearest {
+        final double px;
+        final double py;
+        final double pz;
+        final double[] scratch = new double[3];
+        int triangle = -1;
+        double distanceSquared = Double.POSITIVE_INFINITY;
+        double x;
+        double y;
+        double z;
+
+        Nearest(double px, double py, double pz) {
+            this.px = px;
+            this.py = py;
+            this.pz = pz;
+        }
+    }
+
+    /** State of a ray query: the ray and the nearest hit so far. */
+    private static final class Ray {
+        final double ox;
+        final double oy;
+        final double oz;
+        final double dx;
+        final double dy;
+        final double dz;
+        final double[] range = new double[2];
+        int triangle = -1;
+        double t = Double.POSITIVE_INFINITY;
+
+        Ray(double ox, double oy, double oz, double dx, double dy, double dz) {
+            this.ox = ox;
+            this.oy = oy;
+            this.oz = oz;
+            this.dx = dx;
+            this.dy = dy;
+            this.dz = dz;
+        }
+    }
+}
@@ -0,0 +1,878 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A bit-packed 3D occupancy grid, with a parallel voxelizer for Cube3D scenes.
+ *
+ * The grid covers nx x ny x nz cubic voxels of edge voxelSize whose minimum corner is
+ * origin. Voxel (i, j, k) is occupied when its center lies inside a cube, using exactly
+ * the Cube3D.containsPoint test, so a path planner can replace repeated containment
+ * calls over all scene cubes by a single O(1) bit lookup.
+ *
+ * Three storage layouts share one API:
+ * - dense: one bit per voxel in a long[]; each x-row starts on a word boundary so rows
+ *   can be written concurrently
+ * - sparse: 64 x 16 x 16 voxel chunks allocated on first write in a concurrent map, for
+ *   huge, mostly empty worlds
+ * - compressed: read-only run-length encoding of each non-empty x-row, produced by
+ *   compress(), typically far smaller than either bit layout for solid scenes
+ *
+ * rasterize() fills the grid with many, possibly rotated cubes. It works slab by slab
+ * along z in parallel. Within a slab, each x-row crossing a cube is clipped against the
+ * cube's three slab pairs in the cube's local frame, giving the covered interval
+ * directly; the interval's end voxels are then checked with containsPoint so the
+ * result agrees with the per-voxel test, and the interval is written as whole words.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. STRATEGY PATTERN:
+ *    - Dense, sparse and run-length storage implement one private Storage interface
+ *
+ * 2. STATIC FACTORY METHODS:
+ *    - dense(), sparse() and voxelize() name the layout being created
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. BITSETS:
+ *    - 64 voxels per long; filling an interval sets whole words with masks
+ *
+ * 2. SCANLINE RASTERIZATION OF CONVEX SOLIDS:
+ *    - A row intersects a convex cube in one interval, computed in O(1)
+ *
+ * 3. RUN-LENGTH ENCODING:
+ *    - Each non-empty row is stored as the sorted x positions where occupancy toggles; a
+ *      lookup is a binary search for the row, then over that row's toggles
+ *
+ * countOccupied() and compress() only visit stored words, so on a sparse grid they cost
+ * time proportional to the allocated chunks, not to the volume of the grid.
+ *
+ * Note: set() and rasterize() must not run concurrently with each other on the same grid.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class OccupancyGrid {
+
+    private static final Logger logger = Logger.getLogger(OccupancyGrid.class.getName());
+
+    // Same containment tolerance as Cube3D
+    private static final double EPSILON = 1e-10;
+
+    /** Largest y or z dimension of a sparse grid. */
+    public static final int MAX_SPARSE_YZ = 1 << 25;
+
+    /** Largest x dimension of a sparse grid. */
+    public static final int MAX_SPARSE_X = 1 << 27;
+
+    /** Row-wise access to one storage layout; rows are identified by (j, k). */
+    private interface Storage {
+        boolean get(int i, int j, int k);
+
+        void set(int i, int j, int k, boolean occupied);
+
+        /** Sets voxels i0..i1 (inclusive) of row (j, k). Rows may be written concurrently. */
+        void fillRow(int j, int k, int i0, int i1);
+
+        /**
+         * Visits every non-zero word in increasing order of row k * ny + j, then of word
+         * index w within the row. Words that are not visited are zero.
+         */
+        void forEachWord(WordVisitor visitor);
+
+        long countOccupied();
+
+        long storageBytes();
+    }
+
+    /** Receives bits 64*w .. 64*w+63 of the row with index k * ny + j. */
+    private interface WordVisitor {
+        void visit(long row, int w, long word);
+    }
+
+    private final double originX;
+    private final double originY;
+    private final double originZ;
+    private final double voxelSize;
+    private final int nx;
+    private final int ny;
+    private final int nz;
+    private final Storage storage;
+
+    private OccupancyGrid(double originX, double originY, double originZ, double voxelSize,
+                          int nx, int ny, int nz, Storage storage) {
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.voxelSize = voxelSize;
+        this.nx = nx;
+        this.ny = ny;
+        this.nz = nz;
+        this.storage = storage;
+    }
+
+    /**
+     * Creates an empty grid storing one bit per voxel.
+     *
+     * @param origin the minimum corner of the grid
+     * @param voxelSize the voxel edge length
+     * @param nx the number of voxels along x
+     * @param ny the number of voxels along y
+     * @param nz the number of voxels along z
+     * @return the grid
+     * @throws NullPointerException if origin is null
+     * @throws IllegalArgumentException if a dimension or voxelSize is not positive, or
+     *         the grid needs more than 2^31 words
+     */
+    public static OccupancyGrid dense(Point3D origin, double voxelSize, int nx, int ny, int nz) {
+        checkLayout(origin, voxelSize, nx, ny, nz);
+        long words = (long) ((nx + 63) >>> 6) * ny * nz;
+        if (words > Integer.MAX_VALUE - 8) {
+            logger.log(Level.SEVERE, "Dense grid {0}x{1}x{2} is too large", new Object[]{nx, ny, nz});
+            throw new IllegalArgumentException("Grid too large for dense storage; use sparse()");
+        }
+        return new OccupancyGrid(origin.getX(), origin.getY(), origin.getZ(), voxelSize, nx, ny, nz,
+                                 new DenseStorage(nx, ny, nz));
+    }
+
+    /**
+     * Creates an empty grid that allocates 64 x 16 x 16 voxel chunks only where voxels
+     * are set.
+     *
+     * @param origin the minimum corner of the grid
+     * @param voxelSize the voxel edge length
+     * @param nx the number of voxels along x, at most MAX_SPARSE_X
+     * @param ny the number of voxels along y, at most MAX_SPARSE_YZ
+     * @param nz the number of voxels along z, at most MAX_SPARSE_YZ
+     * @return the grid
+     * @throws NullPointerException if origin is null
+     * @throws IllegalArgumentException if a dimension or voxelSize is out of range
+     */
+    public static OccupancyGrid sparse(Point3D origin, double voxelSize, int nx, int ny, int nz) {
+        checkLayout(origin, voxelSize, nx, ny, nz);
+        if (nx > MAX_SPARSE_X || ny > MAX_SPARSE_YZ || nz > MAX_SPARSE_YZ) {
+            logger.log(Level.SEVERE, "Sparse grid {0}x{1}x{2} is too large", new Object[]{nx, ny, nz});
+            throw new IllegalArgumentException("Grid dimensions exceed sparse storage limits");
+        }
+        return new OccupancyGrid(origin.getX(), origin.getY(), origin.getZ(), voxelSize, nx, ny, nz,
+                                 new SparseStorage(ny));
+    }
+
+    /**
+     * Creates a dense grid just covering the given cubes and rasterizes them into it.
+     *
+     * Example usage:
+     * <pre>
+     * OccupancyGrid grid = OccupancyGrid.voxelize(obstacles, 0.1);
+     * boolean blocked = grid.isOccupied(x, y, z);
+     * </pre>
+     *
+     * @param cubes the cubes to voxelize
+     * @param voxelSize the voxel edge length
+     * @return the filled grid
+     * @throws NullPointerException if cubes or any cube is null
+     * @throws IllegalArgumentException if cubes is empty, voxelSize is not positive or
+     *         the grid would be too large for dense storage
+     */
+    public static OccupancyGrid voxelize(List<Cube3D> cubes, double voxelSize) {
+        if (hasNull(cubes)) {
+            logger.log(Level.SEVERE, "Cannot voxelize: cube list or a cube is null");
+            throw new NullPointerException("Cubes cannot be null");
+        }
+        if (cubes.isEmpty()) {
+            logger.log(Level.SEVERE, "Cannot voxelize an empty cube list");
+            throw new IllegalArgumentException("At least one cube is required");
+        }
+        double[] lo = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY};
+        double[] hi = {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (Cube3D cube : cubes) {
+            double[] box = worldBox(cube);
+            for (int axis = 0; axis < 3; axis++) {
+                lo[axis] = Math.min(lo[axis], box[axis]);
+                hi[axis] = Math.max(hi[axis], box[3 + axis]);
+            }
+        }
+        int[] n = new int[3];
+        for (int axis = 0; axis < 3; axis++) {
+            n[axis] = (int) Math.max(1, Math.ceil((hi[axis] - lo[axis]) / voxelSize));
+        }
+        OccupancyGrid grid = dense(new Point3D(lo[0], lo[1], lo[2]), voxelSize, n[0], n[1], n[2]);
+        grid.rasterize(cubes);
+        return grid;
+    }
+
+    /**
+     * Marks every voxel whose center lies inside any of the cubes as occupied.
+     *
+     * Voxels already occupied stay occupied. Slabs of constant z are processed in
+     * parallel.
+     *
+     * Time Complexity: O(rows crossed per cube + voxels set / 64), divided among workers
+     *
+     * @param cubes the cubes to rasterize
+     * @throws NullPointerException if cubes or any cube is null
+     * @throws UnsupportedOperationException if this grid is compressed
+     */
+    public void rasterize(List<Cube3D> cubes) {
+        if (hasNull(cubes)) {
+            logger.log(Level.SEVERE, "Cannot rasterize: cube list or a cube is null");
+            throw new NullPointerException("Cubes cannot be null");
+        }
+        checkWritable();
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        // Voxel-index ranges of each cube's world bounding box, clamped to the grid
+        List<int[]> ranges = new ArrayList<>(cubes.size());
+        List<Cube3D> visible = new ArrayList<>(cubes.size());
+        for (Cube3D cube : cubes) {
+            double[] box = worldBox(cube);
+            int[] range = {
+                Math.max(0, firstCenterAtOrAbove(box[1], originY)), Math.min(ny - 1, lastCenterAtOrBelow(box[4], originY)),
+                Math.max(0, firstCenterAtOrAbove(box[2], originZ)), Math.min(nz - 1, lastCenterAtOrBelow(box[5], originZ))
+            };
+            if (range[0] <= range[1] && range[2] <= range[3]) {
+                ranges.add(range);
+                visible.add(cube);
+            }
+        }
+
+        IntStream.range(0, nz).parallel().forEach(k -> {
+            double z = originZ + (k + 0.5) * voxelSize;
+            for (int c = 0; c < visible.size(); c++) {
+                int[] range = ranges.get(c);
+                if (k < range[2] || k > range[3]) {
+                    continue;
+                }
+                Cube3D cube = visible.get(c);
+                for (int j = range[0]; j <= range[1]; j++) {
+                    rasterizeRow(cube, j, k, originY + (j + 0.5) * voxelSize, z);
+                }
+            }
+        });
+        logger.log(Level.INFO, "Rasterized {0} cubes into {1}x{2}x{3} occupancy grid",
+                   new Object[]{cubes.size(), nx, ny, nz});
+        slowQuery.finish(GeometryOperation.VOXELIZE, this, cubes.size());
+        GeometryMetrics.record(GeometryOperation.VOXELIZE, metricsStart, 72L * cubes.size());
+    }
+
+    /** Fills the voxels of row (j, k) whose centers are inside the cube. */
+    private void rasterizeRow(Cube3D cube, int j, int k, double y, double z) {
+        double[] m = cube.orientationMatrix();
+        Point3D center = cube.getCenter();
+        double limit = cube.getSideLength() / 2 + EPSILON;
+        double dy = y - center.getY();
+        double dz = z - center.getZ();
+
+        // Local coordinate a along the row is m[a] * (x - cx) + c_a; keep |.| <= limit
+        double xLow = Double.NEGATIVE_INFINITY;
+        double xHigh = Double.POSITIVE_INFINITY;
+        for (int a = 0; a < 3; a++) {
+            double slope = m[a];
+            double offset = m[3 + a] * dy + m[6 + a] * dz;
+            if (Math.abs(slope) < 1e-15) {
+                if (Math.abs(offset) > limit) {
+                    return;
+                }
+                continue;
+            }
+            double t1 = (-limit - offset) / slope;
+            double t2 = (limit - offset) / slope;
+            xLow = Math.max(xLow, Math.min(t1, t2));
+            xHigh = Math.min(xHigh, Math.max(t1, t2));
+        }
+        if (xLow > xHigh) {
+            return;
+        }
+
+        int i0 = Math.max(0, firstCenterAtOrAbove(center.getX() + xLow, originX) - 1);
+        int i1 = Math.min(nx - 1, lastCenterAtOrBelow(center.getX() + xHigh, originX) + 1);
+        // Snap the ends to the exact containsPoint decision
+        while (i0 <= i1 && !cube.containsPoint(originX + (i0 + 0.5) * voxelSize, y, z)) {
+            i0++;
+        }
+        while (i1 >= i0 && !cube.containsPoint(originX + (i1 + 0.5) * voxelSize, y, z)) {
+            i1--;
+        }
+        if (i0 <= i1) {
+            storage.fillRow(j, k, i0, i1);
+        }
+    }
+
+    /**
+     * Returns whether a voxel is occupied.
+     *
+     * Time Complexity: O(1) for dense and sparse grids, O(log runs) for compressed grids
+     *
+     * @param i the voxel index along x
+     * @param j the voxel index along y
+     * @param k the voxel index along z
+     * @return true if the voxel is occupied
+     * @throws IndexOutOfBoundsException if the index is outside the grid
+     */
+    public boolean isOccupied(int i, int j, int k) {
+        checkIndex(i, j, k);
+        return storage.get(i, j, k);
+    }
+
+    /**
+     * Returns whether the voxel containing a world position is occupied.
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @return true if the position falls in an occupied voxel; false outside the grid
+     */
+    public boolean isOccupied(double x, double y, double z) {
+        double fx = Math.floor((x - originX) / voxelSize);
+        double fy = Math.floor((y - originY) / voxelSize);
+        double fz = Math.floor((z - originZ) / voxelSize);
+        if (!(fx >= 0 && fy >= 0 && fz >= 0 && fx < nx && fy < ny && fz < nz)) {
+            return false;
+        }
+        return storage.get((int) fx, (int) fy, (int) fz);
+    }
+
+    /**
+     * Sets or clears one voxel.
+     *
+     * @param i the voxel index along x
+     * @param j the voxel index along y
+     * @param k the voxel index along z
+     * @param occupied the new state
+     * @throws IndexOutOfBoundsException if the index is outside the grid
+     * @throws UnsupportedOperationException if this grid is compressed
+     */
+    public void set(int i, int j, int k, boolean occupied) {
+        checkIndex(i, j, k);
+        checkWritable();
+        storage.set(i, j, k, occupied);
+    }
+
+    /**
+     * Returns the world-space center of a voxel.
+     *
+     * @param i the voxel index along x
+     * @param j the voxel index along y
+     * @param k the voxel index along z
+     * @return the center point
+     * @throws IndexOutOfBoundsException if the index is outside the grid
+     */
+    public Point3D voxelCenter(int i, int j, int k) {
+        checkIndex(i, j, k);
+        return new Point3D(originX + (i + 0.5) * voxelSize, originY + (j + 0.5) * voxelSize,
+                           originZ + (k + 0.5) * voxelSize);
+    }
+
+    /**
+     * Counts the occupied voxels.
+     *
+     * Time Complexity: O(words) for dense grids, O(allocated chunks) for sparse grids,
+     * O(runs) for compressed grids
+     *
+     * @return the number of occupied voxels
+     */
+    public long countOccupied() {
+        return storage.countOccupied();
+    }
+
+    /**
+     * Returns a read-only copy of this grid stored as run-length encoded rows. Only rows
+     * holding at least one occupied voxel are indexed, so compressing a huge sparse grid
+     * costs time and memory proportional to its allocated chunks.
+     *
+     * @return the compressed grid
+     */
+    public OccupancyGrid compress() {
+        RunLengthStorage compressed = new RunLengthStorage(storage, nx, ny);
+        logger.log(Level.INFO, "Compressed occupancy grid from {0} to {1} bytes",
+                   new Object[]{storage.storageBytes(), compressed.storageBytes()});
+        return new OccupancyGrid(originX, originY, originZ, voxelSize, nx, ny, nz, compressed);
+    }
+
+    /**
+     * Returns true if this grid is a read-only run-length encoded copy.
+     *
+     * @return true for compressed grids
+     */
+    public boolean isCompressed() {
+        return storage instanceof RunLengthStorage;
+    }
+
+    /**
+     * Returns true if this grid allocates storage in chunks on demand.
+     *
+     * @return true for sparse grids
+     */
+    public boolean isSparse() {
+        return storage instanceof SparseStorage;
+    }
+
+    /**
+     * Returns the approximate number of bytes used by the voxel data.
+     *
+     * @return the storage size in bytes
+     */
+    public long getStorageBytes() {
+        return storage.storageBytes();
+    }
+
+    /**
+     * Returns the minimum corner of the grid.
+     *
+     * @return the origin
+     */
+    public Point3D getOrigin() {
+        return new Point3D(originX, originY, originZ);
+    }
+
+    /**
+     * Returns the voxel edge length.
+     *
+     * @return the voxel size
+     */
+    public double getVoxelSize() {
+        return voxelSize;
+    }
+
+    /**
+     * Returns the number of voxels along x.
+     *
+     * @return nx
+     */
+    public int getSizeX() {
+        return nx;
+    }
+
+    /**
+     * Returns the number of voxels along y.
+     *
+     * @return ny
+     */
+    public int getSizeY() {
+        return ny;
+    }
+
+    /**
+     * Returns the number of voxels along z.
+     *
+     * @return nz
+     */
+    public int getSizeZ() {
+        return nz;
+    }
+
+    /**
+     * Returns a short description of this grid.
+     *
+     * @return a string showing dimensions, voxel size and layout
+     */
+    @Override
+    public String toString() {
+        String layout = isCompressed() ? "compressed" : isSparse() ? "sparse" : "dense";
+        return "OccupancyGrid[" + nx + "x" + ny + "x" + nz + ", voxelSize=" + voxelSize + ", " + layout + "]";
+    }
+
+    /** Index of the first voxel whose center is >= value (may be out of range). */
+    private int firstCenterAtOrAbove(double value, double origin) {
+        return (int) Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2,
+                              Math.ceil((value - origin) / voxelSize - 0.5)));
+    }
+
+    /** Index of the last voxel whose center is <= value (may be out of range). */
+    private int lastCenterAtOrBelow(double value, double origin) {
+        return (int) Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2,
+                              Math.floor((value - origin) / voxelSize - 0.5)));
+    }
+
+    /** World-space bounding box [minX, minY, minZ, maxX, maxY, maxZ] of a cube, padded by EPSILON. */
+    private static double[] worldBox(Cube3D cube) {
+        double[] m = cube.orientationMatrix();
+        double half = cube.getSideLength() / 2 + EPSILON;
+        Point3D c = cube.getCenter();
+        double ex = half * (Math.abs(m[0]) + Math.abs(m[1]) + Math.abs(m[2]));
+        double ey = half * (Math.abs(m[3]) + Math.abs(m[4]) + Math.abs(m[5]));
+        double ez = half * (Math.abs(m[6]) + Math.abs(m[7]) + Math.abs(m[8]));
+        return new double[]{c.getX() - ex, c.getY() - ey, c.getZ() - ez, c.getX() + ex, c.getY() + ey, c.getZ() + ez};
+    }
+
+    private static boolean hasNull(List<Cube3D> cubes) {
+        if (cubes == null) {
+            return true;
+        }
+        for (Cube3D cube : cubes) {
+            if (cube == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void checkIndex(int i, int j, int k) {
+        if (i < 0 || j < 0 || k < 0 || i >= nx || j >= ny || k >= nz) {
+            throw new IndexOutOfBoundsException("Voxel (" + i + ", " + j + ", " + k + ") outside "
+                                                + nx + "x" + ny + "x" + nz + " grid");
+        }
+    }
+
+    private void checkWritable() {
+        if (isCompressed()) {
+            logger.log(Level.SEVERE, "Cannot modify a compressed occupancy grid");
+            throw new UnsupportedOperationException("Compressed grids are read-only");
+        }
+    }
+
+    private static void checkLayout(Point3D origin, double voxelSize, int nx, int ny, int nz) {
+        if (origin == null) {
+            logger.log(Level.SEVERE, "Cannot create occupancy grid: origin is null");
+            throw new NullPointerException("Origin cannot be null");
+        }
+        if (!(voxelSize > 0) || Double.isInfinite(voxelSize) || nx <= 0 || ny <= 0 || nz <= 0) {
+            logger.log(Level.SEVERE, "Invalid occupancy grid layout: voxel size {0}, dimensions {1}x{2}x{3}",
+                       new Object[]{voxelSize, nx, ny, nz});
+            throw new IllegalArgumentException("Voxel size and dimensions must be positive");
+        }
+    }
+
+    /** Sets bits from..to (inclusive, 0..63) of a word value. */
+    private static long rangeMask(int from, int to) {
+        return (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    /** One bit per voxel; row (j, k) occupies wordsPerRow consecutive words. */
+    private static final class DenseStorage implements Storage {
+        private final int wordsPerRow;
+        private final int ny;
+        private final long[] words;
+
+        DenseStorage(int nx, int ny, int nz) {
+            this.wordsPerRow = (nx + 63) >>> 6;
+            this.ny = ny;
+            this.words = new long[wordsPerRow * ny * nz];
+        }
+
+        private int rowBase(int j, int k) {
+            return (k * ny + j) * wordsPerRow;
+        }
+
+        @Override
+        public boolean get(int i, int j, int k) {
+            return (words[rowBase(j, k) + (i >>> 6)] & (1L << i)) != 0;
+        }
+
+        @Override
+        public void set(int i, int j, int k, boolean occupied) {
+            int w = rowBase(j, k) + (i >>> 6);
+            words[w] = occupied ? words[w] | (1L << i) : words[w] & ~(1L << i);
+        }
+
+        @Override
+        public void fillRow(int j, int k, int i0, int i1) {
+            fillWords(words, rowBase(j, k), i0, i1);
+        }
+
+        @Override
+        public void forEachWord(WordVisitor visitor) {
+            for (int w = 0; w < words.length; w++) {
+                if (words[w] != 0) {
+                    visitor.visit(w / wordsPerRow, w % wordsPerRow, words[w]);
+                }
+            }
+        }
+
+        @Override
+        public long countOccupied() {
+            long count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        @Override
+        public long storageBytes() {
+            return 8L * words.length;
+        }
+    }
+
+    /** Sets bits i0..i1 of the row whose first word is at base. */
+    private static void fillWords(long[] words, int base, int i0, int i1) {
+        int w0 = i0 >>> 6;
+        int w1 = i1 >>> 6;
+        if (w0 == w1) {
+            words[base + w0] |= rangeMask(i0 & 63, i1 & 63);
+            return;
+        }
+        words[base + w0] |= rangeMask(i0 & 63, 63);
+        for (int w = w0 + 1; w < w1; w++) {
+            words[base + w] = -1L;
+        }
+        words[base + w1] |= rangeMask(0, i1 & 63);
+    }
+
+    /**
+     * Chunks of 64 x 16 x 16 voxels; each (y, z) row of a chunk is one long, so a chunk is
+     * 256 words and rows of different slabs never share a word.
+     */
+    private static final class SparseStorage implements Storage {
+        private static final int CHUNK_Y_BITS = 4;
+        private static final int CHUNK_Z_BITS = 4;
+        private static final int CHUNK_WORDS = 1 << (CHUNK_Y_BITS + CHUNK_Z_BITS);
+        private static final long KEY_MASK = (1L << 21) - 1;
+
+        private final int ny;
+        private final ConcurrentHashMap<Long, long[]> chunks = new ConcurrentHashMap<>();
+
+        SparseStorage(int ny) {
+            this.ny = ny;
+        }
+
+        private static long chunkKey(int cx, int j, int k) {
+            return ((long) cx << 42) | ((long) (j >>> CHUNK_Y_BITS) << 21) | (k >>> CHUNK_Z_BITS);
+        }
+
+        private static int wordIndex(int j, int k) {
+            return ((k & ((1 << CHUNK_Z_BITS) - 1)) << CHUNK_Y_BITS) | (j & ((1 << CHUNK_Y_BITS) - 1));
+        }
+
+        private long[] chunk(int cx, int j, int k, boolean create) {
+            long key = chunkKey(cx, j, k);
+            return create ? chunks.computeIfAbsent(key, unused -> new long[CHUNK_WORDS]) : chunks.get(key);
+        }
+
+        @Override
+        public boolean get(int i, int j, int k) {
+            long[] chunk = chunk(i >>> 6, j, k, false);
+            return chunk != null && (chunk[wordIndex(j, k)] & (1L << i)) != 0;
+        }
+
+        @Override
+        public void set(int i, int j, int k, boolean occupied) {
+            long[] chunk = chunk(i >>> 6, j, k, occupied);
+            if (chunk != null) {
+                int w = wordIndex(j, k);
+                chunk[w] = occupied ? chunk[w] | (1L << i) : chunk[w] & ~(1L << i);
+            }
+        }
+
+        @Override
+        public void fillRow(int j, int k, int i0, int i1) {
+            int w = wordIndex(j, k);
+            for (int cx = i0 >>> 6; cx <= i1 >>> 6; cx++) {
+                int from = Math.max(i0, cx << 6) & 63;
+                int to = Math.min(i1, (cx << 6) + 63) & 63;
+                long[] chunk = chunk(cx, j, k, true);
+                chunk[w] |= rangeMask(from, to);
+            }
+        }
+
+        @Override
+        public void forEachWord(WordVisitor visitor) {
+            // Reorder chunk keys to (z chunk, y chunk, x chunk) so sorting groups the chunks
+            // of each 16 x 16 block of rows, in x order
+            long[] keys = chunks.keySet().stream()
+                    .mapToLong(key -> ((key & KEY_MASK) << 42) | (((key >>> 21) & KEY_MASK) << 21) | (key >>> 42))
+                    .sorted().toArray();
+            int first = 0;
+            while (first < keys.length) {
+                // Chunks [first, last) share one z chunk
+                long kc = keys[first] >>> 42;
+                int last = first;
+                while (last < keys.length && keys[last] >>> 42 == kc) {
+                    last++;
+                }
+                for (int dk = 0; dk < (1 << CHUNK_Z_BITS); dk++) {
+                    int k = (int) (kc << CHUNK_Z_BITS) + dk;
+                    int group = first;
+                    while (group < last) {
+                        // Chunks [group, groupEnd) also share one y chunk and ascend in x
+                        long jc = (keys[group] >>> 21) & KEY_MASK;
+                        int groupEnd = group;
+                        while (groupEnd < last && ((keys[groupEnd] >>> 21) & KEY_MASK) == jc) {
+                            groupEnd++;
+                        }
+                        for (int dj = 0; dj < (1 << CHUNK_Y_BITS); dj++) {
+                            int j = (int) (jc << CHUNK_Y_BITS) + dj;
+                            long row = (long) k * ny + j;
+                            for (int c = group; c < groupEnd; c++) {
+                                long cx = keys[c] & KEY_MASK;
+                                long word = chunks.get(cx << 42 | jc << 21 | kc)[wordIndex(j, k)];
+                                if (word != 0) {
+                                    visitor.visit(row, (int) cx, word);
+                                }
+                            }
+                        }
+                        group = groupEnd;
+                    }
+                }
+                first = last;
+            }
+        }
+
+        @Override
+        public long countOccupied() {
+            long count = 0;
+            for (long[] chunk : chunks.values()) {
+                for (long word : chunk) {
+                    count += Long.bitCount(word);
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public long storageBytes() {
+            return (long) chunks.size() * (8L * CHUNK_WORDS + 64);
+        }
+    }
+
+    /**
+     * Per non-empty row, the sorted x positions where occupancy toggles; read-only. Rows
+     * are found by binary search over their indices k * ny + j, so empty rows cost nothing.
+     */
+    private static final class RunLengthStorage implements Storage {
+        private final int ny;
+        private final int nx;
+        private final long[] rows;
+        private final int[] rowStart;
+        private final int[] toggles;
+
+        RunLengthStorage(Storage source, int nx, int ny) {
+            this.ny = ny;
+            this.nx = nx;
+            Builder builder = new Builder();
+            source.forEachWord(builder);
+            builder.closeRow();
+            this.rows = Arrays.copyOf(builder.rows, builder.rowCount);
+            this.rowStart = Arrays.copyOf(builder.rowStart, builder.rowCount + 1);
+            this.rowStart[builder.rowCount] = builder.toggleCount;
+            this.toggles = Arrays.copyOf(builder.toggles, builder.toggleCount);
+        }
+
+        /** Turns the ordered stream of non-zero words into rows of toggles. */
+        private static final class Builder implements WordVisitor {
+            private long[] rows = new long[16];
+            private int[] rowStart = new int[17];
+            private int[] toggles = new int[64];
+            private int rowCount;
+            private int toggleCount;
+            private boolean inside;
+            private int lastWord;
+
+            @Override
+            public void visit(long row, int w, long word) {
+                if (rowCount == 0 || rows[rowCount - 1] != row) {
+                    closeRow();
+                    if (rowCount == rows.length) {
+                        rows = Arrays.copyOf(rows, rowCount * 2);
+                        rowStart = Arrays.copyOf(rowStart, rowCount * 2 + 1);
+                    }
+                    rows[rowCount] = row;
+                    rowStart[rowCount] = toggleCount;
+                    rowCount++;
+                    lastWord = -1;
+                } else if (inside && w != lastWord + 1) {
+                    // The skipped words are empty, so the run ended where the last word did
+                    addToggle((lastWord + 1) << 6);
+                    inside = false;
+                }
+                // Bits where the state differs from the previous voxel
+                long changes = word ^ ((word << 1) | (inside ? 1L : 0L));
+                while (changes != 0) {
+                    addToggle((w << 6) + Long.numberOfTrailingZeros(changes));
+                    changes &= changes - 1;
+                }
+                inside = word < 0;
+                lastWord = w;
+            }
+
+            /** Ends a run still open at the last visited word of the current row. */
+            void closeRow() {
+                if (inside) {
+                    addToggle((lastWord + 1) << 6);
+                    inside = false;
+                }
+            }
+
+            private void addToggle(int position) {
+                if (toggleCount == toggles.length) {
+                    toggles = Arrays.copyOf(toggles, toggleCount * 2);
+                }
+                toggles[toggleCount++] = position;
+            }
+        }
+
+        @Override
+        public boolean get(int i, int j, int k) {
+            int row = Arrays.binarySearch(rows, (long) k * ny + j);
+            if (row < 0) {
+                return false;
+            }
+            int from = rowStart[row];
+            int to = rowStart[row + 1];
+            int index = Arrays.binarySearch(toggles, from, to, i);
+            // Number of toggles at positions <= i decides the state
+            int togglesUpTo = index >= 0 ? index + 1 - from : -index - 1 - from;
+            return (togglesUpTo & 1) == 1;
+        }
+
+        @Override
+        public void set(int i, int j, int k, boolean occupied) {
+            throw new UnsupportedOperationException("Compressed grids are read-only");
+        }
+
+        @Override
+        public void fillRow(int j, int k, int i0, int i1) {
+            throw new UnsupportedOperationException("Compressed grids are read-only");
+        }
+
+        @Override
+        public void forEachWord(WordVisitor visitor) {
+            for (int row = 0; row < rows.length; row++) {
+                int w = -1;
+                long word = 0;
+                // Toggles come in pairs [start, end) per run
+                for (int t = rowStart[row]; t < rowStart[row + 1]; t += 2) {
+                    int start = toggles[t];
+                    int end = Math.min(nx, toggles[t + 1]);
+                    for (int i = start; i < end; ) {
+                        int runWord = i >>> 6;
+                        if (runWord != w) {
+                            if (word != 0) {
+                                visitor.visit(rows[row], w, word);
+                            }
+                            w = runWord;
+                            word = 0;
+                        }
+                        int last = Math.min(end - 1, (runWord << 6) + 63);
+                        word |= rangeMask(i & 63, last & 63);
+                        i = last + 1;
+                    }
+                }
+                if (word != 0) {
+                    visitor.visit(rows[row], w, word);
+                }
+            }
+        }
+
+        @Override
+        public long countOccupied() {
+            long count = 0;
+            for (int t = 0; t < toggles.length; t += 2) {
+                count += Math.min(nx, toggles[t + 1]) - toggles[t];
+            }
+            return count;
+        }
+
+        @Override
+        public long storageBytes() {
+            return 8L * rows.length + 4L * (rowStart.length + toggles.length);
+        }
+    }
+}
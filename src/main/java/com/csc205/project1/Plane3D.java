@@ -0,0 +1,321 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * An oriented plane in 3D space, and the closed half-space on its positive side.
+ *
+ * The plane is stored as a unit normal n and an offset d; the signed distance of a point
+ * p is n·p + d, positive on the side the normal points to. The half-space of a plane is
+ * the set of points with non-negative signed distance, which is the same convention
+ * Frustum uses for its six faces, so getPlane() of a frustum yields half-spaces whose
+ * intersection is the frustum.
+ *
+ * Segment queries work on the parametric form p(t) = start + t(end - start) of a Line3D
+ * with t in [0, 1] and read the end points directly instead of going through
+ * getPointAtParameter(), so intersectionParameter() and the half-space test in clip()
+ * create no intermediate points.
+ *
+ * Example usage:
+ * <pre>
+ * Plane3D ground = new Plane3D(new Point3D(0, 0, 0), new Point3D(0, 0, 1));
+ * Line3D aboveGround = ground.clip(segment);  // null if the segment is entirely below
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - The normal and offset are fixed at construction; planes can be shared freely
+ *
+ * 2. FACTORY METHODS:
+ *    - fromPoints() and fromCoefficients() validate and normalize their input
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. HESSIAN NORMAL FORM:
+ *    - With a unit normal the plane equation evaluates directly to a signed distance
+ *
+ * 2. SEGMENT/PLANE INTERSECTION:
+ *    - With signed end distances d0 and d1 the crossing is at t = d0 / (d0 - d1)
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Plane3D {
+
+    private static final Logger logger = Logger.getLogger(Plane3D.class.getName());
+
+    // Tolerance for floating-point comparisons
+    private static final double EPSILON = 1e-10;
+
+    private final double nx;
+    private final double ny;
+    private final double nz;
+    private final double d;
+
+    /**
+     * Creates the plane through a point with the given normal.
+     *
+     * @param point a point on the plane
+     * @param normal the normal direction, pointing into the positive half-space; it is
+     *               normalized and need not have unit length
+     * @throws NullPointerException if point or normal is null
+     * @throws IllegalArgumentException if normal is the zero vector
+     */
+    public Plane3D(Point3D point, Point3D normal) {
+        if (point == null || normal == null) {
+            logger.log(Level.SEVERE, "Cannot create Plane3D: point or normal is null");
+            throw new NullPointerException("Point and normal cannot be null");
+        }
+        double length = normal.magnitude();
+        if (!(length > EPSILON) || !Double.isFinite(length)) {
+            logger.log(Level.SEVERE, "Cannot create Plane3D: normal ({0}, {1}, {2}) is zero or not finite",
+                       new Object[]{normal.getX(), normal.getY(), normal.getZ()});
+            throw new IllegalArgumentException("Normal must be a non-zero finite vector");
+        }
+        this.nx = normal.getX() / length;
+        this.ny = normal.getY() / length;
+        this.nz = normal.getZ() / length;
+        this.d = -(nx * point.getX() + ny * point.getY() + nz * point.getZ());
+    }
+
+    private Plane3D(double nx, double ny, double nz, double d) {
+        this.nx = nx;
+        this.ny = ny;
+        this.nz = nz;
+        this.d = d;
+    }
+
+    /**
+     * Creates the plane through three points. The normal is (b - a) × (c - a), so the
+     * points appear counter-clockwise when viewed from the positive side.
+     *
+     * @param a the first point
+     * @param b the second point
+     * @param c the third point
+     * @return the plane
+     * @throws NullPointerException if any point is null
+     * @throws IllegalArgumentException if the points are collinear
+     */
+    public static Plane3D fromPoints(Point3D a, Point3D b, Point3D c) {
+        if (a == null || b == null || c == null) {
+            logger.log(Level.SEVERE, "Cannot create Plane3D from points: a point is null");
+            throw new NullPointerException("Points cannot be null");
+        }
+        double ux = b.getX() - a.getX();
+        double uy = b.getY() - a.getY();
+        double uz = b.getZ() - a.getZ();
+        double vx = c.getX() - a.getX();
+        double vy = c.getY() - a.getY();
+        double vz = c.getZ() - a.getZ();
+        double cx = uy * vz - uz * vy;
+        double cy = uz * vx - ux * vz;
+        double cz = ux * vy - uy * vx;
+        double length = Math.sqrt(cx * cx + cy * cy + cz * cz);
+        if (!(length > EPSILON)) {
+            logger.log(Level.SEVERE, "Cannot create Plane3D: points {0}, {1} and {2} are collinear",
+                       new Object[]{a, b, c});
+            throw new IllegalArgumentException("Points must not be collinear");
+        }
+        cx /= length;
+        cy /= length;
+        cz /= length;
+        return new Plane3D(cx, cy, cz, -(cx * a.getX() + cy * a.getY() + cz * a.getZ()));
+    }
+
+    /**
+     * Creates the plane a·x + b·y + c·z + d = 0, with positive half-space a·x + b·y + c·z + d ≥ 0.
+     * The coefficients are scaled so that (a, b, c) has unit length.
+     *
+     * @param a the x coefficient
+     * @param b the y coefficient
+     * @param c the z coefficient
+     * @param d the constant term
+     * @return the plane
+     * @throws IllegalArgumentException if (a, b, c) is zero or any coefficient is not finite
+     */
+    public static Plane3D fromCoefficients(double a, double b, double c, double d) {
+        double length = Math.sqrt(a * a + b * b + c * c);
+        if (!(length > EPSILON) || !Double.isFinite(length) || !Double.isFinite(d)) {
+            logger.log(Level.SEVERE, "Cannot create Plane3D from coefficients ({0}, {1}, {2}, {3})",
+                       new Object[]{a, b, c, d});
+            throw new IllegalArgumentException("Plane coefficients must be finite with a non-zero normal");
+        }
+        return new Plane3D(a / length, b / length, c / length, d / length);
+    }
+
+    /**
+     * Returns the unit normal, which points into the positive half-space.
+     *
+     * @return the normal
+     */
+    public Point3D getNormal() {
+        return new Point3D(nx, ny, nz);
+    }
+
+    /**
+     * Returns the offset d of the plane equation n·p + d = 0, which is the signed
+     * distance of the origin from the plane.
+     *
+     * @return the offset
+     */
+    public double getOffset() {
+        return d;
+    }
+
+    /**
+     * Returns the signed distance from a point to the plane, positive on the side the
+     * normal points to.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     * @return the signed distance
+     */
+    public double signedDistance(double x, double y, double z) {
+        return nx * x + ny * y + nz * z + d;
+    }
+
+    /**
+     * Returns the signed distance from a point to the plane.
+     *
+     * @param point the point
+     * @return the signed distance
+     * @throws NullPointerException if point is null
+     */
+    public double signedDistance(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot compute distance to plane: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        return signedDistance(point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Tests whether a point lies in the closed positive half-space.
+     *
+     * @param point the point
+     * @return true if the signed distance is at least -EPSILON
+     * @throws NullPointerException if point is null
+     */
+    public boolean isInHalfSpace(Point3D point) {
+        return signedDistance(point) >= -EPSILON;
+    }
+
+    /**
+     * Tests whether a point lies on the plane within floating-point tolerance.
+     *
+     * @param point the point
+     * @return true if the point is within EPSILON of the plane
+     * @throws NullPointerException if point is null
+     */
+    public boolean containsPoint(Point3D point) {
+        return Math.abs(signedDistance(point)) < EPSILON;
+    }
+
+    /**
+     * Returns the orthogonal projection of a point onto the plane.
+     *
+     * @param point the point
+     * @return the closest point on the plane
+     * @throws NullPointerException if point is null
+     */
+    public Point3D project(Point3D point) {
+        double distance = signedDistance(point);
+        return new Point3D(point.getX() - distance * nx, point.getY() - distance * ny, point.getZ() - distance * nz);
+    }
+
+    /**
+     * Returns the plane with the same points and the opposite orientation, whose
+     * half-space is the complement of this one (sharing the boundary).
+     *
+     * @return the flipped plane
+     */
+    public Plane3D flip() {
+        return new Plane3D(-nx, -ny, -nz, -d);
+    }
+
+    /**
+     * Returns the parameter t in [0, 1] at which a segment crosses the plane.
+     *
+     * @param line the segment
+     * @return the crossing parameter, or NaN if the segment does not reach the plane or
+     *         lies parallel to it
+     * @throws NullPointerException if line is null
+     */
+    public double intersectionParameter(Line3D line) {
+        if (line == null) {
+            logger.log(Level.SEVERE, "Cannot intersect plane: line is null");
+            throw new NullPointerException("Line cannot be null");
+        }
+        double d0 = signedDistance(line.getStart());
+        double d1 = signedDistance(line.getEnd());
+        double denominator = d0 - d1;
+        if (Math.abs(denominator) < EPSILON) {
+            return Double.NaN;
+        }
+        double t = d0 / denominator;
+        return t >= 0 && t <= 1 ? t : Double.NaN;
+    }
+
+    /**
+     * Returns the point at which a segment crosses the plane.
+     *
+     * @param line the segment
+     * @return the intersection point, or null if the segment does not reach the plane or
+     *         lies parallel to it
+     * @throws NullPointerException if line is null
+     */
+    public Point3D intersect(Line3D line) {
+        double t = intersectionParameter(line);
+        return Double.isNaN(t) ? null : line.getPointAtParameter(t);
+    }
+
+    /**
+     * Clips a segment to the positive half-space.
+     *
+     * @param line the segment
+     * @return the part of the segment in the half-space, the segment itself if it lies
+     *         entirely inside, or null if less than a point of it remains
+     * @throws NullPointerException if line is null
+     */
+    public Line3D clip(Line3D line) {
+        if (line == null) {
+            logger.log(Level.SEVERE, "Cannot clip to plane: line is null");
+            throw new NullPointerException("Line cannot be null");
+        }
+        double d0 = signedDistance(line.getStart());
+        double d1 = signedDistance(line.getEnd());
+        if (d0 >= 0 && d1 >= 0) {
+            return line;
+        }
+        if (d0 < 0 && d1 < 0) {
+            return null;
+        }
+        double t = d0 / (d0 - d1);
+        return d0 < 0 ? SegmentClipper.subSegment(line, t, 1) : SegmentClipper.subSegment(line, 0, t);
+    }
+
+    double normalX() {
+        return nx;
+    }
+
+    double normalY() {
+        return ny;
+    }
+
+    double normalZ() {
+        return nz;
+    }
+
+    /**
+     * Returns a string representation of this plane as its equation.
+     *
+     * @return the plane equation
+     */
+    @Override
+    public String toString() {
+        return "Plane3D[" + nx + "x + " + ny + "y + " + nz + "z + " + d + " = 0]";
+    }
+}
@@ -32,6 +32,14 @@ import java.util.logging.Level;
  *    - Logging is separated from business logic
  *    - Each method has a single, well-defined responsibility
  * 
+ * 5. VALUE-CLASS READY:
+ *    - Declared as a record: final, identity-free state, no subclasses, so it can become
+ *      a value class without source changes once the JDK offers them
+ *    - Every log call is guarded by isLoggable, so when INFO is off no boxed argument
+ *      array references a point. Short-lived points in chains such as
+ *      Line3D.getPointAtParameter then do not escape, and C2 escape analysis replaces
+ *      them with scalars (see PointAllocationBenchmark)
+ * 
  * Data Structures & Algorithms Foundation:
  * 
  * 1. VECTOR OPERATIONS:
@@ -55,17 +63,13 @@ import java.util.logging.Level;
  * @author Generated Example
  * @version 1.0
  */
-public class Point3D {
+public record Point3D(double x, double y, double z) {
     
     private static final Logger logger = Logger.getLogger(Point3D.class.getName());
     
     // Tolerance for floating-point comparisons
     private static final double EPSILON = 1e-10;
     
-    private final double x;
-    private final double y;
-    private final double z;
-    
     /**
      * Constructs a new Point3D with the specified coordinates.
      * 
@@ -82,12 +86,11 @@ public class Point3D {
      * @param y the y-coordinate of the point
      * @param z the z-coordinate of the point
      */
-    public Point3D(double x, double y, double z) {
-        this.x = x;
-        this.y = y;
-        this.z = z;
-        logger.log(Level.INFO, "Created Point3D at coordinates: ({0}, {1}, {2})", 
-                   new Object[]{x, y, z});
+    public Point3D {
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Created Point3D at coordinates: ({0}, {1}, {2})", 
+                       new Object[]{x, y, z});
+        }
     }
     
     /**
@@ -139,8 +142,10 @@ public class Point3D {
         double y = radius * Math.sin(phi) * Math.sin(theta);
         double z = radius * Math.cos(phi);
         
-        logger.log(Level.INFO, "Converted spherical coordinates (r={0}, θ={1}, φ={2}) to Cartesian ({3}, {4}, {5})",
-                   new Object[]{radius, theta, phi, x, y, z});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Converted spherical coordinates (r={0}, θ={1}, φ={2}) to Cartesian ({3}, {4}, {5})",
+                       new Object[]{radius, theta, phi, x, y, z});
+        }
         
         return new Point3D(x, y, z);
     }
@@ -177,8 +182,10 @@ public class Point3D {
         double x = radius * Math.cos(theta);
         double y = radius * Math.sin(theta);
         
-        logger.log(Level.INFO, "Converted cylindrical coordinates (r={0}, θ={1}, z={2}) to Cartesian ({3}, {4}, {5})",
-                   new Object[]{radius, theta, z, x, y, z});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Converted cylindrical coordinates (r={0}, θ={1}, z={2}) to Cartesian ({3}, {4}, {5})",
+                       new Object[]{radius, theta, z, x, y, z});
+        }
         
         return new Point3D(x, y, z);
     }
@@ -212,6 +219,7 @@ public class Point3D {
             logger.log(Level.SEVERE, "Cannot calculate distance: other point is null");
             throw new NullPointerException("Other point cannot be null");
         }
+        long start = GeometryMetrics.start();
         
         double dx = this.x - other.x;
         double dy = this.y - other.y;
@@ -219,9 +227,12 @@ public class Point3D {
         
         double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
         
-        logger.log(Level.INFO, "Calculated Euclidean distance from ({0}, {1}, {2}) to ({3}, {4}, {5}): {6}",
-                   new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, distance});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated Euclidean distance from ({0}, {1}, {2}) to ({3}, {4}, {5}): {6}",
+                       new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, distance});
+        }
         
+        GeometryMetrics.record(GeometryOperation.POINT_DISTANCE, start);
         return distance;
     }
     
@@ -259,8 +270,10 @@ public class Point3D {
                          Math.abs(this.y - other.y) + 
                          Math.abs(this.z - other.z);
         
-        logger.log(Level.INFO, "Calculated Manhattan distance from ({0}, {1}, {2}) to ({3}, {4}, {5}): {6}",
-                   new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, distance});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated Manhattan distance from ({0}, {1}, {2}) to ({3}, {4}, {5}): {6}",
+                       new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, distance});
+        }
         
         return distance;
     }
@@ -287,8 +300,10 @@ public class Point3D {
      */
     public double magnitude() {
         double mag = Math.sqrt(x * x + y * y + z * z);
-        logger.log(Level.INFO, "Calculated magnitude of point ({0}, {1}, {2}): {3}",
-                   new Object[]{x, y, z, mag});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated magnitude of point ({0}, {1}, {2}): {3}",
+                       new Object[]{x, y, z, mag});
+        }
         return mag;
     }
     
@@ -324,8 +339,10 @@ public class Point3D {
         double newY = y * cos - z * sin;
         double newZ = y * sin + z * cos;
         
-        logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around X-axis by {3} radians to ({4}, {5}, {6})",
-                   new Object[]{x, y, z, angleRadians, x, newY, newZ});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around X-axis by {3} radians to ({4}, {5}, {6})",
+                       new Object[]{x, y, z, angleRadians, x, newY, newZ});
+        }
         
         return new Point3D(x, newY, newZ);
     }
@@ -361,8 +378,10 @@ public class Point3D {
         double newX = x * cos + z * sin;
         double newZ = -x * sin + z * cos;
         
-        logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around Y-axis by {3} radians to ({4}, {5}, {6})",
-                   new Object[]{x, y, z, angleRadians, newX, y, newZ});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around Y-axis by {3} radians to ({4}, {5}, {6})",
+                       new Object[]{x, y, z, angleRadians, newX, y, newZ});
+        }
         
         return new Point3D(newX, y, newZ);
     }
@@ -398,12 +417,103 @@ public class Point3D {
         double newX = x * cos - y * sin;
         double newY = x * sin + y * cos;
         
-        logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around Z-axis by {3} radians to ({4}, {5}, {6})",
-                   new Object[]{x, y, z, angleRadians, newX, newY, z});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around Z-axis by {3} radians to ({4}, {5}, {6})",
+                       new Object[]{x, y, z, angleRadians, newX, newY, z});
+        }
         
         return new Point3D(newX, newY, z);
     }
     
+    /**
+     * Rotates the point around the X-axis using a precomputed rotation.
+     * 
+     * Same result as rotateX(rotation.getAngle()) for rotations built with
+     * Rotation.of(), but without recomputing the sine and cosine. Build the Rotation
+     * once when many points are rotated by the same angle.
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * Example usage:
+     * <pre>
+     * Rotation step = Rotation.of(Math.PI / 180);
+     * Point3D rotated = point.rotateX(step);
+     * </pre>
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Point3D representing the rotated point
+     * @throws NullPointerException if rotation is null
+     */
+    public Point3D rotateX(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        
+        double newY = y * cos - z * sin;
+        double newZ = y * sin + z * cos;
+        
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around X-axis by {3} radians to ({4}, {5}, {6})",
+                       new Object[]{x, y, z, rotation.getAngle(), x, newY, newZ});
+        }
+        
+        return new Point3D(x, newY, newZ);
+    }
+    
+    /**
+     * Rotates the point around the Y-axis using a precomputed rotation.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Point3D representing the rotated point
+     * @throws NullPointerException if rotation is null
+     */
+    public Point3D rotateY(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        
+        double newX = x * cos + z * sin;
+        double newZ = -x * sin + z * cos;
+        
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around Y-axis by {3} radians to ({4}, {5}, {6})",
+                       new Object[]{x, y, z, rotation.getAngle(), newX, y, newZ});
+        }
+        
+        return new Point3D(newX, y, newZ);
+    }
+    
+    /**
+     * Rotates the point around the Z-axis using a precomputed rotation.
+     * 
+     * @param rotation the precomputed rotation
+     * @return a new Point3D representing the rotated point
+     * @throws NullPointerException if rotation is null
+     */
+    public Point3D rotateZ(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        
+        double newX = x * cos - y * sin;
+        double newY = x * sin + y * cos;
+        
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Rotated point ({0}, {1}, {2}) around Z-axis by {3} radians to ({4}, {5}, {6})",
+                       new Object[]{x, y, z, rotation.getAngle(), newX, newY, z});
+        }
+        
+        return new Point3D(newX, newY, z);
+    }
+    
+    private static void checkRotation(Rotation rotation) {
+        if (rotation == null) {
+            logger.log(Level.SEVERE, "Cannot rotate point: rotation is null");
+            throw new NullPointerException("Rotation cannot be null");
+        }
+    }
+    
     /**
      * Translates the point by the specified offset.
      * 
@@ -426,8 +536,10 @@ public class Point3D {
      * @return a new Point3D representing the translated point
      */
     public Point3D translate(double dx, double dy, double dz) {
-        logger.log(Level.INFO, "Translating point ({0}, {1}, {2}) by offset ({3}, {4}, {5})",
-                   new Object[]{x, y, z, dx, dy, dz});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Translating point ({0}, {1}, {2}) by offset ({3}, {4}, {5})",
+                       new Object[]{x, y, z, dx, dy, dz});
+        }
         return new Point3D(x + dx, y + dy, z + dz);
     }
     
@@ -458,8 +570,10 @@ public class Point3D {
                        new Object[]{x, y, z, sx, sy, sz});
         }
         
-        logger.log(Level.INFO, "Scaling point ({0}, {1}, {2}) by factors ({3}, {4}, {5})",
-                   new Object[]{x, y, z, sx, sy, sz});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Scaling point ({0}, {1}, {2}) by factors ({3}, {4}, {5})",
+                       new Object[]{x, y, z, sx, sy, sz});
+        }
         return new Point3D(x * sx, y * sy, z * sz);
     }
     
@@ -494,8 +608,10 @@ public class Point3D {
         }
         
         double result = this.x * other.x + this.y * other.y + this.z * other.z;
-        logger.log(Level.INFO, "Calculated dot product of ({0}, {1}, {2}) and ({3}, {4}, {5}): {6}",
-                   new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, result});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated dot product of ({0}, {1}, {2}) and ({3}, {4}, {5}): {6}",
+                       new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, result});
+        }
         
         return result;
     }
@@ -538,8 +654,58 @@ public class Point3D {
         double newY = this.z * other.x - this.x * other.z;
         double newZ = this.x * other.y - this.y * other.x;
         
-        logger.log(Level.INFO, "Calculated cross product of ({0}, {1}, {2}) and ({3}, {4}, {5}): ({6}, {7}, {8})",
-                   new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, newX, newY, newZ});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated cross product of ({0}, {1}, {2}) and ({3}, {4}, {5}): ({6}, {7}, {8})",
+                       new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, newX, newY, newZ});
+        }
+        
+        return new Point3D(newX, newY, newZ);
+    }
+    
+    /**
+     * Calculates the cross product using the requested arithmetic mode.
+     * 
+     * With COMPENSATED each component y1*z2 - z1*y2 is evaluated with Kahan's
+     * FMA-based difference of products, which stays accurate to about one ulp even
+     * when the two products nearly cancel (nearly parallel vectors). FAST behaves
+     * exactly like crossProduct(other).
+     * 
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     * 
+     * Example usage:
+     * <pre>
+     * Point3D v1 = new Point3D(1, 1e-9, 0);
+     * Point3D v2 = new Point3D(1, 2e-9, 0);
+     * Point3D cross = v1.crossProduct(v2, ArithmeticMode.COMPENSATED);
+     * </pre>
+     * 
+     * @param other the point to calculate cross product with
+     * @param mode the arithmetic mode
+     * @return a new Point3D representing the cross product
+     * @throws NullPointerException if other or mode is null
+     */
+    public Point3D crossProduct(Point3D other, ArithmeticMode mode) {
+        if (mode == null) {
+            logger.log(Level.SEVERE, "Cannot calculate cross product: mode is null");
+            throw new NullPointerException("Arithmetic mode cannot be null");
+        }
+        if (mode == ArithmeticMode.FAST) {
+            return crossProduct(other);
+        }
+        if (other == null) {
+            logger.log(Level.SEVERE, "Cannot calculate cross product: other point is null");
+            throw new NullPointerException("Other point cannot be null");
+        }
+        
+        double newX = RobustArithmetic.differenceOfProducts(this.y, other.z, this.z, other.y);
+        double newY = RobustArithmetic.differenceOfProducts(this.z, other.x, this.x, other.z);
+        double newZ = RobustArithmetic.differenceOfProducts(this.x, other.y, this.y, other.x);
+        
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated compensated cross product: ({0}, {1}, {2})",
+                       new Object[]{newX, newY, newZ});
+        }
         
         return new Point3D(newX, newY, newZ);
     }
@@ -574,8 +740,10 @@ public class Point3D {
         }
         
         Point3D normalized = new Point3D(x / mag, y / mag, z / mag);
-        logger.log(Level.INFO, "Normalized point ({0}, {1}, {2}) to ({3}, {4}, {5})",
-                   new Object[]{x, y, z, normalized.x, normalized.y, normalized.z});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Normalized point ({0}, {1}, {2}) to ({3}, {4}, {5})",
+                       new Object[]{x, y, z, normalized.x, normalized.y, normalized.z});
+        }
         
         return normalized;
     }
@@ -611,8 +779,10 @@ public class Point3D {
         double midY = (this.y + other.y) / 2.0;
         double midZ = (this.z + other.z) / 2.0;
         
-        logger.log(Level.INFO, "Calculated midpoint between ({0}, {1}, {2}) and ({3}, {4}, {5}): ({6}, {7}, {8})",
-                   new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, midX, midY, midZ});
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Calculated midpoint between ({0}, {1}, {2}) and ({3}, {4}, {5}): ({6}, {7}, {8})",
+                       new Object[]{this.x, this.y, this.z, other.x, other.y, other.z, midX, midY, midZ});
+        }
         
         return new Point3D(midX, midY, midZ);
     }
@@ -669,8 +839,10 @@ public class Point3D {
                          Math.abs(this.z - other.z) < EPSILON;
         
         if (isEqual) {
-            logger.log(Level.INFO, "Points ({0}, {1}, {2}) and ({3}, {4}, {5}) are equal",
-                       new Object[]{this.x, this.y, this.z, other.x, other.y, other.z});
+            if (logger.isLoggable(Level.INFO)) {
+                logger.log(Level.INFO, "Points ({0}, {1}, {2}) and ({3}, {4}, {5}) are equal",
+                           new Object[]{this.x, this.y, this.z, other.x, other.y, other.z});
+            }
         }
         
         return isEqual;
@@ -705,6 +877,6 @@ public class Point3D {
      */
     @Override
     public String toString() {
-        return String.format("Point3D(%.2f, %.2f, %.2f)", x, y, z);
+        return GeometryFormatter.TWO_DIGITS.appendPoint(new StringBuilder(48), this).toString();
     }
 }
\ No newline at end of file
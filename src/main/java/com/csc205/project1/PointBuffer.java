@@ -0,0 +1,560 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A growable, primitive-backed list of 3D points.
+ *
+ * Large point sets stored as Point3D objects pay for an object header and a reference
+ * per point, and every construction is logged. PointBuffer instead stores coordinates
+ * interleaved in a single double[] (x0, y0, z0, x1, y1, z1, ...), which is compact,
+ * cache-friendly and can be handed directly to bulk kernels, codecs and file readers.
+ * Point3D instances are only created when a caller explicitly asks for one.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. STRUCTURE OF PRIMITIVES:
+ *    - Coordinates are stored as raw doubles rather than objects, the usual layout for
+ *      high-volume numeric data
+ *    - getCoordinates() exposes the backing array so kernels can loop over it without
+ *      copying
+ *
+ * 2. ADAPTER PATTERN:
+ *    - get(i), toPoints() and of(Point3D...) convert between the primitive layout and
+ *      the object API used by Point3D, Line3D and Cube3D
+ *
+ * 3. MUTABLE BUFFER:
+ *    - Unlike the value classes, this is a reusable container; clear() keeps the
+ *      allocated storage so the same buffer can be refilled chunk after chunk
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. DYNAMIC ARRAY:
+ *    - Capacity grows geometrically (1.5x), giving amortized O(1) appends just like
+ *      java.util.ArrayList
+ *
+ * Note: this class is not thread-safe.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class PointBuffer {
+
+    private static final Logger logger = Logger.getLogger(PointBuffer.class.getName());
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Largest point count whose coordinates still fit in a Java array
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / 3;
+
+    private double[] coordinates;
+    private int size;
+
+    /**
+     * Constructs an empty buffer with a small default capacity.
+     */
+    public PointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty buffer able to hold the given number of points without growing.
+     *
+     * Example usage:
+     * <pre>
+     * PointBuffer buffer = new PointBuffer(1_000_000);
+     * </pre>
+     *
+     * @param capacity the initial capacity in points
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public PointBuffer(int capacity) {
+        if (capacity < 0) {
+            logger.log(Level.SEVERE, "Cannot create PointBuffer: negative capacity {0}", capacity);
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.coordinates = new double[capacity * 3];
+    }
+
+    /**
+     * Creates a buffer holding the coordinates of the given points.
+     *
+     * Example usage:
+     * <pre>
+     * PointBuffer buffer = PointBuffer.of(new Point3D(0, 0, 0), new Point3D(1, 2, 3));
+     * </pre>
+     *
+     * @param points the points to copy
+     * @return a new buffer containing the points in order
+     * @throws NullPointerException if the array or any point is null
+     */
+    public static PointBuffer of(Point3D... points) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot create PointBuffer: points array is null");
+            throw new NullPointerException("Points array cannot be null");
+        }
+        PointBuffer buffer = new PointBuffer(points.length);
+        for (Point3D point : points) {
+            buffer.add(point);
+        }
+        return buffer;
+    }
+
+    /**
+     * Creates a buffer that copies packed coordinates.
+     *
+     * @param xyz interleaved coordinates; the length must be a multiple of 3
+     * @return a new buffer holding xyz.length / 3 points
+     * @throws NullPointerException if xyz is null
+     * @throws IllegalArgumentException if xyz.length is not a multiple of 3
+     */
+    public static PointBuffer wrapCopy(double[] xyz) {
+        if (xyz == null) {
+            logger.log(Level.SEVERE, "Cannot create PointBuffer: coordinate array is null");
+            throw new NullPointerException("Coordinate array cannot be null");
+        }
+        if (xyz.length % 3 != 0) {
+            logger.log(Level.SEVERE, "Cannot create PointBuffer: coordinate count {0} is not a multiple of 3", xyz.length);
+            throw new IllegalArgumentException("Coordinate array length must be a multiple of 3");
+        }
+        PointBuffer buffer = new PointBuffer(xyz.length / 3);
+        System.arraycopy(xyz, 0, buffer.coordinates, 0, xyz.length);
+        buffer.size = xyz.length / 3;
+        return buffer;
+    }
+
+    /**
+     * Appends a point given by its coordinates.
+     *
+     * Time Complexity: O(1) amortized
+     * Space Complexity: O(1) amortized
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     */
+    public void add(double x, double y, double z) {
+        if (size * 3 + 3 > coordinates.length) {
+            grow(size + 1);
+        }
+        int o = size * 3;
+        coordinates[o] = x;
+        coordinates[o + 1] = y;
+        coordinates[o + 2] = z;
+        size++;
+    }
+
+    /**
+     * Appends a point.
+     *
+     * @param point the point to append
+     * @throws NullPointerException if point is null
+     */
+    public void add(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot add point to buffer: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        add(point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Appends packed coordinates.
+     *
+     * @param xyz the source array of interleaved coordinates
+     * @param offset the index of the first coordinate to copy (not the point index)
+     * @param count the number of points to copy
+     * @throws NullPointerException if xyz is null
+     * @throws IndexOutOfBoundsException if the range exceeds the array
+     */
+    public void addAll(double[] xyz, int offset, int count) {
+        if (xyz == null) {
+            logger.log(Level.SEVERE, "Cannot add coordinates to buffer: array is null");
+            throw new NullPointerException("Coordinate array cannot be null");
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(xyz, offset, coordinates, size * 3, count * 3);
+        size += count;
+    }
+
+    /**
+     * Appends every point from another buffer.
+     *
+     * @param other the buffer to copy from
+     * @throws NullPointerException if other is null
+     */
+    public void addAll(PointBuffer other) {
+        if (other == null) {
+            logger.log(Level.SEVERE, "Cannot add buffer contents: other buffer is null");
+            throw new NullPointerException("Other buffer cannot be null");
+        }
+        addAll(other.coordinates, 0, other.size);
+    }
+
+    /**
+     * Overwrites the point at an index.
+     *
+     * @param index the point index
+     * @param x the new x-coordinate
+     * @param y the new y-coordinate
+     * @param z the new z-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void set(int index, double x, double y, double z) {
+        checkIndex(index);
+        int o = index * 3;
+        coordinates[o] = x;
+        coordinates[o + 1] = y;
+        coordinates[o + 2] = z;
+    }
+
+    /**
+     * Returns the x-coordinate of the point at an index.
+     *
+     * @param index the point index
+     * @return the x-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return coordinates[index * 3];
+    }
+
+    /**
+     * Returns the y-coordinate of the point at an index.
+     *
+     * @param index the point index
+     * @return the y-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return coordinates[index * 3 + 1];
+    }
+
+    /**
+     * Returns the z-coordinate of the point at an index.
+     *
+     * @param index the point index
+     * @return the z-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getZ(int index) {
+        checkIndex(index);
+        return coordinates[index * 3 + 2];
+    }
+
+    /**
+     * Returns the point at an index as a new Point3D.
+     *
+     * @param index the point index
+     * @return a new Point3D with the stored coordinates
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Point3D get(int index) {
+        checkIndex(index);
+        int o = index * 3;
+        return new Point3D(coordinates[o], coordinates[o + 1], coordinates[o + 2]);
+    }
+
+    /**
+     * Returns the number of points in the buffer.
+     *
+     * @return the point count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the buffer holds no points.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all points while keeping the allocated storage.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Truncates the buffer to the first {@code newSize} points.
+     *
+     * @param newSize the number of points to keep
+     * @throws IllegalArgumentException if newSize is negative or larger than size()
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            logger.log(Level.SEVERE, "Cannot truncate buffer of size {0} to {1}", new Object[]{size, newSize});
+            throw new IllegalArgumentException("New size out of range");
+        }
+        size = newSize;
+    }
+
+    /**
+     * Ensures the buffer can hold at least the given number of points without growing.
+     *
+     * @param minCapacity the required capacity in points
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity * 3L > coordinates.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Returns the backing coordinate array.
+     *
+     * The first size() * 3 entries are the interleaved coordinates; anything after
+     * that is unused capacity. The array is shared, not copied, and may be replaced
+     * when the buffer grows, so callers should not hold on to it across appends.
+     *
+     * @return the live backing array
+     */
+    public double[] getCoordinates() {
+        return coordinates;
+    }
+
+    /**
+     * Returns a trimmed copy of the interleaved coordinates.
+     *
+     * @return a new array of length size() * 3
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(coordinates, size * 3);
+    }
+
+    /**
+     * Converts every point to a Point3D.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @return a new array of Point3D objects
+     */
+    public Point3D[] toPoints() {
+        Point3D[] points = new Point3D[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = get(i);
+        }
+        return points;
+    }
+
+    /**
+     * Translates every point in place by the given offset.
+     *
+     * Uses the same arithmetic as Point3D.translate, without creating any objects.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param dx the offset in the x direction
+     * @param dy the offset in the y direction
+     * @param dz the offset in the z direction
+     */
+    public void translate(double dx, double dy, double dz) {
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            coordinates[i] += dx;
+            coordinates[i + 1] += dy;
+            coordinates[i + 2] += dz;
+        }
+    }
+
+    /**
+     * Removes, in place, every point that lies outside a cube.
+     *
+     * Kept points stay in their original order. Containment follows
+     * Cube3D.containsPoint, so points on the surface are kept.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param cube the cube whose interior points are kept
+     * @return the number of points removed
+     * @throws NullPointerException if cube is null
+     */
+    public int retainInside(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot filter buffer: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int o = i * 3;
+            double x = coordinates[o];
+            double y = coordinates[o + 1];
+            double z = coordinates[o + 2];
+            if (cube.containsPoint(x, y, z)) {
+                int k = kept * 3;
+                coordinates[k] = x;
+                coordinates[k + 1] = y;
+                coordinates[k + 2] = z;
+                kept++;
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Permutes the points in place so that point k becomes the point that was at
+     * index order[k].
+     *
+     * The permutation is applied by following its cycles, moving each point once and
+     * using one bit per point of bookkeeping instead of a second coordinate array.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n) bits
+     *
+     * @param order a permutation of 0 .. size() - 1
+     * @throws NullPointerException if order is null
+     * @throws IllegalArgumentException if order is not a permutation of the indices
+     */
+    public void reorder(int[] order) {
+        if (order == null) {
+            logger.log(Level.SEVERE, "Cannot reorder buffer: order is null");
+            throw new NullPointerException("Order cannot be null");
+        }
+        long[] done = new long[(size + 63) >>> 6];
+        boolean valid = order.length == size;
+        for (int k = 0; valid && k < size; k++) {
+            int i = order[k];
+            valid = i >= 0 && i < size && (done[i >>> 6] & (1L << i)) == 0;
+            if (valid) {
+                done[i >>> 6] |= 1L << i;
+            }
+        }
+        if (!valid) {
+            logger.log(Level.SEVERE, "Cannot reorder buffer of {0} points: order is not a permutation", size);
+            throw new IllegalArgumentException("Order must be a permutation of 0.." + (size - 1));
+        }
+        Arrays.fill(done, 0);
+
+        for (int start = 0; start < size; start++) {
+            if ((done[start >>> 6] & (1L << start)) != 0) {
+                continue;
+            }
+            double x = coordinates[start * 3];
+            double y = coordinates[start * 3 + 1];
+            double z = coordinates[start * 3 + 2];
+            int k = start;
+            while (true) {
+                done[k >>> 6] |= 1L << k;
+                int source = order[k];
+                if (source == start) {
+                    coordinates[k * 3] = x;
+                    coordinates[k * 3 + 1] = y;
+                    coordinates[k * 3 + 2] = z;
+                    break;
+                }
+                System.arraycopy(coordinates, source * 3, coordinates, k * 3, 3);
+                k = source;
+            }
+        }
+    }
+
+    /**
+     * Rotates every point in place around the X-axis through the origin.
+     *
+     * Uses the same formula as Point3D.rotateX, with the rotation's sine and cosine
+     * computed once for the whole buffer.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param rotation the precomputed rotation
+     * @throws NullPointerException if rotation is null
+     */
+    public void rotateX(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            double y = coordinates[i + 1];
+            double z = coordinates[i + 2];
+            coordinates[i + 1] = y * cos - z * sin;
+            coordinates[i + 2] = y * sin + z * cos;
+        }
+    }
+
+    /**
+     * Rotates every point in place around the Y-axis through the origin.
+     *
+     * @param rotation the precomputed rotation
+     * @throws NullPointerException if rotation is null
+     */
+    public void rotateY(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            double x = coordinates[i];
+            double z = coordinates[i + 2];
+            coordinates[i] = x * cos + z * sin;
+            coordinates[i + 2] = -x * sin + z * cos;
+        }
+    }
+
+    /**
+     * Rotates every point in place around the Z-axis through the origin.
+     *
+     * @param rotation the precomputed rotation
+     * @throws NullPointerException if rotation is null
+     */
+    public void rotateZ(Rotation rotation) {
+        checkRotation(rotation);
+        double cos = rotation.getCos();
+        double sin = rotation.getSin();
+        int n = size * 3;
+        for (int i = 0; i < n; i += 3) {
+            double x = coordinates[i];
+            double y = coordinates[i + 1];
+            coordinates[i] = x * cos - y * sin;
+            coordinates[i + 1] = x * sin + y * cos;
+        }
+    }
+
+    private static void checkRotation(Rotation rotation) {
+        if (rotation == null) {
+            logger.log(Level.SEVERE, "Cannot rotate buffer: rotation is null");
+            throw new NullPointerException("Rotation cannot be null");
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            logger.log(Level.SEVERE, "Cannot grow PointBuffer to {0} points", minCapacity);
+            throw new OutOfMemoryError("PointBuffer capacity exceeded");
+        }
+        int current = coordinates.length / 3;
+        int newCapacity = Math.max(minCapacity, (int) Math.min(MAX_CAPACITY, current + (current >> 1) + 1L));
+        coordinates = Arrays.copyOf(coordinates, newCapacity * 3);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+    }
+
+    /**
+     * Returns a short description of this buffer.
+     *
+     * @return a string showing the point count
+     */
+    @Override
+    public String toString() {
+        return "PointBuffer[size=" + size + "]";
+    }
+}
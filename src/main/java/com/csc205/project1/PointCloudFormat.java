@@ -0,0 +1,64 @@
+package com.csc205.project1;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * File formats understood by PointCloudReader and PointCloudWriter.
+ *
+ * - XYZ: one point per line, whitespace- or comma-separated x y z (extra columns ignored)
+ * - OBJ: Wavefront OBJ; only "v x y z" vertex lines are read or written
+ * - PLY_ASCII: Stanford PLY, ascii body
+ * - PLY_BINARY: Stanford PLY, binary_little_endian body (big-endian files are also read)
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public enum PointCloudFormat {
+
+    XYZ,
+    OBJ,
+    PLY_ASCII,
+    PLY_BINARY;
+
+    private static final Logger logger = Logger.getLogger(PointCloudFormat.class.getName());
+
+    /**
+     * Guesses the format from a file name's extension.
+     *
+     * For ".ply" files this returns PLY_BINARY; readers inspect the header and switch
+     * to ascii parsing when needed, so the guess is only significant for writers.
+     *
+     * @param path the file path
+     * @return the matching format
+     * @throws NullPointerException if path is null
+     * @throws IllegalArgumentException if the extension is not recognized
+     */
+    public static PointCloudFormat fromFileName(Path path) {
+        if (path == null) {
+            logger.log(Level.SEVERE, "Cannot guess point cloud format: path is null");
+            throw new NullPointerException("Path cannot be null");
+        }
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xyz") || name.endsWith(".txt") || name.endsWith(".csv")) {
+            return XYZ;
+        } else if (name.endsWith(".obj")) {
+            return OBJ;
+        } else if (name.endsWith(".ply")) {
+            return PLY_BINARY;
+        }
+        logger.log(Level.SEVERE, "Cannot guess point cloud format: unrecognized file name {0}", name);
+        throw new IllegalArgumentException("Unrecognized point cloud file extension: " + name);
+    }
+
+    /**
+     * Returns true for formats whose body is line-oriented text.
+     *
+     * @return true for XYZ, OBJ and PLY_ASCII
+     */
+    public boolean isText() {
+        return this != PLY_BINARY;
+    }
+}
@@ -0,0 +1,839 @@
+package com.csc205.project1;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Streams points out of XYZ, OBJ and PLY files in chunks of primitive coordinates.
+ *
+ * Reading a multi-gigabyte file line by line into Point3D objects is dominated by
+ * String allocation, Double.parseDouble and per-point logging. This reader works on
+ * raw bytes instead and hands the caller one PointBuffer chunk at a time, so memory
+ * stays bounded no matter how large the file is:
+ *
+ * - Binary PLY bodies are memory-mapped through FileChannel in windows and decoded
+ *   record by record with no intermediate copies.
+ * - Text bodies (XYZ, OBJ, ascii PLY) are split into byte ranges that are parsed in
+ *   parallel; the parsed chunks are still delivered to the consumer in file order.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. ITERATOR / VISITOR (Push Style):
+ *    - The reader pushes chunks to a Consumer instead of returning a collection,
+ *      letting callers aggregate, filter or forward points as they arrive
+ *
+ * 2. PRODUCER-CONSUMER WITH ORDERED HANDOFF:
+ *    - Up to getParallelism() byte ranges are parsed concurrently; results are
+ *      joined in order so output never depends on thread scheduling
+ *
+ * 3. FAIL-FAST VALIDATION:
+ *    - Malformed lines and unsupported PLY layouts raise IllegalArgumentException
+ *      with the offending content rather than silently dropping data
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. CHUNKED PARALLEL PARSING:
+ *    - A chunk owns every line that starts inside its byte range; it skips the
+ *      partial line at its start and finishes the line that crosses its end, so
+ *      ranges can be chosen without scanning for newlines first
+ *
+ * 2. FAST DECIMAL CONVERSION:
+ *    - Numbers with at most 15 significant digits and a small exponent are converted
+ *      with a single exact multiplication or division (Clinger's fast path); anything
+ *      else falls back to Double.parseDouble, so results are always correctly rounded
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class PointCloudReader {
+
+    private static final Logger logger = Logger.getLogger(PointCloudReader.class.getName());
+
+    private static final int DEFAULT_CHUNK_BYTES = 8 << 20;
+    private static final int BINARY_CHUNK_POINTS = 1 << 16;
+    private static final long MAX_MAPPED_WINDOW = 256L << 20;
+    private static final int HEADER_READ_BLOCK = 4096;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private int chunkBytes = DEFAULT_CHUNK_BYTES;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Constructs a reader with default chunk size and one parse task per processor.
+     *
+     * Example usage:
+     * <pre>
+     * PointCloudReader reader = new PointCloudReader();
+     * long total = reader.read(Path.of("scan.ply"), chunk -&gt; process(chunk));
+     * </pre>
+     */
+    public PointCloudReader() {
+    }
+
+    /**
+     * Sets the number of text bytes handled by each parse task.
+     *
+     * @param bytes the chunk size in bytes
+     * @return this reader
+     * @throws IllegalArgumentException if bytes is not positive
+     */
+    public PointCloudReader setChunkSize(int bytes) {
+        if (bytes <= 0) {
+            logger.log(Level.SEVERE, "Invalid chunk size {0}", bytes);
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkBytes = bytes;
+        return this;
+    }
+
+    /**
+     * Sets how many text chunks may be parsed at once.
+     *
+     * Peak memory is roughly parallelism * chunk size for the raw bytes plus the
+     * parsed coordinates of those chunks.
+     *
+     * @param threads the number of concurrent parse tasks
+     * @return this reader
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public PointCloudReader setParallelism(int threads) {
+        if (threads <= 0) {
+            logger.log(Level.SEVERE, "Invalid parallelism {0}", threads);
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = threads;
+        return this;
+    }
+
+    /**
+     * Sets the executor that runs text parse tasks (the common fork-join pool by default).
+     *
+     * @param executor the executor to use
+     * @return this reader
+     * @throws NullPointerException if executor is null
+     */
+    public PointCloudReader setExecutor(Executor executor) {
+        if (executor == null) {
+            logger.log(Level.SEVERE, "Cannot set executor: executor is null");
+            throw new NullPointerException("Executor cannot be null");
+        }
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Returns the configured parse parallelism.
+     *
+     * @return the number of concurrent parse tasks
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Streams every point in a file to the consumer, chunk by chunk, in file order.
+     *
+     * The format is detected from the content ("ply" magic) and otherwise from the
+     * extension (.obj for OBJ, anything else is treated as XYZ). The consumer must
+     * not keep a reference to a chunk after it returns.
+     *
+     * Time Complexity: O(file size)
+     * Space Complexity: O(parallelism * chunk size)
+     *
+     * @param path the file to read
+     * @param consumer receives each chunk of points
+     * @return the total number of points delivered
+     * @throws NullPointerException if path or consumer is null
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file content is malformed or unsupported
+     */
+    public long read(Path path, Consumer<PointBuffer> consumer) throws IOException {
+        if (path == null || consumer == null) {
+            logger.log(Level.SEVERE, "Cannot read point cloud: path or consumer is null");
+            throw new NullPointerException("Path and consumer cannot be null");
+        }
+
+        long total;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            PlyHeader ply = PlyHeader.readIfPresent(channel);
+            if (ply == null) {
+                PointCloudFormat format = path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".obj")
+                        ? PointCloudFormat.OBJ : PointCloudFormat.XYZ;
+                total = readText(channel, 0, format, null, consumer);
+            } else if (ply.binary) {
+                total = readBinaryPly(channel, ply, consumer);
+            } else {
+                long vertexStart = skipLines(channel, ply.bodyStart, ply.linesBeforeVertices());
+                total = readText(channel, vertexStart, PointCloudFormat.PLY_ASCII, ply, consumer);
+            }
+        }
+
+        logger.log(Level.INFO, "Read {0} points from {1}", new Object[]{total, path});
+        return total;
+    }
+
+    /**
+     * Reads an entire file into a single PointBuffer.
+     *
+     * @param path the file to read
+     * @return a buffer with every point in file order
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file content is malformed or unsupported
+     */
+    public PointBuffer readAll(Path path) throws IOException {
+        PointBuffer all = new PointBuffer();
+        read(path, all::addAll);
+        return all;
+    }
+
+    /**
+     * Reads an entire file into Point3D objects.
+     *
+     * Convenient for small files; prefer read() or readAll() for large ones.
+     *
+     * @param path the file to read
+     * @return the points in file order
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file content is malformed or unsupported
+     */
+    public Point3D[] readPoints(Path path) throws IOException {
+        return readAll(path).toPoints();
+    }
+
+    // ------------------------------------------------------------------
+    // Binary PLY
+    // ------------------------------------------------------------------
+
+    private long readBinaryPly(FileChannel channel, PlyHeader ply, Consumer<PointBuffer> consumer) throws IOException {
+        long start = ply.bodyStart + ply.bytesBeforeVertices();
+        int recordSize = ply.vertexRecordSize();
+        long remaining = ply.vertexCount;
+        if (start + remaining * recordSize > channel.size()) {
+            logger.log(Level.SEVERE, "Binary PLY body is truncated");
+            throw new IllegalArgumentException("PLY body is shorter than its header declares");
+        }
+
+        int offX = ply.offsetOf(ply.xIndex);
+        int offY = ply.offsetOf(ply.yIndex);
+        int offZ = ply.offsetOf(ply.zIndex);
+        String typeX = ply.vertexTypes.get(ply.xIndex);
+        String typeY = ply.vertexTypes.get(ply.yIndex);
+        String typeZ = ply.vertexTypes.get(ply.zIndex);
+
+        long recordsPerWindow = Math.max(1, MAX_MAPPED_WINDOW / recordSize);
+        PointBuffer chunk = new PointBuffer(BINARY_CHUNK_POINTS);
+        long delivered = 0;
+
+        while (remaining > 0) {
+            long records = Math.min(remaining, recordsPerWindow);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, records * recordSize);
+            window.order(ply.order);
+
+            for (int r = 0; r < records; r++) {
+                int base = r * recordSize;
+                chunk.add(readScalar(window, base + offX, typeX),
+                          readScalar(window, base + offY, typeY),
+                          readScalar(window, base + offZ, typeZ));
+                if (chunk.size() == BINARY_CHUNK_POINTS) {
+                    consumer.accept(chunk);
+                    delivered += chunk.size();
+                    chunk.clear();
+                }
+            }
+
+            start += records * recordSize;
+            remaining -= records;
+        }
+
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+            delivered += chunk.size();
+        }
+        return delivered;
+    }
+
+    private static double readScalar(ByteBuffer buffer, int offset, String type) {
+        switch (type) {
+            case "char":
+            case "int8":
+                return buffer.get(offset);
+            case "uchar":
+            case "uint8":
+                return buffer.get(offset) & 0xFF;
+            case "short":
+            case "int16":
+                return buffer.getShort(offset);
+            case "ushort":
+            case "uint16":
+                return buffer.getShort(offset) & 0xFFFF;
+            case "int":
+            case "int32":
+                return buffer.getInt(offset);
+            case "uint":
+            case "uint32":
+                return buffer.getInt(offset) & 0xFFFFFFFFL;
+            case "float":
+            case "float32":
+                return buffer.getFloat(offset);
+            default:
+                return buffer.getDouble(offset);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Text formats
+    // ------------------------------------------------------------------
+
+    /** Result of parsing one byte range of a text body. */
+    private static final class ParsedChunk {
+        final PointBuffer points = new PointBuffer();
+        String malformedLine;
+    }
+
+    private long readText(FileChannel channel, long bodyStart, PointCloudFormat format, PlyHeader ply,
+                          Consumer<PointBuffer> consumer) throws IOException {
+        long size = channel.size();
+        long limit = ply != null ? ply.vertexCount : Long.MAX_VALUE;
+        long delivered = 0;
+        long next = bodyStart;
+
+        while (next < size && delivered < limit) {
+            // Launch one wave of parse tasks, then deliver their results in order
+            List<CompletableFuture<ParsedChunk>> wave = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism && next < size; i++) {
+                long from = next;
+                long to = Math.min(size, from + chunkBytes);
+                wave.add(CompletableFuture.supplyAsync(
+                        () -> parseRange(channel, from, to, bodyStart, size, format, ply), executor));
+                next = to;
+            }
+
+            for (CompletableFuture<ParsedChunk> future : wave) {
+                ParsedChunk parsed = join(future);
+                if (delivered >= limit) {
+                    continue;
+                }
+                PointBuffer points = parsed.points;
+                if (points.size() >= limit - delivered) {
+                    // Anything after the declared vertex count (e.g. PLY faces) is ignored
+                    points.truncate((int) (limit - delivered));
+                } else if (parsed.malformedLine != null) {
+                    logger.log(Level.SEVERE, "Malformed {0} line: {1}", new Object[]{format, parsed.malformedLine});
+                    throw new IllegalArgumentException("Malformed " + format + " line: " + parsed.malformedLine);
+                }
+                if (!points.isEmpty()) {
+                    consumer.accept(points);
+                    delivered += points.size();
+                }
+            }
+        }
+
+        if (ply != null && delivered < ply.vertexCount) {
+            logger.log(Level.SEVERE, "PLY body ended after {0} of {1} vertices", new Object[]{delivered, ply.vertexCount});
+            throw new IllegalArgumentException("PLY body is shorter than its header declares");
+        }
+        return delivered;
+    }
+
+    /** Returns the offset just past the given number of lines, one per ascii PLY record. */
+    private static long skipLines(FileChannel channel, long position, long lines) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(HEADER_READ_BLOCK);
+        while (lines > 0) {
+            block.clear();
+            int n = channel.read(block, position);
+            if (n <= 0) {
+                logger.log(Level.SEVERE, "PLY body ended before the vertex element");
+                throw new IllegalArgumentException("PLY body is shorter than its header declares");
+            }
+            for (int i = 0; i < n && lines > 0; i++) {
+                position++;
+                if (block.get(i) == '\n') {
+                    lines--;
+                }
+            }
+        }
+        return position;
+    }
+
+    private static ParsedChunk join(CompletableFuture<ParsedChunk> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parses every line that starts within [from, to). The line crossing {@code to} is
+     * read to its end; the partial line before {@code from} belongs to the previous chunk.
+     */
+    private ParsedChunk parseRange(FileChannel channel, long from, long to, long bodyStart, long size,
+                                   PointCloudFormat format, PlyHeader ply) {
+        ParsedChunk result = new ParsedChunk();
+        try {
+            long readFrom = from == bodyStart ? from : from - 1;
+            byte[] bytes = readExtended(channel, readFrom, to, size);
+
+            int pos = 0;
+            if (from != bodyStart) {
+                // bytes[0] is the byte before our range; skip to the first line starting at or after 'from'
+                while (pos < bytes.length && bytes[pos] != '\n') {
+                    pos++;
+                }
+                pos++;
+            }
+
+            int ownedEnd = (int) (to - readFrom);
+            while (pos < bytes.length && pos < ownedEnd) {
+                int lineEnd = pos;
+                while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                    lineEnd++;
+                }
+                if (!parseLine(bytes, pos, lineEnd, format, ply, result.points)) {
+                    result.malformedLine = new String(bytes, pos, Math.min(lineEnd - pos, 200),
+                                                      StandardCharsets.ISO_8859_1).trim();
+                    break;
+                }
+                pos = lineEnd + 1;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    /** Reads [from, to) and then keeps reading until the last line is complete. */
+    private static byte[] readExtended(FileChannel channel, long from, long to, long size) throws IOException {
+        byte[] bytes = new byte[(int) (to - from)];
+        readFully(channel, ByteBuffer.wrap(bytes), from);
+
+        long position = to;
+        while (position < size && (bytes.length == 0 || bytes[bytes.length - 1] != '\n')) {
+            int block = (int) Math.min(HEADER_READ_BLOCK, size - position);
+            byte[] extra = new byte[block];
+            readFully(channel, ByteBuffer.wrap(extra), position);
+            int newline = -1;
+            for (int i = 0; i < block; i++) {
+                if (extra[i] == '\n') {
+                    newline = i;
+                    break;
+                }
+            }
+            int keep = newline >= 0 ? newline + 1 : block;
+            int old = bytes.length;
+            bytes = Arrays.copyOf(bytes, old + keep);
+            System.arraycopy(extra, 0, bytes, old, keep);
+            position += keep;
+            if (newline >= 0) {
+                break;
+            }
+        }
+        return bytes;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int n = channel.read(target, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of file at offset " + position);
+            }
+            position += n;
+        }
+    }
+
+    /**
+     * Parses one line into {@code out}. Returns false if the line is malformed.
+     * Comments, blank lines and (for OBJ) non-vertex statements are skipped.
+     */
+    private static boolean parseLine(byte[] b, int start, int end, PointCloudFormat format, PlyHeader ply,
+                                     PointBuffer out) {
+        int p = skipSeparators(b, start, end);
+        if (p >= end) {
+            return true;
+        }
+
+        if (format == PointCloudFormat.OBJ) {
+            if (b[p] != 'v' || p + 1 >= end || (b[p + 1] != ' ' && b[p + 1] != '\t')) {
+                return true; // vn, vt, f, o, g, #, ... are not positions
+            }
+            p += 2;
+        } else if (format == PointCloudFormat.XYZ) {
+            byte c = b[p];
+            boolean numeric = (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+            if (!numeric) {
+                return true; // comment or column header
+            }
+        }
+
+        int needed = format == PointCloudFormat.PLY_ASCII ? ply.maxCoordinateIndex() + 1 : 3;
+        double x = 0;
+        double y = 0;
+        double z = 0;
+        for (int token = 0; token < needed; token++) {
+            p = skipSeparators(b, p, end);
+            if (p >= end) {
+                return false;
+            }
+            int tokenEnd = p;
+            while (tokenEnd < end && !isSeparator(b[tokenEnd])) {
+                tokenEnd++;
+            }
+
+            int role = format == PointCloudFormat.PLY_ASCII ? ply.roleOf(token) : token;
+            if (role >= 0) {
+                double value;
+                try {
+                    value = parseDouble(b, p, tokenEnd);
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+                if (role == 0) {
+                    x = value;
+                } else if (role == 1) {
+                    y = value;
+                } else {
+                    z = value;
+                }
+            }
+            p = tokenEnd;
+        }
+
+        out.add(x, y, z);
+        return true;
+    }
+
+    private static boolean isSeparator(byte c) {
+        return c == ' ' || c == '\t' || c == ',' || c == '\r' || c == ';';
+    }
+
+    private static int skipSeparators(byte[] b, int p, int end) {
+        while (p < end && isSeparator(b[p])) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * Converts ASCII decimal text to a double.
+     *
+     * Uses Clinger's fast path when the significand fits in 53 bits and the decimal
+     * exponent is within +/-22, where one exact multiply or divide gives the correctly
+     * rounded result. Everything else (long significands, huge exponents, NaN,
+     * Infinity) goes through Double.parseDouble.
+     *
+     * @throws NumberFormatException if the text is not a number
+     */
+    static double parseDouble(byte[] b, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean exact = true;
+
+        while (i < end && b[i] >= '0' && b[i] <= '9') {
+            int d = b[i] - '0';
+            anyDigit = true;
+            if (significand != 0 || d != 0) {
+                if (digits < 18) {
+                    significand = significand * 10 + d;
+                    digits++;
+                } else {
+                    exact = false;
+                }
+            }
+            i++;
+        }
+        if (i < end && b[i] == '.') {
+            i++;
+            while (i < end && b[i] >= '0' && b[i] <= '9') {
+                int d = b[i] - '0';
+                anyDigit = true;
+                if (significand == 0 && d == 0) {
+                    exponent--;
+                } else if (digits < 18) {
+                    significand = significand * 10 + d;
+                    digits++;
+                    exponent--;
+                } else {
+                    exact = false;
+                }
+                i++;
+            }
+        }
+        if (anyDigit && i < end && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (b[i] == '-' || b[i] == '+')) {
+                negativeExponent = b[i] == '-';
+                i++;
+            }
+            int e = 0;
+            boolean anyExponentDigit = false;
+            while (i < end && b[i] >= '0' && b[i] <= '9') {
+                e = Math.min(e * 10 + (b[i] - '0'), 100_000);
+                anyExponentDigit = true;
+                i++;
+            }
+            if (!anyExponentDigit) {
+                exact = false;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+
+        if (anyDigit && i == end && exact && significand < (1L << 53) && exponent >= -22 && exponent <= 22) {
+            double value = exponent >= 0 ? significand * POWERS_OF_TEN[exponent]
+                                         : significand / POWERS_OF_TEN[-exponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(new String(b, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+
+    // ------------------------------------------------------------------
+    // PLY header
+    // ------------------------------------------------------------------
+
+    /** Parsed PLY header: element layout and where the x, y, z properties live. */
+    private static final class PlyHeader {
+        boolean binary;
+        ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+        long bodyStart;
+        long vertexCount = -1;
+        int xIndex = -1;
+        int yIndex = -1;
+        int zIndex = -1;
+        final List<String> vertexTypes = new ArrayList<>();
+        // Elements declared before "vertex": count and fixed record size (-1 if it has list properties)
+        final List<long[]> precedingElements = new ArrayList<>();
+
+        static PlyHeader readIfPresent(FileChannel channel) throws IOException {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            channel.read(magic, 0);
+            if (magic.position() < 3 || magic.get(0) != 'p' || magic.get(1) != 'l' || magic.get(2) != 'y') {
+                return null;
+            }
+
+            StringBuilder text = new StringBuilder();
+            long position = 0;
+            int headerEnd = -1;
+            ByteBuffer block = ByteBuffer.allocate(HEADER_READ_BLOCK);
+            while (headerEnd < 0) {
+                block.clear();
+                int n = channel.read(block, position);
+                if (n <= 0) {
+                    logger.log(Level.SEVERE, "PLY header has no end_header line");
+                    throw new IllegalArgumentException("PLY header is not terminated");
+                }
+                text.append(new String(block.array(), 0, n, StandardCharsets.ISO_8859_1));
+                position += n;
+                int marker = text.indexOf("end_header");
+                if (marker >= 0) {
+                    int newline = text.indexOf("\n", marker);
+                    if (newline >= 0) {
+                        headerEnd = newline + 1;
+                    }
+                }
+            }
+
+            PlyHeader header = new PlyHeader();
+            header.bodyStart = headerEnd;
+            header.parse(text.substring(0, headerEnd));
+            return header;
+        }
+
+        private void parse(String text) {
+            String currentElement = null;
+            long currentCount = 0;
+            long currentSize = 0;
+
+            for (String rawLine : text.split("\n")) {
+                String[] parts = rawLine.trim().split("\\s+");
+                if (parts.length == 0) {
+                    continue;
+                }
+                switch (parts[0]) {
+                    case "format":
+                        if (parts.length < 2) {
+                            throw unsupported("missing format");
+                        }
+                        if (parts[1].equals("ascii")) {
+                            binary = false;
+                        } else if (parts[1].equals("binary_little_endian")) {
+                            binary = true;
+                        } else if (parts[1].equals("binary_big_endian")) {
+                            binary = true;
+                            order = ByteOrder.BIG_ENDIAN;
+                        } else {
+                            throw unsupported("format " + parts[1]);
+                        }
+                        break;
+                    case "element":
+                        if (parts.length < 3) {
+                            throw unsupported("element line without a name and count");
+                        }
+                        if (currentElement != null && vertexCount < 0) {
+                            precedingElements.add(new long[]{currentCount, currentSize});
+                        }
+                        currentElement = parts[1];
+                        currentCount = parseCount(parts[2]);
+                        currentSize = 0;
+                        if (currentElement.equals("vertex")) {
+                            vertexCount = currentCount;
+                        }
+                        break;
+                    case "property":
+                        if (parts.length < 3 || (parts[1].equals("list") && parts.length < 5)) {
+                            throw unsupported("property line without a type and name");
+                        }
+                        if (parts[1].equals("list")) {
+                            if ("vertex".equals(currentElement)) {
+                                throw unsupported("list property on vertex element");
+                            }
+                            currentSize = -1;
+                        } else {
+                            if (currentSize >= 0) {
+                                currentSize += sizeOf(parts[1]);
+                            }
+                            if ("vertex".equals(currentElement)) {
+                                int index = vertexTypes.size();
+                                vertexTypes.add(parts[1]);
+                                if (parts[2].equals("x")) {
+                                    xIndex = index;
+                                } else if (parts[2].equals("y")) {
+                                    yIndex = index;
+                                } else if (parts[2].equals("z")) {
+                                    zIndex = index;
+                                }
+                            }
+                        }
+                        break;
+                    default:
+                        break; // ply, comment, obj_info, end_header
+                }
+            }
+
+            if (vertexCount < 0 || xIndex < 0 || yIndex < 0 || zIndex < 0) {
+                throw unsupported("no vertex element with x, y and z properties");
+            }
+        }
+
+        private static IllegalArgumentException unsupported(String what) {
+            logger.log(Level.SEVERE, "Unsupported PLY header: {0}", what);
+            return new IllegalArgumentException("Unsupported PLY header: " + what);
+        }
+
+        private static long parseCount(String text) {
+            long count;
+            try {
+                count = Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                throw unsupported("element count " + text);
+            }
+            if (count < 0) {
+                throw unsupported("element count " + text);
+            }
+            return count;
+        }
+
+        static int sizeOf(String type) {
+            switch (type) {
+                case "char": case "uchar": case "int8": case "uint8":
+                    return 1;
+                case "short": case "ushort": case "int16": case "uint16":
+                    return 2;
+                case "int": case "uint": case "int32": case "uint32": case "float": case "float32":
+                    return 4;
+                case "double": case "float64":
+                    return 8;
+                default:
+                    throw unsupported("property type " + type);
+            }
+        }
+
+        long bytesBeforeVertices() {
+            long bytes = 0;
+            for (long[] element : precedingElements) {
+                if (element[1] < 0) {
+                    throw unsupported("variable-size element before vertex in binary body");
+                }
+                bytes += element[0] * element[1];
+            }
+            return bytes;
+        }
+
+        long linesBeforeVertices() {
+            long lines = 0;
+            for (long[] element : precedingElements) {
+                lines += element[0];
+            }
+            return lines;
+        }
+
+        int vertexRecordSize() {
+            int size = 0;
+            for (String type : vertexTypes) {
+                size += sizeOf(type);
+            }
+            return size;
+        }
+
+        int offsetOf(int propertyIndex) {
+            int offset = 0;
+            for (int i = 0; i < propertyIndex; i++) {
+                offset += sizeOf(vertexTypes.get(i));
+            }
+            return offset;
+        }
+
+        int maxCoordinateIndex() {
+            return Math.max(xIndex, Math.max(yIndex, zIndex));
+        }
+
+        /** Returns 0, 1 or 2 if the ascii column holds x, y or z, or -1 otherwise. */
+        int roleOf(int column) {
+            if (column == xIndex) {
+                return 0;
+            } else if (column == yIndex) {
+                return 1;
+            } else if (column == zIndex) {
+                return 2;
+            }
+            return -1;
+        }
+    }
+}
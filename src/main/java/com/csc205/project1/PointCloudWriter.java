@@ -0,0 +1,268 @@
+package com.csc205.project1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Streams points into an XYZ, OBJ or PLY file.
+ *
+ * Points are appended through a fixed-size staging buffer and written to a FileChannel
+ * whenever it fills, so arbitrarily large clouds can be exported without holding them
+ * in memory. PLY files need the vertex count in their header; the writer reserves a
+ * fixed-width field for it and patches the final count in on close().
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. RESOURCE MANAGEMENT:
+ *    - Implements Closeable for use with try-with-resources; close() flushes pending
+ *      bytes and finalizes the header
+ *
+ * 2. STATIC FACTORY METHOD:
+ *    - open() picks the encoding and writes the header before any point is accepted
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. BUFFERED I/O:
+ *    - Text is formatted by GeometryFormatter into one reused line builder, so no
+ *      per-line Strings are created; binary PLY stores little-endian doubles so no
+ *      precision is lost
+ *
+ * Note: this class is not thread-safe.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class PointCloudWriter implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(PointCloudWriter.class.getName());
+
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int MAX_LINE_BYTES = 128;
+    private static final int COUNT_FIELD_WIDTH = 20;
+
+    private final FileChannel channel;
+    private final PointCloudFormat format;
+    private final ByteBuffer buffer;
+    private final GeometryFormatter formatter;
+    private final StringBuilder line = new StringBuilder(MAX_LINE_BYTES);
+    private long countFieldOffset = -1;
+    private long count;
+    private boolean closed;
+
+    private PointCloudWriter(FileChannel channel, PointCloudFormat format, GeometryFormatter formatter) {
+        this.channel = channel;
+        this.format = format;
+        this.formatter = formatter;
+        this.buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Creates (or truncates) a file and writes the format's header.
+     *
+     * Example usage:
+     * <pre>
+     * try (PointCloudWriter writer = PointCloudWriter.open(path, PointCloudFormat.PLY_BINARY)) {
+     *     writer.write(points);
+     * }
+     * </pre>
+     *
+     * @param path the file to write
+     * @param format the output format
+     * @return an open writer
+     * @throws NullPointerException if path or format is null
+     * @throws IOException if the file cannot be created
+     */
+    public static PointCloudWriter open(Path path, PointCloudFormat format) throws IOException {
+        return open(path, format, GeometryFormatter.shortest());
+    }
+
+    /**
+     * Creates (or truncates) a file whose text coordinates use the given formatter.
+     *
+     * Fixed precision produces noticeably smaller text files when full double
+     * precision is not needed; binary PLY ignores the formatter.
+     *
+     * Example usage:
+     * <pre>
+     * PointCloudWriter.open(path, PointCloudFormat.XYZ, GeometryFormatter.withPrecision(3));
+     * </pre>
+     *
+     * @param path the file to write
+     * @param format the output format
+     * @param formatter the number formatter for text formats
+     * @return an open writer
+     * @throws NullPointerException if any argument is null
+     * @throws IOException if the file cannot be created
+     */
+    public static PointCloudWriter open(Path path, PointCloudFormat format, GeometryFormatter formatter)
+            throws IOException {
+        if (path == null || format == null || formatter == null) {
+            logger.log(Level.SEVERE, "Cannot open point cloud writer: path, format or formatter is null");
+            throw new NullPointerException("Path, format and formatter cannot be null");
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                               StandardOpenOption.TRUNCATE_EXISTING);
+        PointCloudWriter writer = new PointCloudWriter(channel, format, formatter);
+        writer.writeHeader();
+        logger.log(Level.INFO, "Opened {0} writer for {1}", new Object[]{format, path});
+        return writer;
+    }
+
+    private void writeHeader() {
+        if (format == PointCloudFormat.OBJ) {
+            putAscii("# point cloud\n");
+        } else if (format == PointCloudFormat.PLY_ASCII || format == PointCloudFormat.PLY_BINARY) {
+            putAscii("ply\n");
+            putAscii(format == PointCloudFormat.PLY_ASCII ? "format ascii 1.0\n" : "format binary_little_endian 1.0\n");
+            putAscii("element vertex ");
+            countFieldOffset = buffer.position();
+            putAscii(padCount(0));
+            putAscii("\nproperty double x\nproperty double y\nproperty double z\nend_header\n");
+        }
+    }
+
+    /**
+     * Appends one point.
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @throws IOException if the file cannot be written
+     * @throws IllegalStateException if the writer is closed
+     */
+    public void write(double x, double y, double z) throws IOException {
+        ensureOpen();
+
+        if (format == PointCloudFormat.PLY_BINARY) {
+            if (buffer.remaining() < 24) {
+                flush();
+            }
+            buffer.putDouble(x).putDouble(y).putDouble(z);
+        } else {
+            line.setLength(0);
+            if (format == PointCloudFormat.OBJ) {
+                line.append("v ");
+            }
+            formatter.appendCoordinates(line, x, y, z, " ").append('\n');
+            // Fixed precision can print huge magnitudes in full, so size by the actual line
+            if (buffer.remaining() < line.length()) {
+                flush();
+            }
+            putAscii(line);
+        }
+        count++;
+    }
+
+    /**
+     * Appends one point.
+     *
+     * @param point the point to write
+     * @throws NullPointerException if point is null
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Point3D point) throws IOException {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot write point: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        write(point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Appends every point in a buffer.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param points the points to write
+     * @throws NullPointerException if points is null
+     * @throws IOException if the file cannot be written
+     */
+    public void write(PointBuffer points) throws IOException {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot write points: buffer is null");
+            throw new NullPointerException("Point buffer cannot be null");
+        }
+        double[] xyz = points.getCoordinates();
+        int n = points.size() * 3;
+        for (int i = 0; i < n; i += 3) {
+            write(xyz[i], xyz[i + 1], xyz[i + 2]);
+        }
+    }
+
+    /**
+     * Returns the number of points written so far.
+     *
+     * @return the point count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Flushes pending bytes, patches the PLY vertex count and closes the file.
+     *
+     * Calling close() more than once has no effect.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            if (countFieldOffset >= 0) {
+                byte[] field = padCount(count).getBytes(StandardCharsets.US_ASCII);
+                ByteBuffer patch = ByteBuffer.wrap(field);
+                long position = countFieldOffset;
+                while (patch.hasRemaining()) {
+                    position += channel.write(patch, position);
+                }
+            }
+        } finally {
+            channel.close();
+        }
+        logger.log(Level.INFO, "Closed {0} writer after {1} points", new Object[]{format, count});
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void putAscii(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    private static String padCount(long value) {
+        StringBuilder field = new StringBuilder(Long.toString(value));
+        while (field.length() < COUNT_FIELD_WIDTH) {
+            field.append(' ');
+        }
+        return field.toString();
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            logger.log(Level.SEVERE, "Cannot write to a closed point cloud writer");
+            throw new IllegalStateException("Writer is closed");
+        }
+    }
+}
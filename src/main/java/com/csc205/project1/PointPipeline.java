@@ -0,0 +1,465 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A reactive pipeline that pushes chunks of points through a chain of transform stages.
+ *
+ * Sensor data usually arrives as an endless stream and must be translated, rotated
+ * and filtered before use. Moving single Point3D objects between thread pools through
+ * blocking queues costs an allocation, a log record and a hand-off per point.
+ * PointPipeline instead moves PointBuffer chunks through java.util.concurrent.Flow
+ * stages: every stage is a Flow.Processor that transforms a chunk in place with a
+ * tight primitive loop and passes it on, and every stage runs on its own task so
+ * consecutive stages work on different chunks at the same time.
+ *
+ * Memory stays bounded through backpressure: each stage requests one chunk at a time
+ * and each hand-off holds at most bufferCapacity chunks. When a downstream stage
+ * falls behind, submit() blocks the producer instead of letting queues grow.
+ *
+ * Stages use the same arithmetic as Point3D.translate, Point3D.rotateX/Y/Z and
+ * Cube3D.containsPoint, so a pipeline produces the same coordinates as applying those
+ * methods point by point.
+ *
+ * Example usage:
+ * <pre>
+ * PointPipeline pipeline = PointPipeline.builder()
+ *     .translate(-origin.getX(), -origin.getY(), -origin.getZ())
+ *     .rotateZ(heading)
+ *     .retainInside(regionOfInterest)
+ *     .build();
+ * CompletableFuture&lt;Void&gt; done = pipeline.consume(chunk -&gt; writer.write(chunk));
+ * sensor.forEach(pipeline::submit);
+ * pipeline.close();
+ * done.join();
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. PIPES AND FILTERS:
+ *    - Each transform is an independent stage; stages are composed with a builder
+ *
+ * 2. REACTIVE STREAMS:
+ *    - Stages follow the Flow publisher/subscriber protocol with demand signalling,
+ *      so a slow consumer throttles the producer instead of exhausting memory
+ *
+ * 3. BUILDER PATTERN:
+ *    - The stage chain and its tuning (chunk size, buffer capacity, executor) are
+ *      configured fluently before the pipeline is started
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. CHUNKED BATCH PROCESSING:
+ *    - Per-message overhead is paid once per chunk rather than once per point
+ *
+ * 2. PIPELINE PARALLELISM:
+ *    - With k stages, up to k chunks are processed concurrently
+ *
+ * Note: chunks handed to submit() are modified in place and passed downstream;
+ * callers must not reuse them afterwards.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class PointPipeline implements Flow.Publisher<PointBuffer>, AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(PointPipeline.class.getName());
+
+    /** Default number of points gathered into one chunk by submit(x, y, z). */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /** Default number of chunks buffered between two stages. */
+    public static final int DEFAULT_BUFFER_CAPACITY = 16;
+
+    /**
+     * One stage of the pipeline: a Flow.Processor applying an in-place operation to
+     * each chunk and forwarding non-empty chunks downstream.
+     */
+    private static final class Stage extends SubmissionPublisher<PointBuffer>
+            implements Flow.Processor<PointBuffer, PointBuffer> {
+
+        private final Consumer<PointBuffer> operation;
+        private Flow.Subscription subscription;
+
+        Stage(Consumer<PointBuffer> operation, Executor executor, int bufferCapacity) {
+            super(executor, bufferCapacity);
+            this.operation = operation;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(PointBuffer chunk) {
+            try {
+                operation.accept(chunk);
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Pipeline stage failed; cancelling the stream", e);
+                subscription.cancel();
+                closeExceptionally(e);
+                return;
+            }
+            if (!chunk.isEmpty()) {
+                // Blocks while the downstream buffer is full: this is the backpressure
+                submit(chunk);
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+
+    private final SubmissionPublisher<PointBuffer> source;
+    private final SubmissionPublisher<PointBuffer> output;
+    private final int stageCount;
+    private final int chunkSize;
+    private PointBuffer pending;
+
+    private PointPipeline(Builder builder) {
+        this.chunkSize = builder.chunkSize;
+        this.stageCount = builder.operations.size();
+        this.source = new SubmissionPublisher<>(builder.executor, builder.bufferCapacity);
+        SubmissionPublisher<PointBuffer> upstream = source;
+        for (Consumer<PointBuffer> operation : builder.operations) {
+            Stage stage = new Stage(operation, builder.executor, builder.bufferCapacity);
+            upstream.subscribe(stage);
+            upstream = stage;
+        }
+        this.output = upstream;
+        logger.log(Level.INFO, "Built point pipeline with {0} stages", stageCount);
+    }
+
+    /**
+     * Returns a builder for a new pipeline.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Submits a chunk of points, blocking while the first stage's buffer is full.
+     *
+     * @param chunk the points; the pipeline takes ownership and modifies it in place
+     * @throws NullPointerException if chunk is null
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public void submit(PointBuffer chunk) {
+        if (chunk == null) {
+            logger.log(Level.SEVERE, "Cannot submit null chunk to pipeline");
+            throw new NullPointerException("Chunk cannot be null");
+        }
+        if (!chunk.isEmpty()) {
+            source.submit(chunk);
+        }
+    }
+
+    /**
+     * Submits a single point. Points are gathered into chunks of the configured chunk
+     * size; a partial chunk is sent by flush() or close().
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public synchronized void submit(double x, double y, double z) {
+        if (source.isClosed()) {
+            logger.log(Level.SEVERE, "Cannot submit point: pipeline is closed");
+            throw new IllegalStateException("Pipeline is closed");
+        }
+        if (pending == null) {
+            pending = new PointBuffer(chunkSize);
+        }
+        pending.add(x, y, z);
+        if (pending.size() == chunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the partial chunk gathered by submit(x, y, z), if any.
+     */
+    public synchronized void flush() {
+        if (pending != null && !pending.isEmpty()) {
+            PointBuffer chunk = pending;
+            pending = null;
+            source.submit(chunk);
+        }
+    }
+
+    /**
+     * Subscribes to the output of the last stage.
+     *
+     * Subscribers should be attached before points are submitted; chunks published
+     * while there are no subscribers are discarded.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super PointBuffer> subscriber) {
+        output.subscribe(subscriber);
+    }
+
+    /**
+     * Processes every output chunk with the given action.
+     *
+     * @param action called once per output chunk, in submission order
+     * @return a future completed when the pipeline has been closed and drained, or
+     *         completed exceptionally if a stage failed
+     */
+    public CompletableFuture<Void> consume(Consumer<? super PointBuffer> action) {
+        return output.consume(action);
+    }
+
+    /**
+     * Returns the number of stages.
+     *
+     * @return the stage count
+     */
+    public int getStageCount() {
+        return stageCount;
+    }
+
+    /**
+     * Returns the configured chunk size used by submit(x, y, z).
+     *
+     * @return the chunk size in points
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Flushes any partial chunk and signals completion; stages finish the chunks already
+     * submitted and then complete their subscribers.
+     */
+    @Override
+    public synchronized void close() {
+        if (!source.isClosed()) {
+            flush();
+            source.close();
+            logger.log(Level.INFO, "Closed point pipeline");
+        }
+    }
+
+    /**
+     * Aborts the pipeline, passing the error to every subscriber.
+     *
+     * @param error the cause
+     */
+    public synchronized void closeExceptionally(Throwable error) {
+        pending = null;
+        source.closeExceptionally(error);
+    }
+
+    /**
+     * Fluent builder for PointPipeline.
+     */
+    public static final class Builder {
+
+        private final List<Consumer<PointBuffer>> operations = new ArrayList<>();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+        private Executor executor = Thread::startVirtualThread;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a stage translating every point by the given offset.
+         *
+         * @param dx the offset in the x direction
+         * @param dy the offset in the y direction
+         * @param dz the offset in the z direction
+         * @return this builder
+         */
+        public Builder translate(double dx, double dy, double dz) {
+            return stage(chunk -> chunk.translate(dx, dy, dz));
+        }
+
+        /**
+         * Adds a stage rotating every point around the X-axis through the origin.
+         *
+         * @param angleRadians the rotation angle in radians
+         * @return this builder
+         */
+        public Builder rotateX(double angleRadians) {
+            return rotateX(Rotation.of(angleRadians));
+        }
+
+        /**
+         * Adds a stage rotating every point around the X-axis through the origin.
+         *
+         * @param rotation the precomputed rotation
+         * @return this builder
+         * @throws NullPointerException if rotation is null
+         */
+        public Builder rotateX(Rotation rotation) {
+            checkRotation(rotation);
+            return stage(chunk -> chunk.rotateX(rotation));
+        }
+
+        /**
+         * Adds a stage rotating every point around the Y-axis through the origin.
+         *
+         * @param angleRadians the rotation angle in radians
+         * @return this builder
+         */
+        public Builder rotateY(double angleRadians) {
+            return rotateY(Rotation.of(angleRadians));
+        }
+
+        /**
+         * Adds a stage rotating every point around the Y-axis through the origin.
+         *
+         * @param rotation the precomputed rotation
+         * @return this builder
+         * @throws NullPointerException if rotation is null
+         */
+        public Builder rotateY(Rotation rotation) {
+            checkRotation(rotation);
+            return stage(chunk -> chunk.rotateY(rotation));
+        }
+
+        /**
+         * Adds a stage rotating every point around the Z-axis through the origin.
+         *
+         * @param angleRadians the rotation angle in radians
+         * @return this builder
+         */
+        public Builder rotateZ(double angleRadians) {
+            return rotateZ(Rotation.of(angleRadians));
+        }
+
+        /**
+         * Adds a stage rotating every point around the Z-axis through the origin.
+         *
+         * @param rotation the precomputed rotation
+         * @return this builder
+         * @throws NullPointerException if rotation is null
+         */
+        public Builder rotateZ(Rotation rotation) {
+            checkRotation(rotation);
+            return stage(chunk -> chunk.rotateZ(rotation));
+        }
+
+        /**
+         * Adds a stage dropping every point outside a cube.
+         *
+         * @param cube the cube whose interior (and surface) points are kept
+         * @return this builder
+         * @throws NullPointerException if cube is null
+         */
+        public Builder retainInside(Cube3D cube) {
+            if (cube == null) {
+                logger.log(Level.SEVERE, "Cannot add filter stage: cube is null");
+                throw new NullPointerException("Cube cannot be null");
+            }
+            return stage(chunk -> chunk.retainInside(cube));
+        }
+
+        /**
+         * Adds a custom stage. The operation may modify the chunk in place, including
+         * truncating it; empty chunks are not passed on.
+         *
+         * @param operation the in-place operation
+         * @return this builder
+         * @throws NullPointerException if operation is null
+         */
+        public Builder stage(Consumer<PointBuffer> operation) {
+            if (operation == null) {
+                logger.log(Level.SEVERE, "Cannot add pipeline stage: operation is null");
+                throw new NullPointerException("Stage operation cannot be null");
+            }
+            operations.add(operation);
+            return this;
+        }
+
+        /**
+         * Sets the number of points gathered per chunk by submit(x, y, z).
+         *
+         * @param chunkSize the chunk size in points
+         * @return this builder
+         * @throws IllegalArgumentException if chunkSize is not positive
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                logger.log(Level.SEVERE, "Invalid pipeline chunk size: {0}", chunkSize);
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of chunks buffered between two stages. Together with
+         * the chunk size this bounds the memory held by the pipeline.
+         *
+         * @param bufferCapacity the buffer capacity in chunks (rounded up to a power of two)
+         * @return this builder
+         * @throws IllegalArgumentException if bufferCapacity is not positive
+         */
+        public Builder bufferCapacity(int bufferCapacity) {
+            if (bufferCapacity <= 0) {
+                logger.log(Level.SEVERE, "Invalid pipeline buffer capacity: {0}", bufferCapacity);
+                throw new IllegalArgumentException("Buffer capacity must be positive");
+            }
+            this.bufferCapacity = bufferCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the stages. The default starts a virtual thread
+         * per active stage.
+         *
+         * @param executor the executor
+         * @return this builder
+         * @throws NullPointerException if executor is null
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                logger.log(Level.SEVERE, "Cannot use null executor for pipeline");
+                throw new NullPointerException("Executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds and starts the pipeline.
+         *
+         * @return the pipeline, ready to accept points
+         */
+        public PointPipeline build() {
+            return new PointPipeline(this);
+        }
+
+        private static void checkRotation(Rotation rotation) {
+            if (rotation == null) {
+                logger.log(Level.SEVERE, "Cannot add rotation stage: rotation is null");
+                throw new NullPointerException("Rotation cannot be null");
+            }
+        }
+    }
+}
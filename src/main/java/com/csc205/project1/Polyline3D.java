@@ -0,0 +1,679 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * An immutable path through a sequence of vertices, with arc-length lookups in
+ * logarithmic time and an index for nearest-point queries.
+ *
+ * Vertices are stored interleaved in one double array, and a prefix array holds the
+ * distance along the path at every vertex. Finding the point at a given distance is a
+ * binary search over that array followed by one interpolation, instead of summing
+ * Line3D.length() over the segments before it.
+ *
+ * Nearest-point queries use a bounding volume hierarchy over runs of consecutive
+ * segments. A path is spatially coherent, so a run of neighbouring segments has a tight
+ * bounding box and the tree can be built over index ranges without sorting. The query
+ * descends into the nearer child first and skips every box farther away than the best
+ * segment found so far. The tree is built on the first query.
+ *
+ * simplify() implements Douglas–Peucker. The ranges left after each split are
+ * independent, so ranges of at least PARALLEL_THRESHOLD vertices are forked to the
+ * common ForkJoinPool while smaller ones are processed on an explicit stack by the
+ * worker that produced them.
+ *
+ * Example usage:
+ * <pre>
+ * Polyline3D route = Polyline3D.fromLines(legs);
+ * Point3D halfway = route.pointAtDistance(route.length() / 2);
+ * double progress = route.distanceAlong(vehiclePosition);
+ * Polyline3D coarse = route.simplify(0.5);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - Vertices and prefix lengths are fixed at construction; the lazily built index is
+ *      published through a volatile field, so instances can be shared between threads
+ *
+ * 2. FACTORY METHODS:
+ *    - of(), fromLines() and fromBuffer() adapt the existing point and line types
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. PREFIX SUMS:
+ *    - The cumulative length array turns arc-length lookup into a binary search
+ *
+ * 2. BOUNDING VOLUME HIERARCHY:
+ *    - Branch-and-bound nearest-segment search in O(log N) for typical paths
+ *
+ * 3. DOUGLAS–PEUCKER SIMPLIFICATION:
+ *    - Keeps the vertex farthest from the chord of each range while it exceeds the
+ *      tolerance, in O(N log N) expected time
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Polyline3D {
+
+    private static final Logger logger = Logger.getLogger(Polyline3D.class.getName());
+
+    // Tolerance for floating-point comparisons
+    private static final double EPSILON = 1e-10;
+
+    /** Segments per leaf of the nearest-point index. */
+    static final int LEAF_SIZE = 8;
+
+    /** Vertex ranges at least this long are simplified in parallel. */
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final double[] xyz;
+    private final double[] cumulative;
+    private final int vertexCount;
+
+    private volatile SegmentIndex index;
+
+    /**
+     * Creates a path through the given vertices.
+     *
+     * @param vertices the vertices in path order; at least two
+     * @throws NullPointerException if vertices or any vertex is null
+     * @throws IllegalArgumentException if fewer than two vertices are given
+     */
+    public Polyline3D(List<Point3D> vertices) {
+        this(toCoordinates(vertices), vertices.size());
+    }
+
+    private Polyline3D(double[] xyz, int vertexCount) {
+        if (vertexCount < 2) {
+            logger.log(Level.SEVERE, "Cannot create Polyline3D with {0} vertices", vertexCount);
+            throw new IllegalArgumentException("A polyline needs at least two vertices");
+        }
+        this.xyz = xyz;
+        this.vertexCount = vertexCount;
+        this.cumulative = new double[vertexCount];
+        for (int i = 1; i < vertexCount; i++) {
+            cumulative[i] = cumulative[i - 1] + segmentLength(i - 1);
+        }
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Created Polyline3D with {0} vertices and length {1}",
+                       new Object[]{vertexCount, cumulative[vertexCount - 1]});
+        }
+    }
+
+    /**
+     * Creates a path through the given vertices.
+     *
+     * @param vertices the vertices in path order; at least two
+     * @return the path
+     * @throws NullPointerException if vertices or any vertex is null
+     * @throws IllegalArgumentException if fewer than two vertices are given
+     */
+    public static Polyline3D of(Point3D... vertices) {
+        if (vertices == null) {
+            logger.log(Level.SEVERE, "Cannot create Polyline3D: vertices are null");
+            throw new NullPointerException("Vertices cannot be null");
+        }
+        return new Polyline3D(Arrays.asList(vertices));
+    }
+
+    /**
+     * Creates a path from connected segments, each starting where the previous one ends.
+     *
+     * @param lines the segments in path order; at least one
+     * @return the path through the start of the first segment and the end of every segment
+     * @throws NullPointerException if lines or any line is null
+     * @throws IllegalArgumentException if lines is empty or two consecutive segments do
+     *         not connect
+     */
+    public static Polyline3D fromLines(List<Line3D> lines) {
+        if (lines == null) {
+            logger.log(Level.SEVERE, "Cannot create Polyline3D: lines are null");
+            throw new NullPointerException("Lines cannot be null");
+        }
+        if (lines.isEmpty()) {
+            logger.log(Level.SEVERE, "Cannot create Polyline3D from no lines");
+            throw new IllegalArgumentException("At least one line is required");
+        }
+        List<Point3D> vertices = new ArrayList<>(lines.size() + 1);
+        for (int i = 0; i < lines.size(); i++) {
+            Line3D line = lines.get(i);
+            if (line == null) {
+                logger.log(Level.SEVERE, "Cannot create Polyline3D: line {0} is null", i);
+                throw new NullPointerException("Lines cannot contain null");
+            }
+            if (i == 0) {
+                vertices.add(line.getStart());
+            } else if (!line.getStart().equals(lines.get(i - 1).getEnd())) {
+                logger.log(Level.SEVERE, "Cannot create Polyline3D: line {0} does not start where line {1} ends",
+                           new Object[]{i, i - 1});
+                throw new IllegalArgumentException("Consecutive lines must connect");
+            }
+            vertices.add(line.getEnd());
+        }
+        return new Polyline3D(vertices);
+    }
+
+    /**
+     * Creates a path through the points of a buffer, in buffer order.
+     *
+     * @param points the vertices; at least two
+     * @return the path
+     * @throws NullPointerException if points is null
+     * @throws IllegalArgumentException if the buffer holds fewer than two points
+     */
+    public static Polyline3D fromBuffer(PointBuffer points) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot create Polyline3D: buffer is null");
+            throw new NullPointerException("Point buffer cannot be null");
+        }
+        return new Polyline3D(points.toArray(), points.size());
+    }
+
+    /**
+     * Returns the number of vertices.
+     *
+     * @return the vertex count, at least two
+     */
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Returns the number of segments, one less than the number of vertices.
+     *
+     * @return the segment count
+     */
+    public int getSegmentCount() {
+        return vertexCount - 1;
+    }
+
+    /**
+     * Returns a vertex.
+     *
+     * @param i the vertex index
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if i is out of range
+     */
+    public Point3D getVertex(int i) {
+        checkVertex(i);
+        return new Point3D(xyz[3 * i], xyz[3 * i + 1], xyz[3 * i + 2]);
+    }
+
+    /**
+     * Returns a segment as a Line3D.
+     *
+     * @param i the segment index, from 0 to getSegmentCount() - 1
+     * @return the segment from vertex i to vertex i + 1
+     * @throws IndexOutOfBoundsException if i is out of range
+     * @throws IllegalArgumentException if the segment has zero length
+     */
+    public Line3D getSegment(int i) {
+        if (i < 0 || i >= vertexCount - 1) {
+            throw new IndexOutOfBoundsException("Segment index " + i + " out of range");
+        }
+        return new Line3D(getVertex(i), getVertex(i + 1));
+    }
+
+    /**
+     * Returns the segments of the path with non-zero length as Line3D objects.
+     *
+     * @return the segments in path order
+     */
+    public List<Line3D> toLines() {
+        List<Line3D> lines = new ArrayList<>(vertexCount - 1);
+        for (int i = 0; i < vertexCount - 1; i++) {
+            if (cumulative[i + 1] > cumulative[i]) {
+                lines.add(getSegment(i));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the vertices as a new point buffer.
+     *
+     * @return the vertices in path order
+     */
+    public PointBuffer toPointBuffer() {
+        return PointBuffer.wrapCopy(xyz);
+    }
+
+    /**
+     * Returns the total length of the path.
+     *
+     * @return the sum of the segment lengths
+     */
+    public double length() {
+        return cumulative[vertexCount - 1];
+    }
+
+    /**
+     * Returns the distance along the path from the first vertex to vertex i.
+     *
+     * @param i the vertex index
+     * @return the arc length at the vertex
+     * @throws IndexOutOfBoundsException if i is out of range
+     */
+    public double distanceAtVertex(int i) {
+        checkVertex(i);
+        return cumulative[i];
+    }
+
+    /**
+     * Returns the index of the segment containing the point at a given distance along the
+     * path. A distance that falls on a vertex belongs to the segment starting there,
+     * except at the end of the path.
+     *
+     * @param distance the arc length, from 0 to length()
+     * @return the segment index
+     * @throws IllegalArgumentException if distance is outside [0, length()]
+     */
+    public int segmentIndexAt(double distance) {
+        checkDistance(distance);
+        // Last vertex whose prefix length is at most the distance, capped at the last segment
+        int lo = 0;
+        int hi = vertexCount - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (cumulative[mid] <= distance) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the point at a given distance along the path in O(log N) time.
+     *
+     * @param distance the arc length, from 0 to length()
+     * @return the point
+     * @throws IllegalArgumentException if distance is outside [0, length()]
+     */
+    public Point3D pointAtDistance(double distance) {
+        int segment = segmentIndexAt(distance);
+        double segmentLength = cumulative[segment + 1] - cumulative[segment];
+        double t = segmentLength > 0 ? Math.min(1, Math.max(0, (distance - cumulative[segment]) / segmentLength)) : 0;
+        return pointOnSegment(segment, t);
+    }
+
+    /**
+     * Returns the point at a fraction of the path's length.
+     *
+     * @param fraction the fraction, from 0 (first vertex) to 1 (last vertex)
+     * @return the point
+     * @throws IllegalArgumentException if fraction is outside [0, 1]
+     */
+    public Point3D pointAtFraction(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            logger.log(Level.SEVERE, "Invalid path fraction: {0}", fraction);
+            throw new IllegalArgumentException("Fraction must be between 0 and 1");
+        }
+        return pointAtDistance(fraction * length());
+    }
+
+    /**
+     * Returns the point of the path closest to a given point.
+     *
+     * @param point the query point
+     * @return the closest point on the path
+     * @throws NullPointerException if point is null
+     */
+    public Point3D closestPoint(Point3D point) {
+        Nearest nearest = nearest(point);
+        return pointOnSegment(nearest.segment, nearest.t);
+    }
+
+    /**
+     * Returns the distance from a point to the path.
+     *
+     * @param point the query point
+     * @return the distance to the closest point on the path
+     * @throws NullPointerException if point is null
+     */
+    public double distanceTo(Point3D point) {
+        return Math.sqrt(nearest(point).distanceSquared);
+    }
+
+    /**
+     * Returns how far along the path the point closest to a given point lies, for
+     * example the progress of a vehicle along a route.
+     *
+     * @param point the query point
+     * @return the arc length of the closest point on the path
+     * @throws NullPointerException if point is null
+     */
+    public double distanceAlong(Point3D point) {
+        Nearest nearest = nearest(point);
+        return cumulative[nearest.segment]
+               + nearest.t * (cumulative[nearest.segment + 1] - cumulative[nearest.segment]);
+    }
+
+    /**
+     * Simplifies the path with the Douglas–Peucker algorithm. Every removed vertex lies
+     * within the tolerance of the simplified path, and the first and last vertices are
+     * always kept.
+     *
+     * @param tolerance the largest allowed distance of a removed vertex, non-negative
+     * @return the simplified path
+     * @throws IllegalArgumentException if tolerance is negative or not finite
+     */
+    public Polyline3D simplify(double tolerance) {
+        if (!(tolerance >= 0) || Double.isInfinite(tolerance)) {
+            logger.log(Level.SEVERE, "Invalid simplification tolerance: {0}", tolerance);
+            throw new IllegalArgumentException("Tolerance must be a non-negative finite number");
+        }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        boolean[] keep = new boolean[vertexCount];
+        keep[0] = true;
+        keep[vertexCount - 1] = true;
+        SimplifyTask task = new SimplifyTask(xyz, keep, tolerance * tolerance, 0, vertexCount - 1);
+        if (vertexCount >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        double[] simplified = new double[3 * kept];
+        int w = 0;
+        for (int i = 0; i < vertexCount; i++) {
+            if (keep[i]) {
+                System.arraycopy(xyz, 3 * i, simplified, w, 3);
+                w += 3;
+            }
+        }
+        Polyline3D result = new Polyline3D(simplified, kept);
+        if (logger.isLoggable(Level.INFO)) {
+            logger.log(Level.INFO, "Simplified polyline from {0} to {1} vertices with tolerance {2}",
+                       new Object[]{vertexCount, kept, tolerance});
+        }
+
+        slowQuery.finish(GeometryOperation.POLYLINE_SIMPLIFY, this, vertexCount);
+        GeometryMetrics.record(GeometryOperation.POLYLINE_SIMPLIFY, metricsStart, vertexCount + 32L * kept);
+        return result;
+    }
+
+    /**
+     * Returns a string representation of this path.
+     *
+     * @return the vertex count and length
+     */
+    @Override
+    public String toString() {
+        return "Polyline3D[" + vertexCount + " vertices, length=" + length() + "]";
+    }
+
+    private Point3D pointOnSegment(int segment, double t) {
+        int o = 3 * segment;
+        return new Point3D(xyz[o] + t * (xyz[o + 3] - xyz[o]),
+                           xyz[o + 1] + t * (xyz[o + 4] - xyz[o + 1]),
+                           xyz[o + 2] + t * (xyz[o + 5] - xyz[o + 2]));
+    }
+
+    private double segmentLength(int segment) {
+        int o = 3 * segment;
+        double dx = xyz[o + 3] - xyz[o];
+        double dy = xyz[o + 4] - xyz[o + 1];
+        double dz = xyz[o + 5] - xyz[o + 2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private void checkVertex(int i) {
+        if (i < 0 || i >= vertexCount) {
+            throw new IndexOutOfBoundsException("Vertex index " + i + " out of range");
+        }
+    }
+
+    private void checkDistance(double distance) {
+        if (!(distance >= -EPSILON && distance <= length() + EPSILON)) {
+            logger.log(Level.SEVERE, "Distance {0} is outside the path of length {1}",
+                       new Object[]{distance, length()});
+            throw new IllegalArgumentException("Distance must be between 0 and the path length");
+        }
+    }
+
+    private Nearest nearest(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot find nearest point on path: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        SegmentIndex tree = index;
+        if (tree == null) {
+            tree = new SegmentIndex(xyz, vertexCount - 1);
+            index = tree;
+        }
+        Nearest nearest = new Nearest();
+        tree.search(0, point.getX(), point.getY(), point.getZ(), nearest);
+        return nearest;
+    }
+
+    /**
+     * Helper method that projects a point onto segment [a, b] of the interleaved array and
+     * returns the parameter of the closest point, clamped to [0, 1].
+     */
+    private static double projectOnSegment(double[] xyz, int a, int b, double px, double py, double pz) {
+        int oa = 3 * a;
+        int ob = 3 * b;
+        double dx = xyz[ob] - xyz[oa];
+        double dy = xyz[ob + 1] - xyz[oa + 1];
+        double dz = xyz[ob + 2] - xyz[oa + 2];
+        double lengthSquared = dx * dx + dy * dy + dz * dz;
+        if (lengthSquared == 0) {
+            return 0;
+        }
+        double t = ((px - xyz[oa]) * dx + (py - xyz[oa + 1]) * dy + (pz - xyz[oa + 2]) * dz) / lengthSquared;
+        return Math.min(1, Math.max(0, t));
+    }
+
+    /** Squared distance from a point to segment [a, b] of the interleaved array. */
+    private static double distanceSquaredToSegment(double[] xyz, int a, int b, double px, double py, double pz) {
+        double t = projectOnSegment(xyz, a, b, px, py, pz);
+        int oa = 3 * a;
+        int ob = 3 * b;
+        double ex = xyz[oa] + t * (xyz[ob] - xyz[oa]) - px;
+        double ey = xyz[oa + 1] + t * (xyz[ob + 1] - xyz[oa + 1]) - py;
+        double ez = xyz[oa + 2] + t * (xyz[ob + 2] - xyz[oa + 2]) - pz;
+        return ex * ex + ey * ey + ez * ez;
+    }
+
+    private static double[] toCoordinates(List<Point3D> vertices) {
+        if (vertices == null) {
+            logger.log(Level.SEVERE, "Cannot create Polyline3D: vertices are null");
+            throw new NullPointerException("Vertices cannot be null");
+        }
+        double[] xyz = new double[3 * vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            Point3D p = vertices.get(i);
+            if (p == null) {
+                logger.log(Level.SEVERE, "Cannot create Polyline3D: vertex {0} is null", i);
+                throw new NullPointerException("Vertices cannot contain null");
+            }
+            xyz[3 * i] = p.getX();
+            xyz[3 * i + 1] = p.getY();
+            xyz[3 * i + 2] = p.getZ();
+        }
+        return xyz;
+    }
+
+    /** The best segment found so far by a nearest-point query. */
+    private static final class Nearest {
+        int segment;
+        double t;
+        double distanceSquared = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Bounding box hierarchy over runs of consecutive segments, stored in depth-first
+     * order: the left child of node k is k + 1 and its right child is skip[k].
+     */
+    private static final class SegmentIndex {
+        private final double[] xyz;
+        // minX, minY, minZ, maxX, maxY, maxZ for each node
+        private final double[] boxes;
+        private final int[] first;
+        private final int[] end;
+        private final int[] skip;
+        private int nodeCount;
+
+        SegmentIndex(double[] xyz, int segmentCount) {
+            this.xyz = xyz;
+            int leaves = (segmentCount + LEAF_SIZE - 1) / LEAF_SIZE;
+            int capacity = 2 * leaves;
+            this.boxes = new double[6 * capacity];
+            this.first = new int[capacity];
+            this.end = new int[capacity];
+            this.skip = new int[capacity];
+            build(0, segmentCount);
+        }
+
+        private int build(int lo, int hi) {
+            int node = nodeCount++;
+            first[node] = lo;
+            end[node] = hi;
+            int o = 6 * node;
+            if (hi - lo <= LEAF_SIZE) {
+                Arrays.fill(boxes, o, o + 3, Double.POSITIVE_INFINITY);
+                Arrays.fill(boxes, o + 3, o + 6, Double.NEGATIVE_INFINITY);
+                // Segments lo to hi - 1 span vertices lo to hi
+                for (int v = lo; v <= hi; v++) {
+                    for (int axis = 0; axis < 3; axis++) {
+                        boxes[o + axis] = Math.min(boxes[o + axis], xyz[3 * v + axis]);
+                        boxes[o + 3 + axis] = Math.max(boxes[o + 3 + axis], xyz[3 * v + axis]);
+                    }
+                }
+                skip[node] = nodeCount;
+                return node;
+            }
+            // Split on a leaf boundary so that every leaf but the last is full
+            int leaves = (hi - lo + LEAF_SIZE - 1) / LEAF_SIZE;
+            int mid = lo + (leaves / 2) * LEAF_SIZE;
+            int left = build(lo, mid);
+            int right = build(mid, hi);
+            for (int axis = 0; axis < 3; axis++) {
+                boxes[o + axis] = Math.min(boxes[6 * left + axis], boxes[6 * right + axis]);
+                boxes[o + 3 + axis] = Math.max(boxes[6 * left + 3 + axis], boxes[6 * right + 3 + axis]);
+            }
+            skip[node] = nodeCount;
+            return node;
+        }
+
+        private double boxDistanceSquared(int node, double px, double py, double pz) {
+            int o = 6 * node;
+            double dx = Math.max(0, Math.max(boxes[o] - px, px - boxes[o + 3]));
+            double dy = Math.max(0, Math.max(boxes[o + 1] - py, py - boxes[o + 4]));
+            double dz = Math.max(0, Math.max(boxes[o + 2] - pz, pz - boxes[o + 5]));
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        void search(int node, double px, double py, double pz, Nearest best) {
+            if (skip[node] == node + 1) {
+                for (int s = first[node]; s < end[node]; s++) {
+                    double d2 = distanceSquaredToSegment(xyz, s, s + 1, px, py, pz);
+                    if (d2 < best.distanceSquared) {
+                        best.distanceSquared = d2;
+                        best.segment = s;
+                        best.t = projectOnSegment(xyz, s, s + 1, px, py, pz);
+                    }
+                }
+                return;
+            }
+            int left = node + 1;
+            int right = skip[left];
+            double dl = boxDistanceSquared(left, px, py, pz);
+            double dr = boxDistanceSquared(right, px, py, pz);
+            int near = dl <= dr ? left : right;
+            int far = dl <= dr ? right : left;
+            if (Math.min(dl, dr) < best.distanceSquared) {
+                search(near, px, py, pz, best);
+            }
+            if (Math.max(dl, dr) < best.distanceSquared) {
+                search(far, px, py, pz, best);
+            }
+        }
+    }
+
+    /**
+     * Douglas–Peucker over the vertex range [lo, hi]. Small ranges are processed on a
+     * local stack; ranges of at least PARALLEL_THRESHOLD vertices are forked.
+     */
+    private static final class SimplifyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] xyz;
+        private final boolean[] keep;
+        private final double toleranceSquared;
+        private final int lo;
+        private final int hi;
+
+        SimplifyTask(double[] xyz, boolean[] keep, double toleranceSquared, int lo, int hi) {
+            this.xyz = xyz;
+            this.keep = keep;
+            this.toleranceSquared = toleranceSquared;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            List<SimplifyTask> forked = new ArrayList<>();
+            int[] stack = new int[64];
+            int top = 0;
+            stack[top++] = lo;
+            stack[top++] = hi;
+            while (top > 0) {
+                int b = stack[--top];
+                int a = stack[--top];
+                int farthest = -1;
+                double max = toleranceSquared;
+                for (int i = a + 1; i < b; i++) {
+                    double d2 = distanceSquaredToSegment(xyz, a, b, xyz[3 * i], xyz[3 * i + 1], xyz[3 * i + 2]);
+                    if (d2 > max) {
+                        max = d2;
+                        farthest = i;
+                    }
+                }
+                if (farthest < 0) {
+                    continue;
+                }
+                // Each index is written by exactly one task, and join() publishes the writes
+                keep[farthest] = true;
+                for (int side = 0; side < 2; side++) {
+                    int from = side == 0 ? a : farthest;
+                    int to = side == 0 ? farthest : b;
+                    if (to - from < 2) {
+                        continue;
+                    }
+                    if (to - from >= PARALLEL_THRESHOLD && getPool() != null) {
+                        SimplifyTask child = new SimplifyTask(xyz, keep, toleranceSquared, from, to);
+                        child.fork();
+                        forked.add(child);
+                    } else {
+                        if (top + 2 > stack.length) {
+                            stack = Arrays.copyOf(stack, stack.length * 2);
+                        }
+                        stack[top++] = from;
+                        stack[top++] = to;
+                    }
+                }
+            }
+            for (SimplifyTask child : forked) {
+                child.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,630 @@
+package com.csc205.project1;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A point list stored as fixed-point integer coordinates relative to a bounding box.
+ *
+ * Each coordinate is mapped onto a grid of 2^16 or 2^32 levels spanning the axis-aligned
+ * bounding box of a Cube3D and stored as a 16- or 32-bit unsigned code, so a point takes
+ * 6 or 12 bytes instead of PointBuffer's 24. Decoding is lazy: getX(i), get(i) and
+ * decode() reconstruct doubles only for the points asked for.
+ *
+ * The reconstruction error per coordinate is at most getMaxError(), which is half a grid
+ * step plus a few ulps of rounding. When that bound is below 1e-10, the tolerance used by
+ * Point3D.equals, every decoded point equals its original and isLossless() returns true;
+ * encode(source, bounds, tolerance) picks the smallest precision that meets a bound.
+ *
+ * Some bulk operations never decode: translate() moves the grid origin in O(1), and
+ * countInBox()/retainInBox() turn the query box into code ranges once and then compare
+ * integers only. retainInside() uses the same integer test as a reject filter before the
+ * exact Cube3D.containsPoint check.
+ *
+ * Example usage:
+ * <pre>
+ * QuantizedPointBuffer archive = QuantizedPointBuffer.encode(cloud, region, 1e-4);
+ * archive.writeTo(out);
+ * System.out.println(archive.getCompressionRatio());
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. STRUCTURE OF PRIMITIVES:
+ *    - Codes live in a single short[] or int[]; no per-point objects
+ *
+ * 2. LAZY DECODING:
+ *    - Doubles and Point3D objects are produced only on request
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. UNIFORM QUANTIZATION:
+ *    - code = round((v - min) / extent * levels), v' = min + extent * code / levels;
+ *      the same mapping as GeometryCodec's QUANTIZED16 encoding
+ *
+ * 2. MONOTONE RANGE MAPPING:
+ *    - Decoding is non-decreasing in the code, so a coordinate interval corresponds to
+ *      one contiguous code interval, found once per query
+ *
+ * Note: this class is not thread-safe.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class QuantizedPointBuffer {
+
+    private static final Logger logger = Logger.getLogger(QuantizedPointBuffer.class.getName());
+
+    // Same tolerance as Point3D.equals; decoded points within it compare equal
+    private static final double EPSILON = 1e-10;
+
+    // Bounds (6 doubles), precision bits (int) and point count (int)
+    private static final int HEADER_BYTES = 6 * Double.BYTES + 2 * Integer.BYTES;
+
+    /**
+     * The width of each stored coordinate code.
+     */
+    public enum Precision {
+        /** 2-byte codes, 65,535 steps per axis. */
+        INT16(16),
+        /** 4-byte codes, 4,294,967,295 steps per axis. */
+        INT32(32);
+
+        private final int bits;
+
+        Precision(int bits) {
+            this.bits = bits;
+        }
+
+        /**
+         * Returns the number of bits per coordinate code.
+         *
+         * @return 16 or 32
+         */
+        public int getBits() {
+            return bits;
+        }
+
+        /**
+         * Returns the number of grid steps per axis.
+         *
+         * @return 2^bits - 1
+         */
+        public long getLevels() {
+            return (1L << bits) - 1;
+        }
+
+        static Precision ofBits(int bits) {
+            for (Precision precision : values()) {
+                if (precision.bits == bits) {
+                    return precision;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported precision: " + bits + " bits");
+        }
+    }
+
+    private final Precision precision;
+    private final double levels;
+    private final double[] min = new double[3];
+    private final double[] extent = new double[3];
+    private final short[] shortCodes;
+    private final int[] intCodes;
+    private int size;
+
+    private QuantizedPointBuffer(Precision precision, double[] min, double[] max, int size) {
+        this.precision = precision;
+        this.levels = precision.getLevels();
+        for (int axis = 0; axis < 3; axis++) {
+            this.min[axis] = min[axis];
+            this.extent[axis] = max[axis] - min[axis];
+        }
+        this.shortCodes = precision == Precision.INT16 ? new short[size * 3] : null;
+        this.intCodes = precision == Precision.INT32 ? new int[size * 3] : null;
+        this.size = size;
+    }
+
+    /**
+     * Quantizes a buffer's points onto a grid spanning a cube's axis-aligned bounding box.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @param source the points to encode
+     * @param bounds a cube whose bounding box contains every point
+     * @param precision the code width
+     * @return the quantized buffer
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if a point lies outside the bounds or is not finite
+     */
+    public static QuantizedPointBuffer encode(PointBuffer source, Cube3D bounds, Precision precision) {
+        if (source == null || bounds == null || precision == null) {
+            logger.log(Level.SEVERE, "Cannot quantize points: source, bounds or precision is null");
+            throw new NullPointerException("Source, bounds and precision cannot be null");
+        }
+        Point3D[] box = bounds.getAxisAlignedBoundingBox();
+        double[] lo = {box[0].getX(), box[0].getY(), box[0].getZ()};
+        double[] hi = {box[1].getX(), box[1].getY(), box[1].getZ()};
+
+        QuantizedPointBuffer buffer = new QuantizedPointBuffer(precision, lo, hi, source.size());
+        double[] xyz = source.getCoordinates();
+        int n = source.size() * 3;
+        for (int i = 0; i < n; i++) {
+            int axis = i % 3;
+            double v = xyz[i];
+            if (!(v >= lo[axis] && v <= hi[axis])) {
+                logger.log(Level.SEVERE, "Cannot quantize point {0}: coordinate {1} is outside [{2}, {3}]",
+                           new Object[]{i / 3, v, lo[axis], hi[axis]});
+                throw new IllegalArgumentException("Point " + (i / 3) + " lies outside the quantization bounds");
+            }
+            buffer.setCode(i, buffer.quantize(v, axis));
+        }
+        logger.log(Level.INFO, "Quantized {0} points to {1}-bit codes, max error {2}",
+                   new Object[]{buffer.size, precision.getBits(), buffer.getMaxError()});
+        return buffer;
+    }
+
+    /**
+     * Quantizes with the smallest precision whose error bound is within a tolerance.
+     *
+     * @param source the points to encode
+     * @param bounds a cube whose bounding box contains every point
+     * @param tolerance the largest acceptable error per coordinate
+     * @return the quantized buffer
+     * @throws NullPointerException if source or bounds is null
+     * @throws IllegalArgumentException if no precision meets the tolerance, or a point lies
+     *         outside the bounds
+     */
+    public static QuantizedPointBuffer encode(PointBuffer source, Cube3D bounds, double tolerance) {
+        if (bounds == null) {
+            logger.log(Level.SEVERE, "Cannot quantize points: bounds are null");
+            throw new NullPointerException("Bounds cannot be null");
+        }
+        Point3D[] box = bounds.getAxisAlignedBoundingBox();
+        double[] lo = {box[0].getX(), box[0].getY(), box[0].getZ()};
+        double[] hi = {box[1].getX(), box[1].getY(), box[1].getZ()};
+        for (Precision precision : Precision.values()) {
+            if (new QuantizedPointBuffer(precision, lo, hi, 0).getMaxError() <= tolerance) {
+                return encode(source, bounds, precision);
+            }
+        }
+        logger.log(Level.SEVERE, "Cannot quantize points: no precision meets tolerance {0}", tolerance);
+        throw new IllegalArgumentException("No precision meets tolerance " + tolerance + " for these bounds");
+    }
+
+    /**
+     * Returns the code width.
+     *
+     * @return the precision
+     */
+    public Precision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return the point count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the buffer holds no points.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the minimum corner of the quantization grid.
+     *
+     * @return the grid origin
+     */
+    public Point3D getMin() {
+        return new Point3D(min[0], min[1], min[2]);
+    }
+
+    /**
+     * Returns the maximum corner of the quantization grid.
+     *
+     * @return the grid's far corner
+     */
+    public Point3D getMax() {
+        return new Point3D(min[0] + extent[0], min[1] + extent[1], min[2] + extent[2]);
+    }
+
+    /**
+     * Returns the largest difference between any stored coordinate and its decoded value:
+     * half a grid step on the widest axis plus a few ulps of floating-point rounding.
+     *
+     * @return the error bound per coordinate
+     */
+    public double getMaxError() {
+        double bound = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            double magnitude = Math.max(Math.abs(min[axis]), Math.abs(min[axis] + extent[axis]));
+            bound = Math.max(bound, extent[axis] / (2 * levels) + 4 * Math.ulp(magnitude));
+        }
+        return bound;
+    }
+
+    /**
+     * Returns whether the error bound is below the tolerance of Point3D.equals, so that
+     * every decoded point equals the point that was encoded.
+     *
+     * @return true if the round trip is lossless under Point3D equality
+     */
+    public boolean isLossless() {
+        return getMaxError() < EPSILON;
+    }
+
+    /**
+     * Decodes the x-coordinate of the point at an index.
+     *
+     * @param index the point index
+     * @return the x-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return dequantize(code(index * 3), 0);
+    }
+
+    /**
+     * Decodes the y-coordinate of the point at an index.
+     *
+     * @param index the point index
+     * @return the y-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return dequantize(code(index * 3 + 1), 1);
+    }
+
+    /**
+     * Decodes the z-coordinate of the point at an index.
+     *
+     * @param index the point index
+     * @return the z-coordinate
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getZ(int index) {
+        checkIndex(index);
+        return dequantize(code(index * 3 + 2), 2);
+    }
+
+    /**
+     * Decodes the point at an index.
+     *
+     * @param index the point index
+     * @return a new Point3D
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Point3D get(int index) {
+        checkIndex(index);
+        int o = index * 3;
+        return new Point3D(dequantize(code(o), 0), dequantize(code(o + 1), 1), dequantize(code(o + 2), 2));
+    }
+
+    /**
+     * Decodes every point into a new double-precision buffer.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(n)
+     *
+     * @return the decoded points
+     */
+    public PointBuffer decode() {
+        int n = size * 3;
+        double[] xyz = new double[n];
+        for (int i = 0; i < n; i++) {
+            xyz[i] = dequantize(code(i), i % 3);
+        }
+        return PointBuffer.wrapCopy(xyz);
+    }
+
+    /**
+     * Translates every point by moving the grid origin. The codes are untouched, so this
+     * is O(1) and adds no quantization error.
+     *
+     * @param dx the offset in the x direction
+     * @param dy the offset in the y direction
+     * @param dz the offset in the z direction
+     */
+    public void translate(double dx, double dy, double dz) {
+        min[0] += dx;
+        min[1] += dy;
+        min[2] += dz;
+    }
+
+    /**
+     * Counts the points whose decoded coordinates lie in an axis-aligned box, bounds
+     * inclusive, comparing codes only.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param boxMin the minimum corner of the box
+     * @param boxMax the maximum corner of the box
+     * @return the number of points in the box
+     * @throws NullPointerException if either corner is null
+     */
+    public int countInBox(Point3D boxMin, Point3D boxMax) {
+        long[] range = codeRanges(boxMin, boxMax);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (inRanges(i * 3, range)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes, in place, every point whose decoded coordinates lie outside an axis-aligned
+     * box, keeping the order of the rest and comparing codes only.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param boxMin the minimum corner of the box
+     * @param boxMax the maximum corner of the box
+     * @return the number of points removed
+     * @throws NullPointerException if either corner is null
+     */
+    public int retainInBox(Point3D boxMin, Point3D boxMax) {
+        long[] range = codeRanges(boxMin, boxMax);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (inRanges(i * 3, range)) {
+                moveCodes(i, kept++);
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Removes, in place, every point whose decoded position lies outside a cube, keeping
+     * the order of the rest. Points outside the cube's bounding box are rejected in code
+     * space; only the others are decoded for Cube3D.containsPoint.
+     *
+     * Time Complexity: O(n)
+     * Space Complexity: O(1)
+     *
+     * @param cube the cube whose interior points are kept
+     * @return the number of points removed
+     * @throws NullPointerException if cube is null
+     */
+    public int retainInside(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot filter quantized buffer: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        Point3D[] box = cube.getAxisAlignedBoundingBox();
+        long[] range = codeRanges(box[0], box[1]);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int o = i * 3;
+            if (inRanges(o, range) && cube.containsPoint(dequantize(code(o), 0), dequantize(code(o + 1), 1),
+                                                         dequantize(code(o + 2), 2))) {
+                moveCodes(i, kept++);
+            }
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Returns the bytes used by the codes and the grid bounds.
+     *
+     * @return the storage size
+     */
+    public long getStorageBytes() {
+        return (long) size * 3 * (precision.getBits() / 8) + 6 * Double.BYTES;
+    }
+
+    /**
+     * Returns how many times smaller this buffer is than the same points in a PointBuffer.
+     *
+     * @return the ratio of uncompressed to compressed bytes, approaching 4 for INT16 and
+     *         2 for INT32 as the point count grows
+     */
+    public double getCompressionRatio() {
+        return (double) size * 3 * Double.BYTES / getStorageBytes();
+    }
+
+    /**
+     * Returns the number of bytes writeTo() will write.
+     *
+     * @return the serialized size
+     */
+    public int serializedSize() {
+        return HEADER_BYTES + size * 3 * (precision.getBits() / 8);
+    }
+
+    /**
+     * Writes the grid bounds, precision and codes at the buffer's position, little-endian.
+     *
+     * @param out the destination; its position advances by serializedSize()
+     * @throws NullPointerException if out is null
+     * @throws java.nio.BufferOverflowException if out has too little space
+     */
+    public void writeTo(ByteBuffer out) {
+        if (out == null) {
+            logger.log(Level.SEVERE, "Cannot write quantized buffer: output is null");
+            throw new NullPointerException("Output buffer cannot be null");
+        }
+        ByteBuffer le = out.slice().order(ByteOrder.LITTLE_ENDIAN);
+        for (int axis = 0; axis < 3; axis++) {
+            le.putDouble(min[axis]);
+            le.putDouble(min[axis] + extent[axis]);
+        }
+        le.putInt(precision.getBits());
+        le.putInt(size);
+        int n = size * 3;
+        if (shortCodes != null) {
+            le.asShortBuffer().put(shortCodes, 0, n);
+        } else {
+            le.asIntBuffer().put(intCodes, 0, n);
+        }
+        out.position(out.position() + serializedSize());
+    }
+
+    /**
+     * Reads a buffer written by writeTo() from the buffer's position.
+     *
+     * @param in the source; its position advances past the buffer
+     * @return the decoded quantized buffer
+     * @throws NullPointerException if in is null
+     * @throws IllegalArgumentException if the data is malformed or truncated
+     */
+    public static QuantizedPointBuffer readFrom(ByteBuffer in) {
+        if (in == null) {
+            logger.log(Level.SEVERE, "Cannot read quantized buffer: input is null");
+            throw new NullPointerException("Input buffer cannot be null");
+        }
+        ByteBuffer le = in.slice().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            double[] lo = new double[3];
+            double[] hi = new double[3];
+            for (int axis = 0; axis < 3; axis++) {
+                lo[axis] = le.getDouble();
+                hi[axis] = le.getDouble();
+            }
+            Precision precision = Precision.ofBits(le.getInt());
+            int count = le.getInt();
+            if (count < 0 || (long) count * 3 * (precision.getBits() / 8) > le.remaining()) {
+                throw new IllegalArgumentException("Truncated quantized buffer: " + count + " points declared");
+            }
+            QuantizedPointBuffer buffer = new QuantizedPointBuffer(precision, lo, hi, count);
+            if (buffer.shortCodes != null) {
+                le.asShortBuffer().get(buffer.shortCodes);
+            } else {
+                le.asIntBuffer().get(buffer.intCodes);
+            }
+            in.position(in.position() + buffer.serializedSize());
+            return buffer;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            logger.log(Level.SEVERE, "Cannot read quantized buffer: {0}", e.getMessage());
+            throw new IllegalArgumentException("Malformed quantized buffer", e);
+        }
+    }
+
+    private long quantize(double v, int axis) {
+        if (extent[axis] <= 0) {
+            return 0;
+        }
+        long q = Math.round((v - min[axis]) / extent[axis] * levels);
+        return Math.max(0, Math.min((long) levels, q));
+    }
+
+    private double dequantize(long code, int axis) {
+        return min[axis] + extent[axis] * code / levels;
+    }
+
+    private long code(int i) {
+        return shortCodes != null ? shortCodes[i] & 0xFFFFL : intCodes[i] & 0xFFFFFFFFL;
+    }
+
+    private void setCode(int i, long code) {
+        if (shortCodes != null) {
+            shortCodes[i] = (short) code;
+        } else {
+            intCodes[i] = (int) code;
+        }
+    }
+
+    private void moveCodes(int from, int to) {
+        if (from != to) {
+            if (shortCodes != null) {
+                System.arraycopy(shortCodes, from * 3, shortCodes, to * 3, 3);
+            } else {
+                System.arraycopy(intCodes, from * 3, intCodes, to * 3, 3);
+            }
+        }
+    }
+
+    /**
+     * Converts an axis-aligned box to inclusive code ranges {lo0, hi0, lo1, hi1, lo2, hi2}
+     * such that a code lies in its range exactly when its decoded value lies in the box.
+     */
+    private long[] codeRanges(Point3D boxMin, Point3D boxMax) {
+        if (boxMin == null || boxMax == null) {
+            logger.log(Level.SEVERE, "Cannot query quantized buffer: box corner is null");
+            throw new NullPointerException("Box corners cannot be null");
+        }
+        double[] a = {boxMin.getX(), boxMin.getY(), boxMin.getZ()};
+        double[] b = {boxMax.getX(), boxMax.getY(), boxMax.getZ()};
+        long top = (long) levels;
+        long[] range = new long[6];
+        for (int axis = 0; axis < 3; axis++) {
+            long lo;
+            long hi;
+            if (extent[axis] <= 0) {
+                boolean inside = min[axis] >= a[axis] && min[axis] <= b[axis];
+                lo = inside ? 0 : 1;
+                hi = 0;
+            } else {
+                // Estimate from the inverse mapping, then step to the exact boundary codes
+                lo = clamp(Math.round(Math.ceil((a[axis] - min[axis]) / extent[axis] * levels)), top + 1);
+                while (lo > 0 && dequantize(lo - 1, axis) >= a[axis]) {
+                    lo--;
+                }
+                while (lo <= top && dequantize(lo, axis) < a[axis]) {
+                    lo++;
+                }
+                hi = clamp(Math.round(Math.floor((b[axis] - min[axis]) / extent[axis] * levels)), top);
+                while (hi < top && dequantize(hi + 1, axis) <= b[axis]) {
+                    hi++;
+                }
+                while (hi >= 0 && dequantize(hi, axis) > b[axis]) {
+                    hi--;
+                }
+            }
+            range[axis * 2] = lo;
+            range[axis * 2 + 1] = hi;
+        }
+        return range;
+    }
+
+    private static long clamp(long value, long max) {
+        return Math.max(-1, Math.min(max, value));
+    }
+
+    private boolean inRanges(int o, long[] range) {
+        for (int axis = 0; axis < 3; axis++) {
+            long q = code(o + axis);
+            if (q < range[axis * 2] || q > range[axis * 2 + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+    }
+
+    /**
+     * Returns a short description of this buffer.
+     *
+     * @return a string showing the point count and precision
+     */
+    @Override
+    public String toString() {
+        return "QuantizedPointBuffer[size=" + size + ", precision=" + precision + "]";
+    }
+}
@@ -0,0 +1,105 @@
+package com.csc205.project1;
+
+/**
+ * Error-free transformations and compensated kernels shared by the geometry classes.
+ *
+ * Every helper here is built from two primitives:
+ * - Math.fma(a, b, c), which rounds a*b + c once, so fma(a, b, -(a*b)) is the exact
+ *   rounding error of the product a*b
+ * - twoSum, which recovers the exact rounding error of a + b with six additions
+ *
+ * Carrying those error terms forward gives results close to correctly rounded
+ * without leaving double arithmetic.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+final class RobustArithmetic {
+
+    private RobustArithmetic() {
+    }
+
+    /**
+     * Computes a*b - c*d with at most about 1.5 ulp error (Kahan's algorithm).
+     *
+     * The naive expression can lose every significant digit when the two products
+     * are nearly equal, as they are in the cross product of nearly parallel vectors.
+     */
+    static double differenceOfProducts(double a, double b, double c, double d) {
+        double cd = c * d;
+        double error = Math.fma(-c, d, cd);
+        double difference = Math.fma(a, b, -cd);
+        return difference + error;
+    }
+
+    /**
+     * Computes ax*bx + ay*by + az*bz as if in twice the working precision (Ogita, Rump
+     * and Oishi's Dot2 with FMA-based products).
+     */
+    static double dot(double ax, double ay, double az, double bx, double by, double bz) {
+        double p = ax * bx;
+        double s = Math.fma(ax, bx, -p);
+
+        double h = ay * by;
+        double q = Math.fma(ay, by, -h);
+        double sum = p + h;
+        s += twoSumError(p, h, sum) + q;
+        p = sum;
+
+        h = az * bz;
+        q = Math.fma(az, bz, -h);
+        sum = p + h;
+        s += twoSumError(p, h, sum) + q;
+        return sum + s;
+    }
+
+    /**
+     * Sums three terms with Neumaier compensation.
+     */
+    static double sum(double a, double b, double c) {
+        double s = a + b;
+        double error = twoSumError(a, b, s);
+        double t = s + c;
+        error += twoSumError(s, c, t);
+        return t + error;
+    }
+
+    /**
+     * Sums an array with Neumaier compensation.
+     */
+    static double sum(double[] values, int offset, int stride, int count) {
+        double s = 0.0;
+        double error = 0.0;
+        for (int i = 0, k = offset; i < count; i++, k += stride) {
+            double t = s + values[k];
+            error += twoSumError(s, values[k], t);
+            s = t;
+        }
+        return s + error;
+    }
+
+    /**
+     * Returns the exact rounding error of a + b given s = fl(a + b) (Knuth's TwoSum).
+     */
+    static double twoSumError(double a, double b, double s) {
+        double bVirtual = s - a;
+        double aVirtual = s - bVirtual;
+        return (a - aVirtual) + (b - bVirtual);
+    }
+
+    /**
+     * Writes the compensated cross product a x b into out[0..2].
+     */
+    static void cross(double ax, double ay, double az, double bx, double by, double bz, double[] out) {
+        out[0] = differenceOfProducts(ay, bz, az, by);
+        out[1] = differenceOfProducts(az, bx, ax, bz);
+        out[2] = differenceOfProducts(ax, by, ay, bx);
+    }
+
+    /**
+     * Returns the Euclidean norm of (x, y, z) with a compensated sum of squares.
+     */
+    static double norm(double x, double y, double z) {
+        return Math.sqrt(dot(x, y, z, x, y, z));
+    }
+}
@@ -0,0 +1,292 @@
+package com.csc205.project1;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Adaptive-precision geometric predicates whose sign is always correct.
+ *
+ * Tests such as "which side of a plane is this point on" are usually written as
+ * a determinant compared against EPSILON. Near the decision boundary the rounding
+ * error of the determinant is larger than the determinant itself, so the answer can
+ * flip between runs of an algorithm and break its invariants. These predicates
+ * return the sign of the exact determinant of the given double coordinates.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. ADAPTIVE EVALUATION (Filter then Escalate):
+ *    - The determinant is first evaluated in plain double arithmetic together with a
+ *      rigorous bound on its rounding error (Shewchuk's stage-A bounds)
+ *    - Only if |result| does not exceed that bound, i.e. the sign is genuinely in
+ *      doubt, is it recomputed exactly with BigDecimal
+ *    - For inputs in general position the exact stage never runs, so the common case
+ *      costs a couple of dozen flops
+ *
+ * 2. UTILITY CLASS:
+ *    - Stateless static methods, final class, private constructor
+ *
+ * Sign conventions follow Shewchuk's "Adaptive Precision Floating-Point Arithmetic
+ * and Fast Robust Geometric Predicates":
+ * - orient3d(a, b, c, d) is positive if d lies below the plane through a, b and c,
+ *   where "below" means a, b, c appear counterclockwise when viewed from above
+ *   (equivalently, d is on the side opposite (b - a) x (c - a)); negative if above;
+ *   zero if the four points are coplanar
+ * - inSphere(a, b, c, d, e) is positive if e lies inside the sphere through a, b, c
+ *   and d, provided orient3d(a, b, c, d) is positive (the sign is reversed
+ *   otherwise); zero if the five points are cospherical
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class RobustPredicates {
+
+    private static final Logger logger = Logger.getLogger(RobustPredicates.class.getName());
+
+    private static final double EPS = Math.ulp(1.0) / 2; // 2^-53, unit roundoff
+    private static final double ORIENT3D_BOUND = (7.0 + 56.0 * EPS) * EPS;
+    private static final double INSPHERE_BOUND = (16.0 + 224.0 * EPS) * EPS;
+
+    private static final LongAdder exactEvaluations = new LongAdder();
+
+    private RobustPredicates() {
+    }
+
+    /**
+     * Returns the sign of the orientation determinant of four points.
+     *
+     * Example usage:
+     * <pre>
+     * int side = RobustPredicates.orient3d(a, b, c, query);
+     * if (side == 0) { ... coplanar ... }
+     * </pre>
+     *
+     * @param a first point of the plane
+     * @param b second point of the plane
+     * @param c third point of the plane
+     * @param d the query point
+     * @return 1, 0 or -1 (see class documentation for the convention)
+     * @throws NullPointerException if any point is null
+     */
+    public static int orient3d(Point3D a, Point3D b, Point3D c, Point3D d) {
+        if (a == null || b == null || c == null || d == null) {
+            logger.log(Level.SEVERE, "Cannot evaluate orient3d: point is null");
+            throw new NullPointerException("Points cannot be null");
+        }
+        return orient3d(a.getX(), a.getY(), a.getZ(), b.getX(), b.getY(), b.getZ(),
+                        c.getX(), c.getY(), c.getZ(), d.getX(), d.getY(), d.getZ());
+    }
+
+    /**
+     * Primitive-coordinate form of orient3d(Point3D, Point3D, Point3D, Point3D).
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1) unless the exact fallback runs
+     *
+     * @return 1, 0 or -1
+     */
+    public static int orient3d(double ax, double ay, double az, double bx, double by, double bz,
+                               double cx, double cy, double cz, double dx, double dy, double dz) {
+        double adx = ax - dx;
+        double bdx = bx - dx;
+        double cdx = cx - dx;
+        double ady = ay - dy;
+        double bdy = by - dy;
+        double cdy = cy - dy;
+        double adz = az - dz;
+        double bdz = bz - dz;
+        double cdz = cz - dz;
+
+        double bdxcdy = bdx * cdy;
+        double cdxbdy = cdx * bdy;
+        double cdxady = cdx * ady;
+        double adxcdy = adx * cdy;
+        double adxbdy = adx * bdy;
+        double bdxady = bdx * ady;
+
+        double det = adz * (bdxcdy - cdxbdy) + bdz * (cdxady - adxcdy) + cdz * (adxbdy - bdxady);
+
+        double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * Math.abs(adz)
+                         + (Math.abs(cdxady) + Math.abs(adxcdy)) * Math.abs(bdz)
+                         + (Math.abs(adxbdy) + Math.abs(bdxady)) * Math.abs(cdz);
+        double errorBound = ORIENT3D_BOUND * permanent;
+        if (det > errorBound || -det > errorBound) {
+            return det > 0 ? 1 : -1;
+        }
+
+        return orient3dExact(ax, ay, az, bx, by, bz, cx, cy, cz, dx, dy, dz);
+    }
+
+    private static int orient3dExact(double ax, double ay, double az, double bx, double by, double bz,
+                                     double cx, double cy, double cz, double dx, double dy, double dz) {
+        exactEvaluations.increment();
+        BigDecimal adx = exact(ax).subtract(exact(dx));
+        BigDecimal bdx = exact(bx).subtract(exact(dx));
+        BigDecimal cdx = exact(cx).subtract(exact(dx));
+        BigDecimal ady = exact(ay).subtract(exact(dy));
+        BigDecimal bdy = exact(by).subtract(exact(dy));
+        BigDecimal cdy = exact(cy).subtract(exact(dy));
+        BigDecimal adz = exact(az).subtract(exact(dz));
+        BigDecimal bdz = exact(bz).subtract(exact(dz));
+        BigDecimal cdz = exact(cz).subtract(exact(dz));
+
+        BigDecimal det = adz.multiply(bdx.multiply(cdy).subtract(cdx.multiply(bdy)))
+                .add(bdz.multiply(cdx.multiply(ady).subtract(adx.multiply(cdy))))
+                .add(cdz.multiply(adx.multiply(bdy).subtract(bdx.multiply(ady))));
+        return det.signum();
+    }
+
+    /**
+     * Returns the sign of the in-sphere determinant of five points.
+     *
+     * @param a first point on the sphere
+     * @param b second point on the sphere
+     * @param c third point on the sphere
+     * @param d fourth point on the sphere
+     * @param e the query point
+     * @return 1, 0 or -1 (see class documentation for the convention)
+     * @throws NullPointerException if any point is null
+     */
+    public static int inSphere(Point3D a, Point3D b, Point3D c, Point3D d, Point3D e) {
+        if (a == null || b == null || c == null || d == null || e == null) {
+            logger.log(Level.SEVERE, "Cannot evaluate inSphere: point is null");
+            throw new NullPointerException("Points cannot be null");
+        }
+        return inSphere(a.getX(), a.getY(), a.getZ(), b.getX(), b.getY(), b.getZ(), c.getX(), c.getY(), c.getZ(),
+                        d.getX(), d.getY(), d.getZ(), e.getX(), e.getY(), e.getZ());
+    }
+
+    /**
+     * Primitive-coordinate form of inSphere(Point3D, Point3D, Point3D, Point3D, Point3D).
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1) unless the exact fallback runs
+     *
+     * @return 1, 0 or -1
+     */
+    public static int inSphere(double ax, double ay, double az, double bx, double by, double bz,
+                               double cx, double cy, double cz, double dx, double dy, double dz,
+                               double ex, double ey, double ez) {
+        double aex = ax - ex;
+        double bex = bx - ex;
+        double cex = cx - ex;
+        double dex = dx - ex;
+        double aey = ay - ey;
+        double bey = by - ey;
+        double cey = cy - ey;
+        double dey = dy - ey;
+        double aez = az - ez;
+        double bez = bz - ez;
+        double cez = cz - ez;
+        double dez = dz - ez;
+
+        double aexbey = aex * bey;
+        double bexaey = bex * aey;
+        double bexcey = bex * cey;
+        double cexbey = cex * bey;
+        double cexdey = cex * dey;
+        double dexcey = dex * cey;
+        double dexaey = dex * aey;
+        double aexdey = aex * dey;
+        double aexcey = aex * cey;
+        double cexaey = cex * aey;
+        double bexdey = bex * dey;
+        double dexbey = dex * bey;
+
+        double ab = aexbey - bexaey;
+        double bc = bexcey - cexbey;
+        double cd = cexdey - dexcey;
+        double da = dexaey - aexdey;
+        double ac = aexcey - cexaey;
+        double bd = bexdey - dexbey;
+
+        double abc = aez * bc - bez * ac + cez * ab;
+        double bcd = bez * cd - cez * bd + dez * bc;
+        double cda = cez * da + dez * ac + aez * cd;
+        double dab = dez * ab + aez * bd + bez * da;
+
+        double alift = aex * aex + aey * aey + aez * aez;
+        double blift = bex * bex + bey * bey + bez * bez;
+        double clift = cex * cex + cey * cey + cez * cez;
+        double dlift = dex * dex + dey * dey + dez * dez;
+
+        double det = (dlift * abc - clift * dab) + (blift * cda - alift * bcd);
+
+        double aezplus = Math.abs(aez);
+        double bezplus = Math.abs(bez);
+        double cezplus = Math.abs(cez);
+        double dezplus = Math.abs(dez);
+        double aexbeyplus = Math.abs(aexbey) + Math.abs(bexaey);
+        double bexceyplus = Math.abs(bexcey) + Math.abs(cexbey);
+        double cexdeyplus = Math.abs(cexdey) + Math.abs(dexcey);
+        double dexaeyplus = Math.abs(dexaey) + Math.abs(aexdey);
+        double aexceyplus = Math.abs(aexcey) + Math.abs(cexaey);
+        double bexdeyplus = Math.abs(bexdey) + Math.abs(dexbey);
+
+        double permanent = (cexdeyplus * bezplus + bexdeyplus * cezplus + bexceyplus * dezplus) * alift
+                         + (dexaeyplus * cezplus + aexceyplus * dezplus + cexdeyplus * aezplus) * blift
+                         + (aexbeyplus * dezplus + bexdeyplus * aezplus + dexaeyplus * bezplus) * clift
+                         + (bexceyplus * aezplus + aexceyplus * bezplus + aexbeyplus * cezplus) * dlift;
+        double errorBound = INSPHERE_BOUND * permanent;
+        if (det > errorBound || -det > errorBound) {
+            return det > 0 ? 1 : -1;
+        }
+
+        return inSphereExact(ax, ay, az, bx, by, bz, cx, cy, cz, dx, dy, dz, ex, ey, ez);
+    }
+
+    private static int inSphereExact(double ax, double ay, double az, double bx, double by, double bz,
+                                     double cx, double cy, double cz, double dx, double dy, double dz,
+                                     double ex, double ey, double ez) {
+        exactEvaluations.increment();
+        BigDecimal[][] rows = new BigDecimal[4][];
+        double[][] points = {{ax, ay, az}, {bx, by, bz}, {cx, cy, cz}, {dx, dy, dz}};
+        for (int i = 0; i < 4; i++) {
+            BigDecimal x = exact(points[i][0]).subtract(exact(ex));
+            BigDecimal y = exact(points[i][1]).subtract(exact(ey));
+            BigDecimal z = exact(points[i][2]).subtract(exact(ez));
+            BigDecimal lift = x.multiply(x).add(y.multiply(y)).add(z.multiply(z));
+            rows[i] = new BigDecimal[]{x, y, z, lift};
+        }
+        return determinant4(rows).signum();
+    }
+
+    /** Laplace expansion along the last column. */
+    private static BigDecimal determinant4(BigDecimal[][] m) {
+        BigDecimal det = BigDecimal.ZERO;
+        for (int row = 0; row < 4; row++) {
+            BigDecimal[][] minor = new BigDecimal[3][];
+            for (int i = 0, k = 0; i < 4; i++) {
+                if (i != row) {
+                    minor[k++] = m[i];
+                }
+            }
+            BigDecimal term = m[row][3].multiply(determinant3(minor));
+            // Cofactor sign for (row, 3) is (-1)^(row + 3)
+            det = (row % 2 == 0) ? det.subtract(term) : det.add(term);
+        }
+        return det;
+    }
+
+    private static BigDecimal determinant3(BigDecimal[][] m) {
+        return m[0][0].multiply(m[1][1].multiply(m[2][2]).subtract(m[1][2].multiply(m[2][1])))
+                .subtract(m[0][1].multiply(m[1][0].multiply(m[2][2]).subtract(m[1][2].multiply(m[2][0]))))
+                .add(m[0][2].multiply(m[1][0].multiply(m[2][1]).subtract(m[1][1].multiply(m[2][0]))));
+    }
+
+    private static BigDecimal exact(double value) {
+        return new BigDecimal(value);
+    }
+
+    /**
+     * Returns how many predicate calls have needed the exact fallback since start-up.
+     *
+     * Useful for confirming that a workload stays on the fast path.
+     *
+     * @return the number of exact evaluations
+     */
+    public static long getExactEvaluationCount() {
+        return exactEvaluations.sum();
+    }
+}
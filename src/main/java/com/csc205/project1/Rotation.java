@@ -0,0 +1,221 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A rotation angle together with its precomputed sine and cosine.
+ *
+ * Rotating many points by the same angle with rotateX(double) recomputes Math.sin
+ * and Math.cos for every point. Building a Rotation once and passing it to the
+ * rotateX/Y/Z(Rotation) overloads of Point3D, Line3D, Cube3D and PointBuffer does the
+ * trigonometry a single time. A Rotation carries no axis: the method it is passed to
+ * decides which axis is used, exactly like the angle overloads.
+ *
+ * Two construction modes are available:
+ * - of(angle) uses Math.sin/Math.cos; results are bit-for-bit identical to the angle
+ *   overloads
+ * - approximate(angle) evaluates short polynomials after reducing the angle to
+ *   [-pi/4, pi/4]; the error in both sine and cosine is at most
+ *   APPROXIMATION_ERROR_BOUND for |angle| up to APPROXIMATION_RANGE, which is ample
+ *   for animation and rendering workloads that need speed more than the last digits
+ *
+ * As with the angle overloads, a NaN or infinite angle is not rejected: its sine and
+ * cosine are NaN, and so is every coordinate rotated by it.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - All fields are final, so a Rotation can be cached in a static field and shared
+ *      between threads
+ *
+ * 2. FLYWEIGHT / MEMOIZATION:
+ *    - The expensive part (sine and cosine) is computed once and reused for every
+ *      point, vertex or buffer it is applied to
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. ANGLE ADDITION FORMULAS:
+ *    - compose() and inverse() derive new sine/cosine pairs with a few multiplications,
+ *      so stepping an animation by a fixed increment needs no trigonometric calls
+ *
+ * 2. CODY-WAITE RANGE REDUCTION:
+ *    - approximate() subtracts the nearest multiple of pi/2 using a two-part constant
+ *      and fused multiply-add, keeping the reduced argument accurate far from zero
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Rotation {
+
+    private static final Logger logger = Logger.getLogger(Rotation.class.getName());
+
+    /** Maximum absolute error of getSin() and getCos() for approximate rotations. */
+    public static final double APPROXIMATION_ERROR_BOUND = 1e-11;
+
+    /** Largest |angle| handled by the polynomial; larger angles use Math.sin/Math.cos. */
+    public static final double APPROXIMATION_RANGE = 1e6;
+
+    /** The identity rotation (angle 0). */
+    public static final Rotation IDENTITY = new Rotation(0.0, 0.0, 1.0, false);
+
+    private static final double TWO_OVER_PI = 2 / Math.PI;
+    private static final double HALF_PI_HIGH = 1.5707963267948966;
+    private static final double HALF_PI_LOW = 6.123233995736766e-17;
+
+    // Taylor coefficients; on [-pi/4, pi/4] the truncation error is below 1e-11
+    private static final double S3 = -1.0 / 6;
+    private static final double S5 = 1.0 / 120;
+    private static final double S7 = -1.0 / 5040;
+    private static final double S9 = 1.0 / 362880;
+    private static final double S11 = -1.0 / 39916800;
+    private static final double C2 = -1.0 / 2;
+    private static final double C4 = 1.0 / 24;
+    private static final double C6 = -1.0 / 720;
+    private static final double C8 = 1.0 / 40320;
+    private static final double C10 = -1.0 / 3628800;
+    private static final double C12 = 1.0 / 479001600;
+
+    private final double angle;
+    private final double sin;
+    private final double cos;
+    private final boolean approximate;
+
+    private Rotation(double angle, double sin, double cos, boolean approximate) {
+        this.angle = angle;
+        this.sin = sin;
+        this.cos = cos;
+        this.approximate = approximate;
+    }
+
+    /**
+     * Creates a rotation using Math.sin and Math.cos.
+     *
+     * Example usage:
+     * <pre>
+     * Rotation quarterTurn = Rotation.of(Math.PI / 2);
+     * Point3D rotated = point.rotateZ(quarterTurn);
+     * </pre>
+     *
+     * @param angleRadians the rotation angle in radians
+     * @return the rotation; NaN sine and cosine if the angle is NaN or infinite
+     */
+    public static Rotation of(double angleRadians) {
+        return new Rotation(angleRadians, Math.sin(angleRadians), Math.cos(angleRadians), false);
+    }
+
+    /**
+     * Creates a rotation whose sine and cosine come from a polynomial approximation.
+     *
+     * Time Complexity: O(1)
+     * Space Complexity: O(1)
+     *
+     * @param angleRadians the rotation angle in radians
+     * @return the rotation; exact (as of()) if |angle| exceeds APPROXIMATION_RANGE or is
+     *         not finite
+     */
+    public static Rotation approximate(double angleRadians) {
+        if (!(Math.abs(angleRadians) <= APPROXIMATION_RANGE)) {
+            return of(angleRadians);
+        }
+
+        double k = Math.rint(angleRadians * TWO_OVER_PI);
+        double r = Math.fma(-k, HALF_PI_HIGH, angleRadians);
+        r = Math.fma(-k, HALF_PI_LOW, r);
+        double r2 = r * r;
+
+        double s = r + r * r2 * (S3 + r2 * (S5 + r2 * (S7 + r2 * (S9 + r2 * S11))));
+        double c = 1 + r2 * (C2 + r2 * (C4 + r2 * (C6 + r2 * (C8 + r2 * (C10 + r2 * C12)))));
+
+        // sin/cos of r + quadrant * pi/2
+        switch ((int) ((long) k & 3)) {
+            case 0:
+                return new Rotation(angleRadians, s, c, true);
+            case 1:
+                return new Rotation(angleRadians, c, -s, true);
+            case 2:
+                return new Rotation(angleRadians, -s, -c, true);
+            default:
+                return new Rotation(angleRadians, -c, s, true);
+        }
+    }
+
+    /**
+     * Returns the rotation that undoes this one.
+     *
+     * @return a rotation by -angle, with no trigonometric calls
+     */
+    public Rotation inverse() {
+        return new Rotation(-angle, -sin, cos, approximate);
+    }
+
+    /**
+     * Returns a rotation by the sum of both angles, using the angle addition formulas.
+     *
+     * Repeated composition accumulates rounding error slowly (about one ulp per step);
+     * rebuild from the angle occasionally for very long animations.
+     *
+     * @param other the rotation to add
+     * @return a rotation by this angle + other angle
+     * @throws NullPointerException if other is null
+     */
+    public Rotation compose(Rotation other) {
+        if (other == null) {
+            logger.log(Level.SEVERE, "Cannot compose rotation: other rotation is null");
+            throw new NullPointerException("Other rotation cannot be null");
+        }
+        double newSin = sin * other.cos + cos * other.sin;
+        double newCos = cos * other.cos - sin * other.sin;
+        return new Rotation(angle + other.angle, newSin, newCos, approximate || other.approximate);
+    }
+
+    /**
+     * Returns the rotation angle in radians.
+     *
+     * @return the angle
+     */
+    public double getAngle() {
+        return angle;
+    }
+
+    /**
+     * Returns the precomputed sine of the angle.
+     *
+     * @return the sine
+     */
+    public double getSin() {
+        return sin;
+    }
+
+    /**
+     * Returns the precomputed cosine of the angle.
+     *
+     * @return the cosine
+     */
+    public double getCos() {
+        return cos;
+    }
+
+    /**
+     * Returns true if the sine and cosine came from the polynomial approximation.
+     *
+     * @return true for approximate rotations
+     */
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    /**
+     * Returns a string representation of this rotation.
+     *
+     * @return a string showing the angle, sine and cosine
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(64).append("Rotation[angle=");
+        GeometryFormatter.TWO_DIGITS.appendDouble(sb, angle).append(", sin=");
+        GeometryFormatter.TWO_DIGITS.appendDouble(sb, sin).append(", cos=");
+        GeometryFormatter.TWO_DIGITS.appendDouble(sb, cos);
+        return sb.append(approximate ? ", approximate]" : "]").toString();
+    }
+}
@@ -0,0 +1,377 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Parametric clipping of line segments against oriented cubes, convex volumes and
+ * half-spaces.
+ *
+ * A segment p(t) = s + t(e - s), t in [0, 1], is clipped by narrowing the interval
+ * [t0, t1] one constraint at a time; nothing is evaluated at intermediate points, and
+ * the clipped end points are computed once from the final interval.
+ *
+ * Cubes use the Liang–Barsky slab method in the cube's own frame: the segment is
+ * projected onto the three local axes (the columns of the cube's rotation matrix), where
+ * the cube is the box |x|, |y|, |z| ≤ h, and each axis clips against one pair of
+ * parallel faces with a single division per face. Frustums and other convex volumes use
+ * the Cyrus–Beck form of the same idea, one plane at a time.
+ *
+ * The clipAll() methods work on flat arrays of segments, six doubles (x0, y0, z0, x1,
+ * y1, z1) per segment, and write the surviving pieces compactly to an output array of
+ * the same layout, optionally with the index of the segment each piece came from. They
+ * create no objects per segment and report to GeometryMetrics as SEGMENT_CLIP.
+ *
+ * Example usage:
+ * <pre>
+ * Line3D visible = SegmentClipper.clip(ray, boundingCube);  // null if the ray misses
+ *
+ * double[] out = new double[segments.length];
+ * int kept = SegmentClipper.clipAll(segments, count, boundingCube, out, null);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. UTILITY CLASS:
+ *    - Stateless static methods; the class cannot be instantiated
+ *
+ * 2. PRIMITIVE KERNELS:
+ *    - The object-based and array-based methods share the same interval kernels
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. LIANG–BARSKY CLIPPING:
+ *    - A box is the intersection of three slabs; each slab bounds t from both sides
+ *
+ * 2. CYRUS–BECK CLIPPING:
+ *    - For each plane, the sign of n·(e - s) tells whether the segment enters or leaves
+ *      the half-space, and so whether the crossing raises t0 or lowers t1
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class SegmentClipper {
+
+    private static final Logger logger = Logger.getLogger(SegmentClipper.class.getName());
+
+    /** Doubles per segment in the flat array layout. */
+    public static final int SEGMENT_STRIDE = 6;
+
+    private SegmentClipper() {
+    }
+
+    /**
+     * Computes the parameter interval of a segment that lies inside a cube.
+     *
+     * @param line the segment
+     * @param cube the cube, with any orientation
+     * @param range receives t0 and t1 at indices 0 and 1 when the segment meets the cube
+     * @return true if the segment meets the cube
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if range has fewer than two elements
+     */
+    public static boolean clipParameters(Line3D line, Cube3D cube, double[] range) {
+        if (line == null || cube == null || range == null) {
+            logger.log(Level.SEVERE, "Cannot clip: line, cube or range is null");
+            throw new NullPointerException("Line, cube and range cannot be null");
+        }
+        if (range.length < 2) {
+            logger.log(Level.SEVERE, "Cannot clip: range has length {0}", range.length);
+            throw new IllegalArgumentException("Range must hold at least two values");
+        }
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        return clipBox(cube.orientationMatrix(), cube.getCenter(), cube.getSideLength() / 2,
+                       s.getX(), s.getY(), s.getZ(), e.getX(), e.getY(), e.getZ(), range);
+    }
+
+    /**
+     * Clips a segment to a cube.
+     *
+     * @param line the segment
+     * @param cube the cube, with any orientation
+     * @return the part of the segment inside the cube, the segment itself if it lies
+     *         entirely inside, or null if less than a point of it is inside
+     * @throws NullPointerException if line or cube is null
+     */
+    public static Line3D clip(Line3D line, Cube3D cube) {
+        double[] range = new double[2];
+        return clipParameters(line, cube, range) ? subSegment(line, range[0], range[1]) : null;
+    }
+
+    /**
+     * Clips a segment to a frustum.
+     *
+     * @param line the segment
+     * @param frustum the convex volume
+     * @return the part of the segment inside the frustum, the segment itself if it lies
+     *         entirely inside, or null if less than a point of it is inside
+     * @throws NullPointerException if line or frustum is null
+     */
+    public static Line3D clip(Line3D line, Frustum frustum) {
+        if (line == null || frustum == null) {
+            logger.log(Level.SEVERE, "Cannot clip: line or frustum is null");
+            throw new NullPointerException("Line and frustum cannot be null");
+        }
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        double[] range = new double[2];
+        return clipPlanes(frustum.planes(), s.getX(), s.getY(), s.getZ(), e.getX(), e.getY(), e.getZ(), range)
+                ? subSegment(line, range[0], range[1]) : null;
+    }
+
+    /**
+     * Clips an array of segments to a cube.
+     *
+     * @param segments the segments, SEGMENT_STRIDE doubles each
+     * @param count the number of segments to read
+     * @param cube the cube, with any orientation
+     * @param out receives the clipped segments in input order; may be the input array
+     * @param sourceIndices if not null, receives the input index of each clipped segment
+     * @return the number of clipped segments written
+     * @throws NullPointerException if segments, cube or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int clipAll(double[] segments, int count, Cube3D cube, double[] out, int[] sourceIndices) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot clip segments: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        validateBatch(segments, count, out, sourceIndices);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        double[] m = cube.orientationMatrix();
+        Point3D center = cube.getCenter();
+        double half = cube.getSideLength() / 2;
+        double[] range = new double[2];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * SEGMENT_STRIDE;
+            if (clipBox(m, center, half, segments[o], segments[o + 1], segments[o + 2],
+                        segments[o + 3], segments[o + 4], segments[o + 5], range)
+                    && range[0] < range[1]) {
+                kept = emit(segments, o, range, out, sourceIndices, kept, i);
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.SEGMENT_CLIP, cube, count);
+        GeometryMetrics.record(GeometryOperation.SEGMENT_CLIP, metricsStart, 32);
+        return kept;
+    }
+
+    /**
+     * Clips an array of segments to a frustum.
+     *
+     * @param segments the segments, SEGMENT_STRIDE doubles each
+     * @param count the number of segments to read
+     * @param frustum the convex volume
+     * @param out receives the clipped segments in input order; may be the input array
+     * @param sourceIndices if not null, receives the input index of each clipped segment
+     * @return the number of clipped segments written
+     * @throws NullPointerException if segments, frustum or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int clipAll(double[] segments, int count, Frustum frustum, double[] out, int[] sourceIndices) {
+        if (frustum == null) {
+            logger.log(Level.SEVERE, "Cannot clip segments: frustum is null");
+            throw new NullPointerException("Frustum cannot be null");
+        }
+        validateBatch(segments, count, out, sourceIndices);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        double[] planes = frustum.planes();
+        double[] range = new double[2];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * SEGMENT_STRIDE;
+            if (clipPlanes(planes, segments[o], segments[o + 1], segments[o + 2],
+                           segments[o + 3], segments[o + 4], segments[o + 5], range)
+                    && range[0] < range[1]) {
+                kept = emit(segments, o, range, out, sourceIndices, kept, i);
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.SEGMENT_CLIP, frustum, count);
+        GeometryMetrics.record(GeometryOperation.SEGMENT_CLIP, metricsStart, 32);
+        return kept;
+    }
+
+    /**
+     * Clips an array of segments to the positive half-space of a plane.
+     *
+     * @param segments the segments, SEGMENT_STRIDE doubles each
+     * @param count the number of segments to read
+     * @param plane the plane whose positive side is kept
+     * @param out receives the clipped segments in input order; may be the input array
+     * @param sourceIndices if not null, receives the input index of each clipped segment
+     * @return the number of clipped segments written
+     * @throws NullPointerException if segments, plane or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int clipAll(double[] segments, int count, Plane3D plane, double[] out, int[] sourceIndices) {
+        if (plane == null) {
+            logger.log(Level.SEVERE, "Cannot clip segments: plane is null");
+            throw new NullPointerException("Plane cannot be null");
+        }
+        validateBatch(segments, count, out, sourceIndices);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        double[] planes = {plane.normalX(), plane.normalY(), plane.normalZ(), plane.getOffset()};
+        double[] range = new double[2];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * SEGMENT_STRIDE;
+            if (clipPlanes(planes, segments[o], segments[o + 1], segments[o + 2],
+                           segments[o + 3], segments[o + 4], segments[o + 5], range)
+                    && range[0] < range[1]) {
+                kept = emit(segments, o, range, out, sourceIndices, kept, i);
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.SEGMENT_CLIP, plane, count);
+        GeometryMetrics.record(GeometryOperation.SEGMENT_CLIP, metricsStart, 80);
+        return kept;
+    }
+
+    /**
+     * Helper method that returns the piece of a segment between two parameters.
+     *
+     * @return the segment itself for the full interval, or null if the end points of the
+     *         piece coincide
+     */
+    static Line3D subSegment(Line3D line, double t0, double t1) {
+        if (t0 <= 0 && t1 >= 1) {
+            return line;
+        }
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        double dx = e.getX() - s.getX();
+        double dy = e.getY() - s.getY();
+        double dz = e.getZ() - s.getZ();
+        Point3D start = new Point3D(s.getX() + t0 * dx, s.getY() + t0 * dy, s.getZ() + t0 * dz);
+        Point3D end = new Point3D(s.getX() + t1 * dx, s.getY() + t1 * dy, s.getZ() + t1 * dz);
+        return start.equals(end) ? null : new Line3D(start, end);
+    }
+
+    /**
+     * Liang–Barsky kernel: clips the segment (x0, y0, z0)-(x1, y1, z1) to an oriented cube
+     * given by its row-major rotation matrix, center and half side.
+     */
+    private static boolean clipBox(double[] m, Point3D center, double half,
+                                   double x0, double y0, double z0, double x1, double y1, double z1,
+                                   double[] range) {
+        double px = x0 - center.getX();
+        double py = y0 - center.getY();
+        double pz = z0 - center.getZ();
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double dz = z1 - z0;
+        double t0 = 0;
+        double t1 = 1;
+        for (int axis = 0; axis < 3; axis++) {
+            // Column a of the row-major rotation matrix is the cube's local axis a in world space
+            double ux = m[axis];
+            double uy = m[3 + axis];
+            double uz = m[6 + axis];
+            double p = px * ux + py * uy + pz * uz;
+            double q = dx * ux + dy * uy + dz * uz;
+            if (q == 0) {
+                if (p < -half || p > half) {
+                    return false;
+                }
+                continue;
+            }
+            double ta = (-half - p) / q;
+            double tb = (half - p) / q;
+            if (ta > tb) {
+                double swap = ta;
+                ta = tb;
+                tb = swap;
+            }
+            t0 = Math.max(t0, ta);
+            t1 = Math.min(t1, tb);
+            if (t0 > t1) {
+                return false;
+            }
+        }
+        range[0] = t0;
+        range[1] = t1;
+        return true;
+    }
+
+    /**
+     * Cyrus–Beck kernel: clips the segment (x0, y0, z0)-(x1, y1, z1) to the intersection of
+     * the half-spaces n·p + d ≥ 0 stored as (nx, ny, nz, d) quadruples.
+     */
+    private static boolean clipPlanes(double[] planes, double x0, double y0, double z0,
+                                      double x1, double y1, double z1, double[] range) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double dz = z1 - z0;
+        double t0 = 0;
+        double t1 = 1;
+        for (int o = 0; o < planes.length; o += 4) {
+            double distance = planes[o] * x0 + planes[o + 1] * y0 + planes[o + 2] * z0 + planes[o + 3];
+            double rate = planes[o] * dx + planes[o + 1] * dy + planes[o + 2] * dz;
+            if (rate == 0) {
+                if (distance < 0) {
+                    return false;
+                }
+                continue;
+            }
+            double t = -distance / rate;
+            if (rate > 0) {
+                t0 = Math.max(t0, t);
+            } else {
+                t1 = Math.min(t1, t);
+            }
+            if (t0 > t1) {
+                return false;
+            }
+        }
+        range[0] = t0;
+        range[1] = t1;
+        return true;
+    }
+
+    /** Writes the clipped piece of input segment i at output slot kept and returns kept + 1. */
+    private static int emit(double[] segments, int o, double[] range, double[] out, int[] sourceIndices,
+                            int kept, int i) {
+        double x0 = segments[o];
+        double y0 = segments[o + 1];
+        double z0 = segments[o + 2];
+        double dx = segments[o + 3] - x0;
+        double dy = segments[o + 4] - y0;
+        double dz = segments[o + 5] - z0;
+        double t0 = range[0];
+        double t1 = range[1];
+        int w = kept * SEGMENT_STRIDE;
+        // Output slot w never lies after input slot o, so in-place clipping reads before it writes
+        out[w] = x0 + t0 * dx;
+        out[w + 1] = y0 + t0 * dy;
+        out[w + 2] = z0 + t0 * dz;
+        out[w + 3] = x0 + t1 * dx;
+        out[w + 4] = y0 + t1 * dy;
+        out[w + 5] = z0 + t1 * dz;
+        if (sourceIndices != null) {
+            sourceIndices[kept] = i;
+        }
+        return kept + 1;
+    }
+
+    private static void validateBatch(double[] segments, int count, double[] out, int[] sourceIndices) {
+        if (segments == null || out == null) {
+            logger.log(Level.SEVERE, "Cannot clip segments: input or output array is null");
+            throw new NullPointerException("Segment arrays cannot be null");
+        }
+        if (count < 0 || (long) count * SEGMENT_STRIDE > segments.length
+                || (long) count * SEGMENT_STRIDE > out.length
+                || (sourceIndices != null && sourceIndices.length < count)) {
+            logger.log(Level.SEVERE, "Cannot clip segments: count {0} does not fit the arrays", count);
+            throw new IllegalArgumentException("Count must be non-negative and fit the given arrays");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.csc205.project1;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event for geometry queries that take longer than a threshold.
+ *
+ * Cube3D.containsPoint, intersects and distanceToPoint, Line3D.shortestDistanceTo and
+ * the batch engines time themselves with this event. JFR measures the duration, and
+ * the event is committed only if that duration reaches the threshold, which defaults
+ * to 1 ms and can be changed per recording, for example:
+ * <pre>
+ * java -XX:StartFlightRecording:com.csc205.project1.SlowGeometryQuery#threshold=100us ...
+ * </pre>
+ * The recorded event carries the operation, a description of the cube or segments
+ * involved and the input size, so a latency spike can be traced to specific
+ * geometry. The description is only formatted for events that are actually committed.
+ *
+ * While no recording has the event enabled, start() and finish() cost little more than
+ * a field check, and the JIT usually removes the event allocation by escape analysis.
+ *
+ * Example usage:
+ * <pre>
+ * SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+ * ... the query ...
+ * slowQuery.finish(GeometryOperation.CUBE_INTERSECTS, this, other, 2);
+ * </pre>
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@Name("com.csc205.project1.SlowGeometryQuery")
+@Label("Slow Geometry Query")
+@Category({"Geometry"})
+@Description("A geometry query whose duration exceeded the configured threshold")
+@Threshold("1 ms")
+final class SlowGeometryQueryEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Subject")
+    @Description("The cube or segments queried; empty for batch operations")
+    String subject;
+
+    @Label("Input Size")
+    @Description("Number of objects, points or requests processed")
+    long inputSize;
+
+    /**
+     * Creates an event and starts its clock.
+     *
+     * @return the started event
+     */
+    static SlowGeometryQueryEvent start() {
+        SlowGeometryQueryEvent event = new SlowGeometryQueryEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops the clock and commits the event if it exceeded the threshold.
+     *
+     * @param operation the operation that ran
+     * @param subject the object queried, described with toString(); may be null
+     * @param inputSize the number of objects, points or requests processed
+     */
+    void finish(GeometryOperation operation, Object subject, long inputSize) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation.getDisplayName();
+            this.subject = subject == null ? "" : subject.toString();
+            this.inputSize = inputSize;
+            commit();
+        }
+    }
+
+    /**
+     * Stops the clock and commits the event if it exceeded the threshold, for
+     * operations on two objects.
+     *
+     * @param operation the operation that ran
+     * @param first the object the operation was called on
+     * @param second the argument object
+     * @param inputSize the number of objects processed
+     */
+    void finish(GeometryOperation operation, Object first, Object second, long inputSize) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation.getDisplayName();
+            this.subject = first + " | " + second;
+            this.inputSize = inputSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.csc205.project1;
+
+/**
+ * Space-filling curves that map 3D grid cells to a single 63-bit sort key.
+ *
+ * Each axis holds a 21-bit integer cell coordinate (0 .. 2^21 - 1). Sorting points by
+ * their key orders them along the curve, so points close in space tend to be close in
+ * memory. This improves cache locality for neighbour queries and batch kernels.
+ *
+ * - MORTON: Z-order; the key interleaves the bits of x, y and z. Encoding is a few
+ *   shifts and masks, and keys of an octree cell form a contiguous range.
+ * - HILBERT: the 3D Hilbert curve (Skilling's transpose algorithm). Consecutive keys
+ *   are always face-adjacent cells, which gives better locality than Z-order at a
+ *   slightly higher encoding cost.
+ *
+ * Use SpatialKeyEncoder to quantize real coordinates to cells.
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. BIT INTERLEAVING:
+ *    - Morton bits are spread with five magic-mask steps instead of a 21-step loop
+ *
+ * 2. GRAY-CODE HILBERT TRANSFORM:
+ *    - J. Skilling, "Programming the Hilbert curve", AIP Conf. Proc. 707 (2004)
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public enum SpaceFillingCurve {
+
+    MORTON {
+        @Override
+        public long encode(int x, int y, int z) {
+            checkCell(x, y, z);
+            return spread(x) | (spread(y) << 1) | (spread(z) << 2);
+        }
+
+        @Override
+        public int[] decode(long key) {
+            return new int[]{compact(key), compact(key >>> 1), compact(key >>> 2)};
+        }
+    },
+
+    HILBERT {
+        @Override
+        public long encode(int x, int y, int z) {
+            checkCell(x, y, z);
+            // Axes to transposed Hilbert index: inverse undo, then Gray encode
+            for (int q = 1 << (BITS - 1); q > 1; q >>>= 1) {
+                int p = q - 1;
+                if ((x & q) != 0) {
+                    x ^= p;
+                }
+                if ((y & q) != 0) {
+                    x ^= p;
+                } else {
+                    int t = (x ^ y) & p;
+                    x ^= t;
+                    y ^= t;
+                }
+                if ((z & q) != 0) {
+                    x ^= p;
+                } else {
+                    int t = (x ^ z) & p;
+                    x ^= t;
+                    z ^= t;
+                }
+            }
+            y ^= x;
+            z ^= y;
+            int t = 0;
+            for (int q = 1 << (BITS - 1); q > 1; q >>>= 1) {
+                if ((z & q) != 0) {
+                    t ^= q - 1;
+                }
+            }
+            x ^= t;
+            y ^= t;
+            z ^= t;
+            // The first transposed word supplies the most significant bit of each triple
+            return spread(z) | (spread(y) << 1) | (spread(x) << 2);
+        }
+
+        @Override
+        public int[] decode(long key) {
+            int x = compact(key >>> 2);
+            int y = compact(key >>> 1);
+            int z = compact(key);
+            // Gray decode
+            int t = z >>> 1;
+            z ^= y;
+            y ^= x;
+            x ^= t;
+            // Undo excess work
+            for (int q = 2; q != 1 << BITS; q <<= 1) {
+                int p = q - 1;
+                if ((z & q) != 0) {
+                    x ^= p;
+                } else {
+                    t = (x ^ z) & p;
+                    x ^= t;
+                    z ^= t;
+                }
+                if ((y & q) != 0) {
+                    x ^= p;
+                } else {
+                    t = (x ^ y) & p;
+                    x ^= t;
+                    y ^= t;
+                }
+                if ((x & q) != 0) {
+                    x ^= p;
+                }
+            }
+            return new int[]{x, y, z};
+        }
+    };
+
+    /** Bits per axis. */
+    public static final int BITS = 21;
+
+    /** Largest cell coordinate along an axis. */
+    public static final int MAX_CELL = (1 << BITS) - 1;
+
+    /**
+     * Computes the curve key of a cell.
+     *
+     * @param x the cell x-coordinate, 0 .. MAX_CELL
+     * @param y the cell y-coordinate, 0 .. MAX_CELL
+     * @param z the cell z-coordinate, 0 .. MAX_CELL
+     * @return the 63-bit key
+     * @throws IllegalArgumentException if a coordinate is out of range
+     */
+    public abstract long encode(int x, int y, int z);
+
+    /**
+     * Recovers the cell of a key produced by encode().
+     *
+     * @param key the key
+     * @return the cell coordinates {x, y, z}
+     */
+    public abstract int[] decode(long key);
+
+    /** Spreads the low 21 bits of v so that bit i moves to bit 3i. */
+    private static long spread(long v) {
+        v &= MAX_CELL;
+        v = (v | v << 32) & 0x1f00000000ffffL;
+        v = (v | v << 16) & 0x1f0000ff0000ffL;
+        v = (v | v << 8) & 0x100f00f00f00f00fL;
+        v = (v | v << 4) & 0x10c30c30c30c30c3L;
+        v = (v | v << 2) & 0x1249249249249249L;
+        return v;
+    }
+
+    /** Inverse of spread: gathers bits 0, 3, 6, ... into the low 21 bits. */
+    private static int compact(long v) {
+        v &= 0x1249249249249249L;
+        v = (v ^ (v >>> 2)) & 0x10c30c30c30c30c3L;
+        v = (v ^ (v >>> 4)) & 0x100f00f00f00f00fL;
+        v = (v ^ (v >>> 8)) & 0x1f0000ff0000ffL;
+        v = (v ^ (v >>> 16)) & 0x1f00000000ffffL;
+        v = (v ^ (v >>> 32)) & MAX_CELL;
+        return (int) v;
+    }
+
+    private static void checkCell(int x, int y, int z) {
+        if ((x | y | z) < 0 || x > MAX_CELL || y > MAX_CELL || z > MAX_CELL) {
+            throw new IllegalArgumentException("Cell (" + x + ", " + y + ", " + z + ") out of range 0.." + MAX_CELL);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Parallel proximity clustering of point clouds: DBSCAN and k-means.
+ *
+ * Both algorithms read coordinates straight from a PointBuffer and never create
+ * Point3D objects in their inner loops. Distances are Euclidean, exactly as
+ * Point3D.distanceTo computes them.
+ *
+ * DBSCAN groups points that are densely packed: a point with at least minPoints
+ * neighbours within eps (itself included) is a core point, core points within eps of
+ * each other share a cluster, other points within eps of a core point join one of
+ * those clusters, and the rest are noise. Neighbourhoods come from a GridIndex with
+ * cell size eps, so each query inspects 27 cells rather than every point. Core
+ * detection and cluster merging both run in parallel; merging uses a lock-free
+ * union-find, and a border point reachable from several clusters joins the cluster
+ * of its lowest-index core neighbour, which makes the labels deterministic.
+ *
+ * k-means partitions the points into k groups around centroids using Lloyd's
+ * algorithm with k-means++ seeding. The assignment step runs over chunks of points in
+ * parallel, each chunk accumulating partial centroid sums that are then combined.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. UTILITY CLASS:
+ *    - Stateless static algorithms; results are returned as ClusteringResult values
+ *
+ * 2. DATA PARALLELISM:
+ *    - Per-point work is independent and runs on parallel streams
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. UNIFORM GRID SPATIAL INDEX:
+ *    - Radius queries in O(points in 27 cells) instead of O(n)
+ *
+ * 2. DISJOINT-SET UNION (UNION-FIND):
+ *    - Connected components of core points, with CAS-based linking of roots so that
+ *      many threads can merge concurrently
+ *
+ * 3. LLOYD'S ALGORITHM WITH K-MEANS++:
+ *    - Seeding by squared-distance sampling gives an O(log k)-competitive start and
+ *      usually converges in few iterations
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class SpatialClustering {
+
+    private static final Logger logger = Logger.getLogger(SpatialClustering.class.getName());
+
+    // Points per parallel task in the k-means assignment step
+    private static final int KMEANS_CHUNK = 4096;
+
+    private SpatialClustering() {
+    }
+
+    /**
+     * Clusters points with DBSCAN.
+     *
+     * Example usage:
+     * <pre>
+     * ClusteringResult result = SpatialClustering.dbscan(cloud, 0.05, 8);
+     * for (int c = 0; c &lt; result.getClusterCount(); c++) {
+     *     Cube3D bounds = result.getBounds(c);
+     * }
+     * </pre>
+     *
+     * Time Complexity: O(n * k) where k is the typical number of points in 27 cells
+     * Space Complexity: O(n)
+     *
+     * @param points the points to cluster
+     * @param eps the neighbourhood radius
+     * @param minPoints the minimum neighbourhood size (including the point) of a core point
+     * @return the labels and cluster summaries
+     * @throws NullPointerException if points is null
+     * @throws IllegalArgumentException if eps is not positive and finite or minPoints &lt; 1
+     */
+    public static ClusteringResult dbscan(PointBuffer points, double eps, int minPoints) {
+        checkPoints(points);
+        if (!(eps > 0) || Double.isInfinite(eps) || minPoints < 1) {
+            logger.log(Level.SEVERE, "Invalid DBSCAN parameters: eps {0}, minPoints {1}", new Object[]{eps, minPoints});
+            throw new IllegalArgumentException("eps must be positive and finite and minPoints at least 1");
+        }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+        int n = points.size();
+        double[] xyz = points.getCoordinates();
+        GridIndex index = new GridIndex(points, eps);
+
+        boolean[] core = new boolean[n];
+        IntStream.range(0, n).parallel().forEach(i -> core[i] = index.countNeighbors(i, eps) >= minPoints);
+
+        AtomicIntegerArray parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+        IntStream.range(0, n).parallel().filter(i -> core[i]).forEach(i ->
+            index.forEachNeighbor(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2], eps, j -> {
+                if (j > i && core[j]) {
+                    union(parent, i, j);
+                }
+            }));
+
+        // Every point maps to a component root (the lowest core index in it) or -1
+        int[] roots = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            if (core[i]) {
+                roots[i] = find(parent, i);
+            } else {
+                int[] nearestCore = {Integer.MAX_VALUE};
+                index.forEachNeighbor(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2], eps, j -> {
+                    if (core[j] && j < nearestCore[0]) {
+                        nearestCore[0] = j;
+                    }
+                });
+                roots[i] = nearestCore[0] == Integer.MAX_VALUE ? ClusteringResult.NOISE : find(parent, nearestCore[0]);
+            }
+        });
+
+        int clusters = relabel(roots, n);
+        ClusteringResult result = new ClusteringResult(points, roots, clusters, 1);
+        logger.log(Level.INFO, "DBSCAN found {0} clusters and {1} noise points among {2} points",
+                   new Object[]{clusters, result.getNoiseCount(), n});
+        // Core flags, parents, roots, relabel map, and the grid's keys, order and cells
+        slowQuery.finish(GeometryOperation.DBSCAN, null, n);
+        GeometryMetrics.record(GeometryOperation.DBSCAN, metricsStart, 45L * n);
+        return result;
+    }
+
+    /**
+     * Clusters points into at most k groups with k-means.
+     *
+     * Iteration stops when no point changes cluster or after maxIterations. The result
+     * contains fewer than k clusters if there are fewer than k distinct points, or if a
+     * center ends up nearest to no point: an empty cluster keeps its previous center
+     * rather than being reseeded, and relabeling drops it from the result.
+     *
+     * Time Complexity: O(n * k * iterations / p) with p workers
+     * Space Complexity: O(n + k)
+     *
+     * @param points the points to cluster
+     * @param k the number of clusters
+     * @param maxIterations the maximum number of Lloyd iterations
+     * @param seed the random seed for k-means++ initialization
+     * @return the labels and cluster summaries; getIterations() reports the iterations run
+     * @throws NullPointerException if points is null
+     * @throws IllegalArgumentException if k or maxIterations is less than 1
+     */
+    public static ClusteringResult kMeans(PointBuffer points, int k, int maxIterations, long seed) {
+        checkPoints(points);
+        if (k < 1 || maxIterations < 1) {
+            logger.log(Level.SEVERE, "Invalid k-means parameters: k {0}, maxIterations {1}", new Object[]{k, maxIterations});
+            throw new IllegalArgumentException("k and maxIterations must be at least 1");
+        }
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+        int n = points.size();
+        double[] xyz = points.getCoordinates();
+        int[] labels = new int[n];
+        if (n == 0) {
+            return new ClusteringResult(points, labels, 0, 0);
+        }
+
+        double[] centers = seedCenters(xyz, n, Math.min(k, n), new Random(seed));
+        int centerCount = centers.length / 3;
+        Arrays.fill(labels, -1);
+
+        int chunks = (n + KMEANS_CHUNK - 1) / KMEANS_CHUNK;
+        int iterations = 0;
+        while (iterations < maxIterations) {
+            iterations++;
+            double[] current = centers;
+            // Each chunk returns [sumX, sumY, sumZ, count] per center followed by its change count
+            double[] totals = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> assignChunk(xyz, labels, current, centerCount,
+                                               chunk * KMEANS_CHUNK, Math.min(n, (chunk + 1) * KMEANS_CHUNK)))
+                .reduce(SpatialClustering::addInto)
+                .orElseThrow();
+
+            double[] next = current.clone();
+            for (int c = 0; c < centerCount; c++) {
+                double count = totals[c * 4 + 3];
+                if (count > 0) {
+                    next[c * 3] = totals[c * 4] / count;
+                    next[c * 3 + 1] = totals[c * 4 + 1] / count;
+                    next[c * 3 + 2] = totals[c * 4 + 2] / count;
+                }
+            }
+            centers = next;
+            if (totals[centerCount * 4] == 0) {
+                break;
+            }
+        }
+
+        int clusters = relabel(labels, n);
+        logger.log(Level.INFO, "k-means produced {0} clusters for {1} points in {2} iterations",
+                   new Object[]{clusters, n, iterations});
+        // Labels, seeding distances and relabel map
+        slowQuery.finish(GeometryOperation.KMEANS, null, n);
+        GeometryMetrics.record(GeometryOperation.KMEANS, metricsStart, 16L * n);
+        return new ClusteringResult(points, labels, clusters, iterations);
+    }
+
+    /** k-means++: first center uniformly, each further one with probability proportional to D^2. */
+    private static double[] seedCenters(double[] xyz, int n, int k, Random random) {
+        double[] centers = new double[k * 3];
+        double[] nearest = new double[n];
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+        int chosen = random.nextInt(n);
+        int count = 0;
+        while (true) {
+            System.arraycopy(xyz, chosen * 3, centers, count * 3, 3);
+            count++;
+            if (count == k) {
+                return centers;
+            }
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                double dx = xyz[i * 3] - xyz[chosen * 3];
+                double dy = xyz[i * 3 + 1] - xyz[chosen * 3 + 1];
+                double dz = xyz[i * 3 + 2] - xyz[chosen * 3 + 2];
+                nearest[i] = Math.min(nearest[i], dx * dx + dy * dy + dz * dz);
+                total += nearest[i];
+            }
+            if (total == 0) {
+                // Fewer distinct points than k: stop with the centers found so far
+                return Arrays.copyOf(centers, count * 3);
+            }
+            double target = random.nextDouble() * total;
+            chosen = n - 1;
+            for (int i = 0; i < n; i++) {
+                target -= nearest[i];
+                if (target < 0 && nearest[i] > 0) {
+                    chosen = i;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static double[] assignChunk(double[] xyz, int[] labels, double[] centers, int k, int from, int to) {
+        double[] partial = new double[k * 4 + 1];
+        int changed = 0;
+        for (int i = from; i < to; i++) {
+            double x = xyz[i * 3];
+            double y = xyz[i * 3 + 1];
+            double z = xyz[i * 3 + 2];
+            int best = 0;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            for (int c = 0; c < k; c++) {
+                double dx = x - centers[c * 3];
+                double dy = y - centers[c * 3 + 1];
+                double dz = z - centers[c * 3 + 2];
+                double d = dx * dx + dy * dy + dz * dz;
+                if (d < bestDistance) {
+                    bestDistance = d;
+                    best = c;
+                }
+            }
+            if (labels[i] != best) {
+                labels[i] = best;
+                changed++;
+            }
+            partial[best * 4] += x;
+            partial[best * 4 + 1] += y;
+            partial[best * 4 + 2] += z;
+            partial[best * 4 + 3]++;
+        }
+        partial[k * 4] = changed;
+        return partial;
+    }
+
+    private static double[] addInto(double[] a, double[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    /**
+     * Replaces arbitrary non-negative group ids by 0, 1, 2, ... in order of first
+     * appearance; NOISE stays NOISE.
+     *
+     * @return the number of distinct groups
+     */
+    private static int relabel(int[] groups, int n) {
+        int[] mapping = new int[n];
+        Arrays.fill(mapping, -1);
+        int next = 0;
+        for (int i = 0; i < n; i++) {
+            int g = groups[i];
+            if (g == ClusteringResult.NOISE) {
+                continue;
+            }
+            if (mapping[g] < 0) {
+                mapping[g] = next++;
+            }
+            groups[i] = mapping[g];
+        }
+        return next;
+    }
+
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                // Path halving; a failed CAS just means someone else compressed it
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = p;
+        }
+    }
+
+    /** Links the root with the larger index under the smaller, retrying if a root changes. */
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) {
+                return;
+            }
+            if (a < b) {
+                int swap = a;
+                a = b;
+                b = swap;
+            }
+            if (parent.compareAndSet(a, a, b)) {
+                return;
+            }
+        }
+    }
+
+    private static void checkPoints(PointBuffer points) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot cluster: points are null");
+            throw new NullPointerException("Points cannot be null");
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.csc205.project1;
+
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Quantizes 3D coordinates into space-filling curve keys.
+ *
+ * The encoder maps the box [min, max] onto a grid of 2^21 cells per axis and returns
+ * the SpaceFillingCurve key of the cell containing a point. Coordinates outside the
+ * box are clamped to its boundary cells, and an axis with zero extent always maps to
+ * cell 0. Quantization is monotonic per axis, so points ordered by key follow the
+ * curve through the box.
+ *
+ * Example usage:
+ * <pre>
+ * SpatialKeyEncoder encoder = SpatialKeyEncoder.forPoints(cloud, SpaceFillingCurve.HILBERT);
+ * long[] keys = encoder.keys(cloud);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - Bounds and curve are fixed at construction; encoders are thread-safe
+ *
+ * 2. STRATEGY PATTERN:
+ *    - The curve is a pluggable SpaceFillingCurve constant
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class SpatialKeyEncoder {
+
+    private static final Logger logger = Logger.getLogger(SpatialKeyEncoder.class.getName());
+
+    // Points per parallel task when encoding a buffer
+    private static final int CHUNK = 8192;
+
+    private final SpaceFillingCurve curve;
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double scaleX;
+    private final double scaleY;
+    private final double scaleZ;
+
+    /**
+     * Creates an encoder for a quantization box.
+     *
+     * @param min the minimum corner of the box
+     * @param max the maximum corner of the box
+     * @param curve the space-filling curve
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if max is below min on any axis or a bound is not finite
+     */
+    public SpatialKeyEncoder(Point3D min, Point3D max, SpaceFillingCurve curve) {
+        if (min == null || max == null || curve == null) {
+            logger.log(Level.SEVERE, "Cannot create key encoder: bounds or curve is null");
+            throw new NullPointerException("Bounds and curve cannot be null");
+        }
+        this.curve = curve;
+        this.minX = min.getX();
+        this.minY = min.getY();
+        this.minZ = min.getZ();
+        this.scaleX = scale(minX, max.getX());
+        this.scaleY = scale(minY, max.getY());
+        this.scaleZ = scale(minZ, max.getZ());
+    }
+
+    /**
+     * Creates an encoder whose box is the bounding box of a buffer's points.
+     *
+     * @param points the points that will be encoded
+     * @param curve the space-filling curve
+     * @return the encoder
+     * @throws NullPointerException if points or curve is null
+     */
+    public static SpatialKeyEncoder forPoints(PointBuffer points, SpaceFillingCurve curve) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot create key encoder: points are null");
+            throw new NullPointerException("Points cannot be null");
+        }
+        double[] xyz = points.getCoordinates();
+        int n = points.size() * 3;
+        double[] lo = {0, 0, 0};
+        double[] hi = {0, 0, 0};
+        if (n > 0) {
+            for (int axis = 0; axis < 3; axis++) {
+                lo[axis] = hi[axis] = xyz[axis];
+            }
+        }
+        for (int i = 0; i < n; i += 3) {
+            for (int axis = 0; axis < 3; axis++) {
+                lo[axis] = Math.min(lo[axis], xyz[i + axis]);
+                hi[axis] = Math.max(hi[axis], xyz[i + axis]);
+            }
+        }
+        return new SpatialKeyEncoder(new Point3D(lo[0], lo[1], lo[2]), new Point3D(hi[0], hi[1], hi[2]), curve);
+    }
+
+    /**
+     * Returns the key of a point given by raw coordinates.
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param z the z-coordinate
+     * @return the curve key
+     */
+    public long key(double x, double y, double z) {
+        return curve.encode(cell(x, minX, scaleX), cell(y, minY, scaleY), cell(z, minZ, scaleZ));
+    }
+
+    /**
+     * Returns the key of a point.
+     *
+     * @param point the point
+     * @return the curve key
+     * @throws NullPointerException if point is null
+     */
+    public long key(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot compute curve key: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+        return key(point.getX(), point.getY(), point.getZ());
+    }
+
+    /**
+     * Returns the keys of all points in a buffer, computed in parallel.
+     *
+     * @param points the points
+     * @return one key per point, in point order
+     * @throws NullPointerException if points is null
+     */
+    public long[] keys(PointBuffer points) {
+        if (points == null) {
+            logger.log(Level.SEVERE, "Cannot compute curve keys: points are null");
+            throw new NullPointerException("Points cannot be null");
+        }
+        double[] xyz = points.getCoordinates();
+        int n = points.size();
+        long[] keys = new long[n];
+        IntStream.range(0, (n + CHUNK - 1) / CHUNK).parallel().forEach(chunk -> {
+            int end = Math.min(n, (chunk + 1) * CHUNK);
+            for (int i = chunk * CHUNK; i < end; i++) {
+                keys[i] = key(xyz[i * 3], xyz[i * 3 + 1], xyz[i * 3 + 2]);
+            }
+        });
+        return keys;
+    }
+
+    /**
+     * Returns the curve this encoder uses.
+     *
+     * @return the curve
+     */
+    public SpaceFillingCurve getCurve() {
+        return curve;
+    }
+
+    /**
+     * Returns a short description of this encoder.
+     *
+     * @return a string showing the curve and the box minimum
+     */
+    @Override
+    public String toString() {
+        return "SpatialKeyEncoder[" + curve + ", min=(" + minX + ", " + minY + ", " + minZ + ")]";
+    }
+
+    private static double scale(double min, double max) {
+        if (!Double.isFinite(min) || !Double.isFinite(max) || max < min) {
+            logger.log(Level.SEVERE, "Invalid quantization bounds: {0} .. {1}", new Object[]{min, max});
+            throw new IllegalArgumentException("Bounds must be finite with max >= min");
+        }
+        double extent = max - min;
+        return extent > 0 ? (SpaceFillingCurve.MAX_CELL + 1) / extent : 0;
+    }
+
+    private static int cell(double value, double min, double scale) {
+        double c = (value - min) * scale;
+        // Also maps NaN to cell 0
+        if (!(c > 0)) {
+            return 0;
+        }
+        return c >= SpaceFillingCurve.MAX_CELL ? SpaceFillingCurve.MAX_CELL : (int) c;
+    }
+}
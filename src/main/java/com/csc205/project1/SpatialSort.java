@@ -0,0 +1,163 @@
+package com.csc205.project1;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * Parallel radix sorting by long keys, and reordering of point buffers along a
+ * space-filling curve.
+ *
+ * sortedOrder() is a stable least-significant-digit radix sort with 11-bit digits.
+ * Each pass splits the keys into chunks; every chunk builds its digit histogram in
+ * parallel, a prefix sum over (digit, chunk) gives each chunk its own output ranges,
+ * and the chunks then scatter in parallel without synchronization. Only the bits in
+ * which the keys actually differ are sorted, so 63-bit curve keys of a small region
+ * need fewer than six passes.
+ *
+ * sort() combines the pieces: it encodes every point of a buffer with a
+ * SpatialKeyEncoder, sorts the keys and permutes the buffer in place, so that later
+ * neighbour queries and batch kernels walk memory sequentially.
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. UTILITY CLASS:
+ *    - Stateless static algorithms
+ *
+ * 2. DATA PARALLELISM:
+ *    - Histogram and scatter phases are independent per chunk
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. LSD RADIX SORT:
+ *    - O(n * passes) with no comparisons; stability makes multi-pass sorting correct
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class SpatialSort {
+
+    private static final Logger logger = Logger.getLogger(SpatialSort.class.getName());
+
+    private static final int RADIX_BITS = 11;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    // Keys per parallel chunk; also the size below which a single chunk is used
+    private static final int CHUNK = 1 << 16;
+
+    private SpatialSort() {
+    }
+
+    /**
+     * Returns the stable order that sorts the keys ascending as signed longs.
+     *
+     * Time Complexity: O(n * passes / p) with p workers, at most 6 passes
+     * Space Complexity: O(n)
+     *
+     * @param keys the keys; not modified
+     * @return indices such that keys[order[0]] &lt;= keys[order[1]] &lt;= ...
+     * @throws NullPointerException if keys is null
+     */
+    public static int[] sortedOrder(long[] keys) {
+        if (keys == null) {
+            logger.log(Level.SEVERE, "Cannot sort: keys are null");
+            throw new NullPointerException("Keys cannot be null");
+        }
+        int n = keys.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (n < 2) {
+            return order;
+        }
+
+        // Flip the sign bit so that unsigned digit order equals signed key order
+        long[] current = new long[n];
+        long differing = 0;
+        long first = keys[0] ^ Long.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            current[i] = keys[i] ^ Long.MIN_VALUE;
+            differing |= current[i] ^ first;
+        }
+        int highestBit = 64 - Long.numberOfLeadingZeros(differing);
+
+        long[] nextKeys = new long[n];
+        int[] nextOrder = new int[n];
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        int[][] counts = new int[chunks][BUCKETS];
+        for (int shift = 0; shift < highestBit; shift += RADIX_BITS) {
+            if (((differing >>> shift) & (BUCKETS - 1)) == 0) {
+                continue;
+            }
+            int s = shift;
+            long[] from = current;
+            int[] fromOrder = order;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] histogram = counts[c];
+                Arrays.fill(histogram, 0);
+                int end = Math.min(n, (c + 1) * CHUNK);
+                for (int i = c * CHUNK; i < end; i++) {
+                    histogram[(int) (from[i] >>> s) & (BUCKETS - 1)]++;
+                }
+            });
+            // Exclusive prefix over (bucket, chunk): chunk c writes bucket b after chunks 0..c-1
+            int sum = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                for (int c = 0; c < chunks; c++) {
+                    int count = counts[c][b];
+                    counts[c][b] = sum;
+                    sum += count;
+                }
+            }
+            long[] toKeys = nextKeys;
+            int[] toOrder = nextOrder;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] offsets = counts[c];
+                int end = Math.min(n, (c + 1) * CHUNK);
+                for (int i = c * CHUNK; i < end; i++) {
+                    int slot = offsets[(int) (from[i] >>> s) & (BUCKETS - 1)]++;
+                    toKeys[slot] = from[i];
+                    toOrder[slot] = fromOrder[i];
+                }
+            });
+            nextKeys = current;
+            nextOrder = order;
+            current = toKeys;
+            order = toOrder;
+        }
+        return order;
+    }
+
+    /**
+     * Reorders a buffer's points in place along a space-filling curve through their
+     * bounding box.
+     *
+     * Example usage:
+     * <pre>
+     * int[] order = SpatialSort.sort(cloud, SpaceFillingCurve.MORTON);
+     * // point k of cloud is now the point that was at index order[k]
+     * </pre>
+     *
+     * Time Complexity: O(n) (encoding, radix sort and in-place permutation)
+     * Space Complexity: O(n) for keys and the order
+     *
+     * @param points the points to reorder
+     * @param curve the space-filling curve
+     * @return the applied order, so callers can permute per-point attributes too
+     * @throws NullPointerException if points or curve is null
+     */
+    public static int[] sort(PointBuffer points, SpaceFillingCurve curve) {
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+        SpatialKeyEncoder encoder = SpatialKeyEncoder.forPoints(points, curve);
+        int[] order = sortedOrder(encoder.keys(points));
+        points.reorder(order);
+        logger.log(Level.INFO, "Reordered {0} points along the {1} curve", new Object[]{points.size(), curve});
+        // Keys and their sorted copy, both orders and the reorder bitmap
+        slowQuery.finish(GeometryOperation.SPATIAL_SORT, curve, order.length);
+        GeometryMetrics.record(GeometryOperation.SPATIAL_SORT, metricsStart, 33L * order.length);
+        return order;
+    }
+}
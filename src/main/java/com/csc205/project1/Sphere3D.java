@@ -0,0 +1,378 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A solid sphere in 3D space, the cheapest bounding volume to test.
+ *
+ * Every test against a sphere is a single squared distance compared with a squared
+ * radius: to another sphere's center, to the axis of a Capsule3D, to a Line3D segment,
+ * or to the nearest point of a solid Cube3D, found by clamping the center into the cube
+ * in the cube's own frame. Unlike the circumscribed-sphere shortcut in
+ * Cube3D.intersects(), the cube test is exact, so a sphere can stand in for an object in
+ * the cheap tier of a culling or collision hierarchy without false positives from the
+ * cube side.
+ *
+ * The intersectAll() methods test flat arrays of spheres, SPHERE_STRIDE doubles (x, y, z,
+ * radius) each, without creating objects per sphere, and report to GeometryMetrics as
+ * SPHERE_INTERSECT.
+ *
+ * Example usage:
+ * <pre>
+ * Sphere3D bound = Sphere3D.bounding(cube);
+ * boolean mayCollide = bound.intersects(otherBound);
+ *
+ * int[] hits = new int[count];
+ * int found = Sphere3D.intersectAll(spheres, count, cube, hits);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - The center and radius are fixed at construction
+ *
+ * 2. FACTORY METHODS:
+ *    - bounding() builds the smallest sphere around a cube or a segment
+ *
+ * 3. PRIMITIVE KERNELS:
+ *    - The object-based and array-based tests share the same coordinate kernels
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. CLOSEST POINT ON A BOX:
+ *    - In the box's frame the closest point is the query point clamped to the box
+ *      on each axis independently
+ *
+ * 2. SQUARED DISTANCES:
+ *    - Comparing squared distances with squared radii avoids every square root
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Sphere3D {
+
+    private static final Logger logger = Logger.getLogger(Sphere3D.class.getName());
+
+    /** Doubles per sphere in the flat array layout. */
+    public static final int SPHERE_STRIDE = 4;
+
+    private final Point3D center;
+    private final double radius;
+
+    /**
+     * Creates a sphere.
+     *
+     * @param center the center
+     * @param radius the radius, at least zero
+     * @throws NullPointerException if center is null
+     * @throws IllegalArgumentException if radius is negative or not finite
+     */
+    public Sphere3D(Point3D center, double radius) {
+        if (center == null) {
+            logger.log(Level.SEVERE, "Cannot create Sphere3D: center is null");
+            throw new NullPointerException("Center cannot be null");
+        }
+        requireRadius(radius);
+        this.center = center;
+        this.radius = radius;
+    }
+
+    /**
+     * Creates the circumscribed sphere of a cube, which passes through its eight vertices.
+     *
+     * @param cube the cube
+     * @return the smallest sphere containing the cube
+     * @throws NullPointerException if cube is null
+     */
+    public static Sphere3D bounding(Cube3D cube) {
+        requireCube(cube);
+        return new Sphere3D(cube.getCenter(), cube.getSideLength() * Math.sqrt(3) / 2);
+    }
+
+    /**
+     * Creates the sphere whose diameter is a segment.
+     *
+     * @param line the segment
+     * @return the smallest sphere containing the segment
+     * @throws NullPointerException if line is null
+     */
+    public static Sphere3D bounding(Line3D line) {
+        requireLine(line);
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        double dx = e.getX() - s.getX();
+        double dy = e.getY() - s.getY();
+        double dz = e.getZ() - s.getZ();
+        Point3D midpoint = new Point3D(s.getX() + dx / 2, s.getY() + dy / 2, s.getZ() + dz / 2);
+        return new Sphere3D(midpoint, Math.sqrt(dx * dx + dy * dy + dz * dz) / 2);
+    }
+
+    /**
+     * Returns the center.
+     *
+     * @return the center
+     */
+    public Point3D getCenter() {
+        return center;
+    }
+
+    /**
+     * Returns the radius.
+     *
+     * @return the radius
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Returns the volume.
+     *
+     * @return 4/3 π r³
+     */
+    public double volume() {
+        return 4.0 / 3 * Math.PI * radius * radius * radius;
+    }
+
+    /**
+     * Tests whether a point lies inside the sphere, boundary included.
+     *
+     * @param point the point
+     * @return true if the point is within the radius of the center
+     * @throws NullPointerException if point is null
+     */
+    public boolean containsPoint(Point3D point) {
+        requirePoint(point);
+        return Capsule3D.within(centerDistanceSquared(point.getX(), point.getY(), point.getZ()), radius);
+    }
+
+    /**
+     * Returns the distance from a point to the sphere.
+     *
+     * @param point the point
+     * @return the distance to the sphere surface, or 0 if the point is inside
+     * @throws NullPointerException if point is null
+     */
+    public double distanceTo(Point3D point) {
+        requirePoint(point);
+        return Math.max(0, Math.sqrt(centerDistanceSquared(point.getX(), point.getY(), point.getZ())) - radius);
+    }
+
+    /**
+     * Tests whether this sphere overlaps another, boundaries included.
+     *
+     * @param other the other sphere
+     * @return true if the two volumes share at least one point
+     * @throws NullPointerException if other is null
+     */
+    public boolean intersects(Sphere3D other) {
+        if (other == null) {
+            logger.log(Level.SEVERE, "Cannot test sphere overlap: other sphere is null");
+            throw new NullPointerException("Other sphere cannot be null");
+        }
+        Point3D c = other.center;
+        return Capsule3D.within(centerDistanceSquared(c.getX(), c.getY(), c.getZ()), radius + other.radius);
+    }
+
+    /**
+     * Tests whether this sphere overlaps a capsule, boundaries included.
+     *
+     * @param capsule the capsule
+     * @return true if the two volumes share at least one point
+     * @throws NullPointerException if capsule is null
+     */
+    public boolean intersects(Capsule3D capsule) {
+        if (capsule == null) {
+            logger.log(Level.SEVERE, "Cannot test sphere overlap: capsule is null");
+            throw new NullPointerException("Capsule cannot be null");
+        }
+        return capsule.intersects(this);
+    }
+
+    /**
+     * Tests whether a line segment passes through this sphere, boundaries included.
+     *
+     * @param line the segment
+     * @return true if the segment comes within the radius of the center
+     * @throws NullPointerException if line is null
+     */
+    public boolean intersects(Line3D line) {
+        requireLine(line);
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        return Capsule3D.within(Capsule3D.segmentPointDistanceSquared(s.getX(), s.getY(), s.getZ(),
+                                                                      e.getX(), e.getY(), e.getZ(),
+                                                                      center.getX(), center.getY(), center.getZ()),
+                                radius);
+    }
+
+    /**
+     * Tests whether this sphere overlaps a solid cube, boundaries included.
+     *
+     * @param cube the cube, with any orientation
+     * @return true if the nearest point of the cube is within the radius of the center
+     * @throws NullPointerException if cube is null
+     */
+    public boolean intersects(Cube3D cube) {
+        requireCube(cube);
+        Point3D c = cube.getCenter();
+        return Capsule3D.within(cubeDistanceSquared(cube.orientationMatrix(), c.getX(), c.getY(), c.getZ(),
+                                                    cube.getSideLength() / 2,
+                                                    center.getX(), center.getY(), center.getZ()),
+                                radius);
+    }
+
+    /**
+     * Finds the spheres in an array that overlap a cube.
+     *
+     * @param spheres the spheres, SPHERE_STRIDE doubles each; radii must be non-negative
+     * @param count the number of spheres to read
+     * @param cube the cube, with any orientation
+     * @param out receives the indices of the overlapping spheres in increasing order
+     * @return the number of indices written
+     * @throws NullPointerException if spheres, cube or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int intersectAll(double[] spheres, int count, Cube3D cube, int[] out) {
+        requireCube(cube);
+        validateBatch(spheres, count, out);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        double[] m = cube.orientationMatrix();
+        Point3D c = cube.getCenter();
+        double cx = c.getX();
+        double cy = c.getY();
+        double cz = c.getZ();
+        double half = cube.getSideLength() / 2;
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * SPHERE_STRIDE;
+            if (Capsule3D.within(cubeDistanceSquared(m, cx, cy, cz, half, spheres[o], spheres[o + 1], spheres[o + 2]),
+                                 spheres[o + 3])) {
+                out[found++] = i;
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.SPHERE_INTERSECT, cube, count);
+        // Only the cube's memoized matrix is read, so the call allocates nothing
+        GeometryMetrics.record(GeometryOperation.SPHERE_INTERSECT, metricsStart, 0);
+        return found;
+    }
+
+    /**
+     * Finds the spheres in an array that a line segment passes through.
+     *
+     * @param spheres the spheres, SPHERE_STRIDE doubles each; radii must be non-negative
+     * @param count the number of spheres to read
+     * @param line the segment
+     * @param out receives the indices of the spheres the segment meets in increasing order
+     * @return the number of indices written
+     * @throws NullPointerException if spheres, line or out is null
+     * @throws IllegalArgumentException if count is negative or an array is too short
+     */
+    public static int intersectAll(double[] spheres, int count, Line3D line, int[] out) {
+        requireLine(line);
+        validateBatch(spheres, count, out);
+        long metricsStart = GeometryMetrics.start();
+        SlowGeometryQueryEvent slowQuery = SlowGeometryQueryEvent.start();
+
+        Point3D s = line.getStart();
+        Point3D e = line.getEnd();
+        double x0 = s.getX();
+        double y0 = s.getY();
+        double z0 = s.getZ();
+        double x1 = e.getX();
+        double y1 = e.getY();
+        double z1 = e.getZ();
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int o = i * SPHERE_STRIDE;
+            double distanceSquared = Capsule3D.segmentPointDistanceSquared(x0, y0, z0, x1, y1, z1,
+                                                                           spheres[o], spheres[o + 1], spheres[o + 2]);
+            if (Capsule3D.within(distanceSquared, spheres[o + 3])) {
+                out[found++] = i;
+            }
+        }
+
+        slowQuery.finish(GeometryOperation.SPHERE_INTERSECT, line, count);
+        GeometryMetrics.record(GeometryOperation.SPHERE_INTERSECT, metricsStart, 0);
+        return found;
+    }
+
+    /**
+     * Returns a string representation of this sphere.
+     *
+     * @return the center and radius
+     */
+    @Override
+    public String toString() {
+        return "Sphere3D[center=" + center + ", radius=" + radius + "]";
+    }
+
+    private double centerDistanceSquared(double x, double y, double z) {
+        double dx = x - center.getX();
+        double dy = y - center.getY();
+        double dz = z - center.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Squared distance from the point (px, py, pz) to a solid oriented cube given by its
+     * row-major rotation matrix, center and half side; 0 if the point is inside.
+     */
+    static double cubeDistanceSquared(double[] m, double cx, double cy, double cz, double half,
+                                      double px, double py, double pz) {
+        double rx = px - cx;
+        double ry = py - cy;
+        double rz = pz - cz;
+        double distanceSquared = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            // Column a of the row-major rotation matrix is the cube's local axis a in world space
+            double v = rx * m[axis] + ry * m[3 + axis] + rz * m[6 + axis];
+            double excess = v > half ? v - half : (v < -half ? v + half : 0);
+            distanceSquared += excess * excess;
+        }
+        return distanceSquared;
+    }
+
+    static void requireRadius(double radius) {
+        if (!(radius >= 0) || !Double.isFinite(radius)) {
+            logger.log(Level.SEVERE, "Cannot create bounding volume: radius {0} is negative or not finite", radius);
+            throw new IllegalArgumentException("Radius must be a non-negative finite number");
+        }
+    }
+
+    private static void requirePoint(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot query sphere: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+    }
+
+    private static void requireCube(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot use sphere: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+    }
+
+    private static void requireLine(Line3D line) {
+        if (line == null) {
+            logger.log(Level.SEVERE, "Cannot use sphere: line is null");
+            throw new NullPointerException("Line cannot be null");
+        }
+    }
+
+    private static void validateBatch(double[] spheres, int count, int[] out) {
+        if (spheres == null || out == null) {
+            logger.log(Level.SEVERE, "Cannot test spheres: sphere or output array is null");
+            throw new NullPointerException("Sphere and output arrays cannot be null");
+        }
+        if (count < 0 || (long) count * SPHERE_STRIDE > spheres.length || out.length < count) {
+            logger.log(Level.SEVERE, "Cannot test spheres: count {0} does not fit the arrays", count);
+            throw new IllegalArgumentException("Count must be non-negative and fit the given arrays");
+        }
+    }
+}
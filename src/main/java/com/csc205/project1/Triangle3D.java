@@ -0,0 +1,500 @@
+package com.csc205.project1;
+
+import java.util.logging.Logger;
+import java.util.logging.Level;
+
+/**
+ * A triangle in 3D space, with point distance, ray intersection and cube overlap tests.
+ *
+ * The vertices a, b and c define the orientation: the normal (b - a) × (c - a) points
+ * toward the side from which the vertices appear counter-clockwise, the same winding
+ * CubeMeshBuilder uses for outward faces.
+ *
+ * Each query is implemented once as a static kernel over an interleaved coordinate
+ * array and three vertex indices. A Triangle3D calls the kernels on its own nine
+ * coordinates, and Mesh3D calls them directly on its shared vertex buffer, so the mesh
+ * queries create no Triangle3D objects.
+ *
+ * Example usage:
+ * <pre>
+ * Triangle3D face = new Triangle3D(a, b, c);
+ * double t = face.intersectRay(origin, direction);  // NaN if the ray misses
+ * boolean touches = face.intersects(cube);
+ * </pre>
+ *
+ * Design Patterns and Principles:
+ *
+ * 1. IMMUTABLE VALUE OBJECT:
+ *    - The vertices are fixed at construction
+ *
+ * 2. PRIMITIVE KERNELS:
+ *    - The object methods and Mesh3D share the same coordinate-based implementations
+ *
+ * Data Structures & Algorithms Foundation:
+ *
+ * 1. VORONOI REGIONS:
+ *    - The closest point is found by classifying the query against the vertex, edge and
+ *      face regions of the triangle using barycentric coordinates
+ *
+ * 2. MÖLLER–TRUMBORE INTERSECTION:
+ *    - Solves for the ray parameter and barycentric coordinates with one division
+ *
+ * 3. SEPARATING AXIS THEOREM:
+ *    - A triangle and a box are disjoint exactly when one of 13 axes separates them: the
+ *      three box axes, the triangle normal and the nine edge-axis cross products
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public final class Triangle3D {
+
+    private static final Logger logger = Logger.getLogger(Triangle3D.class.getName());
+
+    // Tolerance for floating-point comparisons
+    private static final double EPSILON = 1e-10;
+
+    /** Length of the scratch array overlapsCube() needs. */
+    static final int OVERLAP_SCRATCH = 18;
+
+    private final Point3D a;
+    private final Point3D b;
+    private final Point3D c;
+    // a, b, c interleaved for the kernels
+    private final double[] coordinates;
+
+    /**
+     * Creates a triangle from three vertices.
+     *
+     * @param a the first vertex
+     * @param b the second vertex
+     * @param c the third vertex
+     * @throws NullPointerException if any vertex is null
+     * @throws IllegalArgumentException if the vertices are collinear
+     */
+    public Triangle3D(Point3D a, Point3D b, Point3D c) {
+        if (a == null || b == null || c == null) {
+            logger.log(Level.SEVERE, "Cannot create Triangle3D: a vertex is null");
+            throw new NullPointerException("Vertices cannot be null");
+        }
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.coordinates = new double[]{a.getX(), a.getY(), a.getZ(), b.getX(), b.getY(), b.getZ(),
+                                        c.getX(), c.getY(), c.getZ()};
+        if (!(doubleArea(coordinates, 0, 1, 2) > EPSILON)) {
+            logger.log(Level.SEVERE, "Cannot create Triangle3D: vertices {0}, {1} and {2} are collinear",
+                       new Object[]{a, b, c});
+            throw new IllegalArgumentException("Triangle vertices must not be collinear");
+        }
+    }
+
+    /**
+     * Returns the first vertex.
+     *
+     * @return vertex a
+     */
+    public Point3D getA() {
+        return a;
+    }
+
+    /**
+     * Returns the second vertex.
+     *
+     * @return vertex b
+     */
+    public Point3D getB() {
+        return b;
+    }
+
+    /**
+     * Returns the third vertex.
+     *
+     * @return vertex c
+     */
+    public Point3D getC() {
+        return c;
+    }
+
+    /**
+     * Returns the area of the triangle.
+     *
+     * @return half the length of (b - a) × (c - a)
+     */
+    public double area() {
+        return doubleArea(coordinates, 0, 1, 2) / 2;
+    }
+
+    /**
+     * Returns the unit normal, oriented by the vertex winding.
+     *
+     * @return the normalized (b - a) × (c - a)
+     */
+    public Point3D getNormal() {
+        double[] v = coordinates;
+        double ux = v[3] - v[0];
+        double uy = v[4] - v[1];
+        double uz = v[5] - v[2];
+        double wx = v[6] - v[0];
+        double wy = v[7] - v[1];
+        double wz = v[8] - v[2];
+        double nx = uy * wz - uz * wy;
+        double ny = uz * wx - ux * wz;
+        double nz = ux * wy - uy * wx;
+        double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+        return new Point3D(nx / length, ny / length, nz / length);
+    }
+
+    /**
+     * Returns the centroid, the average of the three vertices.
+     *
+     * @return the centroid
+     */
+    public Point3D getCentroid() {
+        return new Point3D((a.getX() + b.getX() + c.getX()) / 3, (a.getY() + b.getY() + c.getY()) / 3,
+                           (a.getZ() + b.getZ() + c.getZ()) / 3);
+    }
+
+    /**
+     * Returns the plane of the triangle, with the triangle's normal.
+     *
+     * @return the supporting plane
+     */
+    public Plane3D getPlane() {
+        return Plane3D.fromPoints(a, b, c);
+    }
+
+    /**
+     * Returns the point of the triangle closest to a given point.
+     *
+     * @param point the query point
+     * @return the closest point on the triangle, including its interior
+     * @throws NullPointerException if point is null
+     */
+    public Point3D closestPoint(Point3D point) {
+        requirePoint(point);
+        double[] out = new double[3];
+        closestPoint(coordinates, 0, 1, 2, point.getX(), point.getY(), point.getZ(), out);
+        return new Point3D(out[0], out[1], out[2]);
+    }
+
+    /**
+     * Returns the distance from a point to the triangle.
+     *
+     * @param point the query point
+     * @return the distance to the closest point on the triangle
+     * @throws NullPointerException if point is null
+     */
+    public double distanceTo(Point3D point) {
+        requirePoint(point);
+        return Math.sqrt(closestPoint(coordinates, 0, 1, 2, point.getX(), point.getY(), point.getZ(), new double[3]));
+    }
+
+    /**
+     * Intersects a ray with the triangle, from either side.
+     *
+     * @param origin the ray origin
+     * @param direction the ray direction; need not be normalized
+     * @return the parameter t ≥ 0 of the hit point origin + t·direction, or NaN if the ray
+     *         misses or lies in the triangle's plane
+     * @throws NullPointerException if origin or direction is null
+     * @throws IllegalArgumentException if direction is the zero vector
+     */
+    public double intersectRay(Point3D origin, Point3D direction) {
+        requireRay(origin, direction);
+        return intersectRay(coordinates, 0, 1, 2, origin.getX(), origin.getY(), origin.getZ(),
+                            direction.getX(), direction.getY(), direction.getZ());
+    }
+
+    /**
+     * Tests whether the triangle overlaps a cube, boundaries included.
+     *
+     * @param cube the cube, with any orientation
+     * @return true if the triangle and the solid cube share at least one point
+     * @throws NullPointerException if cube is null
+     */
+    public boolean intersects(Cube3D cube) {
+        if (cube == null) {
+            logger.log(Level.SEVERE, "Cannot test triangle overlap: cube is null");
+            throw new NullPointerException("Cube cannot be null");
+        }
+        Point3D center = cube.getCenter();
+        return overlapsCube(coordinates, 0, 1, 2, cube.orientationMatrix(), center.getX(), center.getY(),
+                            center.getZ(), cube.getSideLength() / 2, new double[OVERLAP_SCRATCH]);
+    }
+
+    /**
+     * Returns a string representation of this triangle.
+     *
+     * @return the three vertices
+     */
+    @Override
+    public String toString() {
+        return "Triangle3D[" + a + ", " + b + ", " + c + "]";
+    }
+
+    static void requirePoint(Point3D point) {
+        if (point == null) {
+            logger.log(Level.SEVERE, "Cannot query triangle: point is null");
+            throw new NullPointerException("Point cannot be null");
+        }
+    }
+
+    static void requireRay(Point3D origin, Point3D direction) {
+        if (origin == null || direction == null) {
+            logger.log(Level.SEVERE, "Cannot intersect ray: origin or direction is null");
+            throw new NullPointerException("Origin and direction cannot be null");
+        }
+        if (direction.getX() == 0 && direction.getY() == 0 && direction.getZ() == 0) {
+            logger.log(Level.SEVERE, "Cannot intersect ray: direction is the zero vector");
+            throw new IllegalArgumentException("Ray direction cannot be the zero vector");
+        }
+    }
+
+    /** Twice the area of triangle (ia, ib, ic) of an interleaved coordinate array. */
+    static double doubleArea(double[] v, int ia, int ib, int ic) {
+        int pa = 3 * ia;
+        int pb = 3 * ib;
+        int pc = 3 * ic;
+        double ux = v[pb] - v[pa];
+        double uy = v[pb + 1] - v[pa + 1];
+        double uz = v[pb + 2] - v[pa + 2];
+        double wx = v[pc] - v[pa];
+        double wy = v[pc + 1] - v[pa + 1];
+        double wz = v[pc + 2] - v[pa + 2];
+        double nx = uy * wz - uz * wy;
+        double ny = uz * wx - ux * wz;
+        double nz = ux * wy - uy * wx;
+        return Math.sqrt(nx * nx + ny * ny + nz * nz);
+    }
+
+    /**
+     * Closest point on triangle (ia, ib, ic) to p, written to out[0..2]; returns the squared
+     * distance. Follows the Voronoi region walk of Ericson, Real-Time Collision Detection,
+     * section 5.1.5. The walk divides by edge and face measures, so triangles with no
+     * area (coincident or collinear vertices) are handled as their three edges instead.
+     */
+    static double closestPoint(double[] v, int ia, int ib, int ic, double px, double py, double pz, double[] out) {
+        int pa = 3 * ia;
+        int pb = 3 * ib;
+        int pc = 3 * ic;
+        double ax = v[pa];
+        double ay = v[pa + 1];
+        double az = v[pa + 2];
+        double abx = v[pb] - ax;
+        double aby = v[pb + 1] - ay;
+        double abz = v[pb + 2] - az;
+        double acx = v[pc] - ax;
+        double acy = v[pc + 1] - ay;
+        double acz = v[pc + 2] - az;
+        double apx = px - ax;
+        double apy = py - ay;
+        double apz = pz - az;
+        double nx = aby * acz - abz * acy;
+        double ny = abz * acx - abx * acz;
+        double nz = abx * acy - aby * acx;
+        if (!(nx * nx + ny * ny + nz * nz > EPSILON * EPSILON)) {
+            return closestPointOnEdges(v, pa, pb, pc, px, py, pz, out);
+        }
+
+        double d1 = abx * apx + aby * apy + abz * apz;
+        double d2 = acx * apx + acy * apy + acz * apz;
+        double s;
+        double t;
+        if (d1 <= 0 && d2 <= 0) {
+            s = 0;
+            t = 0;
+        } else {
+            double bpx = px - v[pb];
+            double bpy = py - v[pb + 1];
+            double bpz = pz - v[pb + 2];
+            double d3 = abx * bpx + aby * bpy + abz * bpz;
+            double d4 = acx * bpx + acy * bpy + acz * bpz;
+            double cpx = px - v[pc];
+            double cpy = py - v[pc + 1];
+            double cpz = pz - v[pc + 2];
+            double d5 = abx * cpx + aby * cpy + abz * cpz;
+            double d6 = acx * cpx + acy * cpy + acz * cpz;
+            double vc = d1 * d4 - d3 * d2;
+            double vb = d5 * d2 - d1 * d6;
+            double va = d3 * d6 - d5 * d4;
+            if (d3 >= 0 && d4 <= d3) {
+                s = 1;
+                t = 0;
+            } else if (d6 >= 0 && d5 <= d6) {
+                s = 0;
+                t = 1;
+            } else if (vc <= 0 && d1 >= 0 && d3 <= 0) {
+                s = d1 / (d1 - d3);
+                t = 0;
+            } else if (vb <= 0 && d2 >= 0 && d6 <= 0) {
+                s = 0;
+                t = d2 / (d2 - d6);
+            } else if (va <= 0 && (d4 - d3) >= 0 && (d5 - d6) >= 0) {
+                double w = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+                s = 1 - w;
+                t = w;
+            } else {
+                double denominator = 1 / (va + vb + vc);
+                s = vb * denominator;
+                t = vc * denominator;
+            }
+        }
+        double qx = ax + s * abx + t * acx;
+        double qy = ay + s * aby + t * acy;
+        double qz = az + s * abz + t * acz;
+        out[0] = qx;
+        out[1] = qy;
+        out[2] = qz;
+        double ex = qx - px;
+        double ey = qy - py;
+        double ez = qz - pz;
+        return ex * ex + ey * ey + ez * ez;
+    }
+
+    /**
+     * Closest point to p on the three edges of the triangle whose vertices start at
+     * coordinate offsets pa, pb and pc, written to out[0..2]; returns the squared distance.
+     * Edges of zero length contribute their end point.
+     */
+    private static double closestPointOnEdges(double[] v, int pa, int pb, int pc,
+                                              double px, double py, double pz, double[] out) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int e = 0; e < 3; e++) {
+            // Edges ab, bc and ca
+            int p0 = e == 0 ? pa : (e == 1 ? pb : pc);
+            int p1 = e == 0 ? pb : (e == 1 ? pc : pa);
+            double dx = v[p1] - v[p0];
+            double dy = v[p1 + 1] - v[p0 + 1];
+            double dz = v[p1 + 2] - v[p0 + 2];
+            double lengthSquared = dx * dx + dy * dy + dz * dz;
+            double t = 0;
+            if (lengthSquared > 0) {
+                t = ((px - v[p0]) * dx + (py - v[p0 + 1]) * dy + (pz - v[p0 + 2]) * dz) / lengthSquared;
+                t = Math.max(0, Math.min(1, t));
+            }
+            double qx = v[p0] + t * dx;
+            double qy = v[p0 + 1] + t * dy;
+            double qz = v[p0 + 2] + t * dz;
+            double distanceSquared = (qx - px) * (qx - px) + (qy - py) * (qy - py) + (qz - pz) * (qz - pz);
+            if (distanceSquared < best) {
+                best = distanceSquared;
+                out[0] = qx;
+                out[1] = qy;
+                out[2] = qz;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Möller–Trumbore ray test against triangle (ia, ib, ic); returns the ray parameter
+     * t ≥ 0 of the hit, or NaN.
+     */
+    static double intersectRay(double[] v, int ia, int ib, int ic, double ox, double oy, double oz,
+                               double dx, double dy, double dz) {
+        int pa = 3 * ia;
+        int pb = 3 * ib;
+        int pc = 3 * ic;
+        double e1x = v[pb] - v[pa];
+        double e1y = v[pb + 1] - v[pa + 1];
+        double e1z = v[pb + 2] - v[pa + 2];
+        double e2x = v[pc] - v[pa];
+        double e2y = v[pc + 1] - v[pa + 1];
+        double e2z = v[pc + 2] - v[pa + 2];
+        double qx = dy * e2z - dz * e2y;
+        double qy = dz * e2x - dx * e2z;
+        double qz = dx * e2y - dy * e2x;
+        double determinant = e1x * qx + e1y * qy + e1z * qz;
+        if (determinant == 0) {
+            return Double.NaN;
+        }
+        double inverse = 1 / determinant;
+        double sx = ox - v[pa];
+        double sy = oy - v[pa + 1];
+        double sz = oz - v[pa + 2];
+        double u = (sx * qx + sy * qy + sz * qz) * inverse;
+        if (u < 0 || u > 1) {
+            return Double.NaN;
+        }
+        double rx = sy * e1z - sz * e1y;
+        double ry = sz * e1x - sx * e1z;
+        double rz = sx * e1y - sy * e1x;
+        double w = (dx * rx + dy * ry + dz * rz) * inverse;
+        if (w < 0 || u + w > 1) {
+            return Double.NaN;
+        }
+        double t = (e2x * rx + e2y * ry + e2z * rz) * inverse;
+        return t >= 0 ? t : Double.NaN;
+    }
+
+    /**
+     * Separating axis test of triangle (ia, ib, ic) against the cube with row-major rotation
+     * m, center (cx, cy, cz) and half side h. The triangle is first expressed in the cube's
+     * frame, where the cube is the box |x|, |y|, |z| ≤ h. The scratch array needs
+     * OVERLAP_SCRATCH elements, so that batch callers can reuse one.
+     */
+    static boolean overlapsCube(double[] v, int ia, int ib, int ic, double[] m,
+                                double cx, double cy, double cz, double h, double[] scratch) {
+        double[] local = scratch;
+        for (int k = 0; k < 3; k++) {
+            int corner = 3 * (k == 0 ? ia : k == 1 ? ib : ic);
+            double x = v[corner] - cx;
+            double y = v[corner + 1] - cy;
+            double z = v[corner + 2] - cz;
+            // Column a of the row-major rotation matrix is the cube's local axis a in world space
+            local[3 * k] = m[0] * x + m[3] * y + m[6] * z;
+            local[3 * k + 1] = m[1] * x + m[4] * y + m[7] * z;
+            local[3 * k + 2] = m[2] * x + m[5] * y + m[8] * z;
+        }
+        return overlapsBox(local, h);
+    }
+
+    /**
+     * Separating axis test of a triangle in box coordinates, t[0..8], against the box
+     * |x|, |y|, |z| ≤ h; t[9..17] receives the edge vectors.
+     */
+    private static boolean overlapsBox(double[] t, double h) {
+        // Box face axes: the triangle's own bounding box must overlap the box
+        for (int axis = 0; axis < 3; axis++) {
+            double min = Math.min(t[axis], Math.min(t[3 + axis], t[6 + axis]));
+            double max = Math.max(t[axis], Math.max(t[3 + axis], t[6 + axis]));
+            if (min > h || max < -h) {
+                return false;
+            }
+        }
+        double[] edges = t;
+        for (int k = 0; k < 9; k++) {
+            edges[9 + k] = t[(k + 3) % 9] - t[k];
+        }
+
+        // Triangle normal
+        double nx = edges[10] * edges[14] - edges[11] * edges[13];
+        double ny = edges[11] * edges[12] - edges[9] * edges[14];
+        double nz = edges[9] * edges[13] - edges[10] * edges[12];
+        double offset = nx * t[0] + ny * t[1] + nz * t[2];
+        if (Math.abs(offset) > h * (Math.abs(nx) + Math.abs(ny) + Math.abs(nz))) {
+            return false;
+        }
+
+        // Cross products of each triangle edge with each box axis
+        for (int e = 0; e < 3; e++) {
+            double ex = edges[9 + 3 * e];
+            double ey = edges[10 + 3 * e];
+            double ez = edges[11 + 3 * e];
+            for (int axis = 0; axis < 3; axis++) {
+                // edge × unit axis: x gives (0, ez, -ey), y gives (-ez, 0, ex), z gives (ey, -ex, 0)
+                double ax = axis == 0 ? 0 : axis == 1 ? -ez : ey;
+                double ay = axis == 0 ? ez : axis == 1 ? 0 : -ex;
+                double az = axis == 0 ? -ey : axis == 1 ? ex : 0;
+                double p0 = ax * t[0] + ay * t[1] + az * t[2];
+                double p1 = ax * t[3] + ay * t[4] + az * t[5];
+                double p2 = ax * t[6] + ay * t[7] + az * t[8];
+                double radius = h * (Math.abs(ax) + Math.abs(ay) + Math.abs(az));
+                if (Math.min(p0, Math.min(p1, p2)) > radius || Math.max(p0, Math.max(p1, p2)) < -radius) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,189 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BoundsTracker class.
+ *
+ * This test suite covers:
+ * - Bounds after inserts, moves and removals of extreme points
+ * - Agreement with a full rescan under random updates
+ * - Id reuse, bounding cube and sphere, and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("BoundsTracker Tests")
+public class BoundsTrackerTest {
+
+    private static final double DELTA = 1e-12;
+
+    /** Full rescan of the live points, the behavior the tracker replaces. */
+    static double[] rescan(List<double[]> points) {
+        double[] b = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE,
+                      -Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (double[] p : points) {
+            for (int axis = 0; axis < 3; axis++) {
+                b[axis] = Math.min(b[axis], p[axis]);
+                b[axis + 3] = Math.max(b[axis + 3], p[axis]);
+            }
+        }
+        return b;
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should track bounds as points are added")
+        void testAdd() {
+            BoundsTracker tracker = new BoundsTracker(0);
+            tracker.add(1, 2, 3);
+            tracker.add(new Point3D(-4, 5, 0));
+
+            assertEquals(new Point3D(-4, 2, 0), tracker.getMin());
+            assertEquals(new Point3D(1, 5, 3), tracker.getMax());
+            assertEquals(2, tracker.size());
+        }
+
+        @Test
+        @DisplayName("Should shrink bounds when the extreme point is removed")
+        void testRemoveExtreme() {
+            BoundsTracker tracker = new BoundsTracker();
+            tracker.add(0, 0, 0);
+            int far = tracker.add(100, -100, 50);
+            tracker.add(1, 1, 1);
+
+            assertTrue(tracker.remove(far));
+
+            assertEquals(new Point3D(0, 0, 0), tracker.getMin());
+            assertEquals(new Point3D(1, 1, 1), tracker.getMax());
+            assertFalse(tracker.remove(far));
+            assertFalse(tracker.contains(far));
+        }
+
+        @Test
+        @DisplayName("Should follow a moving point in both directions")
+        void testMove() {
+            BoundsTracker tracker = new BoundsTracker();
+            int id = tracker.add(0, 0, 0);
+            tracker.add(1, 1, 1);
+
+            assertTrue(tracker.move(id, 5, 0, 0));
+            assertEquals(5.0, tracker.getMax().getX());
+            assertEquals(1.0, tracker.getMin().getX());
+
+            assertTrue(tracker.set(id, 0.5, -3, 0.5));
+            assertEquals(new Point3D(0.5, -3, 0.5), tracker.getMin());
+            assertEquals(new Point3D(1, 1, 1), tracker.getMax());
+            assertEquals(new Point3D(0.5, -3, 0.5), tracker.get(id));
+        }
+
+        @Test
+        @DisplayName("Should reuse the ids of removed points")
+        void testIdReuse() {
+            BoundsTracker tracker = new BoundsTracker();
+            int a = tracker.add(1, 1, 1);
+            tracker.add(2, 2, 2);
+            tracker.remove(a);
+
+            assertEquals(a, tracker.add(3, 3, 3));
+            assertEquals(new Point3D(3, 3, 3), tracker.get(a));
+        }
+
+        @Test
+        @DisplayName("Should match a full rescan under random updates")
+        void testRandomAgainstRescan() {
+            Random random = new Random(42);
+            BoundsTracker tracker = new BoundsTracker();
+            List<Integer> ids = new ArrayList<>();
+            List<double[]> points = new ArrayList<>();
+            double[] bounds = new double[6];
+
+            for (int step = 0; step < 5000; step++) {
+                int action = ids.isEmpty() ? 0 : random.nextInt(3);
+                if (action == 0) {
+                    double[] p = {random.nextGaussian() * 10, random.nextGaussian() * 10, random.nextGaussian() * 10};
+                    ids.add(tracker.add(p[0], p[1], p[2]));
+                    points.add(p);
+                } else if (action == 1) {
+                    int k = random.nextInt(ids.size());
+                    double[] p = points.get(k);
+                    for (int axis = 0; axis < 3; axis++) {
+                        p[axis] += random.nextGaussian();
+                    }
+                    assertTrue(tracker.set(ids.get(k), p[0], p[1], p[2]));
+                } else {
+                    int k = random.nextInt(ids.size());
+                    assertTrue(tracker.remove(ids.remove(k)));
+                    points.remove(k);
+                }
+
+                if (points.isEmpty()) {
+                    assertFalse(tracker.getBounds(bounds));
+                } else {
+                    assertTrue(tracker.getBounds(bounds));
+                    assertArrayEquals(rescan(points), bounds, DELTA);
+                }
+            }
+            assertEquals(points.size(), tracker.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounding Volume Tests")
+    class BoundingVolumeTests {
+
+        @Test
+        @DisplayName("Should return a cube and sphere containing every point")
+        void testCubeAndSphere() {
+            BoundsTracker tracker = new BoundsTracker();
+            tracker.add(0, 0, 0);
+            tracker.add(4, 2, 2);
+
+            Cube3D cube = tracker.getBoundingCube();
+            assertEquals(4.0, cube.getSideLength(), DELTA);
+            assertTrue(cube.containsPoint(new Point3D(0, 0, 0)));
+            assertTrue(cube.containsPoint(new Point3D(4, 2, 2)));
+            assertEquals(new Point3D(2, 1, 1), tracker.getBoundingSphereCenter());
+            assertEquals(Math.sqrt(24) / 2, tracker.getBoundingSphereRadius(), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should return a tiny cube for a single point")
+        void testSinglePoint() {
+            BoundsTracker tracker = new BoundsTracker();
+            tracker.add(7, 7, 7);
+
+            assertTrue(tracker.getBoundingCube().containsPoint(new Point3D(7, 7, 7)));
+            assertEquals(0.0, tracker.getBoundingSphereRadius());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject invalid input and empty queries")
+        void testValidation() {
+            BoundsTracker tracker = new BoundsTracker();
+
+            assertThrows(IllegalArgumentException.class, () -> new BoundsTracker(-1));
+            assertThrows(IllegalArgumentException.class, () -> tracker.add(Double.NaN, 0, 0));
+            assertThrows(NullPointerException.class, () -> tracker.add(null));
+            assertThrows(IllegalStateException.class, tracker::getMin);
+            assertFalse(tracker.move(3, 1, 1, 1));
+            assertNull(tracker.get(-1));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.csc205.project1;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Capsule3D class.
+ *
+ * This test suite covers:
+ * - Construction, volume, bounding sphere and point queries
+ * - Segment distance and cube distance kernels, checked against ternary search
+ * - Overlap with spheres, capsules, segments and cubes
+ * - Bulk tests over flat arrays and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Capsule3D Tests")
+public class Capsule3DTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Capsule3D capsule(double x0, double y0, double z0, double x1, double y1, double z1, double radius) {
+        return new Capsule3D(new Point3D(x0, y0, z0), new Point3D(x1, y1, z1), radius);
+    }
+
+    /** Minimizes a convex function of t over [0, 1] by ternary search. */
+    private interface Convex {
+        double at(double t);
+    }
+
+    private static double minimize(Convex f) {
+        double lo = 0;
+        double hi = 1;
+        for (int i = 0; i < 100; i++) {
+            double a = lo + (hi - lo) / 3;
+            double b = hi - (hi - lo) / 3;
+            if (f.at(a) < f.at(b)) {
+                hi = b;
+            } else {
+                lo = a;
+            }
+        }
+        return Math.min(f.at((lo + hi) / 2), Math.min(f.at(0), f.at(1)));
+    }
+
+    @Nested
+    @DisplayName("Property Tests")
+    class PropertyTests {
+
+        @Test
+        @DisplayName("Should compute length, volume, bounding sphere and point distances")
+        void testProperties() {
+            Capsule3D capsule = capsule(0, 0, 0, 4, 0, 0, 1);
+
+            assertEquals(4.0, capsule.axisLength(), DELTA);
+            assertEquals(Math.PI * 4 + 4.0 / 3 * Math.PI, capsule.volume(), DELTA);
+            assertEquals(new Point3D(2, 0, 0), capsule.boundingSphere().getCenter());
+            assertEquals(3.0, capsule.boundingSphere().getRadius(), DELTA);
+            assertTrue(capsule.containsPoint(new Point3D(2, 1, 0)));
+            assertTrue(capsule.containsPoint(new Point3D(-1, 0, 0)));
+            assertFalse(capsule.containsPoint(new Point3D(-0.8, 0.8, 0)));
+            assertEquals(2.0, capsule.distanceTo(new Point3D(3, 0, 3)), DELTA);
+            assertEquals(1.0, capsule.distanceTo(new Point3D(6, 0, 0)), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should behave as a sphere when the axis has zero length")
+        void testDegenerateAxis() {
+            Capsule3D capsule = capsule(1, 1, 1, 1, 1, 1, 2);
+            Sphere3D sphere = new Sphere3D(new Point3D(1, 1, 1), 2);
+
+            assertEquals(sphere.volume(), capsule.volume(), DELTA);
+            assertEquals(sphere.distanceTo(new Point3D(5, 1, 1)), capsule.distanceTo(new Point3D(5, 1, 1)), DELTA);
+            assertTrue(capsule.intersects(new Cube3D(new Point3D(4, 1, 1), 2)));
+            assertFalse(capsule.intersects(new Cube3D(new Point3D(4.1, 1, 1), 2)));
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments and invalid radii")
+        void testValidation() {
+            Point3D o = new Point3D(0, 0, 0);
+
+            assertThrows(NullPointerException.class, () -> new Capsule3D(o, null, 1));
+            assertThrows(NullPointerException.class, () -> new Capsule3D((Line3D) null, 1));
+            assertThrows(IllegalArgumentException.class, () -> new Capsule3D(o, o, -0.5));
+            assertThrows(NullPointerException.class, () -> new Capsule3D(o, o, 1).intersects((Cube3D) null));
+            assertThrows(NullPointerException.class, () -> new Capsule3D(o, o, 1).containsPoint(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Kernel Tests")
+    class KernelTests {
+
+        @Test
+        @DisplayName("Should find the closest approach of two segments")
+        void testSegmentDistance() {
+            // Skew perpendicular segments one unit apart
+            assertEquals(1.0, Capsule3D.segmentSegmentDistanceSquared(-1, 0, 0, 1, 0, 0, 0, -1, 1, 0, 1, 1), DELTA);
+            // Parallel, overlapping
+            assertEquals(4.0, Capsule3D.segmentSegmentDistanceSquared(0, 0, 0, 4, 0, 0, 1, 2, 0, 6, 2, 0), DELTA);
+            // Collinear, disjoint
+            assertEquals(4.0, Capsule3D.segmentSegmentDistanceSquared(0, 0, 0, 1, 0, 0, 3, 0, 0, 5, 0, 0), DELTA);
+            // Crossing
+            assertEquals(0.0, Capsule3D.segmentSegmentDistanceSquared(-1, 0, 0, 1, 0, 0, 0, -1, 0, 0, 1, 0), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should agree with ternary search for random segment pairs")
+        void testSegmentDistanceAgainstSearch() {
+            Random random = new Random(1);
+            for (int trial = 0; trial < 300; trial++) {
+                double[] v = new double[12];
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = random.nextGaussian() * 3;
+                }
+                // The distance from a point moving along one segment to the other is convex
+                double expected = minimize(s -> Math.sqrt(Capsule3D.segmentPointDistanceSquared(
+                        v[6], v[7], v[8], v[9], v[10], v[11],
+                        v[0] + s * (v[3] - v[0]), v[1] + s * (v[4] - v[1]), v[2] + s * (v[5] - v[2]))));
+                double actual = Math.sqrt(Capsule3D.segmentSegmentDistanceSquared(v[0], v[1], v[2], v[3], v[4], v[5],
+                                                                                  v[6], v[7], v[8], v[9], v[10], v[11]));
+                assertEquals(expected, actual, 1e-7);
+            }
+        }
+
+        @Test
+        @DisplayName("Should agree with ternary search for random segments and rotated cubes")
+        void testCubeDistanceAgainstSearch() {
+            Random random = new Random(2);
+            double[] scratch = new double[Capsule3D.CUBE_SCRATCH];
+            int touching = 0;
+            for (int trial = 0; trial < 300; trial++) {
+                Cube3D cube = new Cube3D(new Point3D(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()),
+                                         0.5 + random.nextDouble() * 3, random.nextDouble() * 3,
+                                         random.nextDouble() * 3, random.nextDouble() * 3);
+                double[] m = cube.orientationMatrix();
+                Point3D c = cube.getCenter();
+                double half = cube.getSideLength() / 2;
+                double[] v = new double[6];
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = random.nextGaussian() * 4;
+                }
+                double expected = minimize(t -> Math.sqrt(Sphere3D.cubeDistanceSquared(
+                        m, c.getX(), c.getY(), c.getZ(), half,
+                        v[0] + t * (v[3] - v[0]), v[1] + t * (v[4] - v[1]), v[2] + t * (v[5] - v[2]))));
+                double actual = Math.sqrt(Capsule3D.cubeDistanceSquared(m, c.getX(), c.getY(), c.getZ(), half,
+                                                                        v[0], v[1], v[2], v[3], v[4], v[5], scratch));
+                assertEquals(expected, actual, 1e-7);
+                if (actual == 0) {
+                    touching++;
+                }
+            }
+            assertTrue(touching > 0 && touching < 300);
+        }
+    }
+
+    @Nested
+    @DisplayName("Intersection Tests")
+    class IntersectionTests {
+
+        @Test
+        @DisplayName("Should overlap capsules, spheres and segments within reach of the axis")
+        void testCapsulesSpheresAndSegments() {
+            Capsule3D capsule = capsule(0, 0, 0, 10, 0, 0, 1);
+
+            assertTrue(capsule.intersects(capsule(5, -5, 1.5, 5, 5, 1.5, 0.5)));
+            assertFalse(capsule.intersects(capsule(5, -5, 1.6, 5, 5, 1.6, 0.5)));
+            assertTrue(capsule.intersects(new Sphere3D(new Point3D(-2, 0, 0), 1)));
+            assertFalse(capsule.intersects(new Sphere3D(new Point3D(-2.1, 0, 0), 1)));
+            assertTrue(capsule.intersects(new Line3D(new Point3D(3, 0.9, -4), new Point3D(3, 0.9, 4))));
+            assertFalse(capsule.intersects(new Line3D(new Point3D(3, 1.1, -4), new Point3D(3, 1.1, 4))));
+        }
+
+        @Test
+        @DisplayName("Should reach a cube edge that neither end point is near")
+        void testCubeEdge() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2);
+            // The axis passes diagonally above the top edge at x = 1, z = 1
+            Capsule3D capsule = capsule(0, -5, 2.5, 3, 5, 0.5, 0.8);
+
+            assertTrue(capsule.intersects(cube));
+            assertFalse(capsule(0, -5, 2.5, 3, 5, 0.5, 0.6).intersects(cube));
+            assertTrue(capsule(0, -5, 0, 0, 5, 0, 0).intersects(cube));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Tests")
+    class BulkTests {
+
+        @Test
+        @DisplayName("Should match the single-capsule tests for every capsule")
+        void testBulkMatchesSingle() {
+            Random random = new Random(3);
+            int count = 300;
+            double[] capsules = new double[count * Capsule3D.CAPSULE_STRIDE];
+            for (int i = 0; i < capsules.length; i++) {
+                capsules[i] = (i % Capsule3D.CAPSULE_STRIDE == 6) ? random.nextDouble() : random.nextDouble() * 20 - 10;
+            }
+            Cube3D cube = new Cube3D(new Point3D(1, -1, 0.5), 6, 0.3, 0.7, 1.1);
+            Line3D line = new Line3D(new Point3D(-10, -8, -6), new Point3D(9, 7, 8));
+            int[] cubeHits = new int[count];
+            int[] lineHits = new int[count];
+
+            int cubeFound = Capsule3D.intersectAll(capsules, count, cube, cubeHits);
+            int lineFound = Capsule3D.intersectAll(capsules, count, line, lineHits);
+
+            int expectedCube = 0;
+            int expectedLine = 0;
+            for (int i = 0; i < count; i++) {
+                int o = i * Capsule3D.CAPSULE_STRIDE;
+                Capsule3D capsule = capsule(capsules[o], capsules[o + 1], capsules[o + 2], capsules[o + 3],
+                                            capsules[o + 4], capsules[o + 5], capsules[o + 6]);
+                if (capsule.intersects(cube)) {
+                    assertEquals(i, cubeHits[expectedCube++]);
+                }
+                if (capsule.intersects(line)) {
+                    assertEquals(i, lineHits[expectedLine++]);
+                }
+            }
+            assertEquals(expectedCube, cubeFound);
+            assertEquals(expectedLine, lineFound);
+            assertTrue(cubeFound > 0 && cubeFound < count);
+            assertTrue(lineFound > 0 && lineFound < count);
+        }
+
+        @Test
+        @DisplayName("Should reject null arrays and counts that do not fit")
+        void testValidation() {
+            Line3D line = new Line3D(new Point3D(0, 0, 0), new Point3D(1, 0, 0));
+            double[] capsules = new double[14];
+
+            assertThrows(NullPointerException.class, () -> Capsule3D.intersectAll(null, 0, line, new int[0]));
+            assertThrows(NullPointerException.class, () -> Capsule3D.intersectAll(capsules, 2, line, null));
+            assertThrows(IllegalArgumentException.class, () -> Capsule3D.intersectAll(capsules, 3, line, new int[3]));
+            assertThrows(IllegalArgumentException.class, () -> Capsule3D.intersectAll(capsules, 2, line, new int[1]));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConcurrentBoundsTracker class.
+ *
+ * This test suite covers:
+ * - Single-threaded behavior matching BoundsTracker
+ * - Exact bounds after concurrent adds, moves and removals
+ * - Stripe count validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("ConcurrentBoundsTracker Tests")
+public class ConcurrentBoundsTrackerTest {
+
+    @Nested
+    @DisplayName("Single Thread Tests")
+    class SingleThreadTests {
+
+        @Test
+        @DisplayName("Should track bounds across updates")
+        void testUpdates() {
+            ConcurrentBoundsTracker tracker = new ConcurrentBoundsTracker(4);
+            long a = tracker.add(0, 0, 0);
+            long b = tracker.add(10, 10, 10);
+
+            assertTrue(tracker.move(b, -5, 0, 0));
+            assertEquals(new Point3D(5, 10, 10), tracker.getMax());
+            assertTrue(tracker.remove(b));
+            assertEquals(new Point3D(0, 0, 0), tracker.getMax());
+            assertEquals(new Point3D(0, 0, 0), tracker.get(a));
+            assertNull(tracker.get(b));
+            assertFalse(tracker.set(-1, 0, 0, 0));
+            assertEquals(1, tracker.size());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid stripe counts and empty queries")
+        void testValidation() {
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentBoundsTracker(3));
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentBoundsTracker(0));
+            assertThrows(IllegalStateException.class, () -> new ConcurrentBoundsTracker().getBoundingCube());
+            assertFalse(new ConcurrentBoundsTracker().getBounds(new double[6]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should report exact bounds after concurrent writers finish")
+        void testConcurrentWriters() throws Exception {
+            ConcurrentBoundsTracker tracker = new ConcurrentBoundsTracker();
+            int threads = 4;
+            int perThread = 2000;
+            List<Future<?>> futures = new ArrayList<>();
+            try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    int offset = t;
+                    futures.add(pool.submit(() -> {
+                        List<Long> ids = new ArrayList<>();
+                        for (int i = 0; i < perThread; i++) {
+                            ids.add(tracker.add(offset, i, -i));
+                        }
+                        // Move every point one unit up, then drop the second half
+                        for (long id : ids) {
+                            assertTrue(tracker.move(id, 0, 0, 1));
+                        }
+                        for (int i = perThread / 2; i < perThread; i++) {
+                            assertTrue(tracker.remove(ids.get(i)));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            assertEquals(threads * perThread / 2, tracker.size());
+            assertEquals(new Point3D(0, 0, -(perThread / 2 - 1) + 1), tracker.getMin());
+            assertEquals(new Point3D(threads - 1, perThread / 2 - 1, 1), tracker.getMax());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Throughput benchmark comparing ConcurrentScene with a list guarded by one lock.
+ *
+ * Each thread runs a mix of 90% reads (a point containment query over the whole
+ * scene) and 10% writes (moving a random cube) for a fixed time, at 1, 8 and 32
+ * threads. This is a standalone program, not a unit test; run it with
+ *
+ * <pre>
+ * mvn -q test-compile
+ * java -cp target/classes:target/test-classes com.csc205.project1.ConcurrentSceneBenchmark
+ * </pre>
+ *
+ * Numbers from a single short run are indicative only.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class ConcurrentSceneBenchmark {
+
+    private static final int CUBES = 1_000;
+    private static final int[] THREAD_COUNTS = {1, 8, 32};
+    private static final long RUN_MILLIS = 2_000;
+    private static final int WRITE_PERCENT = 10;
+
+    /** Keeps query results observable so the JIT cannot discard the queries. */
+    private static volatile int blackhole;
+
+    /** The operations both implementations must support. */
+    private interface Scene {
+        void move(int index, double dx);
+
+        int countContaining(double x, double y, double z);
+    }
+
+    /** Baseline: an ArrayList where every access holds the same lock. */
+    private static final class LockedScene implements Scene {
+        private final List<Cube3D> cubes = new ArrayList<>();
+
+        LockedScene(List<Cube3D> initial) {
+            cubes.addAll(initial);
+        }
+
+        @Override
+        public synchronized void move(int index, double dx) {
+            cubes.set(index, cubes.get(index).translate(dx, 0, 0));
+        }
+
+        @Override
+        public synchronized int countContaining(double x, double y, double z) {
+            int count = 0;
+            for (Cube3D cube : cubes) {
+                if (cube.containsPoint(x, y, z)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private static final class SnapshotScene implements Scene {
+        private final ConcurrentScene scene = new ConcurrentScene(32);
+        private final long[] ids;
+
+        SnapshotScene(List<Cube3D> initial) {
+            ids = new long[initial.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = scene.add(initial.get(i));
+            }
+        }
+
+        @Override
+        public void move(int index, double dx) {
+            scene.move(ids[index], dx, 0, 0);
+        }
+
+        @Override
+        public int countContaining(double x, double y, double z) {
+            int count = 0;
+            for (Cube3D cube : scene.snapshot()) {
+                if (cube.containsPoint(x, y, z)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // The geometry classes log every operation at INFO; silence them for timing
+        Logger.getLogger("").setLevel(Level.WARNING);
+        Logger.getLogger("com.csc205.project1").setLevel(Level.WARNING);
+
+        List<Cube3D> initial = new ArrayList<>();
+        for (int i = 0; i < CUBES; i++) {
+            initial.add(new Cube3D(new Point3D(i % 10, (i / 10) % 10, i / 100), 1.5, 0, 0, i * 0.01));
+        }
+
+        System.out.printf("%-10s %8s %16s%n", "scene", "threads", "ops/second");
+        for (int threads : THREAD_COUNTS) {
+            report("locked", threads, run(new LockedScene(initial), threads));
+            report("snapshot", threads, run(new SnapshotScene(initial), threads));
+        }
+    }
+
+    private static void report(String name, int threads, double opsPerSecond) {
+        System.out.printf("%-10s %8d %16.0f%n", name, threads, opsPerSecond);
+    }
+
+    private static double run(Scene scene, int threads) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    long done = 0;
+                    int sink = 0;
+                    while (System.nanoTime() < deadline[0]) {
+                        if (random.nextInt(100) < WRITE_PERCENT) {
+                            scene.move(random.nextInt(CUBES), random.nextDouble(-0.1, 0.1));
+                        } else {
+                            sink += scene.countContaining(random.nextDouble(10), random.nextDouble(10),
+                                                          random.nextDouble(10));
+                        }
+                        done++;
+                    }
+                    operations.add(done);
+                    blackhole = sink;
+                });
+            }
+            deadline[0] = System.nanoTime() + RUN_MILLIS * 1_000_000;
+            start.countDown();
+        }
+        return operations.sum() * 1000.0 / RUN_MILLIS;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConcurrentScene class.
+ *
+ * This test suite covers:
+ * - Basic add, get, replace, move and remove operations
+ * - Snapshot isolation from later writes
+ * - Consistency of snapshots under concurrent writers
+ * - Validation of arguments
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("ConcurrentScene Tests")
+public class ConcurrentSceneTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Cube3D cubeAt(double x) {
+        return new Cube3D(new Point3D(x, 0, 0), 1.0);
+    }
+
+    @Nested
+    @DisplayName("Basic Operation Tests")
+    class BasicOperationTests {
+
+        @Test
+        @DisplayName("Should add, get, move and remove cubes")
+        void testLifecycle() {
+            ConcurrentScene scene = new ConcurrentScene(4);
+            long a = scene.add(cubeAt(0));
+            long b = scene.add(cubeAt(10));
+
+            assertNotEquals(a, b);
+            assertEquals(2, scene.size());
+            assertEquals(cubeAt(10), scene.get(b));
+
+            Cube3D moved = scene.move(a, 5, 0, 0);
+            assertEquals(5.0, moved.getCenter().getX(), DELTA);
+            assertEquals(moved, scene.get(a));
+
+            assertTrue(scene.remove(a));
+            assertFalse(scene.remove(a));
+            assertNull(scene.get(a));
+            assertNull(scene.move(a, 1, 1, 1));
+            assertEquals(1, scene.size());
+        }
+
+        @Test
+        @DisplayName("Should replace only existing cubes and bump the version on changes")
+        void testReplaceAndVersion() {
+            ConcurrentScene scene = new ConcurrentScene();
+            long id = scene.add(cubeAt(0));
+            long version = scene.getVersion();
+
+            assertTrue(scene.replace(id, cubeAt(3)));
+            assertFalse(scene.replace(id + 100, cubeAt(3)));
+            assertFalse(scene.remove(id + 100));
+            assertEquals(version + 1, scene.getVersion());
+        }
+
+        @Test
+        @DisplayName("Should find cubes containing a point")
+        void testFindContaining() {
+            ConcurrentScene scene = new ConcurrentScene();
+            long a = scene.add(cubeAt(0));
+            scene.add(cubeAt(10));
+            long c = scene.add(new Cube3D(new Point3D(0.4, 0, 0), 1.0, 0, 0, Math.PI / 4));
+
+            List<Long> ids = scene.findContaining(0.3, 0, 0);
+            assertEquals(2, ids.size());
+            assertTrue(ids.containsAll(List.of(a, c)));
+            assertTrue(scene.findContaining(5, 5, 5).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void testValidation() {
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentScene(0));
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentScene(12));
+            ConcurrentScene scene = new ConcurrentScene(1);
+            long id = scene.add(cubeAt(0));
+            assertThrows(NullPointerException.class, () -> scene.add(null));
+            assertThrows(NullPointerException.class, () -> scene.update(id, null));
+            assertThrows(NullPointerException.class, () -> scene.update(id, cube -> null));
+            assertEquals(cubeAt(0), scene.get(id));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should not see writes made after the snapshot was taken")
+        void testIsolation() {
+            ConcurrentScene scene = new ConcurrentScene(2);
+            long a = scene.add(cubeAt(0));
+            ConcurrentScene.Snapshot snapshot = scene.snapshot();
+
+            scene.add(cubeAt(1));
+            scene.move(a, 7, 0, 0);
+
+            assertEquals(1, snapshot.size());
+            assertEquals(cubeAt(0), snapshot.get(a));
+            assertEquals(List.of(a), snapshot.ids());
+            assertEquals(2, scene.snapshot().stream().count());
+            assertTrue(snapshot.getVersion() < scene.getVersion());
+        }
+
+        @Test
+        @DisplayName("Should iterate every cube exactly once and be read-only")
+        void testIteration() {
+            ConcurrentScene scene = new ConcurrentScene(8);
+            for (int i = 0; i < 100; i++) {
+                scene.add(cubeAt(i));
+            }
+            ConcurrentScene.Snapshot snapshot = scene.snapshot();
+            double sum = 0;
+            for (Cube3D cube : snapshot) {
+                sum += cube.getCenter().getX();
+            }
+            assertEquals(4950.0, sum, DELTA);
+
+            Iterator<Cube3D> iterator = snapshot.iterator();
+            iterator.next();
+            assertThrows(UnsupportedOperationException.class, iterator::remove);
+            assertEquals(100, scene.size());
+        }
+
+        @Test
+        @DisplayName("Should always observe a consistent scene under concurrent writers")
+        void testConsistencyUnderConcurrency() throws Exception {
+            // Writers move pairs of cubes in opposite directions one at a time; every
+            // snapshot must have a size matching its contents and a stable total count
+            ConcurrentScene scene = new ConcurrentScene(4);
+            int cubes = 64;
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < cubes; i++) {
+                ids.add(scene.add(cubeAt(i)));
+            }
+
+            AtomicBoolean stop = new AtomicBoolean();
+            try (ExecutorService threads = Executors.newFixedThreadPool(6)) {
+                List<Future<?>> writers = new ArrayList<>();
+                for (int w = 0; w < 4; w++) {
+                    int offset = w;
+                    writers.add(threads.submit(() -> {
+                        for (int i = 0; i < 500; i++) {
+                            long id = ids.get((offset + i * 4) % cubes);
+                            scene.replace(id, cubeAt(i));
+                            long extra = scene.add(cubeAt(-1));
+                            scene.remove(extra);
+                        }
+                    }));
+                }
+                Future<Integer> reader = threads.submit(() -> {
+                    int checks = 0;
+                    while (!stop.get()) {
+                        ConcurrentScene.Snapshot snapshot = scene.snapshot();
+                        long counted = snapshot.stream().count();
+                        assertEquals(snapshot.size(), counted);
+                        assertTrue(counted >= cubes && counted <= cubes + 4);
+                        for (long id : ids) {
+                            assertNotNull(snapshot.get(id));
+                        }
+                        checks++;
+                    }
+                    return checks;
+                });
+
+                for (Future<?> writer : writers) {
+                    writer.get();
+                }
+                stop.set(true);
+                assertTrue(reader.get() > 0);
+            }
+
+            assertEquals(cubes, scene.size());
+            assertEquals(cubes + 4 * 500 * 3, scene.getVersion());
+        }
+    }
+}
\ No newline at end of file
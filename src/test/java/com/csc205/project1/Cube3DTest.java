@@ -1027,6 +1027,37 @@ public class Cube3DTest {
                 cube.distanceToPoint(null);
             });
         }
+
+        @Test
+        @DisplayName("Should return negative signed distance inside cube")
+        void testSignedDistanceInside() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 10.0);
+
+            assertEquals(-2.0, cube.signedDistanceToPoint(new Point3D(3, 0, 0)), DELTA);
+            assertEquals(-5.0, cube.signedDistanceToPoint(new Point3D(0, 0, 0)), DELTA);
+            assertEquals(0.0, cube.signedDistanceToPoint(new Point3D(5, 1, 1)), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should agree with distanceToPoint outside rotated cube")
+        void testSignedDistanceOutsideRotated() {
+            Cube3D cube = new Cube3D(new Point3D(1, 2, 3), 4.0, 0.3, 0.7, 1.1);
+            Point3D[] points = {new Point3D(9, 2, 3), new Point3D(4, 6, -2), new Point3D(-5, -5, 8)};
+
+            for (Point3D point : points) {
+                assertEquals(cube.distanceToPoint(point), cube.signedDistanceToPoint(point), DELTA);
+                assertEquals(cube.signedDistanceToPoint(point),
+                             cube.signedDistanceToPoint(point.getX(), point.getY(), point.getZ()), DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null point in signed distance")
+        void testSignedDistanceNull() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 10.0);
+
+            assertThrows(NullPointerException.class, () -> cube.signedDistanceToPoint(null));
+        }
     }
     
     @Nested
@@ -1372,4 +1403,41 @@ public class Cube3DTest {
             assertNotSame(edges1, edges2);
         }
     }
+    
+    @Nested
+    @DisplayName("Compensated Arithmetic Tests")
+    class CompensatedArithmeticTests {
+        
+        @Test
+        @DisplayName("Should preserve center and side length far from the origin")
+        void testCompensatedRotationFarFromOrigin() {
+            Cube3D cube = new Cube3D(new Point3D(1e8, -1e8, 1e8), 1.0);
+            Cube3D rotated = cube.rotateAroundAxis(new Point3D(1, 1, 1), 0.3, ArithmeticMode.COMPENSATED);
+            
+            assertEquals(1e8, rotated.getCenter().getX(), Math.ulp(1e8));
+            assertEquals(-1e8, rotated.getCenter().getY(), Math.ulp(1e8));
+            assertEquals(1.0, rotated.getSideLength(), 1e-14);
+        }
+        
+        @Test
+        @DisplayName("Should match the fast rotation for ordinary cubes")
+        void testModesAgree() {
+            Cube3D cube = new Cube3D(new Point3D(1, 2, 3), 2.0, 0.1, 0.2, 0.3);
+            Point3D axis = new Point3D(0, 1, 1);
+            
+            Cube3D fast = cube.rotateAroundAxis(axis, 1.0);
+            Cube3D compensated = cube.rotateAroundAxis(axis, 1.0, ArithmeticMode.COMPENSATED);
+            
+            assertEquals(fast.getCenter(), compensated.getCenter());
+            assertEquals(fast.getSideLength(), compensated.getSideLength(), 1e-12);
+        }
+        
+        @Test
+        @DisplayName("Should reject a zero axis")
+        void testZeroAxis() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 1.0);
+            assertThrows(ArithmeticException.class,
+                () -> cube.rotateAroundAxis(new Point3D(0, 0, 0), 1.0, ArithmeticMode.COMPENSATED));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,273 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CubeMeshBuilder class.
+ *
+ * This test suite covers:
+ * - Vertex positions matching Cube3D.getVertices()
+ * - Index buffer layout and shared vertex indexing
+ * - Triangle normals and winding
+ * - View-dependent level of detail
+ * - Instance records (center, scale, quaternion)
+ * - Buffer growth and reuse
+ * - Null pointer handling
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("CubeMeshBuilder Tests")
+public class CubeMeshBuilderTest {
+
+    private static final double DELTA = 1e-5; // Buffers hold floats
+
+    @Nested
+    @DisplayName("Vertex Tests")
+    class VertexTests {
+
+        @Test
+        @DisplayName("Should write the same vertices as getVertices for a rotated cube")
+        void testPositionsMatchGetVertices() {
+            Cube3D cube = new Cube3D(new Point3D(1, 2, 3), 4.0, 0.3, -0.7, 1.1);
+            CubeMeshBuilder builder = new CubeMeshBuilder().addCube(cube);
+
+            FloatBuffer positions = builder.getPositions();
+            Point3D[] expected = cube.getVertices();
+
+            assertEquals(8, builder.getVertexCount());
+            assertEquals(24, positions.remaining());
+            for (int i = 0; i < 8; i++) {
+                assertEquals(expected[i].getX(), positions.get(i * 3), DELTA);
+                assertEquals(expected[i].getY(), positions.get(i * 3 + 1), DELTA);
+                assertEquals(expected[i].getZ(), positions.get(i * 3 + 2), DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("Should offset indices of later cubes by their base vertex")
+        void testSharedIndexing() {
+            CubeMeshBuilder builder = new CubeMeshBuilder()
+                .addCube(new Cube3D(new Point3D(0, 0, 0), 1.0))
+                .addCube(new Cube3D(new Point3D(5, 0, 0), 1.0));
+
+            IntBuffer indices = builder.getIndices();
+
+            assertEquals(24, builder.getTriangleCount());
+            assertEquals(72, indices.remaining());
+            for (int i = 0; i < 36; i++) {
+                assertTrue(indices.get(i) >= 0 && indices.get(i) < 8);
+                assertEquals(indices.get(i) + 8, indices.get(i + 36));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Normal Tests")
+    class NormalTests {
+
+        @Test
+        @DisplayName("Should derive normals from face centers")
+        void testNormalsMatchFaceCenters() {
+            Cube3D cube = new Cube3D(new Point3D(-2, 1, 0), 2.0, 0.5, 0.2, -0.4);
+            CubeMeshBuilder builder = new CubeMeshBuilder().addCube(cube);
+
+            FloatBuffer normals = builder.getTriangleNormals();
+            Point3D[] faceCenters = cube.getFaceCenters();
+            Point3D c = cube.getCenter();
+
+            for (int face = 0; face < 6; face++) {
+                for (int t = 0; t < 2; t++) {
+                    int o = (face * 2 + t) * 3;
+                    assertEquals(faceCenters[face].getX() - c.getX(), normals.get(o), DELTA);
+                    assertEquals(faceCenters[face].getY() - c.getY(), normals.get(o + 1), DELTA);
+                    assertEquals(faceCenters[face].getZ() - c.getZ(), normals.get(o + 2), DELTA);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should wind every triangle counter-clockwise around its outward normal")
+        void testWinding() {
+            Cube3D cube = new Cube3D(new Point3D(3, -1, 2), 1.5, 1.0, 0.0, 0.6);
+            CubeMeshBuilder builder = new CubeMeshBuilder().addCube(cube);
+
+            FloatBuffer p = builder.getPositions();
+            IntBuffer idx = builder.getIndices();
+            FloatBuffer n = builder.getTriangleNormals();
+
+            for (int t = 0; t < builder.getTriangleCount(); t++) {
+                int a = idx.get(t * 3) * 3;
+                int b = idx.get(t * 3 + 1) * 3;
+                int c = idx.get(t * 3 + 2) * 3;
+                Point3D e1 = new Point3D(p.get(b) - p.get(a), p.get(b + 1) - p.get(a + 1), p.get(b + 2) - p.get(a + 2));
+                Point3D e2 = new Point3D(p.get(c) - p.get(a), p.get(c + 1) - p.get(a + 1), p.get(c + 2) - p.get(a + 2));
+                Point3D normal = new Point3D(n.get(t * 3), n.get(t * 3 + 1), n.get(t * 3 + 2));
+
+                assertTrue(e1.crossProduct(e2).dotProduct(normal) > 0, "Triangle " + t + " is wound inward");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Level Of Detail Tests")
+    class LevelOfDetailTests {
+
+        @Test
+        @DisplayName("Should emit only the face pointing at a viewer on an axis")
+        void testSingleVisibleFace() {
+            CubeMeshBuilder builder = new CubeMeshBuilder().setViewpoint(new Point3D(100, 0, 0));
+            builder.addCube(new Cube3D(new Point3D(0, 0, 0), 2.0));
+
+            assertEquals(2, builder.getTriangleCount());
+            assertEquals(1.0, builder.getTriangleNormals().get(0), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should emit three faces for a viewer on a diagonal")
+        void testThreeVisibleFaces() {
+            CubeMeshBuilder builder = new CubeMeshBuilder().setViewpoint(new Point3D(10, 10, 10));
+            builder.addCube(new Cube3D(new Point3D(0, 0, 0), 2.0));
+
+            assertEquals(6, builder.getTriangleCount());
+        }
+
+        @Test
+        @DisplayName("Should emit all faces when the viewer is inside the cube")
+        void testViewerInside() {
+            CubeMeshBuilder builder = new CubeMeshBuilder().setViewpoint(new Point3D(0.1, 0, 0));
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+
+            assertEquals(CubeMeshBuilder.LevelOfDetail.FULL, builder.selectLevelOfDetail(cube));
+        }
+
+        @Test
+        @DisplayName("Should cull cubes below the minimum apparent size")
+        void testCulling() {
+            CubeMeshBuilder builder = new CubeMeshBuilder()
+                .setViewpoint(new Point3D(0, 0, 0))
+                .setMinimumAngularSize(0.01);
+
+            builder.addCube(new Cube3D(new Point3D(1000, 0, 0), 1.0));
+            builder.addCube(new Cube3D(new Point3D(10, 0, 0), 1.0));
+
+            assertEquals(8, builder.getVertexCount());
+        }
+
+        @Test
+        @DisplayName("Should reject a negative minimum apparent size")
+        void testNegativeMinimumAngularSize() {
+            assertThrows(IllegalArgumentException.class, () -> new CubeMeshBuilder().setMinimumAngularSize(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Instance Tests")
+    class InstanceTests {
+
+        @Test
+        @DisplayName("Should write center, side length and a unit quaternion")
+        void testInstanceRecord() {
+            Cube3D cube = new Cube3D(new Point3D(4, 5, 6), 3.0, 0.4, 0.8, -1.2);
+            FloatBuffer instances = new CubeMeshBuilder().addInstance(cube).getInstances();
+
+            assertEquals(CubeMeshBuilder.FLOATS_PER_INSTANCE, instances.remaining());
+            assertEquals(4.0, instances.get(0), DELTA);
+            assertEquals(5.0, instances.get(1), DELTA);
+            assertEquals(6.0, instances.get(2), DELTA);
+            assertEquals(3.0, instances.get(3), DELTA);
+
+            double qx = instances.get(4);
+            double qy = instances.get(5);
+            double qz = instances.get(6);
+            double qw = instances.get(7);
+            assertEquals(1.0, qx * qx + qy * qy + qz * qz + qw * qw, DELTA);
+        }
+
+        @Test
+        @DisplayName("Quaternion should reproduce the cube's vertices from a unit cube")
+        void testQuaternionMatchesRotation() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0, 0.4, 0.8, -1.2);
+            FloatBuffer instances = new CubeMeshBuilder().addInstance(cube).getInstances();
+            double qx = instances.get(4);
+            double qy = instances.get(5);
+            double qz = instances.get(6);
+            double qw = instances.get(7);
+
+            // Rotate the local corner (1, 1, 1) by q: v' = v + 2w(q x v) + 2 q x (q x v)
+            double vx = 1;
+            double vy = 1;
+            double vz = 1;
+            double tx = 2 * (qy * vz - qz * vy);
+            double ty = 2 * (qz * vx - qx * vz);
+            double tz = 2 * (qx * vy - qy * vx);
+            double rx = vx + qw * tx + (qy * tz - qz * ty);
+            double ry = vy + qw * ty + (qz * tx - qx * tz);
+            double rz = vz + qw * tz + (qx * ty - qy * tx);
+
+            Point3D expected = cube.getVertices()[6];
+            assertEquals(expected.getX(), rx, DELTA);
+            assertEquals(expected.getY(), ry, DELTA);
+            assertEquals(expected.getZ(), rz, DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Buffer Management Tests")
+    class BufferManagementTests {
+
+        @Test
+        @DisplayName("Should grow beyond the initial capacity")
+        void testGrowth() {
+            CubeMeshBuilder builder = new CubeMeshBuilder(1);
+            Cube3D[] cubes = new Cube3D[10];
+            for (int i = 0; i < cubes.length; i++) {
+                cubes[i] = new Cube3D(new Point3D(i * 3, 0, 0), 1.0);
+            }
+
+            builder.addCubes(Arrays.asList(cubes));
+            builder.addInstances(Arrays.asList(cubes));
+
+            assertEquals(80, builder.getVertexCount());
+            assertEquals(120, builder.getTriangleCount());
+            assertEquals(10, builder.getInstanceCount());
+            assertEquals(27.0 - 0.5, builder.getPositions().get(9 * 24), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should clear data on reset")
+        void testReset() {
+            CubeMeshBuilder builder = new CubeMeshBuilder();
+            builder.addCubes(List.of(new Cube3D(new Point3D(0, 0, 0), 1.0)));
+            builder.reset();
+
+            assertEquals(0, builder.getVertexCount());
+            assertEquals(0, builder.getPositions().remaining());
+            assertEquals(0, builder.getIndices().remaining());
+        }
+
+        @Test
+        @DisplayName("Should throw exception for non-positive capacity")
+        void testInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new CubeMeshBuilder(0));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null cube")
+        void testNullCube() {
+            CubeMeshBuilder builder = new CubeMeshBuilder();
+            assertThrows(NullPointerException.class, () -> builder.addCube(null));
+            assertThrows(NullPointerException.class, () -> builder.addInstance(null));
+            assertThrows(NullPointerException.class, () -> builder.addCubes(null));
+        }
+    }
+}
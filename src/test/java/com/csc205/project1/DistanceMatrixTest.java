@@ -0,0 +1,173 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DistanceMatrix and DistanceMetric classes.
+ *
+ * This test suite covers:
+ * - Agreement with Point3D.distanceTo and Point3D.manhattanDistanceTo
+ * - Tile sizes that do not divide the point count
+ * - Float storage, row extraction and streaming
+ * - Edge cases and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("DistanceMatrix Tests")
+public class DistanceMatrixTest {
+
+    private static PointBuffer randomPoints(int n, long seed) {
+        Random random = new Random(seed);
+        PointBuffer points = new PointBuffer(n);
+        for (int i = 0; i < n; i++) {
+            points.add(random.nextGaussian() * 10, random.nextGaussian() * 10, random.nextGaussian() * 10);
+        }
+        return points;
+    }
+
+    @Nested
+    @DisplayName("Metric Tests")
+    class MetricTests {
+
+        @Test
+        @DisplayName("Should match Point3D distance methods exactly")
+        void testMetricsMatchPoint3D() {
+            Point3D a = new Point3D(1.5, -2, 7);
+            Point3D b = new Point3D(-3, 4.25, 0.5);
+            assertEquals(a.distanceTo(b), DistanceMetric.EUCLIDEAN.distance(a, b));
+            assertEquals(a.manhattanDistanceTo(b), DistanceMetric.MANHATTAN.distance(a, b));
+            assertThrows(NullPointerException.class, () -> DistanceMetric.EUCLIDEAN.distance(a, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("In-Memory Matrix Tests")
+    class InMemoryTests {
+
+        @Test
+        @DisplayName("Should match pairwise distances for both metrics with ragged tiles")
+        void testAllPairs() {
+            PointBuffer points = randomPoints(157, 35);
+            Point3D[] objects = points.toPoints();
+            for (DistanceMetric metric : DistanceMetric.values()) {
+                DistanceMatrix matrix = DistanceMatrix.builder(points).metric(metric).tileSize(16).build();
+                assertEquals(157, matrix.size());
+                for (int i = 0; i < objects.length; i += 7) {
+                    for (int j = 0; j < objects.length; j++) {
+                        assertEquals(metric.distance(objects[i], objects[j]), matrix.get(i, j), "(" + i + ", " + j + ")");
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should be symmetric with a zero diagonal and extract full rows")
+        void testRows() {
+            PointBuffer points = randomPoints(40, 36);
+            try (ForkJoinPool pool = new ForkJoinPool(3)) {
+                DistanceMatrix matrix = DistanceMatrix.builder(points).tileSize(7).pool(pool).build();
+                double[] row = new double[40];
+                for (int i = 0; i < 40; i++) {
+                    matrix.getRow(i, row);
+                    for (int j = 0; j < 40; j++) {
+                        assertEquals(matrix.get(j, i), row[j]);
+                    }
+                    assertEquals(0.0, row[i]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should store floats within float precision")
+        void testFloatStorage() {
+            PointBuffer points = randomPoints(60, 37);
+            DistanceMatrix exact = DistanceMatrix.compute(points, DistanceMetric.MANHATTAN);
+            DistanceMatrix compact = DistanceMatrix.builder(points).metric(DistanceMetric.MANHATTAN)
+                .floatStorage(true).build();
+
+            assertTrue(compact.isFloatStorage());
+            assertFalse(exact.isFloatStorage());
+            for (int i = 0; i < 60; i++) {
+                for (int j = i + 1; j < 60; j++) {
+                    assertEquals((float) exact.get(i, j), (float) compact.get(i, j));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle empty and single-point sets")
+        void testTinySets() {
+            assertEquals(0, DistanceMatrix.compute(new PointBuffer(), DistanceMetric.EUCLIDEAN).size());
+            DistanceMatrix single = DistanceMatrix.compute(PointBuffer.of(new Point3D(1, 2, 3)), DistanceMetric.EUCLIDEAN);
+            assertEquals(0.0, single.get(0, 0));
+            assertEquals(0L, DistanceMatrix.packedSize(1));
+            assertEquals(1_249_975_000L, DistanceMatrix.packedSize(50_000));
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Tests")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should stream every row in order with the same values as the packed matrix")
+        void testStreamRows() {
+            PointBuffer points = randomPoints(123, 38);
+            DistanceMatrix matrix = DistanceMatrix.compute(points, DistanceMetric.EUCLIDEAN);
+            int[] nextRow = {0};
+
+            DistanceMatrix.builder(points).streamRows((row, distances, offset, count) -> {
+                assertEquals(nextRow[0]++, row);
+                assertEquals(123 - row - 1, count);
+                for (int k = 0; k < count; k++) {
+                    assertEquals(matrix.get(row, row + 1 + k), distances[offset + k]);
+                }
+            });
+            assertEquals(123, nextRow[0]);
+        }
+
+        @Test
+        @DisplayName("Should produce the same rows when split into many small bands")
+        void testSmallBands() {
+            PointBuffer points = randomPoints(90, 40);
+            DistanceMatrix matrix = DistanceMatrix.compute(points, DistanceMetric.MANHATTAN);
+            int[] rows = {0};
+
+            DistanceMatrix.builder(points).metric(DistanceMetric.MANHATTAN).bandEntries(200)
+                .streamRows((row, distances, offset, count) -> {
+                    rows[0]++;
+                    for (int k = 0; k < count; k++) {
+                        assertEquals(matrix.get(row, row + 1 + k), distances[offset + k]);
+                    }
+                });
+            assertEquals(90, rows[0]);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void testValidation() {
+            PointBuffer points = randomPoints(5, 39);
+            DistanceMatrix matrix = DistanceMatrix.compute(points, DistanceMetric.EUCLIDEAN);
+
+            assertThrows(NullPointerException.class, () -> DistanceMatrix.builder(null));
+            assertThrows(NullPointerException.class, () -> DistanceMatrix.builder(points).metric(null));
+            assertThrows(IllegalArgumentException.class, () -> DistanceMatrix.builder(points).tileSize(0));
+            assertThrows(NullPointerException.class, () -> DistanceMatrix.builder(points).streamRows(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(5, 0));
+            assertThrows(IllegalArgumentException.class, () -> matrix.getRow(0, new double[4]));
+        }
+    }
+}
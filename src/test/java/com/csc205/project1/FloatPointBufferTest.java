@@ -0,0 +1,173 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FloatPointBuffer class.
+ *
+ * This test suite covers:
+ * - Appending points and reading them back as doubles
+ * - Conversion to and from PointBuffer and Point3D
+ * - In-place transforms matching PointBuffer within float precision
+ * - Storage size and argument validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("FloatPointBuffer Tests")
+public class FloatPointBufferTest {
+
+    private static final double FLOAT_DELTA = 1e-5;
+
+    @Nested
+    @DisplayName("Append Tests")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Should store appended coordinates interleaved as floats")
+        void testAdd() {
+            FloatPointBuffer buffer = new FloatPointBuffer(1);
+            buffer.add(1, 2, 3);
+            buffer.add(new Point3D(4, 5, 6));
+
+            assertEquals(2, buffer.size());
+            assertEquals(4, buffer.getX(1));
+            assertEquals(5, buffer.getY(1));
+            assertEquals(6, buffer.getZ(1));
+            assertArrayEquals(new float[]{1, 2, 3, 4, 5, 6}, buffer.toArray());
+        }
+
+        @Test
+        @DisplayName("Should round coordinates to the nearest float")
+        void testRounding() {
+            FloatPointBuffer buffer = new FloatPointBuffer();
+            buffer.add(0.1, Math.PI, 1e-3);
+
+            assertEquals((double) 0.1f, buffer.getX(0));
+            assertEquals((double) (float) Math.PI, buffer.getY(0));
+            assertEquals(1e-3, buffer.getZ(0), 1e-3 * 0x1p-24);
+        }
+
+        @Test
+        @DisplayName("Should grow past its initial capacity and append packed floats")
+        void testGrowthAndAddAll() {
+            FloatPointBuffer buffer = new FloatPointBuffer(0);
+            for (int i = 0; i < 1000; i++) {
+                buffer.add(i, -i, i * 2);
+            }
+            buffer.addAll(new float[]{9, 9, 9, 7, 8, 9}, 3, 1);
+
+            assertEquals(1001, buffer.size());
+            assertEquals(999, buffer.getX(999));
+            assertEquals(8, buffer.getY(1000));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should round-trip a PointBuffer within float precision")
+        void testRoundTrip() {
+            PointBuffer source = new PointBuffer();
+            for (int i = 0; i < 100; i++) {
+                source.add(i * 0.37, -i * 1.91, 1000 + i * 0.013);
+            }
+
+            FloatPointBuffer compact = FloatPointBuffer.from(source);
+            PointBuffer widened = compact.toPointBuffer();
+
+            assertEquals(source.size(), widened.size());
+            for (int i = 0; i < source.size(); i++) {
+                assertEquals(source.getX(i), widened.getX(i), Math.ulp((float) source.getX(i)));
+                assertEquals(source.getY(i), widened.getY(i), Math.ulp((float) source.getY(i)));
+                assertEquals(source.getZ(i), widened.getZ(i), Math.ulp((float) source.getZ(i)));
+            }
+        }
+
+        @Test
+        @DisplayName("Should convert exactly representable points without loss")
+        void testExactConversion() {
+            FloatPointBuffer buffer = FloatPointBuffer.of(new Point3D(0.5, -2, 1024), new Point3D(3, 4, 5));
+
+            assertEquals(new Point3D(0.5, -2, 1024), buffer.get(0));
+            assertArrayEquals(new Point3D[]{new Point3D(0.5, -2, 1024), new Point3D(3, 4, 5)}, buffer.toPoints());
+        }
+
+        @Test
+        @DisplayName("Should use half the storage of a PointBuffer")
+        void testStorageBytes() {
+            FloatPointBuffer buffer = new FloatPointBuffer(1000);
+
+            assertEquals(1000 * 3 * 4, buffer.getStorageBytes());
+            assertEquals(3000, buffer.getCoordinates().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Operation Tests")
+    class BulkOperationTests {
+
+        @Test
+        @DisplayName("Should translate and rotate like PointBuffer within float precision")
+        void testTransformsMatchPointBuffer() {
+            PointBuffer expected = new PointBuffer();
+            for (int i = 0; i < 50; i++) {
+                expected.add(i, i * 0.5, -i);
+            }
+            FloatPointBuffer actual = FloatPointBuffer.from(expected);
+
+            Rotation rotation = Rotation.of(0.7);
+            expected.translate(1, -2, 3);
+            actual.translate(1, -2, 3);
+            expected.rotateX(rotation);
+            actual.rotateX(rotation);
+            expected.rotateY(rotation);
+            actual.rotateY(rotation);
+            expected.rotateZ(rotation);
+            actual.rotateZ(rotation);
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.getX(i), actual.getX(i), FLOAT_DELTA * 100);
+                assertEquals(expected.getY(i), actual.getY(i), FLOAT_DELTA * 100);
+                assertEquals(expected.getZ(i), actual.getZ(i), FLOAT_DELTA * 100);
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep only points inside a cube, in order")
+        void testRetainInside() {
+            FloatPointBuffer buffer = FloatPointBuffer.of(new Point3D(0, 0, 0), new Point3D(5, 5, 5),
+                                                          new Point3D(0.5f, 0.5f, 0.5f));
+
+            int removed = buffer.retainInside(new Cube3D(new Point3D(0, 0, 0), 2));
+
+            assertEquals(1, removed);
+            assertEquals(2, buffer.size());
+            assertEquals(0.5, buffer.getX(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject invalid arguments")
+        void testValidation() {
+            FloatPointBuffer buffer = new FloatPointBuffer();
+
+            assertThrows(IllegalArgumentException.class, () -> new FloatPointBuffer(-1));
+            assertThrows(IllegalArgumentException.class, () -> new FloatPointBuffer(Integer.MAX_VALUE));
+            assertThrows(NullPointerException.class, () -> FloatPointBuffer.from(null));
+            assertThrows(NullPointerException.class, () -> buffer.add((Point3D) null));
+            assertThrows(NullPointerException.class, () -> buffer.rotateX(null));
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(0));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FrustumCuller class.
+ *
+ * This test suite covers:
+ * - Agreement with Frustum.intersects on every cube of random scenes
+ * - Scenes fully inside, fully outside, empty and smaller than one leaf
+ * - Validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("FrustumCuller Tests")
+public class FrustumCullerTest {
+
+    private static List<Cube3D> randomScene(int count, long seed) {
+        Random random = new Random(seed);
+        List<Cube3D> cubes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cubes.add(new Cube3D(new Point3D(random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100,
+                                             random.nextDouble() * 200 - 100),
+                                 0.5 + random.nextDouble() * 3, random.nextDouble(), random.nextDouble(),
+                                 random.nextDouble()));
+        }
+        return cubes;
+    }
+
+    private static int[] bruteForce(List<Cube3D> cubes, Frustum frustum) {
+        return java.util.stream.IntStream.range(0, cubes.size()).filter(i -> frustum.intersects(cubes.get(i))).toArray();
+    }
+
+    @Nested
+    @DisplayName("Culling Tests")
+    class CullingTests {
+
+        @Test
+        @DisplayName("Should return exactly the cubes Frustum.intersects accepts")
+        void testMatchesBruteForce() {
+            List<Cube3D> scene = randomScene(3000, 1);
+            FrustumCuller culler = new FrustumCuller(scene);
+            Random random = new Random(2);
+
+            for (int view = 0; view < 20; view++) {
+                Point3D eye = new Point3D(random.nextDouble() * 100 - 50, random.nextDouble() * 100 - 50, 0);
+                Point3D target = new Point3D(random.nextDouble() * 100 - 50, random.nextDouble() * 100 - 50,
+                                             random.nextDouble() * 40 - 20);
+                Frustum frustum = Frustum.perspective(eye, target, new Point3D(0, 0, 1), 0.3 + random.nextDouble(),
+                                                      1.5, 0.5, 20 + random.nextDouble() * 150);
+
+                assertArrayEquals(bruteForce(scene, frustum), culler.cull(frustum));
+            }
+        }
+
+        @Test
+        @DisplayName("Should accept a whole scene inside the frustum and reject one behind it")
+        void testAllOrNothing() {
+            List<Cube3D> scene = randomScene(100, 3);
+            FrustumCuller culler = new FrustumCuller(scene);
+            Frustum wide = Frustum.perspective(new Point3D(-1000, 0, 0), new Point3D(0, 0, 0), new Point3D(0, 0, 1),
+                                               Math.PI / 2, 1, 1, 5000);
+            Frustum away = Frustum.perspective(new Point3D(-1000, 0, 0), new Point3D(-2000, 0, 0),
+                                               new Point3D(0, 0, 1), Math.PI / 2, 1, 1, 5000);
+
+            assertEquals(100, culler.cull(wide).length);
+            assertEquals(scene, culler.visibleCubes(wide));
+            assertEquals(0, culler.cull(away).length);
+        }
+
+        @Test
+        @DisplayName("Should handle empty scenes and scenes smaller than a leaf")
+        void testSmallScenes() {
+            Frustum frustum = Frustum.perspective(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(0, 0, 1),
+                                                  Math.PI / 2, 1, 0.1, 100);
+            List<Cube3D> few = List.of(new Cube3D(new Point3D(10, 0, 0), 1), new Cube3D(new Point3D(-10, 0, 0), 1),
+                                       new Cube3D(new Point3D(50, 5, 5), 1));
+
+            assertEquals(0, new FrustumCuller(List.of()).cull(frustum).length);
+            assertArrayEquals(new int[]{0, 2}, new FrustumCuller(few).cull(frustum));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject null scenes, cubes and frustums")
+        void testValidation() {
+            assertThrows(NullPointerException.class, () -> new FrustumCuller(null));
+            assertThrows(NullPointerException.class,
+                         () -> new FrustumCuller(Arrays.asList(new Cube3D(new Point3D(0, 0, 0), 1), null)));
+            assertThrows(NullPointerException.class, () -> new FrustumCuller(List.of()).cull(null));
+        }
+    }
+}
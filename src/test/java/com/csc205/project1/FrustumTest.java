@@ -0,0 +1,174 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.EnumSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Frustum class.
+ *
+ * This test suite covers:
+ * - Perspective frustum construction and point containment
+ * - Sphere, box and oriented cube classification
+ * - Agreement with a vertex-based test for rotated cubes
+ * - Parameter validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Frustum Tests")
+public class FrustumTest {
+
+    private static final double DELTA = 1e-9;
+
+    /** Camera at the origin looking down +x, 90 degree field of view, depth 1 to 100. */
+    private static Frustum camera() {
+        return Frustum.perspective(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(0, 0, 1),
+                                   Math.PI / 2, 1.0, 1, 100);
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should contain points inside the view and reject others")
+        void testPerspectiveContainment() {
+            Frustum frustum = camera();
+
+            assertTrue(frustum.containsPoint(10, 0, 0));
+            assertTrue(frustum.containsPoint(10, 9.9, -9.9));
+            assertFalse(frustum.containsPoint(10, 10.1, 0));
+            assertFalse(frustum.containsPoint(0.5, 0, 0));
+            assertFalse(frustum.containsPoint(100.5, 0, 0));
+            assertFalse(frustum.containsPoint(-10, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should store unit normals and signed plane distances")
+        void testPlanes() {
+            Frustum frustum = camera();
+            double[] planes = frustum.getPlanes();
+
+            for (int i = 0; i < Frustum.PLANE_COUNT; i++) {
+                int o = i * 4;
+                assertEquals(1.0, Math.sqrt(planes[o] * planes[o] + planes[o + 1] * planes[o + 1]
+                                            + planes[o + 2] * planes[o + 2]), DELTA);
+            }
+            assertEquals(4.0, frustum.distanceToPlane(4, 5, 0, 0), DELTA);
+            assertEquals(95.0, frustum.distanceToPlane(5, 5, 0, 0), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should normalize explicit planes")
+        void testFromPlanes() {
+            // The box 0 <= x, y, z <= 2 written as six half-spaces with unnormalized normals
+            Frustum box = Frustum.fromPlanes(2, 0, 0, 0, -2, 0, 0, 4,
+                                             0, 3, 0, 0, 0, -3, 0, 6,
+                                             0, 0, 1, 0, 0, 0, -1, 2);
+
+            assertTrue(box.containsPoint(1, 1, 1));
+            assertFalse(box.containsPoint(1, 1, 2.5));
+            assertEquals(1.0, box.distanceToPlane(0, 1, 0, 0), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid parameters")
+        void testValidation() {
+            Point3D o = new Point3D(0, 0, 0);
+            Point3D x = new Point3D(1, 0, 0);
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> Frustum.perspective(o, x, new Point3D(0, 0, 1), Math.PI, 1, 1, 10));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Frustum.perspective(o, x, new Point3D(0, 0, 1), 1, 1, 10, 5));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Frustum.perspective(o, x, new Point3D(2, 0, 0), 1, 1, 1, 10));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Frustum.perspective(o, o, new Point3D(0, 0, 1), 1, 1, 1, 10));
+            assertThrows(NullPointerException.class, () -> Frustum.perspective(null, x, x, 1, 1, 1, 10));
+            assertThrows(IllegalArgumentException.class, () -> Frustum.fromPlanes(1, 0, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> Frustum.fromPlanes(new double[24]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Classification Tests")
+    class ClassificationTests {
+
+        @Test
+        @DisplayName("Should classify cubes inside, crossing and outside")
+        void testCubes() {
+            Frustum frustum = camera();
+
+            assertEquals(Frustum.Containment.INSIDE, frustum.classify(new Cube3D(new Point3D(20, 0, 0), 2)));
+            assertEquals(Frustum.Containment.INTERSECTING, frustum.classify(new Cube3D(new Point3D(20, 20, 0), 2)));
+            assertEquals(Frustum.Containment.OUTSIDE, frustum.classify(new Cube3D(new Point3D(20, 30, 0), 2)));
+            assertEquals(Frustum.Containment.OUTSIDE, frustum.classify(new Cube3D(new Point3D(-5, 0, 0), 2)));
+            assertTrue(frustum.intersects(new Cube3D(new Point3D(0, 0, 0), 4)));
+        }
+
+        @Test
+        @DisplayName("Should use the cube's orientation for its projected radius")
+        void testRotatedCube() {
+            // The side plane is diagonal in the xy-plane: an axis-aligned cube reaches it with
+            // a corner, while the same cube turned 45 degrees faces it with a flat side
+            Frustum frustum = camera();
+            Cube3D aligned = new Cube3D(new Point3D(20, 21.5, 0), 2);
+            Cube3D rotated = new Cube3D(new Point3D(20, 21.5, 0), 2, 0, 0, Math.PI / 4);
+
+            assertEquals(Frustum.Containment.INTERSECTING, frustum.classify(aligned));
+            assertEquals(Frustum.Containment.OUTSIDE, frustum.classify(rotated));
+        }
+
+        @Test
+        @DisplayName("Should agree with a test of every vertex against each plane")
+        void testAgainstVertices() {
+            Frustum frustum = camera();
+            Random random = new Random(11);
+            EnumSet<Frustum.Containment> seen = EnumSet.noneOf(Frustum.Containment.class);
+            for (int t = 0; t < 15; t++) {
+                Cube3D cube = new Cube3D(new Point3D(random.nextDouble() * 120 - 10, random.nextDouble() * 120 - 60,
+                                                     random.nextDouble() * 120 - 60),
+                                         0.5 + random.nextDouble() * 10, random.nextDouble() * 3,
+                                         random.nextDouble() * 3, random.nextDouble() * 3);
+                Point3D[] vertices = cube.getVertices();
+                boolean allInside = true;
+                boolean beyondOnePlane = false;
+                for (int plane = 0; plane < Frustum.PLANE_COUNT; plane++) {
+                    int outside = 0;
+                    for (Point3D v : vertices) {
+                        if (frustum.distanceToPlane(plane, v.getX(), v.getY(), v.getZ()) < 0) {
+                            outside++;
+                        }
+                    }
+                    allInside &= outside == 0;
+                    beyondOnePlane |= outside == 8;
+                }
+                Frustum.Containment expected = beyondOnePlane ? Frustum.Containment.OUTSIDE
+                        : allInside ? Frustum.Containment.INSIDE : Frustum.Containment.INTERSECTING;
+
+                assertEquals(expected, frustum.classify(cube));
+                seen.add(expected);
+            }
+            assertEquals(EnumSet.allOf(Frustum.Containment.class), seen);
+        }
+
+        @Test
+        @DisplayName("Should classify spheres and axis-aligned boxes")
+        void testSphereAndBox() {
+            Frustum frustum = camera();
+
+            assertEquals(Frustum.Containment.INSIDE, frustum.classifySphere(50, 0, 0, 1));
+            assertEquals(Frustum.Containment.INTERSECTING, frustum.classifySphere(100, 0, 0, 1));
+            assertEquals(Frustum.Containment.OUTSIDE, frustum.classifySphere(102, 0, 0, 1));
+            assertEquals(Frustum.Containment.INTERSECTING, frustum.classifyBox(50, 0, 0, 1, 60, 1));
+            assertEquals(Frustum.Containment.INSIDE, frustum.classifyBox(50, 0, 0, 1, 1, 1));
+        }
+    }
+}
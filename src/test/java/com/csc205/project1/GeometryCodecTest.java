@@ -0,0 +1,313 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GeometryCodec class.
+ *
+ * This test suite covers:
+ * - Lossless FLOAT64 round trips for points, lines and cubes
+ * - FLOAT32, QUANTIZED16 and DELTA_VARINT error bounds
+ * - Little-endian layout and header validation
+ * - Buffer positioning and size calculations
+ * - Malformed input handling
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("GeometryCodec Tests")
+public class GeometryCodecTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Nested
+    @DisplayName("Single Object Tests")
+    class SingleObjectTests {
+
+        @Test
+        @DisplayName("Should round-trip a point exactly with FLOAT64")
+        void testPointRoundTrip() {
+            Point3D point = new Point3D(1.0 / 3.0, -2.718281828459045, 1e300);
+            ByteBuffer buffer = ByteBuffer.allocate(GeometryCodec.encodedSize(Point3D.class, GeometryCodec.Encoding.FLOAT64));
+
+            GeometryCodec.encode(point, GeometryCodec.Encoding.FLOAT64, buffer);
+            assertFalse(buffer.hasRemaining());
+            buffer.flip();
+            Point3D decoded = GeometryCodec.decodePoint(buffer);
+
+            assertEquals(point.getX(), decoded.getX(), 0.0);
+            assertEquals(point.getY(), decoded.getY(), 0.0);
+            assertEquals(point.getZ(), decoded.getZ(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should write little-endian doubles after a 4-byte header")
+        void testLittleEndianLayout() {
+            ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.BIG_ENDIAN);
+
+            GeometryCodec.encode(new Point3D(1.5, 0, 0), GeometryCodec.Encoding.FLOAT64, buffer);
+
+            assertEquals('G', buffer.get(0));
+            assertEquals('3', buffer.get(1));
+            assertEquals(GeometryCodec.FORMAT_VERSION, buffer.get(2));
+            assertEquals(1.5, buffer.order(ByteOrder.LITTLE_ENDIAN).getDouble(4), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should leave the caller's byte order unchanged")
+        void testByteOrderPreserved() {
+            ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.BIG_ENDIAN);
+
+            GeometryCodec.encode(new Point3D(1, 2, 3), GeometryCodec.Encoding.FLOAT32, buffer);
+
+            assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+            assertEquals(GeometryCodec.encodedSize(Point3D.class, GeometryCodec.Encoding.FLOAT32), buffer.position());
+        }
+
+        @Test
+        @DisplayName("Should round-trip lines and cubes")
+        void testLineAndCubeRoundTrip() {
+            Line3D line = new Line3D(new Point3D(1, 2, 3), new Point3D(-4, 5.25, 6));
+            Cube3D cube = new Cube3D(new Point3D(7, 8, 9), 2.5, 0.1, 0.2, 0.3);
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+
+            GeometryCodec.encode(line, GeometryCodec.Encoding.FLOAT64, buffer);
+            GeometryCodec.encode(cube, GeometryCodec.Encoding.FLOAT64, buffer);
+            buffer.flip();
+
+            assertEquals(line, GeometryCodec.decodeLine(buffer));
+            assertEquals(cube, GeometryCodec.decodeCube(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        @DisplayName("Should keep float precision with FLOAT32")
+        void testFloat32() {
+            Point3D point = new Point3D(123.456789, -0.001, 42);
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+
+            GeometryCodec.encode(point, GeometryCodec.Encoding.FLOAT32, buffer);
+            buffer.flip();
+            Point3D decoded = GeometryCodec.decodePoint(buffer);
+
+            assertEquals((float) point.getX(), decoded.getX(), 0.0);
+            assertEquals((float) point.getY(), decoded.getY(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should reject quantized encodings for single objects")
+        void testQuantizedSingleRejected() {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryCodec.encode(new Point3D(1, 2, 3), GeometryCodec.Encoding.QUANTIZED16, buffer));
+        }
+    }
+
+    @Nested
+    @DisplayName("Array Tests")
+    class ArrayTests {
+
+        private double[] randomCloud(int count, long seed) {
+            Random random = new Random(seed);
+            double[] xyz = new double[count * 3];
+            for (int i = 0; i < xyz.length; i++) {
+                xyz[i] = random.nextDouble() * 200 - 100;
+            }
+            return xyz;
+        }
+
+        @ParameterizedTest
+        @EnumSource(GeometryCodec.Encoding.class)
+        @DisplayName("Should round-trip point arrays within each encoding's error bound")
+        void testPointArrayRoundTrip(GeometryCodec.Encoding encoding) {
+            double[] xyz = randomCloud(1000, 42);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(GeometryCodec.maxEncodedSize(Point3D.class, 1000, encoding));
+
+            GeometryCodec.encodePoints(xyz, 1000, encoding, buffer);
+            buffer.flip();
+            assertEquals(1000, GeometryCodec.peekCount(buffer));
+            double[] decoded = new double[3000];
+            assertEquals(1000, GeometryCodec.decodePoints(buffer, decoded));
+
+            double tolerance;
+            switch (encoding) {
+                case FLOAT64: tolerance = 0.0; break;
+                case FLOAT32: tolerance = 1e-5; break;
+                case QUANTIZED16: tolerance = 200.0 / 65535 / 2 + DELTA; break;
+                default: tolerance = 200.0 / 4294967295.0 / 2 + DELTA; break;
+            }
+            for (int i = 0; i < xyz.length; i++) {
+                assertEquals(xyz[i], decoded[i], tolerance);
+            }
+        }
+
+        @Test
+        @DisplayName("Should make delta encoding compact for coherent point sequences")
+        void testDeltaCompactness() {
+            int count = 1000;
+            double[] xyz = new double[count * 3];
+            for (int i = 0; i < count; i++) {
+                xyz[i * 3] = i * 1e-6;
+                xyz[i * 3 + 1] = 0.5 * i * 1e-6;
+                xyz[i * 3 + 2] = 0;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(
+                GeometryCodec.maxEncodedSize(Point3D.class, count, GeometryCodec.Encoding.DELTA_VARINT));
+
+            GeometryCodec.encodePoints(xyz, count, GeometryCodec.Encoding.DELTA_VARINT, buffer);
+
+            assertTrue(buffer.position() < count * 3 * 4,
+                "Delta payload should be smaller than float32 (" + buffer.position() + " bytes)");
+        }
+
+        @Test
+        @DisplayName("Should round-trip Point3D, Line3D and Cube3D arrays")
+        void testObjectArrays() {
+            Point3D[] points = {new Point3D(1, 2, 3), new Point3D(4, 5, 6)};
+            Line3D[] lines = {new Line3D(points[0], points[1])};
+            Cube3D[] cubes = {new Cube3D(points[0], 1.0), new Cube3D(points[1], 2.0, 0.5, 0, 0)};
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+            GeometryCodec.encodePoints(points, GeometryCodec.Encoding.FLOAT64, buffer);
+            GeometryCodec.encodeLines(lines, GeometryCodec.Encoding.FLOAT64, buffer);
+            GeometryCodec.encodeCubes(cubes, GeometryCodec.Encoding.FLOAT32, buffer);
+            buffer.flip();
+
+            assertArrayEquals(points, GeometryCodec.decodePointArray(buffer));
+            assertArrayEquals(lines, GeometryCodec.decodeLines(buffer));
+            Cube3D[] decodedCubes = GeometryCodec.decodeCubes(buffer);
+            assertEquals(2, decodedCubes.length);
+            assertEquals(0.5, decodedCubes[1].getRotationX(), 1e-7);
+        }
+
+        @Test
+        @DisplayName("Should handle an empty point array")
+        void testEmptyArray() {
+            ByteBuffer buffer = ByteBuffer.allocate(128);
+
+            GeometryCodec.encodePoints(new double[0], 0, GeometryCodec.Encoding.QUANTIZED16, buffer);
+            buffer.flip();
+
+            assertEquals(0, GeometryCodec.decodePoints(buffer, new double[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject a buffer that is too small")
+        void testBufferTooSmall() {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryCodec.encode(new Point3D(1, 2, 3), GeometryCodec.Encoding.FLOAT64, buffer));
+            assertEquals(0, buffer.position());
+        }
+
+        @Test
+        @DisplayName("Should reject bad magic bytes")
+        void testBadMagic() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[]{'X', 'Y', 1, 0x10, 0, 0, 0, 0});
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodePoint(buffer));
+        }
+
+        @Test
+        @DisplayName("Should reject a newer format version")
+        void testNewerVersion() {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            GeometryCodec.encode(new Point3D(1, 2, 3), GeometryCodec.Encoding.FLOAT64, buffer);
+            buffer.put(2, (byte) (GeometryCodec.FORMAT_VERSION + 1));
+            buffer.flip();
+
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodePoint(buffer));
+        }
+
+        @Test
+        @DisplayName("Should reject decoding a message of the wrong type")
+        void testWrongType() {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            GeometryCodec.encode(new Point3D(1, 2, 3), GeometryCodec.Encoding.FLOAT64, buffer);
+            buffer.flip();
+
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodeCube(buffer));
+        }
+
+        @Test
+        @DisplayName("Should reject a destination array that is too small")
+        void testDestinationTooSmall() {
+            ByteBuffer buffer = ByteBuffer.allocate(128);
+            GeometryCodec.encodePoints(new double[]{1, 2, 3, 4, 5, 6}, 2, GeometryCodec.Encoding.FLOAT64, buffer);
+            buffer.flip();
+
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodePoints(buffer, new double[3]));
+        }
+
+        @Test
+        @DisplayName("Should reject truncated messages and negative counts")
+        void testTruncatedMessages() {
+            ByteBuffer point = ByteBuffer.allocate(64);
+            GeometryCodec.encode(new Point3D(1, 2, 3), GeometryCodec.Encoding.FLOAT64, point);
+            ByteBuffer line = ByteBuffer.allocate(64);
+            GeometryCodec.encode(new Line3D(new Point3D(0, 0, 0), new Point3D(1, 1, 1)), GeometryCodec.Encoding.FLOAT32, line);
+            ByteBuffer lines = ByteBuffer.allocate(64);
+            GeometryCodec.encodeLines(new Line3D[0], GeometryCodec.Encoding.FLOAT64, lines);
+            ByteBuffer cubes = ByteBuffer.allocate(64);
+            GeometryCodec.encodeCubes(new Cube3D[0], GeometryCodec.Encoding.FLOAT64, cubes);
+
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodePoint(point.flip().limit(20)));
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodeLine(line.flip().limit(line.limit() - 1)));
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.peekCount(lines.flip().slice().limit(6)));
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodeLines(lines.putInt(4, -1)));
+            assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodeCubes(cubes.flip().putInt(4, -1)));
+        }
+
+        @Test
+        @DisplayName("Should reject counts larger than the payload before allocating")
+        void testForgedCount() {
+            for (int count : new int[]{100_000_000, 1_000_000_000, Integer.MAX_VALUE}) {
+                for (GeometryCodec.Encoding encoding : GeometryCodec.Encoding.values()) {
+                    ByteBuffer forged = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+                    GeometryCodec.encodePoints(new double[]{1, 2, 3}, 1, encoding, forged);
+                    forged.flip().putInt(4, count);
+
+                    assertThrows(IllegalArgumentException.class, () -> GeometryCodec.peekCount(forged));
+                    assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodePointArray(forged));
+                    assertThrows(IllegalArgumentException.class, () -> GeometryCodec.decodePoints(forged, new double[3]));
+                    assertEquals(0, forged.position());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject array sizes that overflow an int")
+        void testMaxEncodedSizeOverflow() {
+            assertEquals(4 + 4 + 3 * 8, GeometryCodec.maxEncodedSize(Point3D.class, 1, GeometryCodec.Encoding.FLOAT64));
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryCodec.maxEncodedSize(Cube3D.class, Integer.MAX_VALUE / 8, GeometryCodec.Encoding.FLOAT64));
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryCodec.maxEncodedSize(Point3D.class, Integer.MAX_VALUE / 4, GeometryCodec.Encoding.DELTA_VARINT));
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryCodec.maxEncodedSize(Point3D.class, -1, GeometryCodec.Encoding.FLOAT64));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null arguments")
+        void testNullArguments() {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            assertThrows(NullPointerException.class,
+                () -> GeometryCodec.encode((Point3D) null, GeometryCodec.Encoding.FLOAT64, buffer));
+            assertThrows(NullPointerException.class, () -> GeometryCodec.decodePoint(null));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GeometryFormatter class.
+ *
+ * This test suite covers:
+ * - Agreement with String.format for fixed precision, including ties and signs
+ * - Shortest round-trip output
+ * - Point, line and cube layouts used by toString
+ * - Bulk export to Appendable targets
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("GeometryFormatter Tests")
+public class GeometryFormatterTest {
+
+    @Nested
+    @DisplayName("Number Formatting Tests")
+    class NumberFormattingTests {
+
+        @Test
+        @DisplayName("Should match String.format on edge values")
+        void testEdgeValues() {
+            double[] values = {0, -0.0, 0.15, 1.005, 0.125, 2.675, -0.001, 0.045, 1e20, -123456789.125,
+                               Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE,
+                               Double.MAX_VALUE, 9.995, 0.5, 1.5, 4503599627370495.5};
+            for (int precision : new int[]{0, 1, 2, 5}) {
+                GeometryFormatter formatter = GeometryFormatter.withPrecision(precision);
+                for (double value : values) {
+                    assertEquals(String.format(Locale.ROOT, "%." + precision + "f", value), formatter.format(value),
+                        "value " + value + " precision " + precision);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should match String.format on random values")
+        void testRandomValues() {
+            Random random = new Random(11);
+            GeometryFormatter formatter = GeometryFormatter.TWO_DIGITS;
+            for (int i = 0; i < 20000; i++) {
+                double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16) - 4);
+                if (i % 4 == 0) {
+                    value = Math.round(value * 1000) / 1000.0; // many exact-looking ties
+                }
+                assertEquals(String.format(Locale.ROOT, "%.2f", value), formatter.format(value), "value " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("Should round-trip in shortest mode")
+        void testShortest() {
+            GeometryFormatter formatter = GeometryFormatter.shortest();
+            assertEquals(-1, formatter.getPrecision());
+            for (double value : new double[]{0.1, 1.0 / 3.0, -2e-300, 123456.789}) {
+                assertEquals(value, Double.parseDouble(formatter.format(value)), 0.0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject out-of-range precision")
+        void testInvalidPrecision() {
+            assertThrows(IllegalArgumentException.class, () -> GeometryFormatter.withPrecision(-1));
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryFormatter.withPrecision(GeometryFormatter.MAX_PRECISION + 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Geometry Formatting Tests")
+    class GeometryFormattingTests {
+
+        @Test
+        @DisplayName("Should keep the established toString layouts")
+        void testToStringLayouts() {
+            Point3D a = new Point3D(1.5, -2.25, 3);
+            Point3D b = new Point3D(4, 6, 3);
+            Cube3D cube = new Cube3D(a, 3.0, 0.1, 0.2, 0.3);
+
+            assertEquals("Point3D(1.50, -2.25, 3.00)", a.toString());
+            assertEquals("Line3D[start=Point3D(1.50, -2.25, 3.00), end=Point3D(4.00, 6.00, 3.00), length=8.62]",
+                new Line3D(a, b).toString());
+            assertEquals("Cube3D[center=Point3D(1.50, -2.25, 3.00), sideLength=3.00, volume=27.00, "
+                + "rotations=(0.10, 0.20, 0.30)]", cube.toString());
+        }
+
+        @Test
+        @DisplayName("Should append to a caller-supplied builder")
+        void testAppendToBuilder() {
+            StringBuilder sb = new StringBuilder("p=");
+            StringBuilder returned = GeometryFormatter.withPrecision(1).appendPoint(sb, new Point3D(1, 2, 3));
+
+            assertSame(sb, returned);
+            assertEquals("p=Point3D(1.0, 2.0, 3.0)", sb.toString());
+        }
+
+        @Test
+        @DisplayName("Should export points to any Appendable")
+        void testBulkExport() throws IOException {
+            StringWriter out = new StringWriter();
+            GeometryFormatter.withPrecision(1).writeXyz(out,
+                PointBuffer.wrapCopy(new double[]{1, 2, 3, 4.25, 5, 6}), ",");
+            assertEquals("1.0,2.0,3.0\n4.3,5.0,6.0\n", out.toString());
+
+            StringWriter lines = new StringWriter();
+            GeometryFormatter.TWO_DIGITS.writePoints(lines, List.of(new Point3D(0, 0, 0)));
+            assertEquals("Point3D(0.00, 0.00, 0.00)\n", lines.toString());
+        }
+    }
+}
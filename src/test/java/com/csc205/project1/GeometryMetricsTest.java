@@ -0,0 +1,307 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GeometryMetrics facade and the LatencyHistogram class.
+ *
+ * This test suite covers:
+ * - Histogram percentiles against exact order statistics
+ * - Counting of instrumented operations only while enabled
+ * - Latency and allocation recorded by each batch operation for one call
+ * - The JMX MXBean and the JFR event
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("GeometryMetrics Tests")
+public class GeometryMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        GeometryMetrics.disable();
+        GeometryMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        GeometryMetrics.disable();
+        GeometryMetrics.reset();
+        GeometryMetrics.unregisterMBean();
+    }
+
+    @Nested
+    @DisplayName("Histogram Tests")
+    class HistogramTests {
+
+        @Test
+        @DisplayName("Should report percentiles within the relative error")
+        void testPercentiles() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            Random random = new Random(1);
+            long[] values = new long[100_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (long) Math.exp(random.nextDouble() * 25);
+                histogram.record(values[i]);
+            }
+            Arrays.sort(values);
+
+            for (double p : new double[]{1, 25, 50, 90, 99, 99.9}) {
+                long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+                long reported = histogram.getValueAtPercentile(p);
+                assertTrue(reported >= exact && reported <= exact + exact / 32 + 1,
+                           "p" + p + ": exact " + exact + ", reported " + reported);
+            }
+            assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+            assertEquals(values[values.length - 1], histogram.getMax());
+            assertEquals(values.length, histogram.getCount());
+        }
+
+        @Test
+        @DisplayName("Should record small values exactly and handle extremes")
+        void testExactAndExtremes() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            assertEquals(0, histogram.getValueAtPercentile(50));
+            for (long v = 0; v < 64; v++) {
+                histogram.record(v);
+            }
+            assertEquals(31, histogram.getValueAtPercentile(50));
+            assertEquals(31.5, histogram.getMean(), 1e-9);
+
+            histogram.record(Long.MAX_VALUE);
+            histogram.record(-5);
+            assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+            histogram.reset();
+            assertEquals(0, histogram.getCount());
+            assertEquals(0, histogram.getMax());
+            assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should record nothing while disabled")
+        void testDisabled() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            cube.containsPoint(new Point3D(0, 0, 0));
+            new Point3D(1, 2, 3).distanceTo(new Point3D(0, 0, 0));
+
+            assertEquals(GeometryMetrics.start(), GeometryMetrics.start());
+            for (GeometryOperation operation : GeometryOperation.values()) {
+                assertEquals(0, GeometryMetrics.getCallCount(operation));
+            }
+        }
+
+        @Test
+        @DisplayName("Should count instrumented calls and estimate allocation")
+        void testEnabled() {
+            GeometryMetrics.enable();
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            for (int i = 0; i < 10; i++) {
+                cube.containsPoint(new Point3D(i, 0, 0));
+            }
+            cube.getVertices();
+            new Line3D(new Point3D(0, 0, 0), new Point3D(1, 0, 0)).distanceToPoint(new Point3D(0, 1, 0));
+
+            assertEquals(10, GeometryMetrics.getCallCount(GeometryOperation.CUBE_CONTAINS_POINT));
+            assertEquals(10 * GeometryOperation.CUBE_CONTAINS_POINT.getAllocationEstimate(),
+                         GeometryMetrics.getAllocatedBytes(GeometryOperation.CUBE_CONTAINS_POINT));
+            assertEquals(1, GeometryMetrics.getCallCount(GeometryOperation.CUBE_VERTICES));
+            assertEquals(1, GeometryMetrics.getCallCount(GeometryOperation.LINE_DISTANCE_TO_POINT));
+            // distanceToPoint measures its nested Point3D.distanceTo as well
+            assertTrue(GeometryMetrics.getCallCount(GeometryOperation.POINT_DISTANCE) >= 1);
+            assertEquals(10, GeometryMetrics.getLatencyHistogram(GeometryOperation.CUBE_CONTAINS_POINT).getCount());
+
+            String report = GeometryMetrics.report();
+            assertTrue(report.contains("Cube3D.containsPoint"));
+            assertFalse(report.contains("SpatialSort.sort"));
+        }
+
+        @Test
+        @DisplayName("Should record batch engines with input-sized allocation")
+        void testBatchEngines() {
+            GeometryMetrics.enable();
+            PointBuffer points = new PointBuffer();
+            for (int i = 0; i < 100; i++) {
+                points.add(i, i % 7, i % 3);
+            }
+            DistanceMatrix.compute(points, DistanceMetric.EUCLIDEAN);
+            SpatialSort.sort(points, SpaceFillingCurve.MORTON);
+
+            assertEquals(1, GeometryMetrics.getCallCount(GeometryOperation.DISTANCE_MATRIX));
+            assertEquals(DistanceMatrix.packedSize(100) * Double.BYTES,
+                         GeometryMetrics.getAllocatedBytes(GeometryOperation.DISTANCE_MATRIX));
+            assertEquals(1, GeometryMetrics.getCallCount(GeometryOperation.SPATIAL_SORT));
+        }
+
+        @Test
+        @DisplayName("Should look up operations by either name")
+        void testOperationNames() {
+            assertEquals(GeometryOperation.CUBE_INTERSECTS, GeometryOperation.fromName("Cube3D.intersects"));
+            assertEquals(GeometryOperation.CUBE_INTERSECTS, GeometryOperation.fromName("CUBE_INTERSECTS"));
+            assertThrows(IllegalArgumentException.class, () -> GeometryOperation.fromName("Cube3D.explode"));
+        }
+    }
+
+    /** Makes one instrumented call and returns the allocation estimate it should record. */
+    private interface InstrumentedCall {
+        long run();
+    }
+
+    static Stream<Arguments> instrumentedCalls() {
+        return Stream.of(
+            Arguments.of(GeometryOperation.FRUSTUM_CULL, (InstrumentedCall) () -> {
+                FrustumCuller culler = new FrustumCuller(List.of(new Cube3D(new Point3D(5, 0, 0), 1),
+                                                                 new Cube3D(new Point3D(-5, 0, 0), 1)));
+                int[] visible = culler.cull(Frustum.perspective(new Point3D(0, 0, 0), new Point3D(1, 0, 0),
+                                                                new Point3D(0, 0, 1), 1, 1, 1, 10));
+                assertArrayEquals(new int[]{0}, visible);
+                // The query's initial 16-slot result buffer
+                return 4 * 16;
+            }),
+            Arguments.of(GeometryOperation.SEGMENT_CLIP, (InstrumentedCall) () -> {
+                double[] segments = {-3, 0, 0, 3, 0, 0, 5, 5, 5, 6, 6, 6};
+                int kept = SegmentClipper.clipAll(segments, 2, new Cube3D(new Point3D(0, 0, 0), 2), segments, null);
+                assertEquals(1, kept);
+                // One double[2] parameter range per call
+                return 16 + 2 * Double.BYTES;
+            }),
+            Arguments.of(GeometryOperation.POLYLINE_SIMPLIFY, (InstrumentedCall) () -> {
+                Polyline3D polyline = Polyline3D.of(new Point3D(0, 0, 0), new Point3D(1, 0.01, 0), new Point3D(2, 0, 0),
+                                                    new Point3D(3, 5, 0), new Point3D(4, 0, 0));
+                Polyline3D simplified = polyline.simplify(0.1);
+                assertEquals(4, simplified.getVertexCount());
+                // The keep flags per input vertex, then 32 bytes per kept vertex
+                return 5 + 32 * 4;
+            }),
+            Arguments.of(GeometryOperation.MESH_CUBE_OVERLAP, (InstrumentedCall) () -> {
+                Mesh3D mesh = Mesh3D.fromCube(new Cube3D(new Point3D(0, 0, 0), 2));
+                int[] overlapping = mesh.overlappingTriangles(new Cube3D(new Point3D(0, 0, 0), 4));
+                assertEquals(12, overlapping.length);
+                // The candidate array, the trimmed result and their two array headers
+                return 4 * (12 + 12) + 32;
+            }),
+            Arguments.of(GeometryOperation.SPHERE_INTERSECT, (InstrumentedCall) () -> {
+                double[] spheres = {0, 0, 0, 1, 5, 5, 5, 1};
+                assertEquals(1, Sphere3D.intersectAll(spheres, 2, new Cube3D(new Point3D(0, 0, 0), 2), new int[2]));
+                return 0;
+            }),
+            Arguments.of(GeometryOperation.CAPSULE_INTERSECT, (InstrumentedCall) () -> {
+                double[] capsules = {0, 0, 0, 1, 0, 0, 0.5, 5, 5, 5, 6, 5, 5, 0.5};
+                assertEquals(1, Capsule3D.intersectAll(capsules, 2, new Cube3D(new Point3D(0, 0, 0), 2), new int[2]));
+                // One scratch array shared by every capsule
+                return 16 + Double.BYTES * Capsule3D.CUBE_SCRATCH;
+            }));
+    }
+
+    @Nested
+    @DisplayName("Instrumentation Tests")
+    class InstrumentationTests {
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.csc205.project1.GeometryMetricsTest#instrumentedCalls")
+        @DisplayName("Should record one call with its latency and allocation estimate")
+        void testInstrumentedCall(GeometryOperation operation, InstrumentedCall call) {
+            GeometryMetrics.enable();
+            long expectedBytes = call.run();
+
+            assertEquals(1, GeometryMetrics.getCallCount(operation));
+            assertEquals(expectedBytes, GeometryMetrics.getAllocatedBytes(operation));
+            LatencyHistogram latency = GeometryMetrics.getLatencyHistogram(operation);
+            assertEquals(1, latency.getCount());
+            assertTrue(latency.getMax() > 0);
+            assertTrue(GeometryMetrics.report().contains(operation.getDisplayName()));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.csc205.project1.GeometryMetricsTest#instrumentedCalls")
+        @DisplayName("Should record nothing for a call made while disabled")
+        void testInstrumentedCallDisabled(GeometryOperation operation, InstrumentedCall call) {
+            call.run();
+
+            assertEquals(0, GeometryMetrics.getCallCount(operation));
+            assertEquals(0, GeometryMetrics.getLatencyHistogram(operation).getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Tests")
+    class ExportTests {
+
+        @Test
+        @DisplayName("Should expose counters through the platform MBean server")
+        void testMXBean() throws Exception {
+            ObjectName name = GeometryMetrics.registerMBean();
+            assertEquals(name, GeometryMetrics.registerMBean());
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            server.setAttribute(name, new javax.management.Attribute("Enabled", true));
+            assertTrue(GeometryMetrics.isEnabled());
+            new Cube3D(new Point3D(0, 0, 0), 2.0).intersects(new Cube3D(new Point3D(1, 0, 0), 2.0));
+
+            String[] signature = {String.class.getName()};
+            assertEquals(1L, server.invoke(name, "getCallCount", new Object[]{"Cube3D.intersects"}, signature));
+            // intersects() also records its nested Point3D.distanceTo
+            assertTrue(Arrays.asList((String[]) server.getAttribute(name, "RecordedOperations")).contains("Cube3D.intersects"));
+            long p99 = (Long) server.invoke(name, "getLatencyPercentileNanos", new Object[]{"Cube3D.intersects", 99.0},
+                                            new String[]{String.class.getName(), double.class.getName()});
+            assertTrue(p99 > 0);
+
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertEquals(0, GeometryMetrics.getCallCount(GeometryOperation.CUBE_INTERSECTS));
+            GeometryMetrics.unregisterMBean();
+            assertFalse(server.isRegistered(name));
+        }
+
+        @Test
+        @DisplayName("Should emit JFR events while a recording is running")
+        void testFlightRecorderEvents() throws Exception {
+            Path file = Files.createTempFile("geometry-metrics", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable("com.csc205.project1.GeometryOperation");
+                recording.start();
+                GeometryMetrics.enable();
+                Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+                for (int i = 0; i < 5; i++) {
+                    cube.distanceToPoint(new Point3D(3, i, 0));
+                }
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+
+            long cubeEvents = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.csc205.project1.GeometryOperation"))
+                .filter(e -> e.getString("operation").equals("Cube3D.distanceToPoint"))
+                .count();
+            assertEquals(5, cubeEvents);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GeometryQueryService class and the primitive kernels it uses.
+ *
+ * This test suite covers:
+ * - Primitive kernels agreeing with the object-based methods
+ * - Correct answers for concurrent requests from virtual threads
+ * - Coalescing of requests into batches
+ * - Linger timeout for lone requests
+ * - Shutdown and validation behavior
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("GeometryQueryService Tests")
+public class GeometryQueryServiceTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Nested
+    @DisplayName("Kernel Tests")
+    class KernelTests {
+
+        @Test
+        @DisplayName("Should match Cube3D.containsPoint(Point3D) for rotated cubes")
+        void testContainsKernel() {
+            Cube3D cube = new Cube3D(new Point3D(1, -2, 3), 4.0, 0.3, -0.7, 1.1);
+            Random random = new Random(21);
+            for (int i = 0; i < 200; i++) {
+                Point3D p = new Point3D(1 + random.nextGaussian() * 3, -2 + random.nextGaussian() * 3,
+                                        3 + random.nextGaussian() * 3);
+                assertEquals(cube.containsPoint(p), cube.containsPoint(p.getX(), p.getY(), p.getZ()), p.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("Should match Line3D.distanceToPoint(Point3D)")
+        void testDistanceKernel() {
+            Line3D line = new Line3D(new Point3D(-1, 2, 0), new Point3D(3, 5, -2));
+            Random random = new Random(22);
+            for (int i = 0; i < 200; i++) {
+                Point3D p = new Point3D(random.nextGaussian() * 5, random.nextGaussian() * 5, random.nextGaussian() * 5);
+                assertEquals(line.distanceToPoint(p), line.distanceToPoint(p.getX(), p.getY(), p.getZ()), DELTA);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Service Tests")
+    class ServiceTests {
+
+        @Test
+        @DisplayName("Should answer concurrent requests correctly and in batches")
+        void testConcurrentRequests() throws Exception {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            Line3D line = new Line3D(new Point3D(0, 0, 0), new Point3D(10, 0, 0));
+            int clients = 2000;
+
+            try (GeometryQueryService service = new GeometryQueryService(64, Duration.ofMillis(2));
+                 ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Boolean>> answers = new ArrayList<>();
+                for (int i = 0; i < clients; i++) {
+                    double x = (i % 4) * 0.5;
+                    answers.add(clientThreads.submit(() ->
+                        service.containsPoint(cube, x, 0, 0).join()
+                            & service.distanceToPoint(line, x, 3, 4).join() == 5.0));
+                }
+                for (int i = 0; i < clients; i++) {
+                    assertEquals((i % 4) * 0.5 <= 1.0, answers.get(i).get(), "client " + i);
+                }
+
+                assertEquals(2L * clients, service.getRequestCount());
+                assertTrue(service.getBatchCount() < service.getRequestCount(),
+                    "Expected coalescing, got " + service.getBatchCount() + " batches");
+            }
+        }
+
+        @Test
+        @DisplayName("Should complete a lone request after the linger time")
+        void testLoneRequest() {
+            try (GeometryQueryService service = new GeometryQueryService(1000, Duration.ofMillis(5))) {
+                Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 1.0);
+                assertFalse(service.containsPoint(cube, new Point3D(5, 5, 5)).join());
+                assertEquals(1, service.getBatchCount());
+            }
+        }
+
+        @Test
+        @DisplayName("Should finish accepted requests on close and reject new ones")
+        void testClose() {
+            GeometryQueryService service = new GeometryQueryService(8, Duration.ofSeconds(10));
+            Line3D line = new Line3D(new Point3D(0, 0, 0), new Point3D(0, 0, 1));
+            CompletableFuture<Double> pending = service.distanceToPoint(line, new Point3D(3, 4, 0.5));
+
+            long start = System.nanoTime();
+            service.close();
+            service.close();
+            long closeNanos = System.nanoTime() - start;
+
+            assertEquals(5.0, pending.join(), DELTA);
+            // close() must cut the 10-second linger short rather than wait it out
+            assertTrue(closeNanos < Duration.ofSeconds(2).toNanos(), "close() took " + closeNanos + " ns");
+            assertThrows(RejectedExecutionException.class, () -> service.distanceToPoint(line, 0, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid configuration and null arguments")
+        void testValidation() {
+            assertThrows(IllegalArgumentException.class, () -> new GeometryQueryService(0, Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> new GeometryQueryService(1, Duration.ofMillis(-1)));
+            assertThrows(NullPointerException.class, () -> new GeometryQueryService(1, null));
+            try (GeometryQueryService service = new GeometryQueryService()) {
+                assertEquals(GeometryQueryService.DEFAULT_MAX_BATCH_SIZE, service.getMaxBatchSize());
+                assertThrows(NullPointerException.class, () -> service.containsPoint(null, 0, 0, 0));
+            }
+        }
+    }
+}
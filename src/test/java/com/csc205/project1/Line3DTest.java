@@ -1281,4 +1281,36 @@ public class Line3DTest {
             assertEquals(start, reversed.getEnd());
         }
     }
+    
+    @Nested
+    @DisplayName("Compensated Arithmetic Tests")
+    class CompensatedArithmeticTests {
+        
+        @Test
+        @DisplayName("Should measure nearly parallel segments accurately")
+        void testNearlyParallelSegments() {
+            Line3D line1 = new Line3D(new Point3D(0, 0, 0), new Point3D(1, 0, 0));
+            Line3D line2 = new Line3D(new Point3D(0, 0, 1), new Point3D(1, 1e-9, 1));
+            
+            assertEquals(1.0, line1.shortestDistanceTo(line2, ArithmeticMode.COMPENSATED), 1e-12);
+        }
+        
+        @Test
+        @DisplayName("Should agree with the fast path for skew segments far from the origin")
+        void testSkewSegmentsFarFromOrigin() {
+            double o = 1e6;
+            Line3D line1 = new Line3D(new Point3D(o, o, o), new Point3D(o + 1, o, o));
+            Line3D line2 = new Line3D(new Point3D(o, o + 1, o + 1), new Point3D(o, o + 1, o + 2));
+            
+            assertEquals(Math.sqrt(2), line1.shortestDistanceTo(line2, ArithmeticMode.COMPENSATED), 1e-12);
+            assertEquals(line1.shortestDistanceTo(line2), line1.shortestDistanceTo(line2, ArithmeticMode.FAST), 0.0);
+        }
+        
+        @Test
+        @DisplayName("Should throw exception for null mode")
+        void testNullMode() {
+            Line3D line = new Line3D(new Point3D(0, 0, 0), new Point3D(1, 0, 0));
+            assertThrows(NullPointerException.class, () -> line.shortestDistanceTo(line, null));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,223 @@
+package com.csc205.project1;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Mesh3D class.
+ *
+ * This test suite covers:
+ * - Construction, cube surfaces, area and bounds
+ * - Distance, ray and cube overlap queries against a scan of every triangle
+ * - Validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Mesh3D Tests")
+public class Mesh3DTest {
+
+    private static final double DELTA = 1e-9;
+
+    /** A soup of small random triangles spread over a 40-unit box. */
+    private static Mesh3D randomSoup(int triangles, long seed) {
+        Random random = new Random(seed);
+        PointBuffer vertices = new PointBuffer(3 * triangles);
+        int[] indices = new int[3 * triangles];
+        for (int t = 0; t < triangles; t++) {
+            double cx = random.nextDouble() * 40 - 20;
+            double cy = random.nextDouble() * 40 - 20;
+            double cz = random.nextDouble() * 40 - 20;
+            for (int k = 0; k < 3; k++) {
+                vertices.add(cx + random.nextGaussian(), cy + random.nextGaussian(), cz + random.nextGaussian());
+                indices[3 * t + k] = 3 * t + k;
+            }
+        }
+        return new Mesh3D(vertices, indices);
+    }
+
+    private static Triangle3D[] triangles(Mesh3D mesh) {
+        Triangle3D[] triangles = new Triangle3D[mesh.getTriangleCount()];
+        for (int t = 0; t < triangles.length; t++) {
+            triangles[t] = mesh.getTriangle(t);
+        }
+        return triangles;
+    }
+
+    private static Point3D randomPoint(Random random, double spread) {
+        return new Point3D(random.nextGaussian() * spread, random.nextGaussian() * spread, random.nextGaussian() * spread);
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should build the closed surface of a cube")
+        void testFromCube() {
+            Cube3D cube = new Cube3D(new Point3D(1, 2, 3), 2, 0.3, 0.2, 0.1);
+            Mesh3D mesh = Mesh3D.fromCube(cube);
+
+            assertEquals(8, mesh.getVertexCount());
+            assertEquals(12, mesh.getTriangleCount());
+            assertEquals(24.0, mesh.surfaceArea(), DELTA);
+            assertEquals(1.0, mesh.distanceTo(cube.getCenter()), DELTA);
+            for (int t = 0; t < mesh.getTriangleCount(); t++) {
+                // Outward winding: each face normal points away from the center
+                Triangle3D triangle = mesh.getTriangle(t);
+                assertTrue(triangle.getPlane().signedDistance(cube.getCenter()) < 0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should copy its buffers and report bounds")
+        void testBuffers() {
+            PointBuffer vertices = PointBuffer.of(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(0, 1, 2));
+            int[] indices = {0, 1, 2};
+            Mesh3D mesh = new Mesh3D(vertices, indices);
+            indices[0] = 2;
+            vertices.set(0, 9, 9, 9);
+
+            assertArrayEquals(new int[]{0, 1, 2}, mesh.getIndices());
+            assertEquals(new Point3D(0, 0, 0), mesh.getVertex(0));
+            Point3D[] bounds = mesh.getBounds();
+            assertEquals(new Point3D(0, 0, 0), bounds[0]);
+            assertEquals(new Point3D(1, 1, 2), bounds[1]);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid buffers")
+        void testValidation() {
+            PointBuffer vertices = PointBuffer.of(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(0, 1, 0));
+
+            assertThrows(NullPointerException.class, () -> new Mesh3D(null, new int[]{0, 1, 2}));
+            assertThrows(IllegalArgumentException.class, () -> new Mesh3D(vertices, new int[0]));
+            assertThrows(IllegalArgumentException.class, () -> new Mesh3D(vertices, new int[]{0, 1}));
+            assertThrows(IllegalArgumentException.class, () -> new Mesh3D(vertices, new int[]{0, 1, 3}));
+            assertThrows(NullPointerException.class, () -> Mesh3D.fromCube(null));
+            assertThrows(IllegalArgumentException.class,
+                         () -> new Mesh3D(vertices, new int[]{0, 1, 2}).raycast(new Point3D(0, 0, 0), new Point3D(0, 0, 0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should find the same nearest distance as a scan of every triangle")
+        void testDistanceAgainstScan() {
+            Mesh3D mesh = randomSoup(1000, 1);
+            Triangle3D[] triangles = triangles(mesh);
+            Random random = new Random(2);
+
+            for (int trial = 0; trial < 200; trial++) {
+                Point3D p = randomPoint(random, 15);
+                double expected = Double.POSITIVE_INFINITY;
+                for (Triangle3D triangle : triangles) {
+                    expected = Math.min(expected, triangle.distanceTo(p));
+                }
+                assertEquals(expected, mesh.distanceTo(p), DELTA);
+                assertEquals(expected, mesh.closestPoint(p).distanceTo(p), DELTA);
+                assertEquals(expected, triangles[mesh.closestTriangle(p)].distanceTo(p), DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("Should find the same nearest ray hit as a scan of every triangle")
+        void testRaycastAgainstScan() {
+            Mesh3D mesh = randomSoup(1000, 3);
+            Triangle3D[] triangles = triangles(mesh);
+            Random random = new Random(4);
+            int hits = 0;
+
+            for (int trial = 0; trial < 200; trial++) {
+                Point3D origin = randomPoint(random, 30);
+                Point3D direction = randomPoint(random, 1);
+                // Aim roughly through the soup so that most rays hit something
+                if (trial % 2 == 0) {
+                    direction = new Point3D(-origin.getX() + direction.getX() * 5, -origin.getY() + direction.getY() * 5,
+                                            -origin.getZ() + direction.getZ() * 5);
+                }
+                double expected = Double.POSITIVE_INFINITY;
+                for (Triangle3D triangle : triangles) {
+                    double hit = triangle.intersectRay(origin, direction);
+                    if (hit < expected) {
+                        expected = hit;
+                    }
+                }
+                Mesh3D.RayHit hit = mesh.raycast(origin, direction);
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertNull(hit);
+                } else {
+                    hits++;
+                    assertEquals(expected, hit.t(), DELTA);
+                    assertEquals(expected, triangles[hit.triangle()].intersectRay(origin, direction), DELTA);
+                }
+            }
+            assertTrue(hits > 20);
+        }
+
+        @Test
+        @DisplayName("Should hit the near face of a cube surface")
+        void testRaycastCube() {
+            Mesh3D mesh = Mesh3D.fromCube(new Cube3D(new Point3D(0, 0, 0), 2));
+
+            Mesh3D.RayHit hit = mesh.raycast(new Point3D(-5, 0.2, 0.3), new Point3D(2, 0, 0));
+            assertEquals(2.0, hit.t(), DELTA);
+            assertEquals(new Point3D(-1, 0.2, 0.3), hit.point());
+            assertNull(mesh.raycast(new Point3D(-5, 3, 0), new Point3D(1, 0, 0)));
+        }
+
+        @Test
+        @DisplayName("Should find the same overlapping triangles as a scan of every triangle")
+        void testOverlapAgainstScan() {
+            Mesh3D mesh = randomSoup(1000, 5);
+            Triangle3D[] triangles = triangles(mesh);
+            Random random = new Random(6);
+
+            for (int trial = 0; trial < 50; trial++) {
+                Cube3D cube = new Cube3D(randomPoint(random, 10), 1 + random.nextDouble() * 8,
+                                         random.nextDouble() * 3, random.nextDouble() * 3, random.nextDouble() * 3);
+                int[] expected = java.util.stream.IntStream.range(0, triangles.length)
+                        .filter(t -> triangles[t].intersects(cube)).toArray();
+
+                assertArrayEquals(expected, mesh.overlappingTriangles(cube));
+                assertEquals(expected.length > 0, mesh.intersects(cube));
+            }
+        }
+
+        @Test
+        @DisplayName("Should not overlap a cube strictly inside a closed surface")
+        void testOverlapCubeSurface() {
+            Mesh3D mesh = Mesh3D.fromCube(new Cube3D(new Point3D(0, 0, 0), 4));
+
+            assertFalse(mesh.intersects(new Cube3D(new Point3D(0, 0, 0), 1)));
+            assertTrue(mesh.intersects(new Cube3D(new Point3D(2, 0, 0), 1)));
+            assertEquals(2, mesh.overlappingTriangles(new Cube3D(new Point3D(2, 0, 0), 1)).length);
+        }
+
+        @Test
+        @DisplayName("Should measure to degenerate triangles instead of skipping them")
+        void testDegenerateTriangles() {
+            PointBuffer vertices = PointBuffer.of(new Point3D(2, 2, 2), new Point3D(2, 2, 2), new Point3D(0, 0, 0),
+                                                  new Point3D(10, 0, 0), new Point3D(11, 0, 0), new Point3D(12, 0, 0));
+            Mesh3D segment = new Mesh3D(vertices, new int[]{0, 1, 2});
+            Mesh3D both = new Mesh3D(vertices, new int[]{0, 1, 2, 3, 4, 5});
+
+            assertEquals(Math.sqrt(3), segment.distanceTo(new Point3D(3, 3, 3)), DELTA);
+            assertEquals(0, segment.closestTriangle(new Point3D(3, 3, 3)));
+            assertEquals(new Point3D(2, 2, 2), segment.closestPoint(new Point3D(3, 3, 3)));
+            assertEquals(1, both.closestTriangle(new Point3D(11, 1, 0)));
+            assertEquals(1.0, both.distanceTo(new Point3D(11, 1, 0)), DELTA);
+            assertNull(segment.raycast(new Point3D(1, 1, -5), new Point3D(0, 0, 1)));
+            assertTrue(segment.intersects(new Cube3D(new Point3D(1, 1, 1), 0.5)));
+            assertArrayEquals(new int[]{1}, both.overlappingTriangles(new Cube3D(new Point3D(11, 0, 0), 0.5)));
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the OccupancyGrid class.
+ *
+ * This test suite covers:
+ * - Rasterization of rotated cubes against per-voxel containsPoint
+ * - Dense, sparse and compressed layouts agreeing voxel for voxel
+ * - World-coordinate lookups and single-voxel updates
+ * - Edge cases and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("OccupancyGrid Tests")
+public class OccupancyGridTest {
+
+    private static final Point3D ORIGIN = new Point3D(-5, -5, -5);
+
+    private static List<Cube3D> randomScene(int count, long seed) {
+        Random random = new Random(seed);
+        List<Cube3D> cubes = new ArrayList<>();
+        for (int c = 0; c < count; c++) {
+            Point3D center = new Point3D(random.nextDouble() * 8 - 4, random.nextDouble() * 8 - 4,
+                                         random.nextDouble() * 8 - 4);
+            cubes.add(new Cube3D(center, 0.5 + random.nextDouble() * 2.5, random.nextDouble() * Math.PI,
+                                 random.nextDouble() * Math.PI, random.nextDouble() * Math.PI));
+        }
+        return cubes;
+    }
+
+    /**
+     * Asserts that every voxel is occupied exactly when some cube contains its center.
+     * Centers are computed here rather than through voxelCenter(), which creates (and
+     * logs) a Point3D per voxel.
+     */
+    private static void assertMatchesBruteForce(OccupancyGrid grid, List<Cube3D> cubes) {
+        Point3D origin = grid.getOrigin();
+        double size = grid.getVoxelSize();
+        long expected = 0;
+        for (int k = 0; k < grid.getSizeZ(); k++) {
+            double z = origin.getZ() + (k + 0.5) * size;
+            for (int j = 0; j < grid.getSizeY(); j++) {
+                double y = origin.getY() + (j + 0.5) * size;
+                for (int i = 0; i < grid.getSizeX(); i++) {
+                    double x = origin.getX() + (i + 0.5) * size;
+                    boolean inside = false;
+                    for (Cube3D cube : cubes) {
+                        inside |= cube.containsPoint(x, y, z);
+                    }
+                    if (inside) {
+                        expected++;
+                    }
+                    if (inside != grid.isOccupied(i, j, k)) {
+                        fail("voxel " + i + "," + j + "," + k + " should be " + (inside ? "occupied" : "empty"));
+                    }
+                }
+            }
+        }
+        assertEquals(expected, grid.countOccupied());
+    }
+
+    @Nested
+    @DisplayName("Rasterization Tests")
+    class RasterizationTests {
+
+        @Test
+        @DisplayName("Should match containsPoint for rotated cubes in a dense grid")
+        void testDenseMatchesBruteForce() {
+            List<Cube3D> cubes = randomScene(12, 1);
+            OccupancyGrid grid = OccupancyGrid.dense(ORIGIN, 0.3125, 32, 32, 32);
+            grid.rasterize(cubes);
+
+            assertTrue(grid.countOccupied() > 0);
+            assertMatchesBruteForce(grid, cubes);
+        }
+
+        @Test
+        @DisplayName("Should match containsPoint in a sparse grid")
+        void testSparseMatchesBruteForce() {
+            List<Cube3D> cubes = randomScene(8, 2);
+            OccupancyGrid grid = OccupancyGrid.sparse(ORIGIN, 0.25, 40, 37, 39);
+            grid.rasterize(cubes);
+
+            assertTrue(grid.isSparse());
+            assertMatchesBruteForce(grid, cubes);
+        }
+
+        @Test
+        @DisplayName("Should fill an axis-aligned cube exactly")
+        void testAxisAlignedCube() {
+            OccupancyGrid grid = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 10, 10, 10);
+            grid.rasterize(List.of(new Cube3D(new Point3D(5, 5, 5), 4)));
+
+            // Centers 3.5 .. 6.5 lie inside [3, 7] on every axis
+            assertEquals(64, grid.countOccupied());
+            assertTrue(grid.isOccupied(3, 3, 3));
+            assertTrue(grid.isOccupied(6, 6, 6));
+            assertFalse(grid.isOccupied(2, 3, 3));
+            assertFalse(grid.isOccupied(7, 6, 6));
+        }
+
+        @Test
+        @DisplayName("Should handle rows longer than one word")
+        void testLongRows() {
+            OccupancyGrid grid = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 300, 3, 3);
+            grid.rasterize(List.of(new Cube3D(new Point3D(150, 1.5, 1.5), 200)));
+
+            for (int i = 0; i < 300; i++) {
+                assertEquals(i >= 50 && i < 250, grid.isOccupied(i, 1, 1), "voxel " + i);
+            }
+            assertEquals(200L * 9, grid.countOccupied());
+        }
+
+        @Test
+        @DisplayName("Should clip cubes that extend beyond the grid")
+        void testClipping() {
+            List<Cube3D> cubes = List.of(new Cube3D(new Point3D(0, 0, 0), 30, 0.3, 0.2, 0.1));
+            OccupancyGrid grid = OccupancyGrid.dense(new Point3D(-2, -2, -2), 0.5, 8, 8, 8);
+            grid.rasterize(cubes);
+
+            assertEquals(512, grid.countOccupied());
+        }
+
+        @Test
+        @DisplayName("Should build a grid covering the scene with voxelize")
+        void testVoxelize() {
+            List<Cube3D> cubes = randomScene(5, 3);
+            OccupancyGrid grid = OccupancyGrid.voxelize(cubes, 0.4);
+
+            assertFalse(grid.isSparse());
+            assertMatchesBruteForce(grid, cubes);
+            for (Cube3D cube : cubes) {
+                Point3D c = cube.getCenter();
+                assertTrue(grid.isOccupied(c.getX(), c.getY(), c.getZ()));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Storage Tests")
+    class StorageTests {
+
+        @Test
+        @DisplayName("Should answer identically after compression")
+        void testCompressedMatches() {
+            List<Cube3D> cubes = randomScene(3, 4);
+            OccupancyGrid grid = OccupancyGrid.dense(ORIGIN, 0.15625, 64, 64, 64);
+            grid.rasterize(cubes);
+            OccupancyGrid compressed = grid.compress();
+
+            assertTrue(compressed.isCompressed());
+            assertEquals(grid.countOccupied(), compressed.countOccupied());
+            assertMatchesBruteForce(compressed, cubes);
+            assertTrue(compressed.getStorageBytes() < grid.getStorageBytes());
+        }
+
+        @Test
+        @DisplayName("Should compress runs that cross word boundaries")
+        void testCompressedWordBoundaries() {
+            OccupancyGrid grid = OccupancyGrid.sparse(new Point3D(0, 0, 0), 1.0, 200, 2, 2);
+            int[] set = {0, 63, 64, 65, 127, 128, 199};
+            for (int i : set) {
+                grid.set(i, 1, 0, true);
+            }
+            for (int i = 100; i < 140; i++) {
+                grid.set(i, 0, 1, true);
+            }
+            OccupancyGrid compressed = grid.compress();
+
+            for (int k = 0; k < 2; k++) {
+                for (int j = 0; j < 2; j++) {
+                    for (int i = 0; i < 200; i++) {
+                        assertEquals(grid.isOccupied(i, j, k), compressed.isOccupied(i, j, k));
+                    }
+                }
+            }
+            assertEquals(47, compressed.countOccupied());
+        }
+
+        @Test
+        @DisplayName("Should only allocate chunks that are written in a sparse grid")
+        void testSparseAllocation() {
+            OccupancyGrid grid = OccupancyGrid.sparse(new Point3D(0, 0, 0), 1.0, 1 << 20, 1 << 20, 1 << 20);
+            assertEquals(0, grid.getStorageBytes());
+
+            grid.set(1_000_000, 500_000, 3, true);
+            assertTrue(grid.isOccupied(1_000_000, 500_000, 3));
+            assertFalse(grid.isOccupied(999_999, 500_000, 3));
+            assertTrue(grid.getStorageBytes() > 0 && grid.getStorageBytes() < 4096);
+            assertEquals(1, grid.countOccupied());
+
+            // Counting and compressing only touch the allocated chunk
+            OccupancyGrid compressed = grid.compress();
+            assertEquals(1, compressed.countOccupied());
+            assertTrue(compressed.isOccupied(1_000_000, 500_000, 3));
+            assertFalse(compressed.isOccupied(1_000_001, 500_000, 3));
+            assertFalse(compressed.isOccupied(1_000_000, 500_001, 3));
+            assertTrue(compressed.getStorageBytes() < 64);
+            assertEquals(1, compressed.compress().countOccupied());
+        }
+
+        @Test
+        @DisplayName("Should compress sparse grids spanning many chunks in row order")
+        void testCompressedSparseChunks() {
+            OccupancyGrid sparse = OccupancyGrid.sparse(new Point3D(0, 0, 0), 1.0, 300, 70, 50);
+            OccupancyGrid dense = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 300, 70, 50);
+            Random random = new Random(9);
+            for (int n = 0; n < 400; n++) {
+                int i = random.nextInt(290);
+                int j = random.nextInt(70);
+                int k = random.nextInt(50);
+                int length = 1 + random.nextInt(10);
+                for (int x = i; x < i + length; x++) {
+                    sparse.set(x, j, k, true);
+                    dense.set(x, j, k, true);
+                }
+            }
+            OccupancyGrid fromSparse = sparse.compress();
+            OccupancyGrid fromDense = dense.compress();
+
+            assertEquals(dense.countOccupied(), sparse.countOccupied());
+            assertEquals(dense.countOccupied(), fromSparse.countOccupied());
+            assertEquals(fromDense.getStorageBytes(), fromSparse.getStorageBytes());
+            for (int k = 0; k < 50; k++) {
+                for (int j = 0; j < 70; j++) {
+                    for (int i = 0; i < 300; i++) {
+                        assertEquals(dense.isOccupied(i, j, k), fromSparse.isOccupied(i, j, k));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should set and clear single voxels")
+        void testSetAndClear() {
+            OccupancyGrid grid = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 4, 4, 4);
+            grid.set(1, 2, 3, true);
+            assertTrue(grid.isOccupied(1, 2, 3));
+            assertTrue(grid.isOccupied(1.5, 2.2, 3.9));
+            grid.set(1, 2, 3, false);
+            assertFalse(grid.isOccupied(1, 2, 3));
+            assertEquals(0, grid.countOccupied());
+        }
+    }
+
+    @Nested
+    @DisplayName("Edge Case Tests")
+    class EdgeCaseTests {
+
+        @Test
+        @DisplayName("Should report positions outside the grid as free")
+        void testOutsideWorldLookup() {
+            OccupancyGrid grid = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 2, 2, 2);
+            grid.set(0, 0, 0, true);
+
+            assertTrue(grid.isOccupied(0.5, 0.5, 0.5));
+            assertFalse(grid.isOccupied(-0.5, 0.5, 0.5));
+            assertFalse(grid.isOccupied(2.0, 0.5, 0.5));
+            assertFalse(grid.isOccupied(Double.NaN, 0.5, 0.5));
+        }
+
+        @Test
+        @DisplayName("Should reject out-of-range voxel indices")
+        void testIndexChecks() {
+            OccupancyGrid grid = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 2, 2, 2);
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.isOccupied(2, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.set(0, -1, 0, true));
+        }
+
+        @Test
+        @DisplayName("Should reject writes to compressed grids")
+        void testCompressedReadOnly() {
+            OccupancyGrid compressed = OccupancyGrid.dense(new Point3D(0, 0, 0), 1.0, 2, 2, 2).compress();
+            assertThrows(UnsupportedOperationException.class, () -> compressed.set(0, 0, 0, true));
+            assertThrows(UnsupportedOperationException.class,
+                         () -> compressed.rasterize(List.of(new Cube3D(new Point3D(1, 1, 1), 1))));
+        }
+
+        @Test
+        @DisplayName("Should validate construction arguments")
+        void testValidation() {
+            assertThrows(NullPointerException.class, () -> OccupancyGrid.dense(null, 1.0, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> OccupancyGrid.dense(ORIGIN, 0, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> OccupancyGrid.dense(ORIGIN, 1.0, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class,
+                         () -> OccupancyGrid.dense(ORIGIN, 1.0, 1 << 20, 1 << 20, 1 << 20));
+            assertThrows(IllegalArgumentException.class,
+                         () -> OccupancyGrid.sparse(ORIGIN, 1.0, 1, 1 << 26, 1));
+            assertThrows(NullPointerException.class, () -> OccupancyGrid.voxelize(null, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> OccupancyGrid.voxelize(List.of(), 1.0));
+        }
+    }
+}
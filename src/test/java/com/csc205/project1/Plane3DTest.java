@@ -0,0 +1,151 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Plane3D class.
+ *
+ * This test suite covers:
+ * - Construction from a point and normal, three points and coefficients
+ * - Signed distance, projection and half-space membership
+ * - Segment intersection and half-space clipping
+ * - Parameter validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Plane3D Tests")
+public class Plane3DTest {
+
+    private static final double DELTA = 1e-9;
+
+    /** The plane z = 2 with its positive side above. */
+    private static Plane3D levelTwo() {
+        return new Plane3D(new Point3D(5, -3, 2), new Point3D(0, 0, 4));
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should normalize the normal and derive the offset")
+        void testPointAndNormal() {
+            Plane3D plane = levelTwo();
+
+            assertEquals(new Point3D(0, 0, 1), plane.getNormal());
+            assertEquals(-2.0, plane.getOffset(), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should orient a plane through three points counter-clockwise")
+        void testFromPoints() {
+            Plane3D plane = Plane3D.fromPoints(new Point3D(0, 0, 1), new Point3D(1, 0, 1), new Point3D(0, 1, 1));
+
+            assertEquals(new Point3D(0, 0, 1), plane.getNormal());
+            assertEquals(1.0, plane.signedDistance(7, 7, 2), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should scale coefficients to a unit normal")
+        void testFromCoefficients() {
+            Plane3D plane = Plane3D.fromCoefficients(0, 3, 4, -10);
+
+            assertEquals(new Point3D(0, 0.6, 0.8), plane.getNormal());
+            assertEquals(-2.0, plane.getOffset(), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should reject null, zero and collinear input")
+        void testValidation() {
+            Point3D o = new Point3D(0, 0, 0);
+
+            assertThrows(NullPointerException.class, () -> new Plane3D(null, o));
+            assertThrows(IllegalArgumentException.class, () -> new Plane3D(o, o));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Plane3D.fromPoints(o, new Point3D(1, 1, 1), new Point3D(2, 2, 2)));
+            assertThrows(IllegalArgumentException.class, () -> Plane3D.fromCoefficients(0, 0, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> Plane3D.fromCoefficients(1, 0, 0, Double.NaN));
+        }
+    }
+
+    @Nested
+    @DisplayName("Point Query Tests")
+    class PointQueryTests {
+
+        @Test
+        @DisplayName("Should compute signed distances and half-space membership")
+        void testSignedDistance() {
+            Plane3D plane = levelTwo();
+
+            assertEquals(3.0, plane.signedDistance(new Point3D(1, 1, 5)), DELTA);
+            assertEquals(-1.0, plane.signedDistance(1, 1, 1), DELTA);
+            assertTrue(plane.isInHalfSpace(new Point3D(0, 0, 2)));
+            assertFalse(plane.isInHalfSpace(new Point3D(0, 0, 1.9)));
+            assertTrue(plane.containsPoint(new Point3D(9, 9, 2)));
+        }
+
+        @Test
+        @DisplayName("Should project points onto the plane")
+        void testProject() {
+            assertEquals(new Point3D(1, 2, 2), levelTwo().project(new Point3D(1, 2, -7)));
+        }
+
+        @Test
+        @DisplayName("Should flip orientation and keep the plane")
+        void testFlip() {
+            Plane3D flipped = levelTwo().flip();
+
+            assertEquals(new Point3D(0, 0, -1), flipped.getNormal());
+            assertEquals(1.0, flipped.signedDistance(0, 0, 1), DELTA);
+            assertTrue(flipped.containsPoint(new Point3D(4, 4, 2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Segment Tests")
+    class SegmentTests {
+
+        @Test
+        @DisplayName("Should intersect crossing segments and ignore others")
+        void testIntersect() {
+            Plane3D plane = levelTwo();
+            Line3D crossing = new Line3D(new Point3D(0, 0, 0), new Point3D(4, 0, 8));
+
+            assertEquals(0.25, plane.intersectionParameter(crossing), DELTA);
+            assertEquals(new Point3D(1, 0, 2), plane.intersect(crossing));
+            assertNull(plane.intersect(new Line3D(new Point3D(0, 0, 0), new Point3D(0, 0, 1))));
+            assertNull(plane.intersect(new Line3D(new Point3D(0, 0, 2), new Point3D(5, 0, 2))));
+        }
+
+        @Test
+        @DisplayName("Should clip segments to the positive half-space")
+        void testClip() {
+            Plane3D plane = levelTwo();
+            Line3D up = new Line3D(new Point3D(0, 0, 0), new Point3D(0, 0, 4));
+            Line3D above = new Line3D(new Point3D(0, 0, 3), new Point3D(1, 1, 9));
+
+            assertEquals(new Line3D(new Point3D(0, 0, 2), new Point3D(0, 0, 4)), plane.clip(up));
+            assertEquals(new Line3D(new Point3D(0, 0, 4), new Point3D(0, 0, 2)), plane.clip(up.reverse()));
+            assertSame(above, plane.clip(above));
+            assertNull(plane.flip().clip(above));
+            assertNull(plane.clip(new Line3D(new Point3D(0, 0, 0), new Point3D(0, 0, 2))));
+        }
+
+        @Test
+        @DisplayName("Should expose frustum faces as half-spaces")
+        void testFrustumPlane() {
+            Frustum frustum = Frustum.perspective(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(0, 0, 1),
+                                                  Math.PI / 2, 1, 1, 100);
+
+            for (int i = 0; i < Frustum.PLANE_COUNT; i++) {
+                assertEquals(frustum.distanceToPlane(i, 3, 1, -2), frustum.getPlane(i).signedDistance(3, 1, -2), DELTA);
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> frustum.getPlane(6));
+        }
+    }
+}
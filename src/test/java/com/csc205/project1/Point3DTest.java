@@ -2,6 +2,8 @@
 
 package com.csc205.project1;
 
+import java.lang.reflect.Modifier;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -990,5 +992,55 @@ public class Point3DTest {
             
             assertNotEquals(original, normalized);
         }
+
+        @Test
+        @DisplayName("Should be a final record whose components match the getters")
+        void testRecordComponents() {
+            Point3D point = new Point3D(1.5, -2.5, 3.5);
+
+            assertTrue(Point3D.class.isRecord());
+            assertTrue(Modifier.isFinal(Point3D.class.getModifiers()));
+            assertEquals(point.getX(), point.x());
+            assertEquals(point.getY(), point.y());
+            assertEquals(point.getZ(), point.z());
+        }
+
+        @Test
+        @DisplayName("Should keep tolerance-based equality as a record")
+        void testRecordEqualityTolerance() {
+            Point3D a = new Point3D(1, 2, 3);
+            Point3D b = new Point3D(1 + 1e-12, 2, 3);
+
+            assertEquals(a, b);
+            assertEquals("Point3D(1.00, 2.00, 3.00)", a.toString());
+        }
+    }
+    
+    @Nested
+    @DisplayName("Compensated Arithmetic Tests")
+    class CompensatedArithmeticTests {
+        
+        @Test
+        @DisplayName("Should recover a cross product lost to cancellation")
+        void testCompensatedCrossProduct() {
+            double h = Math.scalb(1.0, -27);
+            Point3D v1 = new Point3D(1 + h, 1, 0);
+            Point3D v2 = new Point3D(1, 1 - h, 0);
+            
+            // Exact z component is (1 + h)(1 - h) - 1 = -2^-54
+            assertEquals(0.0, v1.crossProduct(v2).getZ(), 0.0);
+            assertEquals(-Math.scalb(1.0, -54), v1.crossProduct(v2, ArithmeticMode.COMPENSATED).getZ(), 0.0);
+        }
+        
+        @Test
+        @DisplayName("Should match the fast cross product for ordinary vectors")
+        void testModesAgree() {
+            Point3D v1 = new Point3D(1.5, -2, 3.25);
+            Point3D v2 = new Point3D(-4, 0.5, 2);
+            
+            assertEquals(v1.crossProduct(v2), v1.crossProduct(v2, ArithmeticMode.COMPENSATED));
+            assertEquals(v1.crossProduct(v2), v1.crossProduct(v2, ArithmeticMode.FAST));
+            assertThrows(NullPointerException.class, () -> v1.crossProduct(v2, null));
+        }
     }
 }
\ No newline at end of file
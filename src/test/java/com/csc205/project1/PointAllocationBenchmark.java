@@ -0,0 +1,70 @@
+package com.csc205.project1;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Allocation benchmark showing that the temporary points of a Line3D.getPointAtParameter
+ * → translate → scale chain are scalar-replaced once the code is compiled.
+ *
+ * Each iteration builds three intermediate Point3D objects inside getPointAtParameter
+ * (the direction, the scaled direction and the result) and two more for translate and
+ * scale, then reduces the final point to a double. None of them escapes, so after
+ * warm-up C2 escape analysis should remove the allocations and the measured bytes per
+ * call should drop from about 220 to close to 0. This is a standalone program, not a
+ * unit test; run it with
+ *
+ * <pre>
+ * mvn -q test-compile
+ * java -cp target/classes:target/test-classes com.csc205.project1.PointAllocationBenchmark
+ * </pre>
+ *
+ * Adding -XX:-DoEscapeAnalysis shows the cost without scalar replacement. On a debug
+ * JVM, -XX:+UnlockDiagnosticVMOptions -XX:+PrintEliminateAllocations lists every
+ * allocation C2 removed. Numbers from a single short run are indicative only.
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+public class PointAllocationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000_000;
+    private static final int MEASURED_ITERATIONS = 10_000_000;
+
+    /** Keeps results observable so the JIT cannot discard the chain. */
+    private static volatile double blackhole;
+
+    public static void main(String[] args) {
+        // Guarded logging only stays allocation-free while INFO is off
+        Logger.getLogger("").setLevel(Level.WARNING);
+        Logger.getLogger("com.csc205.project1").setLevel(Level.WARNING);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Line3D line = new Line3D(new Point3D(1, 2, 3), new Point3D(4, -2, 7));
+
+        blackhole = chain(line, WARMUP_ITERATIONS);
+
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long timeBefore = System.nanoTime();
+        blackhole = chain(line, MEASURED_ITERATIONS);
+        long elapsed = System.nanoTime() - timeBefore;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("%-36s %12s %14s%n", "chain", "ns/call", "bytes/call");
+        System.out.printf("%-36s %12.1f %14.2f%n", "getPointAtParameter.translate.scale",
+                          (double) elapsed / MEASURED_ITERATIONS, (double) bytes / MEASURED_ITERATIONS);
+    }
+
+    private static double chain(Line3D line, int iterations) {
+        double sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            double t = ((i & 1023) + 1) / 1024.0;
+            Point3D p = line.getPointAtParameter(t).translate(0.5, -0.5, 1).scale(2, 2, 2);
+            sum += p.getX() + p.getY() + p.getZ();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,158 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PointBuffer class.
+ *
+ * This test suite covers:
+ * - Appending points and reading coordinates back
+ * - Growth, clearing and truncation
+ * - Conversion to and from Point3D
+ * - Index and argument validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("PointBuffer Tests")
+public class PointBufferTest {
+
+    @Nested
+    @DisplayName("Append Tests")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Should store appended coordinates interleaved")
+        void testAdd() {
+            PointBuffer buffer = new PointBuffer(1);
+            buffer.add(1, 2, 3);
+            buffer.add(new Point3D(4, 5, 6));
+
+            assertEquals(2, buffer.size());
+            assertEquals(4, buffer.getX(1));
+            assertEquals(5, buffer.getY(1));
+            assertEquals(6, buffer.getZ(1));
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, buffer.toArray());
+        }
+
+        @Test
+        @DisplayName("Should grow past its initial capacity")
+        void testGrowth() {
+            PointBuffer buffer = new PointBuffer(0);
+            for (int i = 0; i < 1000; i++) {
+                buffer.add(i, -i, i * 2);
+            }
+
+            assertEquals(1000, buffer.size());
+            assertEquals(999, buffer.getX(999));
+            assertEquals(-999, buffer.getY(999));
+        }
+
+        @Test
+        @DisplayName("Should append packed coordinates and other buffers")
+        void testAddAll() {
+            PointBuffer buffer = new PointBuffer();
+            buffer.addAll(new double[]{9, 9, 9, 1, 2, 3, 4, 5, 6}, 3, 2);
+            buffer.addAll(PointBuffer.wrapCopy(new double[]{7, 8, 9}));
+
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, buffer.toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Mutation Tests")
+    class MutationTests {
+
+        @Test
+        @DisplayName("Should clear but keep capacity")
+        void testClear() {
+            PointBuffer buffer = new PointBuffer(4);
+            buffer.add(1, 1, 1);
+            double[] storage = buffer.getCoordinates();
+            buffer.clear();
+
+            assertTrue(buffer.isEmpty());
+            assertSame(storage, buffer.getCoordinates());
+        }
+
+        @Test
+        @DisplayName("Should truncate and overwrite points")
+        void testTruncateAndSet() {
+            PointBuffer buffer = PointBuffer.of(new Point3D(1, 1, 1), new Point3D(2, 2, 2), new Point3D(3, 3, 3));
+            buffer.truncate(2);
+            buffer.set(0, 5, 6, 7);
+
+            assertEquals(2, buffer.size());
+            assertEquals(new Point3D(5, 6, 7), buffer.get(0));
+            assertThrows(IllegalArgumentException.class, () -> buffer.truncate(3));
+        }
+
+        @Test
+        @DisplayName("Should translate in place like Point3D.translate")
+        void testTranslate() {
+            PointBuffer buffer = PointBuffer.of(new Point3D(1, 2, 3), new Point3D(-4, 0, 0.5));
+            buffer.translate(1, -2, 0.25);
+
+            assertEquals(new Point3D(1, 2, 3).translate(1, -2, 0.25), buffer.get(0));
+            assertEquals(new Point3D(-4, 0, 0.5).translate(1, -2, 0.25), buffer.get(1));
+        }
+
+        @Test
+        @DisplayName("Should keep only points inside a cube, in order")
+        void testRetainInside() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            PointBuffer buffer = PointBuffer.wrapCopy(new double[]{0, 0, 0, 5, 0, 0, 1, 1, 1, 0, -3, 0, 0.5, 0, 0});
+
+            assertEquals(2, buffer.retainInside(cube));
+            assertArrayEquals(new double[]{0, 0, 0, 1, 1, 1, 0.5, 0, 0}, buffer.toArray());
+            assertThrows(NullPointerException.class, () -> buffer.retainInside(null));
+        }
+
+        @Test
+        @DisplayName("Should permute points in place")
+        void testReorder() {
+            PointBuffer buffer = PointBuffer.wrapCopy(new double[]{0, 0, 0, 1, 1, 1, 2, 2, 2, 3, 3, 3, 4, 4, 4});
+            buffer.reorder(new int[]{3, 0, 4, 2, 1});
+
+            assertArrayEquals(new double[]{3, 3, 3, 0, 0, 0, 4, 4, 4, 2, 2, 2, 1, 1, 1}, buffer.toArray());
+            assertThrows(IllegalArgumentException.class, () -> buffer.reorder(new int[]{0, 1, 2, 3}));
+            assertThrows(IllegalArgumentException.class, () -> buffer.reorder(new int[]{0, 1, 1, 3, 4}));
+            assertThrows(IllegalArgumentException.class, () -> buffer.reorder(new int[]{0, 1, 2, 3, 5}));
+            assertThrows(NullPointerException.class, () -> buffer.reorder(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should round-trip through Point3D arrays")
+        void testToPoints() {
+            Point3D[] points = {new Point3D(1, 2, 3), new Point3D(-1, -2, -3)};
+            assertArrayEquals(points, PointBuffer.of(points).toPoints());
+        }
+
+        @Test
+        @DisplayName("Should reject out-of-range indices")
+        void testIndexBounds() {
+            PointBuffer buffer = new PointBuffer();
+            buffer.add(1, 2, 3);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.getX(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(-1));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid construction arguments")
+        void testInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new PointBuffer(-1));
+            assertThrows(IllegalArgumentException.class, () -> PointBuffer.wrapCopy(new double[4]));
+            assertThrows(NullPointerException.class, () -> PointBuffer.of((Point3D[]) null));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PointCloudReader class, using PointCloudWriter to produce input.
+ *
+ * This test suite covers:
+ * - Round trips through every supported format
+ * - Parallel chunked parsing that preserves file order
+ * - PLY headers with extra properties, other elements and big-endian bodies
+ * - Comments, blank lines and non-vertex OBJ statements
+ * - Fast decimal parsing against Double.parseDouble
+ * - Malformed input handling
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("PointCloudReader Tests")
+public class PointCloudReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static PointBuffer randomCloud(int count, long seed) {
+        Random random = new Random(seed);
+        PointBuffer points = new PointBuffer(count);
+        for (int i = 0; i < count; i++) {
+            points.add(random.nextDouble() * 2000 - 1000, random.nextGaussian(), random.nextInt(100));
+        }
+        return points;
+    }
+
+    private static String extensionOf(PointCloudFormat format) {
+        switch (format) {
+            case OBJ: return ".obj";
+            case XYZ: return ".xyz";
+            default: return ".ply";
+        }
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @ParameterizedTest
+        @EnumSource(PointCloudFormat.class)
+        @DisplayName("Should read back exactly what the writer wrote")
+        void testRoundTrip(PointCloudFormat format) throws IOException {
+            PointBuffer points = randomCloud(5000, 7);
+            Path file = tempDir.resolve("cloud" + extensionOf(format));
+            try (PointCloudWriter writer = PointCloudWriter.open(file, format)) {
+                writer.write(points);
+            }
+
+            PointBuffer read = new PointCloudReader().setChunkSize(4096).readAll(file);
+
+            assertEquals(points.size(), read.size());
+            assertArrayEquals(points.toArray(), read.toArray(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should deliver small chunks in file order regardless of parallelism")
+        void testChunkOrder() throws IOException {
+            PointBuffer points = new PointBuffer();
+            for (int i = 0; i < 2000; i++) {
+                points.add(i, 0, 0);
+            }
+            Path file = tempDir.resolve("ordered.xyz");
+            try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.XYZ)) {
+                writer.write(points);
+            }
+
+            List<Integer> sizes = new ArrayList<>();
+            PointBuffer read = new PointBuffer();
+            long total = new PointCloudReader().setChunkSize(97).setParallelism(8).read(file, chunk -> {
+                sizes.add(chunk.size());
+                read.addAll(chunk);
+            });
+
+            assertEquals(2000, total);
+            assertTrue(sizes.size() > 1, "Expected several chunks");
+            for (int i = 0; i < 2000; i++) {
+                assertEquals(i, read.getX(i), 0.0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return Point3D objects for small files")
+        void testReadPoints() throws IOException {
+            Path file = tempDir.resolve("small.obj");
+            try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.OBJ)) {
+                writer.write(new Point3D(1, 2, 3));
+            }
+
+            assertArrayEquals(new Point3D[]{new Point3D(1, 2, 3)}, new PointCloudReader().readPoints(file));
+        }
+    }
+
+    @Nested
+    @DisplayName("Format Detail Tests")
+    class FormatDetailTests {
+
+        @Test
+        @DisplayName("Should skip comments, headers and blank lines in XYZ files")
+        void testXyzComments() throws IOException {
+            Path file = tempDir.resolve("scan.csv");
+            Files.writeString(file, "# scan\nx,y,z\n\n1,2,3,255\r\n-4.5e1,.5,+6\n");
+
+            PointBuffer read = new PointCloudReader().readAll(file);
+
+            assertArrayEquals(new double[]{1, 2, 3, -45, 0.5, 6}, read.toArray(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should read only vertex positions from OBJ files")
+        void testObjStatements() throws IOException {
+            Path file = tempDir.resolve("mesh.obj");
+            Files.writeString(file, "o cube\nv 1 2 3\nvn 0 0 1\nvt 0.5 0.5\nv\t4 5 6 1.0\nf 1 2 1\n");
+
+            PointBuffer read = new PointCloudReader().readAll(file);
+
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, read.toArray(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should honour PLY property order and ignore faces")
+        void testAsciiPlyLayout() throws IOException {
+            Path file = tempDir.resolve("faces.ply");
+            Files.writeString(file, "ply\nformat ascii 1.0\ncomment test\nelement vertex 2\n"
+                + "property uchar red\nproperty float z\nproperty float x\nproperty float y\n"
+                + "element face 1\nproperty list uchar int vertex_indices\nend_header\n"
+                + "255 3 1 2\n0 6 4 5\n3 0 1 1\n");
+
+            PointBuffer read = new PointCloudReader().readAll(file);
+
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, read.toArray(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should skip the records of elements declared before the vertices")
+        void testAsciiPlyPrecedingElement() throws IOException {
+            Path file = tempDir.resolve("camera.ply");
+            Files.writeString(file, "ply\nformat ascii 1.0\nelement camera 2\nproperty int id\n"
+                + "element vertex 2\nproperty float x\nproperty float y\nproperty float z\nend_header\n"
+                + "7\n8\n1 2 3\n4 5 6\n");
+
+            PointBuffer read = new PointCloudReader().readAll(file);
+
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, read.toArray(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should read big-endian binary PLY with mixed types after another element")
+        void testBinaryPlyLayout() throws IOException {
+            String header = "ply\nformat binary_big_endian 1.0\nelement camera 1\nproperty int id\n"
+                + "element vertex 2\nproperty float x\nproperty short y\nproperty double z\nproperty uchar flag\n"
+                + "end_header\n";
+            ByteBuffer body = ByteBuffer.allocate(4 + 2 * 15).order(ByteOrder.BIG_ENDIAN);
+            body.putInt(99);
+            body.putFloat(1.5f).putShort((short) -2).putDouble(3.25).put((byte) 1);
+            body.putFloat(4f).putShort((short) 5).putDouble(-6).put((byte) 0);
+
+            Path file = tempDir.resolve("mixed.ply");
+            byte[] headerBytes = header.getBytes(StandardCharsets.US_ASCII);
+            byte[] bytes = new byte[headerBytes.length + body.capacity()];
+            System.arraycopy(headerBytes, 0, bytes, 0, headerBytes.length);
+            System.arraycopy(body.array(), 0, bytes, headerBytes.length, body.capacity());
+            Files.write(file, bytes);
+
+            PointBuffer read = new PointCloudReader().readAll(file);
+
+            assertArrayEquals(new double[]{1.5, -2, 3.25, 4, 5, -6}, read.toArray(), 0.0);
+        }
+
+        @Test
+        @DisplayName("Should parse decimals exactly like Double.parseDouble")
+        void testParseDouble() {
+            String[] samples = {"0", "-0", "1.5", "123456789012345678901", "0.000001234", "1e-300",
+                                "9007199254740993", "-3.14159265358979", "2.5E+10", "NaN", "7."};
+            for (String sample : samples) {
+                byte[] bytes = sample.getBytes(StandardCharsets.US_ASCII);
+                assertEquals(Double.parseDouble(sample), PointCloudReader.parseDouble(bytes, 0, bytes.length), 0.0,
+                    sample);
+            }
+            Random random = new Random(3);
+            for (int i = 0; i < 10000; i++) {
+                String sample = Double.toString((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10));
+                byte[] bytes = sample.getBytes(StandardCharsets.US_ASCII);
+                assertEquals(Double.parseDouble(sample), PointCloudReader.parseDouble(bytes, 0, bytes.length), 0.0,
+                    sample);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject malformed XYZ lines")
+        void testMalformedXyz() throws IOException {
+            Path file = tempDir.resolve("bad.xyz");
+            Files.writeString(file, "1 2 3\n4 five 6\n");
+
+            assertThrows(IllegalArgumentException.class, () -> new PointCloudReader().readAll(file));
+        }
+
+        @Test
+        @DisplayName("Should reject a PLY body shorter than its header")
+        void testTruncatedPly() throws IOException {
+            Path file = tempDir.resolve("short.ply");
+            Files.writeString(file, "ply\nformat ascii 1.0\nelement vertex 3\nproperty float x\n"
+                + "property float y\nproperty float z\nend_header\n1 2 3\n");
+
+            assertThrows(IllegalArgumentException.class, () -> new PointCloudReader().readAll(file));
+        }
+
+        @Test
+        @DisplayName("Should reject PLY files without coordinates")
+        void testPlyWithoutCoordinates() throws IOException {
+            Path file = tempDir.resolve("nocoords.ply");
+            Files.writeString(file, "ply\nformat ascii 1.0\nelement vertex 1\nproperty float u\nend_header\n1\n");
+
+            assertThrows(IllegalArgumentException.class, () -> new PointCloudReader().readAll(file));
+        }
+
+        @Test
+        @DisplayName("Should reject element and property lines that are incomplete")
+        void testMalformedPlyHeader() throws IOException {
+            String[] headers = {
+                "element vertex\nproperty float x\n",
+                "element vertex two\nproperty float x\n",
+                "element vertex -1\nproperty float x\n",
+                "element vertex 1\nproperty float\n",
+                "element vertex 1\nproperty list uchar\n"
+            };
+            for (String header : headers) {
+                Path file = tempDir.resolve("header.ply");
+                Files.writeString(file, "ply\nformat ascii 1.0\n" + header + "end_header\n1 2 3\n");
+
+                assertThrows(IllegalArgumentException.class, () -> new PointCloudReader().readAll(file), header);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid configuration")
+        void testInvalidConfiguration() {
+            assertThrows(IllegalArgumentException.class, () -> new PointCloudReader().setChunkSize(0));
+            assertThrows(IllegalArgumentException.class, () -> new PointCloudReader().setParallelism(0));
+            assertThrows(NullPointerException.class, () -> new PointCloudReader().read(null, chunk -> { }));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PointCloudWriter class.
+ *
+ * This test suite covers:
+ * - Text layouts for XYZ and OBJ
+ * - PLY header vertex count patching
+ * - Binary PLY body size
+ * - Closed-writer and argument validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("PointCloudWriter Tests")
+public class PointCloudWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write one XYZ line per point")
+    void testXyzLayout() throws IOException {
+        Path file = tempDir.resolve("out.xyz");
+        try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.XYZ)) {
+            writer.write(1, 2.5, -3);
+        }
+
+        assertEquals(List.of("1.0 2.5 -3.0"), Files.readAllLines(file));
+    }
+
+    @Test
+    @DisplayName("Should prefix OBJ vertices with v")
+    void testObjLayout() throws IOException {
+        Path file = tempDir.resolve("out.obj");
+        try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.OBJ)) {
+            writer.write(new Point3D(0, 0, 1));
+        }
+
+        assertTrue(Files.readAllLines(file).contains("v 0.0 0.0 1.0"));
+    }
+
+    @Test
+    @DisplayName("Should patch the PLY vertex count on close")
+    void testPlyCount() throws IOException {
+        Path file = tempDir.resolve("out.ply");
+        try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.PLY_ASCII)) {
+            for (int i = 0; i < 12; i++) {
+                writer.write(i, i, i);
+            }
+            assertEquals(12, writer.getCount());
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.contains("element vertex 12" + " ".repeat(18)));
+        assertEquals("end_header", lines.get(6));
+        assertEquals(7 + 12, lines.size());
+    }
+
+    @Test
+    @DisplayName("Should write 24 bytes per binary PLY vertex")
+    void testBinarySize() throws IOException {
+        Path file = tempDir.resolve("out.ply");
+        try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.PLY_BINARY)) {
+            assertEquals(0, writer.getCount());
+        }
+        long headerSize = Files.size(file);
+        try (PointCloudWriter writer = PointCloudWriter.open(file, PointCloudFormat.PLY_BINARY)) {
+            writer.write(PointBuffer.wrapCopy(new double[]{1, 2, 3, 4, 5, 6}));
+        }
+
+        assertEquals(headerSize + 48, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Should reject writes after close and null arguments")
+    void testValidation() throws IOException {
+        PointCloudWriter writer = PointCloudWriter.open(tempDir.resolve("closed.xyz"), PointCloudFormat.XYZ);
+        writer.close();
+
+        assertThrows(IllegalStateException.class, () -> writer.write(1, 2, 3));
+        assertThrows(NullPointerException.class, () -> PointCloudWriter.open(null, PointCloudFormat.XYZ));
+    }
+}
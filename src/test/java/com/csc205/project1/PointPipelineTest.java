@@ -0,0 +1,192 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PointPipeline class.
+ *
+ * This test suite covers:
+ * - Agreement with per-point Point3D and Cube3D operations
+ * - Chunking of single-point submissions
+ * - Ordering and backpressure
+ * - Error propagation and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("PointPipeline Tests")
+public class PointPipelineTest {
+
+    private static final double DELTA = 1e-12;
+
+    @Nested
+    @DisplayName("Transform Tests")
+    class TransformTests {
+
+        @Test
+        @DisplayName("Should match translate, rotate and containsPoint applied point by point")
+        void testMatchesPointOperations() {
+            Cube3D region = new Cube3D(new Point3D(0, 0, 0), 6.0, 0.2, 0, 0);
+            Random random = new Random(34);
+            List<Point3D> input = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                input.add(new Point3D(random.nextGaussian() * 4, random.nextGaussian() * 4, random.nextGaussian() * 4));
+            }
+
+            List<Point3D> expected = new ArrayList<>();
+            for (Point3D p : input) {
+                Point3D q = p.translate(1, -1, 0.5).rotateZ(0.7).rotateX(-0.3);
+                if (region.containsPoint(q)) {
+                    expected.add(q);
+                }
+            }
+
+            PointPipeline pipeline = PointPipeline.builder()
+                .translate(1, -1, 0.5)
+                .rotateZ(0.7)
+                .rotateX(Rotation.of(-0.3))
+                .retainInside(region)
+                .chunkSize(64)
+                .build();
+            PointBuffer result = new PointBuffer();
+            CompletableFuture<Void> done = pipeline.consume(result::addAll);
+            for (Point3D p : input) {
+                pipeline.submit(p.getX(), p.getY(), p.getZ());
+            }
+            pipeline.close();
+            done.join();
+
+            assertEquals(4, pipeline.getStageCount());
+            assertEquals(expected.size(), result.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getX(), result.getX(i), DELTA);
+                assertEquals(expected.get(i).getY(), result.getY(i), DELTA);
+                assertEquals(expected.get(i).getZ(), result.getZ(i), DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("Should deliver chunks in submission order and pass through with no stages")
+        void testOrderAndEmptyPipeline() {
+            PointPipeline pipeline = PointPipeline.builder().build();
+            List<Double> firstX = new ArrayList<>();
+            CompletableFuture<Void> done = pipeline.consume(chunk -> firstX.add(chunk.getX(0)));
+            for (int i = 0; i < 100; i++) {
+                pipeline.submit(PointBuffer.wrapCopy(new double[]{i, 0, 0}));
+            }
+            pipeline.submit(new PointBuffer());
+            pipeline.close();
+            done.join();
+
+            assertEquals(100, firstX.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, firstX.get(i), DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("Should drop chunks that a filter empties")
+        void testEmptyChunksDropped() {
+            Cube3D far = new Cube3D(new Point3D(100, 100, 100), 1.0);
+            PointPipeline pipeline = PointPipeline.builder().retainInside(far).build();
+            AtomicInteger chunks = new AtomicInteger();
+            CompletableFuture<Void> done = pipeline.consume(chunk -> chunks.incrementAndGet());
+            pipeline.submit(PointBuffer.wrapCopy(new double[]{0, 0, 0, 1, 1, 1}));
+            pipeline.submit(PointBuffer.wrapCopy(new double[]{100, 100, 100}));
+            pipeline.close();
+            done.join();
+
+            assertEquals(1, chunks.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Flow Control Tests")
+    class FlowControlTests {
+
+        @Test
+        @DisplayName("Should block the producer while the consumer is stalled")
+        void testBackpressure() throws Exception {
+            PointPipeline pipeline = PointPipeline.builder()
+                .translate(1, 0, 0)
+                .bufferCapacity(2)
+                .build();
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger received = new AtomicInteger();
+            CompletableFuture<Void> done = pipeline.consume(chunk -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.incrementAndGet();
+            });
+
+            int total = 200;
+            AtomicInteger submitted = new AtomicInteger();
+            Thread producer = Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < total; i++) {
+                    pipeline.submit(PointBuffer.wrapCopy(new double[]{i, 0, 0}));
+                    submitted.incrementAndGet();
+                }
+                pipeline.close();
+            });
+
+            Thread.sleep(200);
+            int inFlight = submitted.get();
+            assertTrue(inFlight < total, "Producer was never throttled");
+            assertTrue(inFlight <= 16, "Too many chunks buffered: " + inFlight);
+
+            release.countDown();
+            producer.join(TimeUnit.SECONDS.toMillis(10));
+            done.get(10, TimeUnit.SECONDS);
+            assertEquals(total, received.get());
+        }
+
+        @Test
+        @DisplayName("Should complete exceptionally when a stage fails")
+        void testStageFailure() {
+            PointPipeline pipeline = PointPipeline.builder()
+                .stage(chunk -> {
+                    throw new IllegalStateException("sensor glitch");
+                })
+                .build();
+            CompletableFuture<Void> done = pipeline.consume(chunk -> { });
+            pipeline.submit(PointBuffer.wrapCopy(new double[]{1, 2, 3}));
+
+            CompletionException e = assertThrows(CompletionException.class, done::join);
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            pipeline.close();
+        }
+
+        @Test
+        @DisplayName("Should reject points after close and invalid configuration")
+        void testValidation() {
+            PointPipeline pipeline = PointPipeline.builder().build();
+            pipeline.close();
+            pipeline.close();
+            assertThrows(IllegalStateException.class, () -> pipeline.submit(1, 2, 3));
+            assertThrows(NullPointerException.class, () -> pipeline.submit(null));
+
+            PointPipeline.Builder builder = PointPipeline.builder();
+            assertThrows(IllegalArgumentException.class, () -> builder.chunkSize(0));
+            assertThrows(IllegalArgumentException.class, () -> builder.bufferCapacity(0));
+            assertThrows(NullPointerException.class, () -> builder.retainInside(null));
+            assertThrows(NullPointerException.class, () -> builder.rotateY((Rotation) null));
+            assertThrows(NullPointerException.class, () -> builder.executor(null));
+        }
+    }
+}
\ No newline at end of file
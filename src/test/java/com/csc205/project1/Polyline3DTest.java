@@ -0,0 +1,272 @@
+package com.csc205.project1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Polyline3D class.
+ *
+ * This test suite covers:
+ * - Construction from points, connected lines and point buffers
+ * - Arc-length lookups against a walk over Line3D segments
+ * - Nearest-point queries against a linear scan
+ * - Douglas–Peucker simplification, sequential and parallel
+ * - Parameter validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Polyline3D Tests")
+public class Polyline3DTest {
+
+    private static final double DELTA = 1e-9;
+
+    /** An L-shaped path: 3 along x, then 4 along y. */
+    private static Polyline3D elbow() {
+        return Polyline3D.of(new Point3D(0, 0, 0), new Point3D(3, 0, 0), new Point3D(3, 4, 0));
+    }
+
+    private static List<Point3D> randomWalk(int count, long seed) {
+        Random random = new Random(seed);
+        List<Point3D> points = new ArrayList<>(count);
+        double x = 0;
+        double y = 0;
+        double z = 0;
+        for (int i = 0; i < count; i++) {
+            points.add(new Point3D(x, y, z));
+            x += random.nextGaussian();
+            y += random.nextGaussian();
+            z += random.nextGaussian() * 0.2;
+        }
+        return points;
+    }
+
+    /** Textbook recursive Douglas–Peucker over the vertex indices, the behavior simplify() must match. */
+    private static void referenceSimplify(List<Point3D> points, int a, int b, double tolerance, boolean[] keep) {
+        int farthest = -1;
+        double max = tolerance;
+        for (int i = a + 1; i < b; i++) {
+            double d = segmentDistance(points.get(a), points.get(b), points.get(i));
+            if (d > max) {
+                max = d;
+                farthest = i;
+            }
+        }
+        if (farthest >= 0) {
+            keep[farthest] = true;
+            referenceSimplify(points, a, farthest, tolerance, keep);
+            referenceSimplify(points, farthest, b, tolerance, keep);
+        }
+    }
+
+    private static double segmentDistance(Point3D a, Point3D b, Point3D p) {
+        double dx = b.getX() - a.getX();
+        double dy = b.getY() - a.getY();
+        double dz = b.getZ() - a.getZ();
+        double lengthSquared = dx * dx + dy * dy + dz * dz;
+        double t = lengthSquared == 0 ? 0 : ((p.getX() - a.getX()) * dx + (p.getY() - a.getY()) * dy
+                                             + (p.getZ() - a.getZ()) * dz) / lengthSquared;
+        t = Math.min(1, Math.max(0, t));
+        double ex = a.getX() + t * dx - p.getX();
+        double ey = a.getY() + t * dy - p.getY();
+        double ez = a.getZ() + t * dz - p.getZ();
+        return Math.sqrt(ex * ex + ey * ey + ez * ez);
+    }
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should store vertices, segments and prefix lengths")
+        void testBasics() {
+            Polyline3D path = elbow();
+
+            assertEquals(3, path.getVertexCount());
+            assertEquals(2, path.getSegmentCount());
+            assertEquals(7.0, path.length(), DELTA);
+            assertEquals(3.0, path.distanceAtVertex(1), DELTA);
+            assertEquals(new Point3D(3, 4, 0), path.getVertex(2));
+            assertEquals(new Line3D(new Point3D(3, 0, 0), new Point3D(3, 4, 0)), path.getSegment(1));
+        }
+
+        @Test
+        @DisplayName("Should build from connected lines and round-trip through them")
+        void testFromLines() {
+            Polyline3D path = elbow();
+            Polyline3D copy = Polyline3D.fromLines(path.toLines());
+
+            assertEquals(path.getVertexCount(), copy.getVertexCount());
+            assertEquals(path.length(), copy.length(), DELTA);
+            assertThrows(IllegalArgumentException.class, () -> Polyline3D.fromLines(List.of(
+                new Line3D(new Point3D(0, 0, 0), new Point3D(1, 0, 0)),
+                new Line3D(new Point3D(2, 0, 0), new Point3D(3, 0, 0)))));
+        }
+
+        @Test
+        @DisplayName("Should build from a point buffer")
+        void testFromBuffer() {
+            PointBuffer buffer = PointBuffer.of(new Point3D(0, 0, 0), new Point3D(0, 0, 2), new Point3D(0, 1, 2));
+            Polyline3D path = Polyline3D.fromBuffer(buffer);
+
+            assertEquals(3.0, path.length(), DELTA);
+            assertArrayEquals(buffer.toArray(), path.toPointBuffer().toArray());
+        }
+
+        @Test
+        @DisplayName("Should skip zero-length segments in toLines")
+        void testRepeatedVertex() {
+            Polyline3D path = Polyline3D.of(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(1, 0, 0),
+                                            new Point3D(1, 1, 0));
+
+            assertEquals(2, path.toLines().size());
+            assertEquals(new Point3D(1, 0.5, 0), path.pointAtDistance(1.5));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid input")
+        void testValidation() {
+            assertThrows(IllegalArgumentException.class, () -> Polyline3D.of(new Point3D(0, 0, 0)));
+            assertThrows(NullPointerException.class, () -> Polyline3D.of(new Point3D(0, 0, 0), null));
+            assertThrows(NullPointerException.class, () -> new Polyline3D(null));
+            assertThrows(IllegalArgumentException.class, () -> Polyline3D.fromLines(List.of()));
+            assertThrows(IllegalArgumentException.class, () -> elbow().pointAtDistance(7.5));
+            assertThrows(IllegalArgumentException.class, () -> elbow().pointAtFraction(Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> elbow().simplify(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> elbow().getSegment(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Arc Length Tests")
+    class ArcLengthTests {
+
+        @Test
+        @DisplayName("Should find points and segments by distance along the path")
+        void testPointAtDistance() {
+            Polyline3D path = elbow();
+
+            assertEquals(new Point3D(0, 0, 0), path.pointAtDistance(0));
+            assertEquals(new Point3D(2, 0, 0), path.pointAtDistance(2));
+            assertEquals(new Point3D(3, 1, 0), path.pointAtDistance(4));
+            assertEquals(new Point3D(3, 4, 0), path.pointAtFraction(1));
+            assertEquals(0, path.segmentIndexAt(2.9));
+            assertEquals(1, path.segmentIndexAt(3));
+            assertEquals(1, path.segmentIndexAt(7));
+        }
+
+        @Test
+        @DisplayName("Should match a walk over the Line3D segments")
+        void testAgainstLineWalk() {
+            Polyline3D path = new Polyline3D(randomWalk(100, 3));
+            List<Line3D> lines = path.toLines();
+            Random random = new Random(4);
+
+            for (int trial = 0; trial < 30; trial++) {
+                double s = random.nextDouble() * path.length();
+                double remaining = s;
+                Point3D expected = null;
+                for (Line3D line : lines) {
+                    if (remaining <= line.length()) {
+                        expected = line.getPointAtParameter(remaining / line.length());
+                        break;
+                    }
+                    remaining -= line.length();
+                }
+                Point3D actual = path.pointAtDistance(s);
+                assertEquals(0.0, expected.distanceTo(actual), 1e-6);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Nearest Point Tests")
+    class NearestPointTests {
+
+        @Test
+        @DisplayName("Should project onto the nearest segment")
+        void testElbow() {
+            Polyline3D path = elbow();
+
+            assertEquals(new Point3D(3, 2, 0), path.closestPoint(new Point3D(5, 2, 0)));
+            assertEquals(2.0, path.distanceTo(new Point3D(5, 2, 0)), DELTA);
+            assertEquals(5.0, path.distanceAlong(new Point3D(5, 2, 0)), DELTA);
+            assertEquals(0.0, path.distanceAlong(new Point3D(-4, -1, 0)), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should match a linear scan over every segment")
+        void testAgainstScan() {
+            List<Point3D> walk = randomWalk(2000, 5);
+            Polyline3D path = new Polyline3D(walk);
+            Random random = new Random(6);
+
+            for (int trial = 0; trial < 200; trial++) {
+                Point3D query = new Point3D(random.nextGaussian() * 30, random.nextGaussian() * 30,
+                                            random.nextGaussian() * 10);
+                double expected = Double.POSITIVE_INFINITY;
+                for (int i = 0; i + 1 < walk.size(); i++) {
+                    expected = Math.min(expected, segmentDistance(walk.get(i), walk.get(i + 1), query));
+                }
+                assertEquals(expected, path.distanceTo(query), 1e-6);
+                assertEquals(expected, path.closestPoint(query).distanceTo(query), 1e-6);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Simplification Tests")
+    class SimplificationTests {
+
+        @Test
+        @DisplayName("Should drop collinear vertices and keep corners")
+        void testCollinear() {
+            Polyline3D path = Polyline3D.of(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(2, 0, 0),
+                                            new Point3D(2, 1, 0), new Point3D(2, 2, 0));
+            Polyline3D simplified = path.simplify(1e-9);
+
+            assertEquals(3, simplified.getVertexCount());
+            assertEquals(new Point3D(2, 0, 0), simplified.getVertex(1));
+            assertEquals(path.length(), simplified.length(), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should keep every removed vertex within the tolerance")
+        void testTolerance() {
+            List<Point3D> walk = randomWalk(3000, 7);
+            Polyline3D simplified = new Polyline3D(walk).simplify(2.0);
+
+            assertTrue(simplified.getVertexCount() < 3000);
+            for (Point3D vertex : walk) {
+                assertTrue(simplified.distanceTo(vertex) <= 2.0 + DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("Should match recursive Douglas-Peucker on a path long enough to run in parallel")
+        void testParallelMatchesReference() {
+            List<Point3D> walk = randomWalk(Polyline3D.PARALLEL_THRESHOLD * 3, 8);
+            boolean[] keep = new boolean[walk.size()];
+            keep[0] = true;
+            keep[walk.size() - 1] = true;
+            referenceSimplify(walk, 0, walk.size() - 1, 1.5, keep);
+
+            Polyline3D simplified = new Polyline3D(walk).simplify(1.5);
+
+            int k = 0;
+            for (int i = 0; i < walk.size(); i++) {
+                if (keep[i]) {
+                    assertEquals(walk.get(i), simplified.getVertex(k++));
+                }
+            }
+            assertEquals(k, simplified.getVertexCount());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.csc205.project1;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the QuantizedPointBuffer class.
+ *
+ * This test suite covers:
+ * - Round-trip error within the reported bound for both precisions
+ * - Precision selection by tolerance and the lossless flag
+ * - Integer-space box queries matching decoded coordinates exactly
+ * - Translation, cube filtering, serialization and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("QuantizedPointBuffer Tests")
+public class QuantizedPointBufferTest {
+
+    private static final Cube3D BOUNDS = new Cube3D(new Point3D(0, 0, 0), 20);
+
+    private static PointBuffer randomPoints(int count, long seed) {
+        Random random = new Random(seed);
+        PointBuffer points = new PointBuffer(count);
+        for (int i = 0; i < count; i++) {
+            points.add(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+        }
+        return points;
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should decode every coordinate within the error bound")
+        void testErrorBound() {
+            PointBuffer source = randomPoints(2000, 1);
+
+            for (QuantizedPointBuffer.Precision precision : QuantizedPointBuffer.Precision.values()) {
+                QuantizedPointBuffer quantized = QuantizedPointBuffer.encode(source, BOUNDS, precision);
+                PointBuffer decoded = quantized.decode();
+                double bound = quantized.getMaxError();
+
+                assertEquals(source.size(), decoded.size());
+                for (int i = 0; i < source.size(); i++) {
+                    assertEquals(source.getX(i), decoded.getX(i), bound);
+                    assertEquals(source.getY(i), decoded.getY(i), bound);
+                    assertEquals(source.getZ(i), quantized.getZ(i), bound);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should decode box corners exactly")
+        void testCornersExact() {
+            PointBuffer source = PointBuffer.of(new Point3D(-10, -10, -10), new Point3D(10, 10, 10));
+
+            QuantizedPointBuffer quantized = QuantizedPointBuffer.encode(source, BOUNDS,
+                                                                         QuantizedPointBuffer.Precision.INT16);
+
+            assertEquals(new Point3D(-10, -10, -10), quantized.get(0));
+            assertEquals(10.0, quantized.getX(1));
+        }
+
+        @Test
+        @DisplayName("Should pick the smallest precision meeting a tolerance")
+        void testToleranceSelection() {
+            PointBuffer source = randomPoints(10, 2);
+
+            assertEquals(QuantizedPointBuffer.Precision.INT16,
+                         QuantizedPointBuffer.encode(source, BOUNDS, 1e-3).getPrecision());
+            assertEquals(QuantizedPointBuffer.Precision.INT32,
+                         QuantizedPointBuffer.encode(source, BOUNDS, 1e-6).getPrecision());
+            assertThrows(IllegalArgumentException.class, () -> QuantizedPointBuffer.encode(source, BOUNDS, 1e-12));
+        }
+
+        @Test
+        @DisplayName("Should report lossless round trips under Point3D equality for small bounds")
+        void testLossless() {
+            Cube3D small = new Cube3D(new Point3D(0, 0, 0), 0.5);
+            PointBuffer source = PointBuffer.of(new Point3D(0.1, -0.2, 0.123456789), new Point3D(0.25, 0, -0.25));
+
+            QuantizedPointBuffer quantized = QuantizedPointBuffer.encode(source, small,
+                                                                         QuantizedPointBuffer.Precision.INT32);
+
+            assertTrue(quantized.isLossless());
+            assertEquals(source.get(0), quantized.get(0));
+            assertEquals(source.get(1), quantized.get(1));
+            assertFalse(QuantizedPointBuffer.encode(source, small, QuantizedPointBuffer.Precision.INT16).isLossless());
+        }
+
+        @Test
+        @DisplayName("Should report compression ratios near 4 and 2")
+        void testCompressionRatio() {
+            PointBuffer source = randomPoints(10_000, 3);
+
+            assertEquals(4.0, QuantizedPointBuffer.encode(source, BOUNDS, QuantizedPointBuffer.Precision.INT16)
+                                                  .getCompressionRatio(), 0.01);
+            assertEquals(2.0, QuantizedPointBuffer.encode(source, BOUNDS, QuantizedPointBuffer.Precision.INT32)
+                                                  .getCompressionRatio(), 0.01);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Operation Tests")
+    class BulkOperationTests {
+
+        @Test
+        @DisplayName("Should count box members exactly as the decoded coordinates would")
+        void testCountInBoxMatchesDecoded() {
+            PointBuffer source = randomPoints(5000, 4);
+            QuantizedPointBuffer quantized = QuantizedPointBuffer.encode(source, BOUNDS,
+                                                                         QuantizedPointBuffer.Precision.INT16);
+            PointBuffer decoded = quantized.decode();
+            // Use decoded coordinates as box faces so boundary ties are exercised
+            Point3D lo = new Point3D(decoded.getX(0), -3, decoded.getZ(1));
+            Point3D hi = new Point3D(decoded.getX(2) + 5, 4, 9.5);
+
+            int expected = 0;
+            for (int i = 0; i < decoded.size(); i++) {
+                double x = decoded.getX(i);
+                double y = decoded.getY(i);
+                double z = decoded.getZ(i);
+                if (x >= lo.getX() && x <= hi.getX() && y >= lo.getY() && y <= hi.getY()
+                        && z >= lo.getZ() && z <= hi.getZ()) {
+                    expected++;
+                }
+            }
+
+            assertEquals(expected, quantized.countInBox(lo, hi));
+            int removed = quantized.retainInBox(lo, hi);
+            assertEquals(expected, quantized.size());
+            assertEquals(5000 - expected, removed);
+        }
+
+        @Test
+        @DisplayName("Should translate by moving the grid origin")
+        void testTranslate() {
+            PointBuffer source = randomPoints(100, 5);
+            QuantizedPointBuffer quantized = QuantizedPointBuffer.encode(source, BOUNDS,
+                                                                         QuantizedPointBuffer.Precision.INT32);
+            double before = quantized.getX(7);
+
+            quantized.translate(100, 0, -50);
+
+            assertEquals(before + 100, quantized.getX(7), 1e-12);
+            assertEquals(new Point3D(90, -10, -60), quantized.getMin());
+        }
+
+        @Test
+        @DisplayName("Should keep only points inside a rotated cube")
+        void testRetainInside() {
+            PointBuffer source = randomPoints(3000, 6);
+            QuantizedPointBuffer quantized = QuantizedPointBuffer.encode(source, BOUNDS,
+                                                                         QuantizedPointBuffer.Precision.INT32);
+            Cube3D cube = new Cube3D(new Point3D(2, -1, 0), 6, 0.3, 0.2, 0.1);
+            PointBuffer expected = quantized.decode();
+            int expectedRemoved = expected.retainInside(cube);
+
+            int removed = quantized.retainInside(cube);
+
+            assertEquals(expectedRemoved, removed);
+            assertArrayEquals(expected.toArray(), quantized.decode().toArray());
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialization Tests")
+    class SerializationTests {
+
+        @Test
+        @DisplayName("Should write and read back identical codes")
+        void testWriteRead() {
+            PointBuffer source = randomPoints(500, 7);
+            for (QuantizedPointBuffer.Precision precision : QuantizedPointBuffer.Precision.values()) {
+                QuantizedPointBuffer original = QuantizedPointBuffer.encode(source, BOUNDS, precision);
+                ByteBuffer bytes = ByteBuffer.allocate(original.serializedSize() + 3);
+                bytes.put((byte) 1);
+
+                original.writeTo(bytes);
+                assertEquals(1 + original.serializedSize(), bytes.position());
+                bytes.flip().position(1);
+                QuantizedPointBuffer copy = QuantizedPointBuffer.readFrom(bytes);
+
+                assertEquals(precision, copy.getPrecision());
+                assertArrayEquals(original.decode().toArray(), copy.decode().toArray());
+                assertEquals(1 + original.serializedSize(), bytes.position());
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject truncated data")
+        void testTruncated() {
+            QuantizedPointBuffer original = QuantizedPointBuffer.encode(randomPoints(10, 8), BOUNDS,
+                                                                        QuantizedPointBuffer.Precision.INT16);
+            ByteBuffer bytes = ByteBuffer.allocate(original.serializedSize());
+            original.writeTo(bytes);
+            bytes.flip().limit(bytes.limit() - 2);
+
+            assertThrows(IllegalArgumentException.class, () -> QuantizedPointBuffer.readFrom(bytes));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject points outside the bounds and null arguments")
+        void testValidation() {
+            PointBuffer outside = PointBuffer.of(new Point3D(0, 0, 11));
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> QuantizedPointBuffer.encode(outside, BOUNDS, QuantizedPointBuffer.Precision.INT32));
+            assertThrows(NullPointerException.class,
+                         () -> QuantizedPointBuffer.encode(null, BOUNDS, QuantizedPointBuffer.Precision.INT32));
+            assertThrows(NullPointerException.class, () -> QuantizedPointBuffer.readFrom(null));
+            QuantizedPointBuffer empty = QuantizedPointBuffer.encode(new PointBuffer(), BOUNDS, 1e-3);
+            assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+            assertEquals(0, empty.countInBox(new Point3D(-1, -1, -1), new Point3D(1, 1, 1)));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RobustPredicates class.
+ *
+ * This test suite covers:
+ * - Orientation and in-sphere sign conventions
+ * - Exactly degenerate (coplanar, cospherical) inputs
+ * - Near-degenerate inputs compared against exact BigDecimal evaluation
+ * - Staying on the fast path for points in general position
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("RobustPredicates Tests")
+public class RobustPredicatesTest {
+
+    private static final Point3D A = new Point3D(0, 0, 0);
+    private static final Point3D B = new Point3D(1, 0, 0);
+    private static final Point3D C = new Point3D(0, 1, 0);
+
+    @Nested
+    @DisplayName("Orientation Tests")
+    class OrientationTests {
+
+        @Test
+        @DisplayName("Should be positive below and negative above a counterclockwise plane")
+        void testSigns() {
+            assertEquals(1, RobustPredicates.orient3d(A, B, C, new Point3D(0, 0, -1)));
+            assertEquals(-1, RobustPredicates.orient3d(A, B, C, new Point3D(0, 0, 1)));
+            assertEquals(0, RobustPredicates.orient3d(A, B, C, new Point3D(5, -7, 0)));
+        }
+
+        @Test
+        @DisplayName("Should classify nearly coplanar points exactly")
+        void testNearlyCoplanar() {
+            Random random = new Random(5);
+            for (int i = 0; i < 2000; i++) {
+                // Points on the plane x + y + z = 1 with tiny perturbations, far from the origin
+                double[] p = new double[12];
+                for (int k = 0; k < 4; k++) {
+                    double u = random.nextDouble() * 1e3;
+                    double v = random.nextDouble() * 1e3;
+                    p[k * 3] = u;
+                    p[k * 3 + 1] = v;
+                    p[k * 3 + 2] = 1 - u - v + (k == 3 ? (random.nextInt(3) - 1) * 1e-13 : 0);
+                }
+                int expected = exactOrient(p);
+                assertEquals(expected, RobustPredicates.orient3d(p[0], p[1], p[2], p[3], p[4], p[5],
+                                                                  p[6], p[7], p[8], p[9], p[10], p[11]));
+            }
+        }
+
+        @Test
+        @DisplayName("Should not need the exact fallback for points in general position")
+        void testFastPath() {
+            Random random = new Random(9);
+            long before = RobustPredicates.getExactEvaluationCount();
+            for (int i = 0; i < 1000; i++) {
+                RobustPredicates.orient3d(random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                                          random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                                          random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                                          random.nextDouble(), random.nextDouble(), random.nextDouble());
+            }
+            assertTrue(RobustPredicates.getExactEvaluationCount() - before < 5);
+        }
+
+        private int exactOrient(double[] p) {
+            BigDecimal[] d = new BigDecimal[9];
+            for (int k = 0; k < 3; k++) {
+                for (int axis = 0; axis < 3; axis++) {
+                    d[k * 3 + axis] = new BigDecimal(p[k * 3 + axis]).subtract(new BigDecimal(p[9 + axis]));
+                }
+            }
+            BigDecimal det = d[0].multiply(d[4].multiply(d[8]).subtract(d[5].multiply(d[7])))
+                .subtract(d[1].multiply(d[3].multiply(d[8]).subtract(d[5].multiply(d[6]))))
+                .add(d[2].multiply(d[3].multiply(d[7]).subtract(d[4].multiply(d[6]))));
+            // orient3d is det[a - d; b - d; c - d]
+            return det.signum();
+        }
+    }
+
+    @Nested
+    @DisplayName("In-Sphere Tests")
+    class InSphereTests {
+
+        private final Point3D a = new Point3D(1, 0, 0);
+        private final Point3D b = new Point3D(0, 1, 0);
+        private final Point3D c = new Point3D(0, 0, 1);
+        private final Point3D d = new Point3D(-1, 0, 0);
+
+        @Test
+        @DisplayName("Should be positive inside and negative outside for positive orientation")
+        void testSigns() {
+            Point3D p1 = a;
+            Point3D p2 = b;
+            if (RobustPredicates.orient3d(a, b, c, d) < 0) {
+                p1 = b;
+                p2 = a;
+            }
+            assertEquals(1, RobustPredicates.orient3d(p1, p2, c, d));
+            assertEquals(1, RobustPredicates.inSphere(p1, p2, c, d, new Point3D(0, 0, 0)));
+            assertEquals(-1, RobustPredicates.inSphere(p1, p2, c, d, new Point3D(2, 0, 0)));
+            assertEquals(-RobustPredicates.inSphere(p1, p2, c, d, new Point3D(0.1, 0.2, 0.3)),
+                         RobustPredicates.inSphere(p2, p1, c, d, new Point3D(0.1, 0.2, 0.3)));
+        }
+
+        @Test
+        @DisplayName("Should return zero for exactly cospherical points")
+        void testCospherical() {
+            assertEquals(0, RobustPredicates.inSphere(a, b, c, d, new Point3D(0, -1, 0)));
+            assertEquals(0, RobustPredicates.inSphere(a, b, c, d, new Point3D(0, 0, -1)));
+        }
+
+        @Test
+        @DisplayName("Should resolve points a hair inside or outside the sphere")
+        void testNearlyCospherical() {
+            double tiny = Math.scalb(1.0, -40);
+            int inside = RobustPredicates.inSphere(a, b, c, d, new Point3D(0, -1 + tiny, 0));
+            int outside = RobustPredicates.inSphere(a, b, c, d, new Point3D(0, -1 - tiny, 0));
+
+            assertEquals(-inside, outside);
+            assertNotEquals(0, inside);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null points")
+        void testNullPoints() {
+            assertThrows(NullPointerException.class, () -> RobustPredicates.inSphere(a, b, c, d, null));
+            assertThrows(NullPointerException.class, () -> RobustPredicates.orient3d(null, b, c, d));
+        }
+    }
+}
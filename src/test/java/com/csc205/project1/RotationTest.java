@@ -0,0 +1,145 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Rotation class and the rotateX/Y/Z(Rotation) overloads.
+ *
+ * This test suite covers:
+ * - Exact rotations matching the angle-based methods bit for bit
+ * - Polynomial approximation error bound
+ * - Composition and inversion without trigonometric calls
+ * - Line3D, Cube3D and PointBuffer overloads
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Rotation Tests")
+public class RotationTest {
+
+    @Nested
+    @DisplayName("Construction Tests")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Should precompute Math.sin and Math.cos")
+        void testOf() {
+            Rotation rotation = Rotation.of(0.7);
+
+            assertEquals(0.7, rotation.getAngle(), 0.0);
+            assertEquals(Math.sin(0.7), rotation.getSin(), 0.0);
+            assertEquals(Math.cos(0.7), rotation.getCos(), 0.0);
+            assertFalse(rotation.isApproximate());
+        }
+
+        @Test
+        @DisplayName("Should stay within the documented approximation bound")
+        void testApproximationBound() {
+            Random random = new Random(17);
+            for (int i = 0; i < 100000; i++) {
+                double angle = (random.nextDouble() * 2 - 1) * Math.pow(10, random.nextInt(7));
+                Rotation rotation = Rotation.approximate(angle);
+                assertEquals(Math.sin(angle), rotation.getSin(), Rotation.APPROXIMATION_ERROR_BOUND, "sin " + angle);
+                assertEquals(Math.cos(angle), rotation.getCos(), Rotation.APPROXIMATION_ERROR_BOUND, "cos " + angle);
+            }
+            assertFalse(Rotation.approximate(1e7).isApproximate());
+        }
+
+        @Test
+        @DisplayName("Should compose and invert using angle addition")
+        void testComposeAndInverse() {
+            Rotation a = Rotation.of(0.3);
+            Rotation b = Rotation.of(1.1);
+            Rotation sum = a.compose(b);
+
+            assertEquals(1.4, sum.getAngle(), 1e-15);
+            assertEquals(Math.sin(1.4), sum.getSin(), 1e-15);
+            assertEquals(Math.cos(1.4), sum.getCos(), 1e-15);
+            Rotation identity = a.compose(a.inverse());
+            assertEquals(0.0, identity.getSin(), 1e-16);
+            assertEquals(1.0, identity.getCos(), 1e-16);
+        }
+
+        @Test
+        @DisplayName("Should propagate NaN for non-finite angles and reject null arguments")
+        void testValidation() {
+            Point3D point = new Point3D(1, 2, 3);
+
+            assertTrue(Double.isNaN(Rotation.of(Double.NaN).getSin()));
+            assertTrue(Double.isNaN(Rotation.approximate(Double.POSITIVE_INFINITY).getCos()));
+            assertTrue(Double.isNaN(Rotation.approximate(Double.NaN).getCos()));
+            assertEquals(point.rotateX(Double.NaN).toString(), point.rotateX(Rotation.of(Double.NaN)).toString());
+            assertTrue(Double.isNaN(new Line3D(point, new Point3D(4, 5, 6)).rotateZ(Double.NEGATIVE_INFINITY)
+                                                                           .getStart().getX()));
+            assertThrows(NullPointerException.class, () -> Rotation.IDENTITY.compose(null));
+            assertThrows(NullPointerException.class, () -> new Point3D(1, 2, 3).rotateX((Rotation) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Overload Tests")
+    class OverloadTests {
+
+        @Test
+        @DisplayName("Should match the angle overloads of Point3D exactly")
+        void testPointOverloads() {
+            Point3D point = new Point3D(1.25, -2.5, 3.75);
+            Rotation rotation = Rotation.of(0.9);
+            Point3D[] expected = {point.rotateX(0.9), point.rotateY(0.9), point.rotateZ(0.9)};
+            Point3D[] actual = {point.rotateX(rotation), point.rotateY(rotation), point.rotateZ(rotation)};
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected[i].getX(), actual[i].getX(), 0.0);
+                assertEquals(expected[i].getY(), actual[i].getY(), 0.0);
+                assertEquals(expected[i].getZ(), actual[i].getZ(), 0.0);
+            }
+        }
+
+        @Test
+        @DisplayName("Should rotate both endpoints of a line")
+        void testLineOverloads() {
+            Line3D line = new Line3D(new Point3D(1, 0, 0), new Point3D(2, 0, 1));
+            Line3D rotated = line.rotateZ(Rotation.of(Math.PI / 2));
+
+            assertEquals(new Point3D(0, 1, 0), rotated.getStart());
+            assertEquals(new Point3D(0, 2, 1), rotated.getEnd());
+            assertEquals(line.length(), rotated.length(), 1e-12);
+            assertEquals(rotated, line.rotateZ(Math.PI / 2));
+        }
+
+        @Test
+        @DisplayName("Should accumulate cube angles and keep vertices unchanged")
+        void testCubeOverloads() {
+            Cube3D cube = new Cube3D(new Point3D(1, 2, 3), 2.0);
+            Cube3D rotated = cube.rotateX(Rotation.of(0.2)).rotateY(Rotation.of(0.3)).rotateZ(Rotation.of(0.4));
+
+            assertEquals(new Cube3D(new Point3D(1, 2, 3), 2.0, 0.2, 0.3, 0.4), rotated);
+            assertArrayEquals(cube.rotateX(0.2).rotateY(0.3).rotateZ(0.4).getVertices(), rotated.getVertices());
+        }
+
+        @Test
+        @DisplayName("Should rotate a whole buffer like individual points")
+        void testBufferRotation() {
+            Point3D[] points = {new Point3D(1, 2, 3), new Point3D(-4, 0.5, 6)};
+            PointBuffer buffer = PointBuffer.of(points);
+            Rotation rotation = Rotation.of(-1.3);
+
+            buffer.rotateX(rotation);
+            buffer.rotateY(rotation);
+            buffer.rotateZ(rotation);
+
+            for (int i = 0; i < points.length; i++) {
+                Point3D expected = points[i].rotateX(rotation).rotateY(rotation).rotateZ(rotation);
+                assertEquals(expected.getX(), buffer.getX(i), 0.0);
+                assertEquals(expected.getY(), buffer.getY(i), 0.0);
+                assertEquals(expected.getZ(), buffer.getZ(i), 0.0);
+            }
+        }
+    }
+}
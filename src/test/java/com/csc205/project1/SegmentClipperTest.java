@@ -0,0 +1,228 @@
+package com.csc205.project1;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SegmentClipper class.
+ *
+ * This test suite covers:
+ * - Clipping against axis-aligned and rotated cubes, checked by sampling the segment
+ * - Clipping against frustums and half-spaces
+ * - Bulk clipping into separate and shared arrays
+ * - Validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("SegmentClipper Tests")
+public class SegmentClipperTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Frustum camera() {
+        return Frustum.perspective(new Point3D(0, 0, 0), new Point3D(1, 0, 0), new Point3D(0, 0, 1),
+                                   Math.PI / 2, 1, 1, 100);
+    }
+
+    private static double[] randomSegments(int count, long seed) {
+        Random random = new Random(seed);
+        double[] segments = new double[count * SegmentClipper.SEGMENT_STRIDE];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = random.nextDouble() * 20 - 10;
+        }
+        return segments;
+    }
+
+    @Nested
+    @DisplayName("Cube Tests")
+    class CubeTests {
+
+        @Test
+        @DisplayName("Should clip a segment crossing an axis-aligned cube")
+        void testAxisAligned() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2);
+            Line3D line = new Line3D(new Point3D(-3, 0.5, 0), new Point3D(3, 0.5, 0));
+            double[] range = new double[2];
+
+            assertTrue(SegmentClipper.clipParameters(line, cube, range));
+            assertEquals(1.0 / 3, range[0], DELTA);
+            assertEquals(2.0 / 3, range[1], DELTA);
+            assertEquals(new Line3D(new Point3D(-1, 0.5, 0), new Point3D(1, 0.5, 0)), SegmentClipper.clip(line, cube));
+        }
+
+        @Test
+        @DisplayName("Should keep inner segments and reject missing ones")
+        void testInsideAndOutside() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2);
+            Line3D inner = new Line3D(new Point3D(-0.5, 0, 0), new Point3D(0.5, 0.5, 0.5));
+
+            assertSame(inner, SegmentClipper.clip(inner, cube));
+            assertNull(SegmentClipper.clip(new Line3D(new Point3D(-3, 2, 0), new Point3D(3, 2, 0)), cube));
+            assertNull(SegmentClipper.clip(new Line3D(new Point3D(2, 0, 0), new Point3D(5, 0, 0)), cube));
+        }
+
+        @Test
+        @DisplayName("Should use the cube's orientation")
+        void testRotated() {
+            // Turned 45 degrees about z, the cube reaches sqrt(2) along the x-axis
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2, 0, 0, Math.PI / 4);
+            Line3D line = new Line3D(new Point3D(-3, 0, 0), new Point3D(3, 0, 0));
+
+            Line3D clipped = SegmentClipper.clip(line, cube);
+            assertEquals(-Math.sqrt(2), clipped.getStart().getX(), DELTA);
+            assertEquals(Math.sqrt(2), clipped.getEnd().getX(), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should agree with point containment sampled along random segments")
+        void testAgainstSampling() {
+            Random random = new Random(5);
+            double[] range = new double[2];
+            for (int trial = 0; trial < 100; trial++) {
+                Cube3D cube = new Cube3D(new Point3D(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()),
+                                         1 + random.nextDouble() * 4, random.nextDouble() * 3,
+                                         random.nextDouble() * 3, random.nextDouble() * 3);
+                Line3D line = new Line3D(new Point3D(random.nextGaussian() * 4, random.nextGaussian() * 4,
+                                                     random.nextGaussian() * 4),
+                                         new Point3D(random.nextGaussian() * 4, random.nextGaussian() * 4,
+                                                     random.nextGaussian() * 4));
+                boolean hit = SegmentClipper.clipParameters(line, cube, range);
+                Point3D s = line.getStart();
+                Point3D e = line.getEnd();
+                for (int k = 0; k <= 200; k++) {
+                    double t = k / 200.0;
+                    Point3D p = new Point3D(s.getX() + t * (e.getX() - s.getX()), s.getY() + t * (e.getY() - s.getY()),
+                                            s.getZ() + t * (e.getZ() - s.getZ()));
+                    boolean inRange = hit && t >= range[0] - 1e-9 && t <= range[1] + 1e-9;
+                    boolean nearEdge = hit && (Math.abs(t - range[0]) < 1e-6 || Math.abs(t - range[1]) < 1e-6);
+                    if (!nearEdge) {
+                        assertEquals(inRange, cube.containsPoint(p.getX(), p.getY(), p.getZ()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Frustum Tests")
+    class FrustumTests {
+
+        @Test
+        @DisplayName("Should clip to the near and far planes")
+        void testDepth() {
+            Line3D axis = new Line3D(new Point3D(-5, 0, 0), new Point3D(200, 0, 0));
+
+            Line3D clipped = SegmentClipper.clip(axis, camera());
+            assertEquals(new Point3D(1, 0, 0), clipped.getStart());
+            assertEquals(new Point3D(100, 0, 0), clipped.getEnd());
+        }
+
+        @Test
+        @DisplayName("Should clip to a side plane and reject segments outside")
+        void testSides() {
+            Frustum frustum = camera();
+            Line3D across = new Line3D(new Point3D(10, -20, 0), new Point3D(10, 20, 0));
+
+            Line3D clipped = SegmentClipper.clip(across, frustum);
+            assertEquals(new Point3D(10, -10, 0), clipped.getStart());
+            assertEquals(new Point3D(10, 10, 0), clipped.getEnd());
+            assertNull(SegmentClipper.clip(new Line3D(new Point3D(10, 20, 0), new Point3D(50, 60, 0)), frustum));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Tests")
+    class BulkTests {
+
+        @Test
+        @DisplayName("Should match the single-segment clip for every segment")
+        void testCubeBulkMatchesSingle() {
+            Cube3D cube = new Cube3D(new Point3D(1, -1, 0.5), 8, 0.3, 0.7, 1.1);
+            double[] segments = randomSegments(500, 9);
+            double[] out = new double[segments.length];
+            int[] sources = new int[500];
+
+            int kept = SegmentClipper.clipAll(segments, 500, cube, out, sources);
+
+            int expected = 0;
+            for (int i = 0; i < 500; i++) {
+                int o = i * SegmentClipper.SEGMENT_STRIDE;
+                Line3D line = new Line3D(new Point3D(segments[o], segments[o + 1], segments[o + 2]),
+                                         new Point3D(segments[o + 3], segments[o + 4], segments[o + 5]));
+                Line3D clipped = SegmentClipper.clip(line, cube);
+                if (clipped != null) {
+                    int w = expected * SegmentClipper.SEGMENT_STRIDE;
+                    assertEquals(i, sources[expected]);
+                    assertEquals(clipped.getStart(), new Point3D(out[w], out[w + 1], out[w + 2]));
+                    assertEquals(clipped.getEnd(), new Point3D(out[w + 3], out[w + 4], out[w + 5]));
+                    expected++;
+                }
+            }
+            assertEquals(expected, kept);
+            assertTrue(kept > 0 && kept < 500);
+        }
+
+        @Test
+        @DisplayName("Should clip in place and without source indices")
+        void testInPlace() {
+            double[] segments = randomSegments(200, 10);
+            double[] copy = segments.clone();
+            double[] out = new double[segments.length];
+            Frustum frustum = Frustum.perspective(new Point3D(-12, 0, 0), new Point3D(0, 0, 0), new Point3D(0, 0, 1),
+                                                  0.8, 1, 1, 30);
+
+            int kept = SegmentClipper.clipAll(copy, 200, frustum, out, null);
+            int inPlace = SegmentClipper.clipAll(segments, 200, frustum, segments, null);
+
+            assertEquals(kept, inPlace);
+            for (int i = 0; i < kept * SegmentClipper.SEGMENT_STRIDE; i++) {
+                assertEquals(out[i], segments[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should clip segments to a half-space")
+        void testPlaneBulk() {
+            Plane3D ground = new Plane3D(new Point3D(0, 0, 0), new Point3D(0, 0, 1));
+            double[] segments = {0, 0, -1, 0, 0, 3,
+                                 1, 1, -1, 2, 2, -2,
+                                 5, 5, 1, 5, 5, 2};
+            double[] out = new double[segments.length];
+            int[] sources = new int[3];
+
+            assertEquals(2, SegmentClipper.clipAll(segments, 3, ground, out, sources));
+            assertArrayEquals(new double[]{0, 0, 0, 0, 0, 3, 5, 5, 1, 5, 5, 2},
+                              java.util.Arrays.copyOf(out, 12), DELTA);
+            assertEquals(0, sources[0]);
+            assertEquals(2, sources[1]);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject null arguments and arrays that are too short")
+        void testValidation() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 1);
+            Line3D line = new Line3D(new Point3D(0, 0, 0), new Point3D(1, 1, 1));
+            double[] segments = new double[12];
+
+            assertThrows(NullPointerException.class, () -> SegmentClipper.clip(null, cube));
+            assertThrows(NullPointerException.class, () -> SegmentClipper.clip(line, (Frustum) null));
+            assertThrows(IllegalArgumentException.class, () -> SegmentClipper.clipParameters(line, cube, new double[1]));
+            assertThrows(NullPointerException.class, () -> SegmentClipper.clipAll(null, 0, cube, segments, null));
+            assertThrows(IllegalArgumentException.class, () -> SegmentClipper.clipAll(segments, 3, cube, segments, null));
+            assertThrows(IllegalArgumentException.class, () -> SegmentClipper.clipAll(segments, 2, cube, new double[6], null));
+            assertThrows(IllegalArgumentException.class, () -> SegmentClipper.clipAll(segments, 2, cube, segments, new int[1]));
+            assertThrows(IllegalArgumentException.class, () -> SegmentClipper.clipAll(segments, -1, cube, segments, null));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SignedDistanceField class.
+ *
+ * This test suite covers:
+ * - Node values against a brute-force minimum over all cubes
+ * - Culling effectiveness and truncation
+ * - Trilinear sampling
+ * - Edge cases and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("SignedDistanceField Tests")
+public class SignedDistanceFieldTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static List<Cube3D> randomScene(int count, long seed) {
+        Random random = new Random(seed);
+        List<Cube3D> cubes = new ArrayList<>();
+        for (int c = 0; c < count; c++) {
+            Point3D center = new Point3D(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10,
+                                         random.nextDouble() * 20 - 10);
+            cubes.add(new Cube3D(center, 0.5 + random.nextDouble() * 2, random.nextDouble() * Math.PI,
+                                 random.nextDouble() * Math.PI, random.nextDouble() * Math.PI));
+        }
+        return cubes;
+    }
+
+    private static double bruteForce(List<Cube3D> cubes, Point3D p) {
+        double best = Double.POSITIVE_INFINITY;
+        for (Cube3D cube : cubes) {
+            best = Math.min(best, cube.signedDistanceToPoint(p.getX(), p.getY(), p.getZ()));
+        }
+        return best;
+    }
+
+    @Nested
+    @DisplayName("Computation Tests")
+    class ComputationTests {
+
+        @Test
+        @DisplayName("Should match the brute-force minimum at every node")
+        void testMatchesBruteForce() {
+            List<Cube3D> cubes = randomScene(40, 1);
+            SignedDistanceField field = SignedDistanceField.compute(cubes, new Point3D(-12, -12, -12), 0.5, 49, 45, 47);
+
+            for (int k = 0; k < field.getSizeZ(); k++) {
+                for (int j = 0; j < field.getSizeY(); j++) {
+                    for (int i = 0; i < field.getSizeX(); i++) {
+                        assertEquals(bruteForce(cubes, field.nodePosition(i, j, k)), field.get(i, j, k), DELTA);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should be negative inside cubes and positive outside")
+        void testSign() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 4.0);
+            SignedDistanceField field = SignedDistanceField.compute(List.of(cube), new Point3D(-4, -4, -4), 1.0, 9, 9, 9);
+
+            assertEquals(-2.0, field.get(4, 4, 4), DELTA);
+            assertEquals(-1.0, field.get(5, 4, 4), DELTA);
+            assertEquals(0.0, field.get(6, 4, 4), DELTA);
+            assertEquals(2.0, field.get(8, 4, 4), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should evaluate far fewer cubes than brute force")
+        void testCulling() {
+            List<Cube3D> cubes = randomScene(200, 2);
+            SignedDistanceField field = SignedDistanceField.compute(cubes, new Point3D(-12, -12, -12), 0.25, 97, 97, 97);
+
+            long bruteForce = 97L * 97 * 97 * cubes.size();
+            assertTrue(field.getEvaluationCount() < bruteForce / 4,
+                       "evaluations " + field.getEvaluationCount() + " vs " + bruteForce);
+        }
+
+        @Test
+        @DisplayName("Should clamp to the truncation band")
+        void testTruncation() {
+            List<Cube3D> cubes = randomScene(40, 3);
+            SignedDistanceField full = SignedDistanceField.compute(cubes, new Point3D(-12, -12, -12), 0.5, 49, 49, 49);
+            SignedDistanceField band = SignedDistanceField.compute(cubes, new Point3D(-12, -12, -12), 0.5, 49, 49, 49, 1.0);
+
+            assertEquals(1.0, band.getTruncation());
+            assertTrue(band.getEvaluationCount() < full.getEvaluationCount());
+            for (int k = 0; k < 49; k++) {
+                for (int j = 0; j < 49; j++) {
+                    for (int i = 0; i < 49; i++) {
+                        double expected = Math.max(-1.0, Math.min(1.0, full.get(i, j, k)));
+                        assertEquals(expected, band.get(i, j, k), DELTA);
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling Tests")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("Should reproduce node values exactly")
+        void testSampleAtNodes() {
+            List<Cube3D> cubes = randomScene(10, 4);
+            SignedDistanceField field = SignedDistanceField.compute(cubes, new Point3D(-12, -12, -12), 1.0, 25, 25, 25);
+
+            for (int k = 0; k < 25; k += 3) {
+                for (int j = 0; j < 25; j += 5) {
+                    for (int i = 0; i < 25; i += 2) {
+                        Point3D p = field.nodePosition(i, j, k);
+                        assertEquals(field.get(i, j, k), field.sample(p.getX(), p.getY(), p.getZ()), DELTA);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should interpolate linearly where the field is linear")
+        void testSampleLinearRegion() {
+            // Outside the +x face and within its extent, the distance is x - 1
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            SignedDistanceField field = SignedDistanceField.compute(List.of(cube), new Point3D(2, -0.5, -0.5), 0.5, 5, 3, 3);
+
+            assertEquals(1.6, field.sample(2.6, 0.1, -0.2), DELTA);
+            assertEquals(2.85, field.sample(3.85, 0.3, 0.4), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should approximate the true distance between nodes")
+        void testSampleAccuracy() {
+            List<Cube3D> cubes = randomScene(30, 5);
+            SignedDistanceField field = SignedDistanceField.compute(cubes, new Point3D(-12, -12, -12), 0.25, 97, 97, 97);
+            Random random = new Random(6);
+
+            for (int n = 0; n < 1000; n++) {
+                Point3D p = new Point3D(random.nextDouble() * 24 - 12, random.nextDouble() * 24 - 12,
+                                        random.nextDouble() * 24 - 12);
+                // Distance is 1-Lipschitz, so interpolation error is bounded by the node spacing
+                assertEquals(bruteForce(cubes, p), field.sample(p.getX(), p.getY(), p.getZ()), 0.25);
+            }
+        }
+
+        @Test
+        @DisplayName("Should clamp samples outside the grid")
+        void testSampleOutside() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            SignedDistanceField field = SignedDistanceField.compute(List.of(cube), new Point3D(-2, -2, -2), 1.0, 5, 5, 5);
+
+            assertEquals(field.get(4, 2, 2), field.sample(100, 0, 0), DELTA);
+            assertEquals(field.get(0, 0, 0), field.sample(-100, -100, Double.NaN), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Edge Case Tests")
+    class EdgeCaseTests {
+
+        @Test
+        @DisplayName("Should support single-node dimensions")
+        void testFlatGrid() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            SignedDistanceField field = SignedDistanceField.compute(List.of(cube), new Point3D(-3, 0, 0), 1.0, 7, 1, 1);
+
+            assertEquals(-1.0, field.get(3, 0, 0), DELTA);
+            assertEquals(-0.5, field.sample(0.5, 0, 0), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should validate arguments")
+        void testValidation() {
+            List<Cube3D> cubes = List.of(new Cube3D(new Point3D(0, 0, 0), 1.0));
+            Point3D origin = new Point3D(0, 0, 0);
+
+            assertThrows(NullPointerException.class, () -> SignedDistanceField.compute(null, origin, 1, 1, 1, 1));
+            assertThrows(NullPointerException.class, () -> SignedDistanceField.compute(cubes, null, 1, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> SignedDistanceField.compute(List.of(), origin, 1, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> SignedDistanceField.compute(cubes, origin, 0, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> SignedDistanceField.compute(cubes, origin, 1, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> SignedDistanceField.compute(cubes, origin, 1, 1, 1, 1, 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> SignedDistanceField.compute(cubes, origin, 1, 2, 2, 2).get(2, 0, 0));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SlowGeometryQueryEvent JFR event.
+ *
+ * This test suite covers:
+ * - Events with operation, subject and input size when the threshold is zero
+ * - Threshold filtering and the default threshold
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("SlowGeometryQueryEvent Tests")
+public class SlowGeometryQueryEventTest {
+
+    private static final String EVENT_NAME = "com.csc205.project1.SlowGeometryQuery";
+
+    /** Runs the action under a recording with the given threshold and returns the slow-query events. */
+    private static List<RecordedEvent> record(Duration threshold, Runnable action) throws Exception {
+        Path file = Files.createTempFile("slow-geometry", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                if (threshold == null) {
+                    recording.enable(EVENT_NAME);
+                } else {
+                    recording.enable(EVENT_NAME).withThreshold(threshold);
+                }
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(EVENT_NAME))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should record operation, subject and input size")
+        void testEventContents() throws Exception {
+            Cube3D cube = new Cube3D(new Point3D(1, 2, 3), 2.0);
+            Line3D a = new Line3D(new Point3D(0, 0, 0), new Point3D(1, 0, 0));
+            Line3D b = new Line3D(new Point3D(0, 1, 0), new Point3D(1, 1, 0));
+
+            List<RecordedEvent> events = record(Duration.ZERO, () -> {
+                cube.containsPoint(new Point3D(1, 2, 3));
+                a.shortestDistanceTo(b);
+            });
+
+            RecordedEvent contains = events.stream()
+                .filter(e -> e.getString("operation").equals("Cube3D.containsPoint")).findFirst().orElseThrow();
+            assertTrue(contains.getString("subject").startsWith(cube.toString()));
+            assertEquals(2, contains.getLong("inputSize"));
+
+            RecordedEvent lines = events.stream()
+                .filter(e -> e.getString("operation").equals("Line3D.shortestDistanceTo")).findFirst().orElseThrow();
+            assertEquals(a + " | " + b, lines.getString("subject"));
+            assertFalse(lines.getDuration().isNegative());
+        }
+
+        @Test
+        @DisplayName("Should record batch engines with their input size")
+        void testBatchEvent() throws Exception {
+            PointBuffer points = new PointBuffer();
+            for (int i = 0; i < 500; i++) {
+                points.add(i % 10, i / 10 % 10, i / 100);
+            }
+
+            List<RecordedEvent> events = record(Duration.ZERO, () -> SpatialClustering.dbscan(points, 1.5, 3));
+
+            RecordedEvent dbscan = events.stream()
+                .filter(e -> e.getString("operation").equals("SpatialClustering.dbscan")).findFirst().orElseThrow();
+            assertEquals(500, dbscan.getLong("inputSize"));
+            assertEquals("", dbscan.getString("subject"));
+        }
+
+        @Test
+        @DisplayName("Should skip calls faster than the threshold")
+        void testThresholdFilters() throws Exception {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2.0);
+            Point3D far = new Point3D(5, 5, 5);
+
+            List<RecordedEvent> events = record(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < 100; i++) {
+                    cube.intersects(cube.translate(i, 0, 0));
+                    cube.distanceToPoint(far);
+                }
+            });
+
+            assertTrue(events.isEmpty(), "events: " + events.size());
+        }
+
+        @Test
+        @DisplayName("Should default to a 1 ms threshold")
+        void testDefaultThreshold() {
+            EventType type = EventType.getEventType(SlowGeometryQueryEvent.class);
+            String threshold = type.getSettingDescriptors().stream()
+                .filter(d -> d.getName().equals("threshold")).findFirst().orElseThrow().getDefaultValue();
+
+            assertEquals("1 ms", threshold);
+            assertEquals(EVENT_NAME, type.getName());
+        }
+    }
+}
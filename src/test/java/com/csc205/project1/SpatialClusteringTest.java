@@ -0,0 +1,206 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SpatialClustering, ClusteringResult and GridIndex classes.
+ *
+ * This test suite covers:
+ * - Grid neighbourhood queries against brute force
+ * - DBSCAN against a brute-force reference implementation
+ * - k-means on well separated blobs
+ * - Bounding cubes and centroids
+ * - Edge cases and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("SpatialClustering Tests")
+public class SpatialClusteringTest {
+
+    /** Three tight blobs around (0,0,0), (10,0,0) and (0,10,0) plus a few far-away outliers. */
+    private static PointBuffer blobs(int perBlob, long seed) {
+        Random random = new Random(seed);
+        double[][] centers = {{0, 0, 0}, {10, 0, 0}, {0, 10, 0}};
+        PointBuffer points = new PointBuffer();
+        for (double[] c : centers) {
+            for (int i = 0; i < perBlob; i++) {
+                points.add(c[0] + random.nextGaussian() * 0.3, c[1] + random.nextGaussian() * 0.3,
+                           c[2] + random.nextGaussian() * 0.3);
+            }
+        }
+        points.add(50, 50, 50);
+        points.add(-40, 20, 5);
+        return points;
+    }
+
+    private static List<Integer> bruteNeighbors(PointBuffer points, int i, double radius) {
+        List<Integer> result = new ArrayList<>();
+        for (int j = 0; j < points.size(); j++) {
+            double dx = points.getX(i) - points.getX(j);
+            double dy = points.getY(i) - points.getY(j);
+            double dz = points.getZ(i) - points.getZ(j);
+            if (dx * dx + dy * dy + dz * dz <= radius * radius) {
+                result.add(j);
+            }
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Grid Index Tests")
+    class GridIndexTests {
+
+        @Test
+        @DisplayName("Should find exactly the brute-force neighbours")
+        void testNeighborsMatchBruteForce() {
+            PointBuffer points = blobs(100, 1);
+            GridIndex index = new GridIndex(points, 0.5);
+            for (int i = 0; i < points.size(); i += 5) {
+                List<Integer> found = new ArrayList<>();
+                index.forEachNeighbor(points.getX(i), points.getY(i), points.getZ(i), 0.5, found::add);
+                found.sort(null);
+                assertEquals(bruteNeighbors(points, i, 0.5), found);
+                assertEquals(found.size(), index.countNeighbors(i, 0.5));
+            }
+            assertTrue(index.getCellCount() < points.size());
+        }
+
+        @Test
+        @DisplayName("Should reject cells too small for the extent")
+        void testCellSizeValidation() {
+            PointBuffer points = PointBuffer.wrapCopy(new double[]{0, 0, 0, 1e9, 0, 0});
+            assertThrows(IllegalArgumentException.class, () -> new GridIndex(points, 1e-6));
+            assertThrows(IllegalArgumentException.class, () -> new GridIndex(points, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("DBSCAN Tests")
+    class DbscanTests {
+
+        @Test
+        @DisplayName("Should find the three blobs and mark outliers as noise")
+        void testBlobs() {
+            PointBuffer points = blobs(200, 2);
+            ClusteringResult result = SpatialClustering.dbscan(points, 0.5, 5);
+
+            assertEquals(3, result.getClusterCount());
+            assertEquals(ClusteringResult.NOISE, result.getLabel(600));
+            assertEquals(ClusteringResult.NOISE, result.getLabel(601));
+            assertEquals(0, result.getLabel(0));
+            assertEquals(1, result.getLabel(200));
+            assertEquals(2, result.getLabel(400));
+            assertEquals(10.0, result.getCentroid(1).getX(), 0.1);
+        }
+
+        @Test
+        @DisplayName("Should match a brute-force DBSCAN on core points and noise")
+        void testAgainstReference() {
+            Random random = new Random(3);
+            PointBuffer points = new PointBuffer();
+            for (int i = 0; i < 400; i++) {
+                points.add(random.nextDouble() * 8, random.nextDouble() * 8, random.nextDouble() * 2);
+            }
+            double eps = 0.6;
+            int minPoints = 4;
+            ClusteringResult result = SpatialClustering.dbscan(points, eps, minPoints);
+
+            int n = points.size();
+            boolean[] core = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                core[i] = bruteNeighbors(points, i, eps).size() >= minPoints;
+            }
+            for (int i = 0; i < n; i++) {
+                boolean nearCore = false;
+                for (int j : bruteNeighbors(points, i, eps)) {
+                    nearCore |= core[j];
+                    // Core points within eps must share a cluster
+                    if (core[i] && core[j]) {
+                        assertEquals(result.getLabel(i), result.getLabel(j));
+                    }
+                }
+                assertEquals(!nearCore, result.getLabel(i) == ClusteringResult.NOISE, "point " + i);
+            }
+            assertArrayEquals(result.getLabels(), SpatialClustering.dbscan(points, eps, minPoints).getLabels());
+        }
+
+        @Test
+        @DisplayName("Should enclose each cluster in its bounding cube")
+        void testBounds() {
+            PointBuffer points = blobs(150, 4);
+            ClusteringResult result = SpatialClustering.dbscan(points, 0.5, 5);
+            for (int i = 0; i < points.size(); i++) {
+                int label = result.getLabel(i);
+                if (label != ClusteringResult.NOISE) {
+                    assertTrue(result.getBounds(label).containsPoint(points.get(i)), "point " + i);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("k-Means Tests")
+    class KMeansTests {
+
+        @Test
+        @DisplayName("Should separate well separated blobs")
+        void testBlobs() {
+            PointBuffer points = blobs(300, 5);
+            points.truncate(900);
+            ClusteringResult result = SpatialClustering.kMeans(points, 3, 50, 42);
+
+            assertEquals(3, result.getClusterCount());
+            for (int blob = 0; blob < 3; blob++) {
+                int label = result.getLabel(blob * 300);
+                assertEquals(300, result.getClusterSize(label));
+                for (int i = blob * 300; i < (blob + 1) * 300; i++) {
+                    assertEquals(label, result.getLabel(i));
+                }
+            }
+            assertTrue(result.getIterations() < 50);
+            assertEquals(0, result.getNoiseCount());
+        }
+
+        @Test
+        @DisplayName("Should be deterministic for a seed and cope with duplicates")
+        void testDeterminismAndDuplicates() {
+            PointBuffer points = blobs(100, 6);
+            assertArrayEquals(SpatialClustering.kMeans(points, 4, 20, 7).getLabels(),
+                              SpatialClustering.kMeans(points, 4, 20, 7).getLabels());
+
+            PointBuffer same = PointBuffer.wrapCopy(new double[]{1, 1, 1, 1, 1, 1, 1, 1, 1});
+            ClusteringResult result = SpatialClustering.kMeans(same, 3, 10, 1);
+            assertEquals(1, result.getClusterCount());
+            assertEquals(new Point3D(1, 1, 1), result.getCentroid(0));
+            assertTrue(result.getBounds(0).containsPoint(new Point3D(1, 1, 1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should handle empty input and reject bad parameters")
+        void testValidation() {
+            assertEquals(0, SpatialClustering.dbscan(new PointBuffer(), 1, 1).getClusterCount());
+            assertEquals(0, SpatialClustering.kMeans(new PointBuffer(), 2, 5, 0).getClusterCount());
+            PointBuffer points = blobs(5, 8);
+            assertThrows(NullPointerException.class, () -> SpatialClustering.dbscan(null, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> SpatialClustering.dbscan(points, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> SpatialClustering.dbscan(points, 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> SpatialClustering.kMeans(points, 0, 5, 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> SpatialClustering.kMeans(points, 2, 5, 0).getBounds(2));
+        }
+    }
+}
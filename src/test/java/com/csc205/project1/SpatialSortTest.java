@@ -0,0 +1,233 @@
+package com.csc205.project1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SpaceFillingCurve, SpatialKeyEncoder and SpatialSort classes.
+ *
+ * This test suite covers:
+ * - Morton and Hilbert encoding round trips and curve properties
+ * - Quantization and clamping of real coordinates
+ * - Parallel radix sort against Arrays.sort
+ * - Reordering point buffers along a curve
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("SpatialSort Tests")
+public class SpatialSortTest {
+
+    private static PointBuffer randomPoints(int count, long seed) {
+        Random random = new Random(seed);
+        PointBuffer points = new PointBuffer(count);
+        for (int i = 0; i < count; i++) {
+            points.add(random.nextDouble() * 100 - 50, random.nextDouble() * 10, random.nextGaussian());
+        }
+        return points;
+    }
+
+    @Nested
+    @DisplayName("Curve Tests")
+    class CurveTests {
+
+        @Test
+        @DisplayName("Should interleave bits for Morton keys")
+        void testMortonBits() {
+            assertEquals(0b001, SpaceFillingCurve.MORTON.encode(1, 0, 0));
+            assertEquals(0b010, SpaceFillingCurve.MORTON.encode(0, 1, 0));
+            assertEquals(0b100, SpaceFillingCurve.MORTON.encode(0, 0, 1));
+            assertEquals(0b111000, SpaceFillingCurve.MORTON.encode(2, 2, 2));
+            int max = SpaceFillingCurve.MAX_CELL;
+            assertEquals(Long.MAX_VALUE, SpaceFillingCurve.MORTON.encode(max, max, max));
+        }
+
+        @Test
+        @DisplayName("Should round-trip random cells through both curves")
+        void testRoundTrip() {
+            Random random = new Random(1);
+            for (SpaceFillingCurve curve : SpaceFillingCurve.values()) {
+                for (int n = 0; n < 10_000; n++) {
+                    int x = random.nextInt(SpaceFillingCurve.MAX_CELL + 1);
+                    int y = random.nextInt(SpaceFillingCurve.MAX_CELL + 1);
+                    int z = random.nextInt(SpaceFillingCurve.MAX_CELL + 1);
+                    assertArrayEquals(new int[]{x, y, z}, curve.decode(curve.encode(x, y, z)), curve.name());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should map consecutive Hilbert keys to face-adjacent cells")
+        void testHilbertAdjacency() {
+            Random random = new Random(2);
+            for (int n = 0; n < 10_000; n++) {
+                long key = random.nextLong() >>> 1;
+                if (key == Long.MAX_VALUE) {
+                    continue;
+                }
+                int[] a = SpaceFillingCurve.HILBERT.decode(key);
+                int[] b = SpaceFillingCurve.HILBERT.decode(key + 1);
+                int steps = Math.abs(a[0] - b[0]) + Math.abs(a[1] - b[1]) + Math.abs(a[2] - b[2]);
+                assertEquals(1, steps, "key " + key);
+            }
+        }
+
+        @Test
+        @DisplayName("Should visit every cell of a small cube once along the Hilbert curve")
+        void testHilbertBijection() {
+            boolean[] seen = new boolean[8 * 8 * 8];
+            for (int x = 0; x < 8; x++) {
+                for (int y = 0; y < 8; y++) {
+                    for (int z = 0; z < 8; z++) {
+                        long key = SpaceFillingCurve.HILBERT.encode(x, y, z);
+                        // The 8^3 corner block is the first 512 keys of the curve
+                        assertTrue(key < 512, "key " + key);
+                        assertFalse(seen[(int) key]);
+                        seen[(int) key] = true;
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject out-of-range cells")
+        void testRange() {
+            assertThrows(IllegalArgumentException.class, () -> SpaceFillingCurve.MORTON.encode(-1, 0, 0));
+            assertThrows(IllegalArgumentException.class,
+                         () -> SpaceFillingCurve.HILBERT.encode(0, SpaceFillingCurve.MAX_CELL + 1, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoder Tests")
+    class EncoderTests {
+
+        @Test
+        @DisplayName("Should quantize the box corners to the extreme cells")
+        void testCorners() {
+            SpatialKeyEncoder encoder = new SpatialKeyEncoder(new Point3D(-1, -1, -1), new Point3D(1, 1, 1),
+                                                              SpaceFillingCurve.MORTON);
+            int max = SpaceFillingCurve.MAX_CELL;
+            assertEquals(0, encoder.key(new Point3D(-1, -1, -1)));
+            assertEquals(SpaceFillingCurve.MORTON.encode(max, max, max), encoder.key(1, 1, 1));
+            assertEquals(SpaceFillingCurve.MORTON.encode(1 << 20, 1 << 20, 1 << 20), encoder.key(0, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should clamp coordinates outside the box and handle flat axes")
+        void testClamping() {
+            SpatialKeyEncoder encoder = new SpatialKeyEncoder(new Point3D(0, 0, 5), new Point3D(1, 1, 5),
+                                                              SpaceFillingCurve.HILBERT);
+            assertEquals(encoder.key(0, 0, 5), encoder.key(-10, -3, 100));
+            assertEquals(encoder.key(1, 1, 5), encoder.key(10, 3, 5));
+            assertEquals(encoder.key(0, 0, 5), encoder.key(Double.NaN, 0, 5));
+        }
+
+        @Test
+        @DisplayName("Should encode buffers like single points")
+        void testBufferKeys() {
+            PointBuffer points = randomPoints(20_000, 3);
+            SpatialKeyEncoder encoder = SpatialKeyEncoder.forPoints(points, SpaceFillingCurve.HILBERT);
+            long[] keys = encoder.keys(points);
+
+            for (int i = 0; i < points.size(); i += 97) {
+                assertEquals(encoder.key(points.get(i)), keys[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should validate arguments")
+        void testValidation() {
+            Point3D a = new Point3D(0, 0, 0);
+            Point3D b = new Point3D(1, 1, 1);
+            assertThrows(NullPointerException.class, () -> new SpatialKeyEncoder(null, b, SpaceFillingCurve.MORTON));
+            assertThrows(NullPointerException.class, () -> new SpatialKeyEncoder(a, b, null));
+            assertThrows(IllegalArgumentException.class, () -> new SpatialKeyEncoder(b, a, SpaceFillingCurve.MORTON));
+            assertThrows(IllegalArgumentException.class,
+                         () -> new SpatialKeyEncoder(a, new Point3D(1, Double.POSITIVE_INFINITY, 1), SpaceFillingCurve.MORTON));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sort Tests")
+    class SortTests {
+
+        @Test
+        @DisplayName("Should sort keys stably like Arrays.sort")
+        void testSortedOrder() {
+            Random random = new Random(4);
+            long[] keys = new long[300_000];
+            for (int i = 0; i < keys.length; i++) {
+                // Many duplicates plus negative values
+                keys[i] = random.nextInt(5000) * 0x1_0000_0001L - 1_000_000L * 0x1_0000_0001L;
+            }
+            int[] order = SpatialSort.sortedOrder(keys);
+
+            long[] expected = keys.clone();
+            Arrays.sort(expected);
+            for (int k = 0; k < keys.length; k++) {
+                assertEquals(expected[k], keys[order[k]]);
+                if (k > 0 && keys[order[k]] == keys[order[k - 1]]) {
+                    assertTrue(order[k] > order[k - 1], "stability at " + k);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle trivial inputs")
+        void testTrivial() {
+            assertEquals(0, SpatialSort.sortedOrder(new long[0]).length);
+            assertArrayEquals(new int[]{0}, SpatialSort.sortedOrder(new long[]{42}));
+            assertArrayEquals(new int[]{0, 1, 2}, SpatialSort.sortedOrder(new long[]{7, 7, 7}));
+            assertArrayEquals(new int[]{1, 2, 0}, SpatialSort.sortedOrder(new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0}));
+            assertThrows(NullPointerException.class, () -> SpatialSort.sortedOrder(null));
+        }
+
+        @Test
+        @DisplayName("Should reorder a buffer along the curve")
+        void testSortBuffer() {
+            for (SpaceFillingCurve curve : SpaceFillingCurve.values()) {
+                PointBuffer points = randomPoints(50_000, 5);
+                double[] original = points.toArray();
+                int[] order = SpatialSort.sort(points, curve);
+
+                SpatialKeyEncoder encoder = SpatialKeyEncoder.forPoints(points, curve);
+                long previous = Long.MIN_VALUE;
+                for (int k = 0; k < points.size(); k++) {
+                    assertEquals(original[order[k] * 3], points.getX(k));
+                    assertEquals(original[order[k] * 3 + 2], points.getZ(k));
+                    long key = encoder.key(points.getX(k), points.getY(k), points.getZ(k));
+                    assertTrue(key >= previous);
+                    previous = key;
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should shorten the walk between consecutive points")
+        void testLocality() {
+            PointBuffer points = randomPoints(20_000, 6);
+            double before = walkLength(points);
+            SpatialSort.sort(points, SpaceFillingCurve.HILBERT);
+
+            assertTrue(walkLength(points) < before / 10);
+        }
+
+        private double walkLength(PointBuffer points) {
+            double total = 0;
+            for (int i = 1; i < points.size(); i++) {
+                double dx = points.getX(i) - points.getX(i - 1);
+                double dy = points.getY(i) - points.getY(i - 1);
+                double dz = points.getZ(i) - points.getZ(i - 1);
+                total += Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+            return total;
+        }
+    }
+}
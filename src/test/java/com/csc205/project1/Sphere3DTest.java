@@ -0,0 +1,184 @@
+package com.csc205.project1;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Sphere3D class.
+ *
+ * This test suite covers:
+ * - Construction, bounding spheres, volume and point queries
+ * - Overlap with spheres, capsules, segments and axis-aligned and rotated cubes
+ * - Bulk tests over flat arrays and validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Sphere3D Tests")
+public class Sphere3DTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Sphere3D sphere(double x, double y, double z, double radius) {
+        return new Sphere3D(new Point3D(x, y, z), radius);
+    }
+
+    @Nested
+    @DisplayName("Property Tests")
+    class PropertyTests {
+
+        @Test
+        @DisplayName("Should compute volume and point distances")
+        void testProperties() {
+            Sphere3D sphere = sphere(1, 2, 3, 2);
+
+            assertEquals(32.0 / 3 * Math.PI, sphere.volume(), DELTA);
+            assertTrue(sphere.containsPoint(new Point3D(3, 2, 3)));
+            assertFalse(sphere.containsPoint(new Point3D(3.1, 2, 3)));
+            assertEquals(3.0, sphere.distanceTo(new Point3D(1, 2, 8)), DELTA);
+            assertEquals(0.0, sphere.distanceTo(new Point3D(1, 2, 3)), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should bound cubes and segments")
+        void testBounding() {
+            Cube3D cube = new Cube3D(new Point3D(1, 1, 1), 2, 0.4, 0.5, 0.6);
+            Sphere3D cubeBound = Sphere3D.bounding(cube);
+            Sphere3D lineBound = Sphere3D.bounding(new Line3D(new Point3D(0, 0, 0), new Point3D(6, 8, 0)));
+
+            assertEquals(cube.getCenter(), cubeBound.getCenter());
+            assertEquals(Math.sqrt(3), cubeBound.getRadius(), DELTA);
+            for (Point3D vertex : cube.getVertices()) {
+                assertEquals(cubeBound.getRadius(), vertex.distanceTo(cubeBound.getCenter()), DELTA);
+            }
+            assertEquals(new Point3D(3, 4, 0), lineBound.getCenter());
+            assertEquals(5.0, lineBound.getRadius(), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments and invalid radii")
+        void testValidation() {
+            Point3D o = new Point3D(0, 0, 0);
+
+            assertThrows(NullPointerException.class, () -> new Sphere3D(null, 1));
+            assertThrows(IllegalArgumentException.class, () -> new Sphere3D(o, -1));
+            assertThrows(IllegalArgumentException.class, () -> new Sphere3D(o, Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> new Sphere3D(o, Double.POSITIVE_INFINITY));
+            assertThrows(NullPointerException.class, () -> Sphere3D.bounding((Cube3D) null));
+            assertThrows(NullPointerException.class, () -> new Sphere3D(o, 1).intersects((Line3D) null));
+            assertThrows(NullPointerException.class, () -> new Sphere3D(o, 1).distanceTo(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Intersection Tests")
+    class IntersectionTests {
+
+        @Test
+        @DisplayName("Should overlap spheres and capsules within the sum of the radii")
+        void testSpheresAndCapsules() {
+            Sphere3D sphere = sphere(0, 0, 0, 1);
+            Capsule3D capsule = new Capsule3D(new Point3D(-5, 2.5, 0), new Point3D(5, 2.5, 0), 1);
+
+            assertTrue(sphere.intersects(sphere(2, 0, 0, 1)));
+            assertFalse(sphere.intersects(sphere(2.1, 0, 0, 1)));
+            assertFalse(sphere.intersects(capsule));
+            assertTrue(sphere(0, 0.6, 0, 1).intersects(capsule));
+        }
+
+        @Test
+        @DisplayName("Should meet segments that pass within the radius")
+        void testSegments() {
+            Sphere3D sphere = sphere(0, 0, 0, 1);
+
+            assertTrue(sphere.intersects(new Line3D(new Point3D(-3, 0.5, 0), new Point3D(3, 0.5, 0))));
+            assertFalse(sphere.intersects(new Line3D(new Point3D(-3, 1.5, 0), new Point3D(3, 1.5, 0))));
+            // The infinite line passes through the center, but the segment stops short
+            assertFalse(sphere.intersects(new Line3D(new Point3D(2, 0, 0), new Point3D(5, 0, 0))));
+        }
+
+        @Test
+        @DisplayName("Should be exact against cubes where the circumscribed sphere is not")
+        void testCubes() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2);
+            // Near the corner direction but outside the corner by 0.2
+            double d = 1 + 0.2 / Math.sqrt(3);
+            Sphere3D nearCorner = sphere(d, d, d, 0.19);
+
+            assertTrue(sphere(1.5, 0, 0, 0.5).intersects(cube));
+            assertFalse(sphere(1.6, 0, 0, 0.5).intersects(cube));
+            assertFalse(nearCorner.intersects(cube));
+            assertTrue(sphere(d, d, d, 0.21).intersects(cube));
+            assertTrue(Sphere3D.bounding(cube).intersects(Sphere3D.bounding(new Cube3D(new Point3D(d, d, d), 0.38))));
+        }
+
+        @Test
+        @DisplayName("Should use the cube's orientation")
+        void testRotatedCube() {
+            // Turned 45 degrees about z, the cube reaches sqrt(2) along the x-axis
+            Cube3D rotated = new Cube3D(new Point3D(0, 0, 0), 2, 0, 0, Math.PI / 4);
+
+            assertTrue(sphere(1.6, 0, 0, 0.3).intersects(rotated));
+            assertFalse(sphere(1.6, 0, 0, 0.3).intersects(new Cube3D(new Point3D(0, 0, 0), 2)));
+            assertFalse(sphere(1.4, 1.4, 0, 0.3).intersects(rotated));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Tests")
+    class BulkTests {
+
+        @Test
+        @DisplayName("Should match the single-sphere tests for every sphere")
+        void testBulkMatchesSingle() {
+            Random random = new Random(3);
+            int count = 300;
+            double[] spheres = new double[count * Sphere3D.SPHERE_STRIDE];
+            for (int i = 0; i < spheres.length; i++) {
+                spheres[i] = (i % Sphere3D.SPHERE_STRIDE == 3) ? random.nextDouble() * 2 : random.nextDouble() * 20 - 10;
+            }
+            Cube3D cube = new Cube3D(new Point3D(1, -1, 0.5), 6, 0.3, 0.7, 1.1);
+            Line3D line = new Line3D(new Point3D(-10, -8, -6), new Point3D(9, 7, 8));
+            int[] cubeHits = new int[count];
+            int[] lineHits = new int[count];
+
+            int cubeFound = Sphere3D.intersectAll(spheres, count, cube, cubeHits);
+            int lineFound = Sphere3D.intersectAll(spheres, count, line, lineHits);
+
+            int expectedCube = 0;
+            int expectedLine = 0;
+            for (int i = 0; i < count; i++) {
+                int o = i * Sphere3D.SPHERE_STRIDE;
+                Sphere3D sphere = sphere(spheres[o], spheres[o + 1], spheres[o + 2], spheres[o + 3]);
+                if (sphere.intersects(cube)) {
+                    assertEquals(i, cubeHits[expectedCube++]);
+                }
+                if (sphere.intersects(line)) {
+                    assertEquals(i, lineHits[expectedLine++]);
+                }
+            }
+            assertEquals(expectedCube, cubeFound);
+            assertEquals(expectedLine, lineFound);
+            assertTrue(cubeFound > 0 && cubeFound < count);
+            assertTrue(lineFound > 0 && lineFound < count);
+        }
+
+        @Test
+        @DisplayName("Should reject null arrays and counts that do not fit")
+        void testValidation() {
+            Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 1);
+            double[] spheres = new double[8];
+
+            assertThrows(NullPointerException.class, () -> Sphere3D.intersectAll(null, 0, cube, new int[0]));
+            assertThrows(NullPointerException.class, () -> Sphere3D.intersectAll(spheres, 2, (Cube3D) null, new int[2]));
+            assertThrows(IllegalArgumentException.class, () -> Sphere3D.intersectAll(spheres, 3, cube, new int[3]));
+            assertThrows(IllegalArgumentException.class, () -> Sphere3D.intersectAll(spheres, 2, cube, new int[1]));
+            assertThrows(IllegalArgumentException.class, () -> Sphere3D.intersectAll(spheres, -1, cube, new int[1]));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.csc205.project1;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Triangle3D class.
+ *
+ * This test suite covers:
+ * - Area, normal, centroid and supporting plane
+ * - Closest point in every Voronoi region, checked against sampling
+ * - Ray intersection from both sides and misses
+ * - Cube overlap for separated, touching and rotated configurations
+ * - Parameter validation
+ *
+ * @author Generated Example
+ * @version 1.0
+ */
+@DisplayName("Triangle3D Tests")
+public class Triangle3DTest {
+
+    private static final double DELTA = 1e-9;
+
+    /** Right triangle in the z = 0 plane with legs of length 2 along x and y, normal +z. */
+    private static Triangle3D right() {
+        return new Triangle3D(new Point3D(0, 0, 0), new Point3D(2, 0, 0), new Point3D(0, 2, 0));
+    }
+
+    @Nested
+    @DisplayName("Property Tests")
+    class PropertyTests {
+
+        @Test
+        @DisplayName("Should compute area, normal, centroid and plane")
+        void testProperties() {
+            Triangle3D triangle = right();
+
+            assertEquals(2.0, triangle.area(), DELTA);
+            assertEquals(new Point3D(0, 0, 1), triangle.getNormal());
+            assertEquals(new Point3D(2.0 / 3, 2.0 / 3, 0), triangle.getCentroid());
+            assertEquals(3.0, triangle.getPlane().signedDistance(5, 5, 3), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should reject null and collinear vertices")
+        void testValidation() {
+            Point3D o = new Point3D(0, 0, 0);
+
+            assertThrows(NullPointerException.class, () -> new Triangle3D(o, null, o));
+            assertThrows(IllegalArgumentException.class,
+                         () -> new Triangle3D(o, new Point3D(1, 1, 1), new Point3D(3, 3, 3)));
+            assertThrows(IllegalArgumentException.class, () -> right().intersectRay(o, o));
+            assertThrows(NullPointerException.class, () -> right().distanceTo(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Closest Point Tests")
+    class ClosestPointTests {
+
+        @Test
+        @DisplayName("Should project onto the face, edges and vertices")
+        void testRegions() {
+            Triangle3D triangle = right();
+
+            assertEquals(new Point3D(0.5, 0.5, 0), triangle.closestPoint(new Point3D(0.5, 0.5, 3)));
+            assertEquals(3.0, triangle.distanceTo(new Point3D(0.5, 0.5, -3)), DELTA);
+            assertEquals(new Point3D(1, 0, 0), triangle.closestPoint(new Point3D(1, -4, 0)));
+            assertEquals(new Point3D(1, 1, 0), triangle.closestPoint(new Point3D(3, 3, 0)));
+            assertEquals(new Point3D(0, 0, 0), triangle.closestPoint(new Point3D(-1, -1, 1)));
+            assertEquals(new Point3D(2, 0, 0), triangle.closestPoint(new Point3D(5, -1, 0)));
+            assertEquals(new Point3D(0, 2, 0), triangle.closestPoint(new Point3D(-1, 5, 0)));
+        }
+
+        @Test
+        @DisplayName("Should be no farther than any sampled point of the triangle")
+        void testAgainstSampling() {
+            Random random = new Random(1);
+            for (int trial = 0; trial < 100; trial++) {
+                Triangle3D triangle = new Triangle3D(
+                    new Point3D(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()),
+                    new Point3D(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()),
+                    new Point3D(random.nextGaussian(), random.nextGaussian(), random.nextGaussian()));
+                Point3D p = new Point3D(random.nextGaussian() * 3, random.nextGaussian() * 3, random.nextGaussian() * 3);
+                double distance = triangle.distanceTo(p);
+
+                assertEquals(distance, triangle.closestPoint(p).distanceTo(p), DELTA);
+                for (int k = 0; k < 200; k++) {
+                    double u = random.nextDouble();
+                    double v = random.nextDouble();
+                    if (u + v > 1) {
+                        u = 1 - u;
+                        v = 1 - v;
+                    }
+                    Point3D a = triangle.getA();
+                    Point3D b = triangle.getB();
+                    Point3D c = triangle.getC();
+                    Point3D sample = new Point3D(a.getX() + u * (b.getX() - a.getX()) + v * (c.getX() - a.getX()),
+                                                 a.getY() + u * (b.getY() - a.getY()) + v * (c.getY() - a.getY()),
+                                                 a.getZ() + u * (b.getZ() - a.getZ()) + v * (c.getZ() - a.getZ()));
+                    assertTrue(distance <= sample.distanceTo(p) + DELTA);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should measure to the edges of triangles without area")
+        void testDegenerate() {
+            double[] out = new double[3];
+            // Two coincident vertices: the triangle is the segment (0, 0, 0)-(2, 2, 2)
+            double[] coincident = {2, 2, 2, 2, 2, 2, 0, 0, 0};
+
+            assertEquals(3.0, Triangle3D.closestPoint(coincident, 0, 1, 2, 3, 3, 3, out), DELTA);
+            assertArrayEquals(new double[]{2, 2, 2}, out, DELTA);
+            assertEquals(8.0 / 3, Triangle3D.closestPoint(coincident, 0, 1, 2, 1, 1, -1, out), DELTA);
+            assertArrayEquals(new double[]{1.0 / 3, 1.0 / 3, 1.0 / 3}, out, DELTA);
+
+            // Collinear and coincident vertices against the distance to the spanning segment
+            Random random = new Random(3);
+            for (int trial = 0; trial < 1000; trial++) {
+                double sx = random.nextGaussian();
+                double sy = random.nextGaussian();
+                double sz = random.nextGaussian();
+                double dx = random.nextGaussian();
+                double dy = random.nextGaussian();
+                double dz = random.nextGaussian();
+                // Parameters along the line, with some vertices repeated
+                double[] u = {random.nextInt(3) - 1, random.nextInt(3) - 1, random.nextDouble()};
+                double[] v = new double[9];
+                for (int n = 0; n < 3; n++) {
+                    v[3 * n] = sx + u[n] * dx;
+                    v[3 * n + 1] = sy + u[n] * dy;
+                    v[3 * n + 2] = sz + u[n] * dz;
+                }
+                double px = random.nextGaussian() * 2;
+                double py = random.nextGaussian() * 2;
+                double pz = random.nextGaussian() * 2;
+                double lo = Math.min(u[0], Math.min(u[1], u[2]));
+                double hi = Math.max(u[0], Math.max(u[1], u[2]));
+                double expected = Capsule3D.segmentPointDistanceSquared(sx + lo * dx, sy + lo * dy, sz + lo * dz,
+                                                                        sx + hi * dx, sy + hi * dy, sz + hi * dz,
+                                                                        px, py, pz);
+
+                double actual = Triangle3D.closestPoint(v, 0, 1, 2, px, py, pz, out);
+                assertFalse(Double.isNaN(actual));
+                assertEquals(expected, actual, 1e-9);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Ray Tests")
+    class RayTests {
+
+        @Test
+        @DisplayName("Should hit from either side and report the ray parameter")
+        void testHits() {
+            Triangle3D triangle = right();
+
+            assertEquals(1.5, triangle.intersectRay(new Point3D(0.5, 0.5, 3), new Point3D(0, 0, -2)), DELTA);
+            assertEquals(4.0, triangle.intersectRay(new Point3D(0.5, 0.5, -4), new Point3D(0, 0, 1)), DELTA);
+        }
+
+        @Test
+        @DisplayName("Should miss beside, behind and parallel to the triangle")
+        void testMisses() {
+            Triangle3D triangle = right();
+
+            assertTrue(Double.isNaN(triangle.intersectRay(new Point3D(1.5, 1.5, 3), new Point3D(0, 0, -1))));
+            assertTrue(Double.isNaN(triangle.intersectRay(new Point3D(0.5, 0.5, 3), new Point3D(0, 0, 1))));
+            assertTrue(Double.isNaN(triangle.intersectRay(new Point3D(-1, 0.5, 0), new Point3D(1, 0, 0))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cube Overlap Tests")
+    class CubeOverlapTests {
+
+        @Test
+        @DisplayName("Should detect containment, crossing and separation")
+        void testAxisAligned() {
+            Triangle3D triangle = right();
+
+            assertTrue(triangle.intersects(new Cube3D(new Point3D(0.5, 0.5, 0), 0.2)));
+            assertTrue(triangle.intersects(new Cube3D(new Point3D(0, 0, 0), 10)));
+            assertTrue(triangle.intersects(new Cube3D(new Point3D(2, 0, 0.5), 1)));
+            assertFalse(triangle.intersects(new Cube3D(new Point3D(0.5, 0.5, 2), 1)));
+            // Inside the triangle's bounding box and plane slab, but past the hypotenuse
+            assertFalse(triangle.intersects(new Cube3D(new Point3D(1.8, 1.8, 0), 0.5)));
+        }
+
+        @Test
+        @DisplayName("Should use the cube's orientation")
+        void testRotated() {
+            Triangle3D triangle = new Triangle3D(new Point3D(1.3, -5, 0), new Point3D(1.3, 5, 0),
+                                                 new Point3D(1.3, 0, 5));
+            Cube3D aligned = new Cube3D(new Point3D(0, 0, 0), 2);
+            Cube3D rotated = new Cube3D(new Point3D(0, 0, 0), 2, 0, 0, Math.PI / 4);
+
+            assertFalse(triangle.intersects(aligned));
+            assertTrue(triangle.intersects(rotated));
+        }
+
+        @Test
+        @DisplayName("Should overlap whenever a sampled triangle point is inside the cube")
+        void testAgainstSampling() {
+            Random random = new Random(2);
+            int overlapping = 0;
+            for (int trial = 0; trial < 300; trial++) {
+                Cube3D cube = new Cube3D(new Point3D(0, 0, 0), 2, random.nextDouble() * 3, random.nextDouble() * 3,
+                                         random.nextDouble() * 3);
+                Point3D a = new Point3D(random.nextGaussian() * 2, random.nextGaussian() * 2, random.nextGaussian() * 2);
+                Point3D b = new Point3D(random.nextGaussian() * 2, random.nextGaussian() * 2, random.nextGaussian() * 2);
+                Point3D c = new Point3D(random.nextGaussian() * 2, random.nextGaussian() * 2, random.nextGaussian() * 2);
+                Triangle3D triangle = new Triangle3D(a, b, c);
+                boolean sampledInside = false;
+                for (int k = 0; k < 400 && !sampledInside; k++) {
+                    double u = random.nextDouble();
+                    double v = random.nextDouble();
+                    if (u + v > 1) {
+                        u = 1 - u;
+                        v = 1 - v;
+                    }
+                    sampledInside = cube.containsPoint(a.getX() + u * (b.getX() - a.getX()) + v * (c.getX() - a.getX()),
+                                                       a.getY() + u * (b.getY() - a.getY()) + v * (c.getY() - a.getY()),
+                                                       a.getZ() + u * (b.getZ() - a.getZ()) + v * (c.getZ() - a.getZ()));
+                }
+                boolean overlaps = triangle.intersects(cube);
+                if (sampledInside) {
+                    assertTrue(overlaps);
+                }
+                // An overlapping triangle comes within the cube's circumradius of its center
+                if (overlaps) {
+                    overlapping++;
+                    assertTrue(triangle.distanceTo(cube.getCenter()) <= Math.sqrt(3) + DELTA);
+                }
+            }
+            assertTrue(overlapping > 0);
+        }
+    }
+}